@@ -371,7 +371,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     }
 
     @SuppressWarnings("unchecked")
-    private static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
+    static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
         if (trie.isEmpty()) {
             return self;
         }
@@ -512,6 +512,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         if (this == o) {
             return true;
         }
+        if (o instanceof PersistentJsonObject) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
@@ -13,40 +13,44 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.RandomAccess;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * This class represents a JSON pointer consisting of at least one {@link JsonKey}.
+ * <p>
+ * The keys are held in an array which is shared by all pointers derived from this pointer via
+ * {@link #getSubPointer(int)}, {@link #nextLevel()}, {@link #getPrefixPointer(int)} or {@link #cutLeaf()}. Thus
+ * walking down a pointer level by level does not copy any keys.
+ * </p>
  */
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
-    private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final char SLASH = '/';
+    private static final char TILDE = '~';
+    private static final String ESCAPED_TILDE = "~0";
 
-    private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
+    private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(JsonKeyArrayView.EMPTY);
 
-    private final List<JsonKey> jsonKeyHierarchy;
+    private static final ParsedPointerCache PARSED_POINTER_CACHE = new ParsedPointerCache(
+            Integer.getInteger(ParsedPointerCache.SIZE_PROPERTY, ParsedPointerCache.DEFAULT_SIZE));
 
-    private ImmutableJsonPointer(final List<JsonKey> theJsonKeys) {
-        jsonKeyHierarchy = Collections.unmodifiableList(new ArrayList<>(theJsonKeys));
+    private final JsonKeyArrayView jsonKeyHierarchy;
+
+    private ImmutableJsonPointer(final JsonKeyArrayView theJsonKeys) {
+        jsonKeyHierarchy = theJsonKeys;
     }
 
     /**
@@ -61,47 +65,92 @@ final class ImmutableJsonPointer implements JsonPointer {
     /**
      * Parses the given character sequence to obtain a new JSON pointer instance. This method is the inverse of
      * {@link ImmutableJsonPointer#toString()}.
+     * <p>
+     * Pointers which are parsed from a {@code String} are interned in a bounded cache, so that frequently used
+     * pointers like {@code /features/<id>/properties/...} are not parsed again and again. The size of the cache can
+     * be set by the system property {@value ParsedPointerCache#SIZE_PROPERTY}; a size of {@code 0} disables it.
+     * </p>
      *
      * @param slashDelimitedCharSequence a character sequence representing a JSON pointer. The leading slash may be
      * omitted.
      * @return a new JSON pointer consisting of the JSON keys which were extracted from {@code
      * slashDelimitedCharSequence}.
      * @throws NullPointerException if {@code slashDelimitedCharSequence} is {@code null}.
+     * @throws JsonPointerInvalidException if {@code slashDelimitedCharSequence} contains consecutive slashes.
      */
     public static JsonPointer ofParsed(final CharSequence slashDelimitedCharSequence) {
         requireNonNull(slashDelimitedCharSequence, "The JSON pointer character sequence must not be null!");
 
         final JsonPointer result;
 
-        if (JsonPointer.class.isAssignableFrom(slashDelimitedCharSequence.getClass())) {
+        if (slashDelimitedCharSequence instanceof JsonPointer) {
             result = (JsonPointer) slashDelimitedCharSequence;
-        } else if (JsonKey.class.isAssignableFrom(slashDelimitedCharSequence.getClass())) {
-            result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
+        } else if (slashDelimitedCharSequence instanceof JsonKey) {
+            result = newInstance(new JsonKey[]{(JsonKey) slashDelimitedCharSequence});
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
+        } else if (slashDelimitedCharSequence instanceof String) {
+            // only strings are cached as they are immutable
+            final String pointerString = (String) slashDelimitedCharSequence;
+            final ImmutableJsonPointer cachedPointer = PARSED_POINTER_CACHE.get(pointerString);
+            if (null != cachedPointer) {
+                result = cachedPointer;
+            } else {
+                final ImmutableJsonPointer parsedPointer = parse(pointerString);
+                PARSED_POINTER_CACHE.put(pointerString, parsedPointer);
+                result = parsedPointer;
+            }
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = parse(slashDelimitedCharSequence);
         }
 
         return result;
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    /**
+     * Splits the given character sequence at single slashes in one pass. Empty segments, i. e. a leading or a
+     * trailing slash, are ignored.
+     */
+    private static ImmutableJsonPointer parse(final CharSequence slashDelimitedCharSequence) {
+        final int length = slashDelimitedCharSequence.length();
+        final List<JsonKey> jsonKeys = new ArrayList<>();
+        int segmentStart = 0;
+        boolean segmentContainsTilde = false;
+        for (int i = 0; i < length; i++) {
+            final char c = slashDelimitedCharSequence.charAt(i);
+            if (SLASH == c) {
+                if (i + 1 < length && SLASH == slashDelimitedCharSequence.charAt(i + 1)) {
+                    throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
+                            .build();
+                }
+                if (i > segmentStart) {
+                    jsonKeys.add(toKey(slashDelimitedCharSequence, segmentStart, i, segmentContainsTilde));
+                }
+                segmentStart = i + 1;
+                segmentContainsTilde = false;
+            } else if (TILDE == c) {
+                segmentContainsTilde = true;
+            }
+        }
+        if (length > segmentStart) {
+            jsonKeys.add(toKey(slashDelimitedCharSequence, segmentStart, length, segmentContainsTilde));
+        }
+        return jsonKeys.isEmpty() ? empty() : newInstance(jsonKeys.toArray(new JsonKey[0]));
+    }
+
+    private static JsonKey toKey(final CharSequence charSequence, final int start, final int end,
+            final boolean containsTilde) {
+
+        final String keyString = charSequence.subSequence(start, end).toString();
+        return JsonFactory.newKey(containsTilde ? decodeTilde(keyString) : keyString);
+    }
+
+    private static String decodeTilde(final String keyString) {
+        return keyString.replace(ESCAPED_TILDE, String.valueOf(TILDE));
     }
 
-    private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
-        return new ImmutableJsonPointer(jsonKeyHierarchy);
+    private static ImmutableJsonPointer newInstance(final JsonKey[] jsonKeys) {
+        return new ImmutableJsonPointer(JsonKeyArrayView.of(jsonKeys));
     }
 
     /**
@@ -117,15 +166,11 @@ final class ImmutableJsonPointer implements JsonPointer {
         requireNonNull(subLevels, "The sub levels must not be null!"
                 + " If the JSON pointer does not require sub levels, just omit this argument.");
 
-        final ImmutableJsonPointer result;
-
-        final List<JsonKey> keyHierarchy = new ArrayList<>(1 + subLevels.length);
-        keyHierarchy.add(rootLevel);
-        Collections.addAll(keyHierarchy, subLevels);
-
-        result = newInstance(keyHierarchy);
+        final JsonKey[] keyHierarchy = new JsonKey[1 + subLevels.length];
+        keyHierarchy[0] = rootLevel;
+        System.arraycopy(subLevels, 0, keyHierarchy, 1, subLevels.length);
 
-        return result;
+        return newInstance(keyHierarchy);
     }
 
     private static void checkRootLevel(final JsonKey rootLevel) {
@@ -144,21 +189,28 @@ final class ImmutableJsonPointer implements JsonPointer {
         checkRootLevel(rootLevel);
         checkSubPointer(subPointer);
 
-        final ImmutableJsonPointer result;
-
-        final List<JsonKey> keyHierarchy = new ArrayList<>(1 + subPointer.getLevelCount());
-        keyHierarchy.add(rootLevel);
-        subPointer.forEach(keyHierarchy::add);
-
-        result = newInstance(keyHierarchy);
+        final JsonKey[] keyHierarchy = new JsonKey[1 + subPointer.getLevelCount()];
+        keyHierarchy[0] = rootLevel;
+        copyKeys(subPointer, keyHierarchy, 1);
 
-        return result;
+        return newInstance(keyHierarchy);
     }
 
     private static void checkSubPointer(final Object subPointer) {
         requireNonNull(subPointer, "The sub sub pointer to be appended must not be null!");
     }
 
+    private static void copyKeys(final JsonPointer source, final JsonKey[] target, final int targetOffset) {
+        if (source instanceof ImmutableJsonPointer) {
+            ((ImmutableJsonPointer) source).jsonKeyHierarchy.copyTo(target, targetOffset);
+        } else {
+            int i = targetOffset;
+            for (final JsonKey jsonKey : source) {
+                target[i++] = jsonKey;
+            }
+        }
+    }
+
     /**
      * Adds a level to this JSON pointer. For example, if this pointer is {@code "foo/bar"} and {@code addLevel()} is
      * called with a JSON field {@code "baz"} then the JSON pointer is {@code "foo/bar/baz"}.
@@ -171,8 +223,10 @@ final class ImmutableJsonPointer implements JsonPointer {
     public ImmutableJsonPointer addLeaf(final JsonKey key) {
         requireNonNull(key, "The level to be added must not be null!");
 
-        final List<JsonKey> newJsonKeys = new ArrayList<>(jsonKeyHierarchy);
-        newJsonKeys.add(key);
+        final int levelCount = getLevelCount();
+        final JsonKey[] newJsonKeys = new JsonKey[levelCount + 1];
+        jsonKeyHierarchy.copyTo(newJsonKeys, 0);
+        newJsonKeys[levelCount] = key;
 
         return newInstance(newJsonKeys);
     }
@@ -185,9 +239,13 @@ final class ImmutableJsonPointer implements JsonPointer {
 
         if (subPointer.isEmpty()) {
             result = this;
+        } else if (isEmpty() && subPointer instanceof ImmutableJsonPointer) {
+            result = (ImmutableJsonPointer) subPointer;
         } else {
-            final List<JsonKey> newJsonKeys = new ArrayList<>(jsonKeyHierarchy);
-            subPointer.forEach(newJsonKeys::add);
+            final int levelCount = getLevelCount();
+            final JsonKey[] newJsonKeys = new JsonKey[levelCount + subPointer.getLevelCount()];
+            jsonKeyHierarchy.copyTo(newJsonKeys, 0);
+            copyKeys(subPointer, newJsonKeys, levelCount);
             result = newInstance(newJsonKeys);
         }
 
@@ -212,11 +270,10 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public Optional<JsonKey> get(final int level) {
-        try {
+        if (0 <= level && level < getLevelCount()) {
             return Optional.of(jsonKeyHierarchy.get(level));
-        } catch (final IndexOutOfBoundsException e) {
-            return Optional.empty();
         }
+        return Optional.empty();
     }
 
     @Override
@@ -229,43 +286,47 @@ final class ImmutableJsonPointer implements JsonPointer {
         return get(getLevelCount() - 1);
     }
 
-    @SuppressWarnings("squid:S1166")
     @Override
     public Optional<JsonPointer> getSubPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(level, jsonKeysCopy.size());
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
-            return Optional.empty();
+        final int levelCount = getLevelCount();
+        if (0 <= level && level <= levelCount) {
+            return Optional.of(level == 0 ? this : newView(level, levelCount));
         }
+        return Optional.empty();
     }
 
     @Override
     public Optional<JsonPointer> getPrefixPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(0, level);
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
-            return Optional.empty();
+        final int levelCount = getLevelCount();
+        if (0 <= level && level <= levelCount) {
+            return Optional.of(level == levelCount ? this : newView(0, level));
         }
+        return Optional.empty();
     }
 
     @Override
     public ImmutableJsonPointer cutLeaf() {
         ImmutableJsonPointer result = this;
         if (!isEmpty()) {
-            final List<JsonKey> subList = jsonKeyHierarchy.subList(0, getLevelCount() - 1);
-            result = newInstance(subList);
+            result = newView(0, getLevelCount() - 1);
         }
         return result;
     }
 
     @Override
     public JsonPointer nextLevel() {
-        return getSubPointer(1).orElse(this);
+        ImmutableJsonPointer result = this;
+        if (!isEmpty()) {
+            result = newView(1, getLevelCount());
+        }
+        return result;
+    }
+
+    private ImmutableJsonPointer newView(final int fromLevel, final int toLevel) {
+        if (fromLevel == toLevel) {
+            return empty();
+        }
+        return new ImmutableJsonPointer(jsonKeyHierarchy.subList(fromLevel, toLevel));
     }
 
     @Override
@@ -275,7 +336,7 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public Iterator<JsonKey> iterator() {
-        return new ArrayList<>(jsonKeyHierarchy).iterator();
+        return jsonKeyHierarchy.iterator();
     }
 
     @Override
@@ -323,21 +384,159 @@ final class ImmutableJsonPointer implements JsonPointer {
      */
     @Override
     public String toString() {
-        final String stringRepresentation;
         if (jsonKeyHierarchy.isEmpty()) {
-            stringRepresentation = SLASH;
+            return String.valueOf(SLASH);
+        }
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (final JsonKey jsonKey : jsonKeyHierarchy) {
+            stringBuilder.append(SLASH);
+            appendEscapingTilde(jsonKey.toString(), stringBuilder);
+        }
+        return stringBuilder.toString();
+    }
+
+    private static void appendEscapingTilde(final String keyString, final StringBuilder stringBuilder) {
+        if (keyString.indexOf(TILDE) < 0) {
+            stringBuilder.append(keyString);
         } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
-                    .map(ImmutableJsonPointer::escapeTilde)
-                    .collect(Collectors.joining(SLASH));
+            for (int i = 0; i < keyString.length(); i++) {
+                final char c = keyString.charAt(i);
+                if (TILDE == c) {
+                    stringBuilder.append(ESCAPED_TILDE);
+                } else {
+                    stringBuilder.append(c);
+                }
+            }
         }
-        return stringRepresentation;
     }
 
-    private static String escapeTilde(final JsonKey jsonKey) {
-        final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+    /**
+     * An unmodifiable list view on a range of a JSON key array. Sub lists share the array of their parent list.
+     */
+    @Immutable
+    static final class JsonKeyArrayView extends AbstractList<JsonKey> implements RandomAccess {
+
+        private static final JsonKeyArrayView EMPTY = new JsonKeyArrayView(new JsonKey[0], 0, 0);
+
+        private final JsonKey[] jsonKeys;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private JsonKeyArrayView(final JsonKey[] jsonKeys, final int fromIndex, final int toIndex) {
+            this.jsonKeys = jsonKeys;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        static JsonKeyArrayView of(final JsonKey... jsonKeys) {
+            return new JsonKeyArrayView(jsonKeys, 0, jsonKeys.length);
+        }
+
+        @Override
+        public JsonKey get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return jsonKeys[fromIndex + index];
+        }
+
+        @Override
+        public int size() {
+            return toIndex - fromIndex;
+        }
+
+        @Override
+        public JsonKeyArrayView subList(final int from, final int to) {
+            if (from < 0 || to > size() || from > to) {
+                throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size());
+            }
+            return new JsonKeyArrayView(jsonKeys, fromIndex + from, fromIndex + to);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOfRange(jsonKeys, fromIndex, toIndex, Object[].class);
+        }
+
+        void copyTo(final JsonKey[] target, final int targetOffset) {
+            System.arraycopy(jsonKeys, fromIndex, target, targetOffset, size());
+        }
+
+    }
+
+    /**
+     * A bounded and lossy cache of parsed JSON pointers. Each pointer string is mapped to a slot by its hash code;
+     * a new entry simply replaces the entry which occupied the slot before. As entries are immutable they can be
+     * published without further synchronization.
+     */
+    @ThreadSafe
+    static final class ParsedPointerCache {
+
+        /**
+         * Name of the system property which determines the number of slots of the cache.
+         */
+        static final String SIZE_PROPERTY = "ditto.json.pointer-cache-size";
+
+        /**
+         * Default number of slots of the cache.
+         */
+        static final int DEFAULT_SIZE = 1024;
+
+        /**
+         * Pointer strings longer than this are not cached.
+         */
+        private static final int MAX_POINTER_LENGTH = 256;
+
+        @Nullable private final Entry[] entries;
+        private final int mask;
+
+        ParsedPointerCache(final int size) {
+            if (size > 0) {
+                final int slots = Integer.highestOneBit(Math.min(size, 1 << 20) * 2 - 1);
+                entries = new Entry[slots];
+                mask = slots - 1;
+            } else {
+                entries = null;
+                mask = 0;
+            }
+        }
+
+        @Nullable
+        ImmutableJsonPointer get(final String pointerString) {
+            if (null == entries) {
+                return null;
+            }
+            final Entry entry = entries[index(pointerString)];
+            if (null != entry && entry.pointerString.equals(pointerString)) {
+                return entry.pointer;
+            }
+            return null;
+        }
+
+        void put(final String pointerString, final ImmutableJsonPointer pointer) {
+            if (null != entries && pointerString.length() <= MAX_POINTER_LENGTH) {
+                entries[index(pointerString)] = new Entry(pointerString, pointer);
+            }
+        }
+
+        private int index(final String pointerString) {
+            final int hash = pointerString.hashCode();
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+
+        @Immutable
+        private static final class Entry {
+
+            private final String pointerString;
+            private final ImmutableJsonPointer pointer;
+
+            private Entry(final String pointerString, final ImmutableJsonPointer pointer) {
+                this.pointerString = pointerString;
+                this.pointer = pointer;
+            }
+
+        }
+
     }
 
 }
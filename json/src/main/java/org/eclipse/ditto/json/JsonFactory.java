@@ -15,6 +15,7 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
@@ -195,6 +196,41 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Parses the given UTF-8 encoded bytes as JSON value without decoding them to a string first. The bytes are
+     * expected to contain a valid JSON value with optional whitespace padding.
+     *
+     * @param utf8Bytes the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} is empty or if it is no valid JSON.
+     * @since 1.5.0
+     */
+    public static JsonValue readFrom(final byte[] utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to read from must not be null!");
+        return readFrom(ByteBuffer.wrap(utf8Bytes));
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer as JSON value without decoding them to a string
+     * first. The position of the buffer is not changed. This is the preferred way to parse an
+     * {@code akka.util.ByteString} via its {@code asByteBuffer()} view.
+     *
+     * @param utf8Bytes the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} has no remaining bytes or if it is no valid JSON.
+     * @since 1.5.0
+     */
+    public static JsonValue readFrom(final ByteBuffer utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to read from must not be null!");
+        if (!utf8Bytes.hasRemaining()) {
+            throw new JsonParseException("The bytes to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(utf8Bytes);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -284,6 +320,38 @@ public final class JsonFactory {
         return newObjectBuilder(jsonFields).build();
     }
 
+    /**
+     * Returns an empty JSON object whose altering methods share the structure of unchanged fields with the original
+     * object instead of copying all fields. Setting or removing a single field of such an object costs
+     * {@code O(log n)}, which makes it suitable for large objects which are modified frequently.
+     *
+     * @return an empty structurally shared JSON object.
+     * @since 1.5.0
+     */
+    public static JsonObject newPersistentObject() {
+        return PersistentJsonObject.empty();
+    }
+
+    /**
+     * Returns a JSON object containing the given fields whose altering methods share the structure of unchanged
+     * fields with the original object instead of copying all fields. Only the returned object itself is structurally
+     * shared; the values of the given fields are kept as they are.
+     *
+     * @param jsonFields the fields of the JSON object to be created.
+     * @return a null object if {@code jsonFields} is a null JSON object. Else this returns a new structurally shared
+     * object containing the given {@code jsonFields}.
+     * @throws NullPointerException if {@code jsonFields} is {@code null}.
+     * @see #newPersistentObject()
+     * @since 1.5.0
+     */
+    public static JsonObject newPersistentObject(final Iterable<JsonField> jsonFields) {
+        requireNonNull(jsonFields, "The JSON fields must not be null!");
+        if (jsonFields instanceof JsonObject && ((JsonValue) jsonFields).isNull()) {
+            return nullObject();
+        }
+        return PersistentJsonObject.of(jsonFields);
+    }
+
     /**
      * Returns a JSON NULL literal which is typed as JSON object.
      *
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -69,6 +70,35 @@ final class JsonValueParser {
         return result;
     }
 
+    /**
+     * Returns a parser which accepts a ByteBuffer with UTF-8 encoded JSON and which uses the given handler for object
+     * creation. The bytes are parsed without decoding them to a String first and the position of the buffer is not
+     * changed. The parsed JsonValue can be obtained from the given handler finally.
+     *
+     * @param jsonHandler receives parser events in order to create a {@link JsonValue}.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @param <V> the type of the value this handler returns.
+     * @return the parse Function.
+     * @throws NullPointerException if {@code jsonHandler} is {@code null}.
+     * @throws JsonParseException if the bytes cannot be parsed.
+     * @see DittoJsonHandler#getValue()
+     * @since 1.5.0
+     */
+    public static <A, O, V> Consumer<ByteBuffer> fromByteBuffer(final DittoJsonHandler<A, O, V> jsonHandler) {
+        return byteBuffer -> tryToParseJsonValue(byteBuffer, jsonHandler);
+    }
+
+    /**
+     * Returns a Function for parsing a ByteBuffer with UTF-8 encoded JSON to an instance of {@link JsonValue}.
+     *
+     * @return the function.
+     * @since 1.5.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return byteBuffer -> tryToParseJsonValue(byteBuffer, DefaultDittoJsonHandler.newInstance());
+    }
+
     /**
      * Returns a Function for obtaining an instance of {@link JsonValue} from a {@code Reader}.
      *
@@ -100,6 +130,25 @@ final class JsonValueParser {
         return dittoJsonHandler.getValue();
     }
 
+    private static <T> T tryToParseJsonValue(final ByteBuffer byteBuffer,
+            final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
+
+        requireNonNull(byteBuffer, "The bytes to be parsed must not be null!");
+        try {
+            Utf8JsonParser.parse(dittoJsonHandler, byteBuffer);
+            return dittoJsonHandler.getValue();
+        } catch (final UnsupportedOperationException | StackOverflowError | IllegalArgumentException |
+                NullPointerException e) {
+            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
+            // (e.g. keys) are empty
+            // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static JsonValue tryToReadJsonValueFrom(final Reader reader) {
         try {
             return readJsonValueFrom(reader);
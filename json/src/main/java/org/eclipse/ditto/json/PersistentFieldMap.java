@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A persistent map of JSON fields which keeps the insertion order of its keys.
+ * <p>
+ * Each altering method returns a new map which shares all unchanged parts with this map, thus setting or removing
+ * a single field costs {@code O(log n)} instead of copying all fields. The map consists of two structures:
+ * </p>
+ * <ul>
+ *     <li>a hash array mapped trie which maps each key to a slot and</li>
+ *     <li>a 32-way trie of slots which holds the fields in insertion order.</li>
+ * </ul>
+ * <p>
+ * Removing a field leaves an empty slot behind. As soon as there are more empty slots than fields, the slots are
+ * compacted which keeps the amortized costs of removing fields logarithmic.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap implements Iterable<JsonField> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentFieldMap EMPTY =
+            new PersistentFieldMap(BitmapIndexedNode.EMPTY, FieldSlots.EMPTY, 0);
+
+    private final KeyIndexNode keyIndex;
+    private final FieldSlots slots;
+    private final int size;
+
+    private PersistentFieldMap(final KeyIndexNode keyIndex, final FieldSlots slots, final int size) {
+        this.keyIndex = keyIndex;
+        this.slots = slots;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty field map.
+     *
+     * @return the empty field map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return 0 == size;
+    }
+
+    boolean containsKey(final String key) {
+        return 0 <= keyIndex.find(key, key.hashCode(), 0);
+    }
+
+    @Nullable
+    JsonField getOrNull(final String key) {
+        final int slot = keyIndex.find(key, key.hashCode(), 0);
+        return 0 <= slot ? slots.get(slot) : null;
+    }
+
+    /**
+     * Returns a map which contains the specified field. If this map already contains a field with the same key, the
+     * field is replaced at its existing position, otherwise it is appended.
+     *
+     * @param field the field to be put.
+     * @return the new map.
+     */
+    PersistentFieldMap put(final JsonField field) {
+        final String key = field.getKeyName();
+        final int hash = key.hashCode();
+        final int slot = keyIndex.find(key, hash, 0);
+        if (0 <= slot) {
+            return new PersistentFieldMap(keyIndex, slots.set(slot, field), size);
+        }
+        final int newSlot = slots.getLength();
+        return new PersistentFieldMap(keyIndex.put(new KeyEntry(key, hash, newSlot), 0), slots.append(field),
+                size + 1);
+    }
+
+    /**
+     * Returns a map without the field with the specified key.
+     *
+     * @param key the key of the field to be removed.
+     * @return the new map or this map if it does not contain {@code key}.
+     */
+    PersistentFieldMap remove(final String key) {
+        final int hash = key.hashCode();
+        final int slot = keyIndex.find(key, hash, 0);
+        if (0 > slot) {
+            return this;
+        }
+        final int newSize = size - 1;
+        if (0 == newSize) {
+            return EMPTY;
+        }
+        final KeyIndexNode newKeyIndex = keyIndex.remove(key, hash, 0);
+        final PersistentFieldMap result = new PersistentFieldMap(null != newKeyIndex ? newKeyIndex :
+                BitmapIndexedNode.EMPTY, slots.set(slot, null), newSize);
+        if (result.slots.getLength() - newSize > newSize) {
+            return result.compact();
+        }
+        return result;
+    }
+
+    private PersistentFieldMap compact() {
+        PersistentFieldMap result = EMPTY;
+        for (final JsonField field : this) {
+            result = result.put(field);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<JsonField> iterator() {
+        return slots.iterator();
+    }
+
+    /**
+     * A node of the hash array mapped trie which maps keys to slots.
+     */
+    private abstract static class KeyIndexNode {
+
+        /**
+         * @return the slot of {@code key} or {@code -1} if this node does not contain {@code key}.
+         */
+        abstract int find(String key, int hash, int shift);
+
+        abstract KeyIndexNode put(KeyEntry entry, int shift);
+
+        /**
+         * @return this node if it does not contain {@code key}, {@code null} if the node is empty after removing
+         * {@code key} or the new node.
+         */
+        @Nullable
+        abstract KeyIndexNode remove(String key, int hash, int shift);
+
+        /**
+         * @return the only entry of this node or {@code null} if the node contains sub-nodes or more than one entry.
+         */
+        @Nullable
+        abstract KeyEntry getSingleEntry();
+
+    }
+
+    @Immutable
+    private static final class KeyEntry {
+
+        private final String key;
+        private final int hash;
+        private final int slot;
+
+        private KeyEntry(final String key, final int hash, final int slot) {
+            this.key = key;
+            this.hash = hash;
+            this.slot = slot;
+        }
+
+    }
+
+    /**
+     * Node whose children are addressed by five bits of the key hash per level. A child is either a {@link KeyEntry}
+     * or another {@link KeyIndexNode}.
+     */
+    @Immutable
+    private static final class BitmapIndexedNode extends KeyIndexNode {
+
+        private static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private BitmapIndexedNode(final int bitmap, final Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private static int bitFor(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private int indexOf(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        int find(final String key, final int hash, final int shift) {
+            final int bit = bitFor(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return -1;
+            }
+            final Object child = children[indexOf(bit)];
+            if (child instanceof KeyEntry) {
+                final KeyEntry entry = (KeyEntry) child;
+                return hash == entry.hash && key.equals(entry.key) ? entry.slot : -1;
+            }
+            return ((KeyIndexNode) child).find(key, hash, shift + BITS);
+        }
+
+        @Override
+        KeyIndexNode put(final KeyEntry entry, final int shift) {
+            final int bit = bitFor(entry.hash, shift);
+            final int index = indexOf(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = entry;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                return new BitmapIndexedNode(bitmap | bit, newChildren);
+            }
+            final Object child = children[index];
+            final Object newChild;
+            if (child instanceof KeyEntry) {
+                final KeyEntry existingEntry = (KeyEntry) child;
+                if (existingEntry.key.equals(entry.key)) {
+                    newChild = entry;
+                } else {
+                    newChild = merge(existingEntry, entry, shift + BITS);
+                }
+            } else {
+                newChild = ((KeyIndexNode) child).put(entry, shift + BITS);
+            }
+            return withChild(index, newChild);
+        }
+
+        private static KeyIndexNode merge(final KeyEntry entry1, final KeyEntry entry2, final int shift) {
+            if (entry1.hash == entry2.hash) {
+                return new HashCollisionNode(entry1.hash, new KeyEntry[]{entry1, entry2});
+            }
+            return EMPTY.put(entry1, shift).put(entry2, shift);
+        }
+
+        private BitmapIndexedNode withChild(final int index, final Object child) {
+            final Object[] newChildren = children.clone();
+            newChildren[index] = child;
+            return new BitmapIndexedNode(bitmap, newChildren);
+        }
+
+        @Nullable
+        @Override
+        KeyIndexNode remove(final String key, final int hash, final int shift) {
+            final int bit = bitFor(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = indexOf(bit);
+            final Object child = children[index];
+            if (child instanceof KeyEntry) {
+                if (!key.equals(((KeyEntry) child).key)) {
+                    return this;
+                }
+                return withoutChild(index, bit);
+            }
+            final KeyIndexNode childNode = (KeyIndexNode) child;
+            final KeyIndexNode newChildNode = childNode.remove(key, hash, shift + BITS);
+            if (newChildNode == childNode) {
+                return this;
+            }
+            if (null == newChildNode) {
+                return withoutChild(index, bit);
+            }
+            // inline sub-nodes with a single entry to keep the trie shallow
+            final KeyEntry singleEntry = newChildNode.getSingleEntry();
+            return withChild(index, null != singleEntry ? singleEntry : newChildNode);
+        }
+
+        @Nullable
+        private BitmapIndexedNode withoutChild(final int index, final int bit) {
+            if (1 == children.length) {
+                return null;
+            }
+            final Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new BitmapIndexedNode(bitmap & ~bit, newChildren);
+        }
+
+        @Nullable
+        @Override
+        KeyEntry getSingleEntry() {
+            if (1 == children.length && children[0] instanceof KeyEntry) {
+                return (KeyEntry) children[0];
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Node for keys whose hashes are completely equal.
+     */
+    @Immutable
+    private static final class HashCollisionNode extends KeyIndexNode {
+
+        private final int hash;
+        private final KeyEntry[] entries;
+
+        private HashCollisionNode(final int hash, final KeyEntry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (key.equals(entries[i].key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int find(final String key, final int hash, final int shift) {
+            if (this.hash != hash) {
+                return -1;
+            }
+            final int index = indexOf(key);
+            return 0 <= index ? entries[index].slot : -1;
+        }
+
+        @Override
+        KeyIndexNode put(final KeyEntry entry, final int shift) {
+            if (hash != entry.hash) {
+                // a key with a different hash reached this node: nest this node into a bitmap indexed node
+                final BitmapIndexedNode parent =
+                        new BitmapIndexedNode(BitmapIndexedNode.bitFor(hash, shift), new Object[]{this});
+                return parent.put(entry, shift);
+            }
+            final int index = indexOf(entry.key);
+            final KeyEntry[] newEntries;
+            if (0 <= index) {
+                newEntries = entries.clone();
+                newEntries[index] = entry;
+            } else {
+                newEntries = new KeyEntry[entries.length + 1];
+                System.arraycopy(entries, 0, newEntries, 0, entries.length);
+                newEntries[entries.length] = entry;
+            }
+            return new HashCollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        KeyIndexNode remove(final String key, final int hash, final int shift) {
+            final int index = this.hash == hash ? indexOf(key) : -1;
+            if (0 > index) {
+                return this;
+            }
+            if (1 == entries.length) {
+                return null;
+            }
+            final KeyEntry[] newEntries = new KeyEntry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            return new HashCollisionNode(hash, newEntries);
+        }
+
+        @Nullable
+        @Override
+        KeyEntry getSingleEntry() {
+            return 1 == entries.length ? entries[0] : null;
+        }
+
+    }
+
+    /**
+     * Persistent 32-way trie of fields which are addressed by their slot. Empty slots are {@code null}.
+     */
+    @Immutable
+    private static final class FieldSlots {
+
+        private static final FieldSlots EMPTY = new FieldSlots(0, 0, new Object[WIDTH]);
+
+        private final int length;
+        private final int shift;
+        private final Object[] root;
+
+        private FieldSlots(final int length, final int shift, final Object[] root) {
+            this.length = length;
+            this.shift = shift;
+            this.root = root;
+        }
+
+        int getLength() {
+            return length;
+        }
+
+        @Nullable
+        JsonField get(final int slot) {
+            return (JsonField) leafFor(slot)[slot & MASK];
+        }
+
+        private Object[] leafFor(final int slot) {
+            Object[] node = root;
+            for (int level = shift; 0 < level; level -= BITS) {
+                node = (Object[]) node[(slot >>> level) & MASK];
+            }
+            return node;
+        }
+
+        FieldSlots set(final int slot, @Nullable final JsonField field) {
+            return new FieldSlots(length, shift, setInNode(root, shift, slot, field));
+        }
+
+        FieldSlots append(final JsonField field) {
+            if (length == 1 << (shift + BITS)) {
+                // the trie is full: grow by one level
+                final Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                return new FieldSlots(length + 1, shift + BITS,
+                        setInNode(newRoot, shift + BITS, length, field));
+            }
+            return new FieldSlots(length + 1, shift, setInNode(root, shift, length, field));
+        }
+
+        private static Object[] setInNode(@Nullable final Object[] node, final int level, final int slot,
+                @Nullable final JsonField field) {
+
+            final Object[] result = null != node ? node.clone() : new Object[WIDTH];
+            if (0 == level) {
+                result[slot & MASK] = field;
+            } else {
+                final int index = (slot >>> level) & MASK;
+                result[index] = setInNode((Object[]) result[index], level - BITS, slot, field);
+            }
+            return result;
+        }
+
+        Iterator<JsonField> iterator() {
+            return new FieldSlotsIterator(this);
+        }
+
+    }
+
+    private static final class FieldSlotsIterator implements Iterator<JsonField> {
+
+        private final FieldSlots slots;
+        private int nextSlot;
+        @Nullable private Object[] leaf;
+        @Nullable private JsonField next;
+
+        private FieldSlotsIterator(final FieldSlots slots) {
+            this.slots = slots;
+            nextSlot = 0;
+            leaf = null;
+            next = advance();
+        }
+
+        @Nullable
+        private JsonField advance() {
+            while (nextSlot < slots.length) {
+                if (null == leaf || 0 == (nextSlot & MASK)) {
+                    leaf = slots.leafFor(nextSlot);
+                }
+                final JsonField field = (JsonField) leaf[nextSlot & MASK];
+                nextSlot++;
+                if (null != field) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public JsonField next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable implementation of a JSON object whose versions share their structure.
+ * <p>
+ * In contrast to {@link ImmutableJsonObject}, which copies all of its fields on each change, this implementation is
+ * backed by a {@link PersistentFieldMap}. Therefore setting or removing a single field costs {@code O(log n)} and the
+ * new JSON object shares all unchanged fields with the old one. The order of the fields is the order of their
+ * insertion like for {@code ImmutableJsonObject}. JSON objects which are created while setting a value for a
+ * pointer with more than one level are of this type as well.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+@Immutable
+final class PersistentJsonObject extends AbstractJsonValue implements JsonObject {
+
+    private static final JsonKey ROOT_KEY = JsonKey.of("/");
+
+    private static final PersistentJsonObject EMPTY = new PersistentJsonObject(PersistentFieldMap.empty());
+
+    private final PersistentFieldMap fieldMap;
+
+    @Nullable private String stringRepresentation;
+    private int hashCode;
+
+    private PersistentJsonObject(final PersistentFieldMap fieldMap) {
+        this.fieldMap = fieldMap;
+        stringRepresentation = null;
+        hashCode = 0;
+    }
+
+    /**
+     * Returns an empty {@code PersistentJsonObject}.
+     *
+     * @return the empty JSON object.
+     */
+    public static PersistentJsonObject empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new {@code PersistentJsonObject} instance which contains the given fields.
+     *
+     * @param fields the fields of the new JSON object.
+     * @return a new JSON object containing the {@code fields}.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    public static PersistentJsonObject of(final Iterable<JsonField> fields) {
+        requireNonNull(fields, "The JSON fields of the JSON object must not be null!");
+
+        if (fields instanceof PersistentJsonObject) {
+            return (PersistentJsonObject) fields;
+        }
+        PersistentFieldMap fieldMap = PersistentFieldMap.empty();
+        for (final JsonField field : fields) {
+            fieldMap = fieldMap.put(field);
+        }
+        return new PersistentJsonObject(fieldMap);
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final int value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final long value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final double value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final boolean value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final String value) {
+        return setValue(key, JsonValue.of(value));
+    }
+
+    @Override
+    public JsonObject setValue(final CharSequence key, final JsonValue value) {
+        final JsonPointer pointer = JsonFactory.getNonEmptyPointer(key);
+        final JsonKey leafKey = pointer.getLeaf().orElse(ROOT_KEY);
+        final Optional<JsonFieldDefinition> keyDefinition = getDefinitionForKey(leafKey);
+
+        return setFieldInHierarchy(this, pointer, JsonField.newInstance(leafKey, value, keyDefinition.orElse(null)));
+    }
+
+    private Optional<JsonFieldDefinition> getDefinitionForKey(final CharSequence key) {
+        return getField(key).flatMap(JsonField::getDefinition);
+    }
+
+    @Override
+    public <T> JsonObject set(final JsonFieldDefinition<T> fieldDefinition, @Nullable final T value) {
+        requireNonNull(fieldDefinition, "The JSON field definition to set the value for must not be null!");
+
+        final JsonPointer pointer = fieldDefinition.getPointer();
+
+        final JsonKey leafKey = pointer.getLeaf().orElseThrow(() -> {
+            final String msgTemplate = "The pointer of the field definition <{0}> must not be empty!";
+            return new IllegalArgumentException(MessageFormat.format(msgTemplate, fieldDefinition));
+        });
+        final JsonField field = JsonField.newInstance(leafKey, JsonValue.of(value), fieldDefinition);
+        return setFieldInHierarchy(this, pointer, field);
+    }
+
+    private static JsonObject setFieldInHierarchy(final JsonObject target, final JsonPointer pointer,
+            final JsonField jsonField) {
+
+        if (1 >= pointer.getLevelCount()) {
+            return target.set(jsonField);
+        }
+
+        final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
+
+        final JsonObject newTarget = target.getValue(rootKey)
+                .filter(JsonValue::isObject)
+                .filter(jsonValue -> !jsonValue.isNull())
+                .map(JsonValue::asObject)
+                .orElseGet(PersistentJsonObject::empty);
+
+        return target.setValue(rootKey, setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField));
+    }
+
+    @Override
+    public PersistentJsonObject set(final JsonField field) {
+        requireNonNull(field, "The JSON field to be set must not be null!");
+
+        final JsonField existingField = fieldMap.getOrNull(field.getKeyName());
+        if (field.equals(existingField)) {
+            return this;
+        }
+        return new PersistentJsonObject(fieldMap.put(field));
+    }
+
+    @Override
+    public JsonObject setAll(final Iterable<JsonField> fields) {
+        requireNonNull(fields, "The JSON fields to add must not be null!");
+
+        PersistentFieldMap newFieldMap = fieldMap;
+        for (final JsonField field : fields) {
+            newFieldMap = newFieldMap.put(field);
+        }
+        return newFieldMap == fieldMap ? this : new PersistentJsonObject(newFieldMap);
+    }
+
+    @Override
+    public boolean contains(final CharSequence key) {
+        requireNonNull(key, "The key or pointer to check the existence of a value for must not be null!");
+
+        final JsonPointer pointer = JsonPointer.of(key);
+
+        if (1 >= pointer.getLevelCount()) {
+            return pointer.getRoot().map(this::containsKey).orElse(false);
+        }
+        return pointer.getRoot()
+                .flatMap(this::getValueForKey)
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .map(jsonObject -> jsonObject.contains(pointer.nextLevel()))
+                .orElse(false);
+    }
+
+    private boolean containsKey(final CharSequence key) {
+        return fieldMap.containsKey(key.toString());
+    }
+
+    @Override
+    public Optional<JsonValue> getValue(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the value to be retrieved must not be null!");
+        return getValueForPointer(JsonPointer.of(key));
+    }
+
+    private Optional<JsonValue> getValueForPointer(final JsonPointer pointer) {
+        final int levelCount = pointer.getLevelCount();
+        if (0 == levelCount) {
+            return Optional.of(this);
+        }
+        final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
+        if (1 == levelCount) {
+            return getValueForKey(rootKey);
+        }
+        return getValueForKey(rootKey)
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .flatMap(jsonObject -> jsonObject.getValue(pointer.nextLevel()));
+    }
+
+    private Optional<JsonValue> getValueForKey(final CharSequence key) {
+        final JsonField jsonField = fieldMap.getOrNull(key.toString());
+        return null != jsonField ? Optional.of(jsonField.getValue()) : Optional.empty();
+    }
+
+    @Override
+    public <T> Optional<T> getValue(final JsonFieldDefinition<T> fieldDefinition) {
+        checkFieldDefinition(fieldDefinition);
+
+        return getValueForPointer(fieldDefinition.getPointer()).map(fieldDefinition::mapValue);
+    }
+
+    private static void checkFieldDefinition(final JsonFieldDefinition fieldDefinition) {
+        requireNonNull(fieldDefinition, "The JSON field definition which supplies the pointer must not be null!");
+    }
+
+    @Override
+    public <T> T getValueOrThrow(final JsonFieldDefinition<T> fieldDefinition) {
+        return getValue(fieldDefinition).orElseThrow(() -> new JsonMissingFieldException(fieldDefinition));
+    }
+
+    @Override
+    public JsonObject get(final JsonPointer pointer) {
+        requireNonNull(pointer, "The JSON pointer must not be null!");
+
+        if (pointer.isEmpty()) {
+            return this;
+        }
+
+        final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
+        final JsonField rootField = fieldMap.getOrNull(rootKey.toString());
+        if (null == rootField) {
+            return empty();
+        }
+        if (1 >= pointer.getLevelCount()) {
+            return EMPTY.set(rootField);
+        }
+
+        // The pointer has more than one level; therefore build result recursively.
+        final JsonValue rootValue = rootField.getValue();
+        final JsonValue resultValue;
+        if (rootValue.isObject()) {
+            final JsonPointer nextPointerLevel = pointer.nextLevel();
+            final JsonObject rootObject = rootValue.asObject();
+            final boolean containsNextLevelRootKey = nextPointerLevel.getRoot()
+                    .filter(rootObject::contains)
+                    .isPresent();
+            if (!containsNextLevelRootKey) {
+                return empty();
+            }
+            resultValue = rootObject.get(nextPointerLevel); // Recursion
+        } else {
+            resultValue = rootValue;
+        }
+        return EMPTY.set(JsonField.newInstance(rootKey, resultValue, rootField.getDefinition().orElse(null)));
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldDefinition fieldDefinition) {
+        checkFieldDefinition(fieldDefinition);
+        return get(fieldDefinition.getPointer());
+    }
+
+    @Override
+    public JsonObject get(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+
+        if (isEmpty()) {
+            return this;
+        }
+
+        final List<JsonPointer> pointersContainedInThis = fieldSelector.getPointers()
+                .stream()
+                .filter(this::contains)
+                .collect(Collectors.toList());
+
+        if (pointersContainedInThis.isEmpty()) {
+            return empty();
+        }
+        return ImmutableJsonObject.filterByTrie(this, JsonFieldSelectorTrie.of(pointersContainedInThis));
+    }
+
+    @Override
+    public JsonObject remove(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the field to be removed must not be null!");
+        return removeForPointer(JsonPointer.of(key));
+    }
+
+    private JsonObject removeForPointer(final JsonPointer pointer) {
+        if (pointer.isEmpty()) {
+            return this;
+        }
+
+        final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
+        if (1 == pointer.getLevelCount()) {
+            final PersistentFieldMap newFieldMap = fieldMap.remove(rootKey.toString());
+            return newFieldMap == fieldMap ? this : new PersistentJsonObject(newFieldMap);
+        }
+
+        final JsonField rootField = fieldMap.getOrNull(rootKey.toString());
+        if (null == rootField || !rootField.getValue().isObject()) {
+            return this;
+        }
+        final JsonPointer nextPointerLevel = pointer.nextLevel();
+        final JsonObject rootObject = rootField.getValue().asObject();
+        final boolean containsNextLevelRootKey = nextPointerLevel.getRoot()
+                .map(rootObject::contains)
+                .orElse(false);
+        if (!containsNextLevelRootKey) {
+            return this;
+        }
+        final JsonObject withoutValue = rootObject.remove(nextPointerLevel); // Recursion
+        return set(JsonField.newInstance(rootKey, withoutValue, rootField.getDefinition().orElse(null)));
+    }
+
+    @Override
+    public List<JsonKey> getKeys() {
+        final List<JsonKey> keys = new ArrayList<>(fieldMap.getSize());
+        for (final JsonField field : fieldMap) {
+            keys.add(field.getKey());
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public Optional<JsonField> getField(final CharSequence key) {
+        requireNonNull(key, "The key or pointer of the field to be retrieved must not be null!");
+
+        final JsonPointer pointer = JsonPointer.of(key);
+
+        Optional<JsonField> result = pointer.getRoot()
+                .map(JsonKey::toString)
+                .map(fieldMap::getOrNull);
+
+        if (1 < pointer.getLevelCount()) {
+            result = result.map(JsonField::getValue)
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject)
+                    .flatMap(jsonObject -> jsonObject.getField(pointer.nextLevel())); // Recursion
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean isObject() {
+        return true;
+    }
+
+    @Override
+    public JsonObject asObject() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc} Removing JSON fields through the returned iterator is not supported.
+     *
+     * @return an iterator for the JSON fields of this JSON object.
+     */
+    @Override
+    public Iterator<JsonField> iterator() {
+        return fieldMap.iterator();
+    }
+
+    @Override
+    public Stream<JsonField> stream() {
+        final Spliterator<JsonField> spliterator = Spliterators.spliterator(fieldMap.iterator(), fieldMap.getSize(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fieldMap.isEmpty();
+    }
+
+    @Override
+    public int getSize() {
+        return fieldMap.getSize();
+    }
+
+    /**
+     * Indicates whether the given object is a JSON object with the same fields as this one. Like for
+     * {@link ImmutableJsonObject} the order of the fields is not taken into account.
+     *
+     * @param o the object to be compared with this JSON object.
+     * @return {@code true} if {@code o} is a JSON object with the same fields, {@code false} else.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JsonObject) || o instanceof JsonNull) {
+            return false;
+        }
+        final JsonObject that = (JsonObject) o;
+        if (getSize() != that.getSize()) {
+            return false;
+        }
+        for (final JsonField thatField : that) {
+            if (!thatField.equals(fieldMap.getOrNull(thatField.getKeyName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code of this JSON object which is computed like {@link Map#hashCode()} of the fields by key.
+     * Thus it equals the hash code of an {@link ImmutableJsonObject} with the same fields.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            for (final JsonField field : fieldMap) {
+                result += field.getKeyName().hashCode() ^ field.hashCode();
+            }
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        String result = stringRepresentation;
+        if (null == result) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append('{');
+            String delimiter = "";
+            for (final JsonField jsonField : fieldMap) {
+                stringBuilder.append(delimiter);
+                stringBuilder.append(jsonField);
+                delimiter = ",";
+            }
+            stringBuilder.append('}');
+            result = stringBuilder.toString();
+            stringRepresentation = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void writeValue(final SerializationContext serializationContext) throws IOException {
+        // the serialization context only accepts whole objects as cached CBOR elements
+        toImmutableJsonObject().writeValue(serializationContext);
+    }
+
+    private ImmutableJsonObject toImmutableJsonObject() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>(fieldMap.getSize());
+        for (final JsonField field : fieldMap) {
+            fields.put(field.getKeyName(), field);
+        }
+        return ImmutableJsonObject.of(fields, toString());
+    }
+
+    @Override
+    public long getUpperBoundForStringSize() {
+        return toString().length();
+    }
+
+}
@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A streaming JSON parser which reads UTF-8 encoded bytes directly, i. e. without decoding them to a {@code String}
+ * first. It reports the same events to a {@link DittoJsonHandler} like the parser of minimal-json.
+ * <p>
+ * Field names are looked up in a {@link KeyCache} which is shared by all parsers. Thus frequently recurring field
+ * names like {@code thingId}, {@code features} or {@code properties} are neither decoded nor allocated again.
+ * </p>
+ * <p>
+ * <em>An instance of this class parses exactly one input.</em>
+ * </p>
+ *
+ * @param <A> the type to be used for parsing JSON arrays.
+ * @param <O> the type to be used for parsing JSON objects.
+ */
+@NotThreadSafe
+final class Utf8JsonParser<A, O> {
+
+    private static final KeyCache KEY_CACHE = new KeyCache();
+
+    private final DittoJsonHandler<A, O, ?> handler;
+    private final ByteBuffer input;
+    private final int limit;
+    private int position;
+    @Nullable private byte[] scratch;
+    @Nullable private StringBuilder escapedStringBuilder;
+
+    private Utf8JsonParser(final DittoJsonHandler<A, O, ?> handler, final ByteBuffer input) {
+        this.handler = handler;
+        this.input = input;
+        limit = input.limit();
+        position = input.position();
+        scratch = null;
+        escapedStringBuilder = null;
+    }
+
+    /**
+     * Parses the remaining bytes of the given buffer. The position of the buffer is not changed.
+     *
+     * @param handler receives the parser events.
+     * @param utf8Bytes the UTF-8 encoded JSON document.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws JsonParseException if the bytes are no valid JSON.
+     */
+    static <A, O> void parse(final DittoJsonHandler<A, O, ?> handler, final ByteBuffer utf8Bytes) {
+        requireNonNull(handler, "The JSON handler must not be null!");
+        requireNonNull(utf8Bytes, "The bytes to be parsed must not be null!");
+
+        final Utf8JsonParser<A, O> parser = new Utf8JsonParser<>(handler, utf8Bytes);
+        parser.skipByteOrderMark();
+        parser.skipWhitespace();
+        parser.readValue();
+        parser.skipWhitespace();
+        if (parser.position < parser.limit) {
+            throw parser.unexpectedCharacter();
+        }
+    }
+
+    private void skipByteOrderMark() {
+        if (position + 2 < limit && (byte) 0xEF == input.get(position) && (byte) 0xBB == input.get(position + 1) &&
+                (byte) 0xBF == input.get(position + 2)) {
+            position += 3;
+        }
+    }
+
+    private void readValue() {
+        if (position >= limit) {
+            throw unexpectedEnd();
+        }
+        final byte b = input.get(position);
+        switch (b) {
+            case '{':
+                readObject();
+                break;
+            case '[':
+                readArray();
+                break;
+            case '"':
+                handler.startString();
+                handler.endString(readString(false));
+                break;
+            case 't':
+                handler.startBoolean();
+                readLiteral("true");
+                handler.endBoolean(true);
+                break;
+            case 'f':
+                handler.startBoolean();
+                readLiteral("false");
+                handler.endBoolean(false);
+                break;
+            case 'n':
+                handler.startNull();
+                readLiteral("null");
+                handler.endNull();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                handler.startNumber();
+                handler.endNumber(readNumber());
+                break;
+            default:
+                throw unexpectedCharacter();
+        }
+    }
+
+    private void readObject() {
+        final O object = handler.startObject();
+        position++;
+        skipWhitespace();
+        if (readIf('}')) {
+            handler.endObject(object);
+            return;
+        }
+        do {
+            skipWhitespace();
+            handler.startObjectName(object);
+            if (position >= limit || '"' != input.get(position)) {
+                throw position >= limit ? unexpectedEnd() : expected("name");
+            }
+            final String name = readString(true);
+            handler.endObjectName(object, name);
+            skipWhitespace();
+            if (!readIf(':')) {
+                throw expected("':'");
+            }
+            skipWhitespace();
+            handler.startObjectValue(object, name);
+            readValue();
+            handler.endObjectValue(object, name);
+            skipWhitespace();
+        } while (readIf(','));
+        if (!readIf('}')) {
+            throw expected("',' or '}'");
+        }
+        handler.endObject(object);
+    }
+
+    private void readArray() {
+        final A array = handler.startArray();
+        position++;
+        skipWhitespace();
+        if (readIf(']')) {
+            handler.endArray(array);
+            return;
+        }
+        do {
+            skipWhitespace();
+            handler.startArrayValue(array);
+            readValue();
+            handler.endArrayValue(array);
+            skipWhitespace();
+        } while (readIf(','));
+        if (!readIf(']')) {
+            throw expected("',' or ']'");
+        }
+        handler.endArray(array);
+    }
+
+    private void readLiteral(final String literal) {
+        final int length = literal.length();
+        if (position + length > limit) {
+            throw unexpectedEnd();
+        }
+        for (int i = 0; i < length; i++) {
+            if (literal.charAt(i) != input.get(position + i)) {
+                position += i;
+                throw unexpectedCharacter();
+            }
+        }
+        position += length;
+    }
+
+    private String readNumber() {
+        final int start = position;
+        readIf('-');
+        final int firstDigit = position;
+        if (!readDigits()) {
+            throw expected("digit");
+        }
+        if (position - firstDigit > 1 && '0' == input.get(firstDigit)) {
+            position = firstDigit + 1;
+            throw unexpectedCharacter();
+        }
+        if (readIf('.') && !readDigits()) {
+            throw expected("digit");
+        }
+        if (readIf('e') || readIf('E')) {
+            if (!readIf('+')) {
+                readIf('-');
+            }
+            if (!readDigits()) {
+                throw expected("digit");
+            }
+        }
+        return decodeAscii(start, position);
+    }
+
+    private boolean readDigits() {
+        final int start = position;
+        while (position < limit && isDigit(input.get(position))) {
+            position++;
+        }
+        return position > start;
+    }
+
+    private static boolean isDigit(final byte b) {
+        return '0' <= b && b <= '9';
+    }
+
+    private String readString(final boolean isName) {
+        position++; // opening quote
+        final int start = position;
+        boolean isAscii = true;
+        while (position < limit) {
+            final byte b = input.get(position);
+            if ('"' == b) {
+                final String result = isName ? KEY_CACHE.get(this, start, position, isAscii) :
+                        decode(start, position, isAscii);
+                position++;
+                return result;
+            } else if ('\\' == b) {
+                return readEscapedString(start);
+            } else if (0 <= b && b < 0x20) {
+                throw unexpectedCharacter();
+            } else if (0 > b) {
+                isAscii = false;
+            }
+            position++;
+        }
+        throw unexpectedEnd();
+    }
+
+    private String readEscapedString(final int start) {
+        StringBuilder stringBuilder = escapedStringBuilder;
+        if (null == stringBuilder) {
+            stringBuilder = new StringBuilder();
+            escapedStringBuilder = stringBuilder;
+        }
+        stringBuilder.setLength(0);
+        int chunkStart = start;
+        while (position < limit) {
+            final byte b = input.get(position);
+            if ('"' == b) {
+                stringBuilder.append(decode(chunkStart, position, false));
+                position++;
+                return stringBuilder.toString();
+            } else if ('\\' == b) {
+                stringBuilder.append(decode(chunkStart, position, false));
+                position++;
+                readEscapeSequence(stringBuilder);
+                chunkStart = position;
+            } else if (0 <= b && b < 0x20) {
+                throw unexpectedCharacter();
+            } else {
+                position++;
+            }
+        }
+        throw unexpectedEnd();
+    }
+
+    private void readEscapeSequence(final StringBuilder stringBuilder) {
+        if (position >= limit) {
+            throw unexpectedEnd();
+        }
+        final byte b = input.get(position++);
+        switch (b) {
+            case '"':
+            case '/':
+            case '\\':
+                stringBuilder.append((char) b);
+                break;
+            case 'b':
+                stringBuilder.append('\b');
+                break;
+            case 'f':
+                stringBuilder.append('\f');
+                break;
+            case 'n':
+                stringBuilder.append('\n');
+                break;
+            case 'r':
+                stringBuilder.append('\r');
+                break;
+            case 't':
+                stringBuilder.append('\t');
+                break;
+            case 'u':
+                stringBuilder.append(readHexCharacter());
+                break;
+            default:
+                position--;
+                throw expected("valid escape sequence");
+        }
+    }
+
+    private char readHexCharacter() {
+        if (position + 4 > limit) {
+            throw unexpectedEnd();
+        }
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(input.get(position), 16);
+            if (0 > digit) {
+                throw expected("hexadecimal digit");
+            }
+            result = (result << 4) | digit;
+            position++;
+        }
+        return (char) result;
+    }
+
+    private boolean readIf(final char expected) {
+        if (position < limit && expected == input.get(position)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < limit) {
+            final byte b = input.get(position);
+            if (' ' != b && '\t' != b && '\n' != b && '\r' != b) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private String decode(final int start, final int end, final boolean isAscii) {
+        if (isAscii) {
+            return decodeAscii(start, end);
+        }
+        return new String(bytes(start, end), offset(start), end - start, StandardCharsets.UTF_8);
+    }
+
+    private String decodeAscii(final int start, final int end) {
+        // ISO-8859-1 decoding of ASCII is a plain copy into a compact string
+        return new String(bytes(start, end), offset(start), end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns an array which contains the given range of the input at {@link #offset(int)}. This is the backing array
+     * of the input if it is accessible, else the range is copied to a scratch array.
+     */
+    private byte[] bytes(final int start, final int end) {
+        if (input.hasArray()) {
+            return input.array();
+        }
+        final int length = end - start;
+        byte[] result = scratch;
+        if (null == result || result.length < length) {
+            result = new byte[Math.max(length, 64)];
+            scratch = result;
+        }
+        for (int i = 0; i < length; i++) {
+            result[i] = input.get(start + i);
+        }
+        return result;
+    }
+
+    private int offset(final int start) {
+        return input.hasArray() ? input.arrayOffset() + start : 0;
+    }
+
+    private JsonParseException expected(final String expected) {
+        if (position >= limit) {
+            return unexpectedEnd();
+        }
+        return parseException(MessageFormat.format("Expected {0} at offset <{1}>!", expected, position));
+    }
+
+    private JsonParseException unexpectedCharacter() {
+        return parseException(MessageFormat.format("Unexpected character at offset <{0}>!", position));
+    }
+
+    private JsonParseException unexpectedEnd() {
+        return parseException("Unexpected end of input!");
+    }
+
+    private static JsonParseException parseException(final String message) {
+        return JsonParseException.newBuilder().message(message).build();
+    }
+
+    /**
+     * A lossy cache of decoded field names indexed by the hash of their UTF-8 bytes. Entries are immutable, so racing
+     * parsers at worst replace each other's entries.
+     */
+    @ThreadSafe
+    static final class KeyCache {
+
+        private static final int SIZE = 2048;
+        private static final int MAX_KEY_LENGTH = 64;
+
+        private final Entry[] entries;
+
+        KeyCache() {
+            entries = new Entry[SIZE];
+        }
+
+        String get(final Utf8JsonParser<?, ?> parser, final int start, final int end, final boolean isAscii) {
+            final int length = end - start;
+            if (length > MAX_KEY_LENGTH) {
+                return parser.decode(start, end, isAscii);
+            }
+            final ByteBuffer input = parser.input;
+            int hash = length;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + input.get(i);
+            }
+            final int index = (hash ^ (hash >>> 16)) & (SIZE - 1);
+            final Entry entry = entries[index];
+            if (null != entry && entry.matches(input, start, length)) {
+                return entry.key;
+            }
+            final String key = parser.decode(start, end, isAscii);
+            final byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = input.get(start + i);
+            }
+            entries[index] = new Entry(bytes, key);
+            return key;
+        }
+
+        @Immutable
+        private static final class Entry {
+
+            private final byte[] bytes;
+            private final String key;
+
+            private Entry(final byte[] bytes, final String key) {
+                this.bytes = bytes;
+                this.key = key;
+            }
+
+            private boolean matches(final ByteBuffer input, final int start, final int length) {
+                if (bytes.length != length) {
+                    return false;
+                }
+                for (int i = 0; i < length; i++) {
+                    if (bytes[i] != input.get(start + i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+        }
+
+    }
+
+}
@@ -41,12 +41,19 @@ public final class ImmutableJsonPointerTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonPointer.class,
                 areImmutable(),
-                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape());
+                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape(),
+                provided(ImmutableJsonPointer.JsonKeyArrayView.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
+        final ImmutableJsonPointer.JsonKeyArrayView redKeys =
+                ImmutableJsonPointer.JsonKeyArrayView.of(JsonKey.of("red"));
+        final ImmutableJsonPointer.JsonKeyArrayView blackKeys =
+                ImmutableJsonPointer.JsonKeyArrayView.of(JsonKey.of("black"));
+
         EqualsVerifier.forClass(ImmutableJsonPointer.class)
+                .withPrefabValues(ImmutableJsonPointer.JsonKeyArrayView.class, redKeys, blackKeys)
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
@@ -315,4 +322,51 @@ public final class ImmutableJsonPointerTest {
         assertThat(underTest.toString()).isEqualTo("/foo/~0dum/~0die/~0dum/baz");
     }
 
+    @Test
+    public void subPointersAreEqualToNewlyCreatedPointers() {
+        final JsonPointer underTest = ImmutableJsonPointer.ofParsed("/a/b/c/d");
+
+        assertThat(underTest.nextLevel()).isEqualTo(ImmutableJsonPointer.ofParsed("/b/c/d"));
+        assertThat(underTest.nextLevel().nextLevel().nextLevel()).isEqualTo(ImmutableJsonPointer.ofParsed("/d"));
+        assertThat(underTest.nextLevel().nextLevel().nextLevel().nextLevel()).isEmpty();
+        assertThat(underTest.getSubPointer(2)).contains(ImmutableJsonPointer.ofParsed("/c/d"));
+        assertThat(underTest.getSubPointer(4)).contains(ImmutableJsonPointer.empty());
+        assertThat(underTest.getSubPointer(5)).isEmpty();
+        assertThat(underTest.getSubPointer(-1)).isEmpty();
+        assertThat(underTest.getPrefixPointer(2)).contains(ImmutableJsonPointer.ofParsed("/a/b"));
+        assertThat(underTest.nextLevel().cutLeaf()).isEqualTo(ImmutableJsonPointer.ofParsed("/b/c"));
+        assertThat(underTest.nextLevel().cutLeaf().hashCode())
+                .isEqualTo(ImmutableJsonPointer.ofParsed("/b/c").hashCode());
+        assertThat(underTest.nextLevel().cutLeaf().toString()).isEqualTo("/b/c");
+        assertThat(underTest.nextLevel().get(2)).contains(JsonKey.of("d"));
+        assertThat(underTest.nextLevel().get(3)).isEmpty();
+    }
+
+    @Test
+    public void modifyingSubPointerDoesNotAffectOriginal() {
+        final JsonPointer underTest = ImmutableJsonPointer.ofParsed("/a/b/c");
+
+        final JsonPointer subPointer = underTest.cutLeaf().addLeaf(JsonKey.of("x"));
+
+        assertThat(subPointer.toString()).isEqualTo("/a/b/x");
+        assertThat(underTest.toString()).isEqualTo("/a/b/c");
+    }
+
+    @Test
+    public void parsingSamePointerStringTwiceReturnsCachedInstance() {
+        final String pointerString = "/features/cached/properties/value";
+
+        assertThat(ImmutableJsonPointer.ofParsed(pointerString))
+                .isSameAs(ImmutableJsonPointer.ofParsed(pointerString));
+    }
+
+    @Test
+    public void disabledParsedPointerCacheCachesNothing() {
+        final ImmutableJsonPointer.ParsedPointerCache underTest = new ImmutableJsonPointer.ParsedPointerCache(0);
+
+        underTest.put("/a", ImmutableJsonPointer.of(JsonKey.of("a")));
+
+        assertThat(underTest.get("/a")).isNull();
+    }
+
 }
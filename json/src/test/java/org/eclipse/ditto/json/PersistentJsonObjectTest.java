@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentJsonObject}.
+ */
+public final class PersistentJsonObjectTest {
+
+    private static final String KNOWN_JSON_STRING = "{\"foo\":\"bar\",\"bar\":{\"baz\":42},\"baz\":true}";
+
+    @Test
+    public void emptyObjectIsEmpty() {
+        final JsonObject underTest = PersistentJsonObject.empty();
+
+        assertThat(underTest).isObject();
+        assertThat(underTest).isEmpty();
+        assertThat(underTest).hasSize(0);
+        assertThat(underTest.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    public void keepsInsertionOrderAndStringRepresentation() {
+        final JsonObject underTest = PersistentJsonObject.of(JsonObject.of(KNOWN_JSON_STRING));
+
+        assertThat(underTest.toString()).isEqualTo(KNOWN_JSON_STRING);
+        assertThat(underTest.getKeys()).containsExactly(JsonKey.of("foo"), JsonKey.of("bar"), JsonKey.of("baz"));
+    }
+
+    @Test
+    public void equalsAndHashCodeAreConsistentWithImmutableJsonObject() {
+        final JsonObject immutableJsonObject = JsonObject.of(KNOWN_JSON_STRING);
+        final JsonObject underTest = PersistentJsonObject.of(immutableJsonObject);
+
+        assertThat(underTest.equals(immutableJsonObject)).isTrue();
+        assertThat(immutableJsonObject.equals(underTest)).isTrue();
+        assertThat(underTest.hashCode()).isEqualTo(immutableJsonObject.hashCode());
+        assertThat(underTest).isNotEqualTo(JsonFactory.nullObject());
+        assertThat(underTest).isNotEqualTo(immutableJsonObject.setValue("baz", false));
+    }
+
+    @Test
+    public void setReplacesExistingFieldAtItsPosition() {
+        final JsonObject underTest = PersistentJsonObject.of(JsonObject.of(KNOWN_JSON_STRING));
+
+        final JsonObject changed = underTest.setValue("bar", 23);
+
+        assertThat(changed.toString()).isEqualTo("{\"foo\":\"bar\",\"bar\":23,\"baz\":true}");
+        assertThat(underTest.toString()).isEqualTo(KNOWN_JSON_STRING);
+    }
+
+    @Test
+    public void setExistingValueReturnsSameInstance() {
+        final JsonObject underTest = PersistentJsonObject.of(JsonObject.of(KNOWN_JSON_STRING));
+
+        assertThat(underTest.setValue("foo", "bar")).isSameAs(underTest);
+    }
+
+    @Test
+    public void setValueForPointerCreatesPersistentIntermediateObjects() {
+        final JsonObject underTest = PersistentJsonObject.empty().setValue("/a/b/c", 1);
+
+        assertThat(underTest.toString()).isEqualTo("{\"a\":{\"b\":{\"c\":1}}}");
+        assertThat(underTest.getValue("a/b")).containsInstanceOf(PersistentJsonObject.class);
+        assertThat(underTest.getValue("a/b/c")).contains(JsonValue.of(1));
+        assertThat(underTest.contains("a/b/c")).isTrue();
+        assertThat(underTest.contains("a/x")).isFalse();
+    }
+
+    @Test
+    public void removeForPointerRemovesNestedField() {
+        final JsonObject underTest = PersistentJsonObject.of(JsonObject.of(KNOWN_JSON_STRING));
+
+        assertThat(underTest.remove("bar/baz").toString()).isEqualTo("{\"foo\":\"bar\",\"bar\":{},\"baz\":true}");
+        assertThat(underTest.remove("bar/unknown")).isSameAs(underTest);
+        assertThat(underTest.remove("unknown")).isSameAs(underTest);
+        assertThat(underTest.remove("foo").toString()).isEqualTo("{\"bar\":{\"baz\":42},\"baz\":true}");
+    }
+
+    @Test
+    public void getForPointerAndFieldSelectorReturnsExpected() {
+        final JsonObject underTest = PersistentJsonObject.of(JsonObject.of(KNOWN_JSON_STRING));
+
+        assertThat(underTest.get(JsonPointer.of("bar/baz"))).isEqualTo(JsonObject.of("{\"bar\":{\"baz\":42}}"));
+        assertThat(underTest.get(JsonPointer.of("bar/unknown"))).isEmpty();
+        assertThat(underTest.get(JsonFieldSelector.newInstance("foo", "baz")))
+                .isEqualTo(JsonObject.of("{\"foo\":\"bar\",\"baz\":true}"));
+    }
+
+    @Test
+    public void keysWithCollidingHashCodesAreDistinguished() {
+        // "Aa", "BB" and "C#" have the same hash code
+        final JsonObject underTest = PersistentJsonObject.empty()
+                .setValue("Aa", 1)
+                .setValue("BB", 2)
+                .setValue("C#", 3);
+
+        assertThat(underTest.getValue("Aa")).contains(JsonValue.of(1));
+        assertThat(underTest.getValue("BB")).contains(JsonValue.of(2));
+        assertThat(underTest.remove("Aa").getValue("BB")).contains(JsonValue.of(2));
+        assertThat(underTest.remove("BB").remove("Aa").toString()).isEqualTo("{\"C#\":3}");
+    }
+
+    @Test
+    public void randomModificationsBehaveLikeLinkedHashMap() {
+        final Random random = new Random(42);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        final List<JsonObject> versions = new ArrayList<>();
+        final List<List<JsonField>> expectedVersions = new ArrayList<>();
+        JsonObject underTest = PersistentJsonObject.empty();
+
+        for (int i = 0; i < 5_000; i++) {
+            final String key = "key" + random.nextInt(1_500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                underTest = underTest.remove(key);
+            } else {
+                final JsonField field = JsonField.newInstance(key, JsonValue.of(i));
+                expected.put(key, field);
+                underTest = underTest.set(field);
+            }
+            if (i % 500 == 0) {
+                versions.add(underTest);
+                expectedVersions.add(new ArrayList<>(expected.values()));
+            }
+        }
+
+        assertThat(underTest.stream().collect(Collectors.toList())).containsExactlyElementsOf(expected.values());
+        assertThat(underTest).hasSize(expected.size());
+        assertThat(underTest).isEqualTo(ImmutableJsonObject.of(expected));
+        for (int i = 0; i < versions.size(); i++) {
+            // old versions are not affected by later modifications
+            assertThat(versions.get(i).stream().collect(Collectors.toList()))
+                    .containsExactlyElementsOf(expectedVersions.get(i));
+        }
+    }
+
+    @Test
+    public void newPersistentObjectOfNullObjectReturnsNullObject() {
+        assertThat(JsonFactory.newPersistentObject(JsonFactory.nullObject())).isNullLiteral();
+    }
+
+}
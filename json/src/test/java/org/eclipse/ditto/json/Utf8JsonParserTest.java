@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final List<String> VALID_JSON_STRINGS = Arrays.asList(
+            "{}",
+            "[]",
+            " { \"a\" : 1 , \"b\" : [1, 2.5, -3e10, true, false, null, \"x\"] } ",
+            "\"h\\u00e9llo \\n \\\" \\\\ \\/\"",
+            "-0",
+            "0.5E+3",
+            "12345678901234",
+            "{\"thingId\":\"org.eclipse.ditto:\u00e4\u20ac\uD83D\uDE00\"," +
+                    "\"features\":{\"f\":{\"properties\":{\"x\":[{\"y\":1}]}}}}",
+            "{\"k\\ney\":\"v\"}"
+    );
+
+    @Test
+    public void parsesLikeStringParser() {
+        for (final String jsonString : VALID_JSON_STRINGS) {
+            final JsonValue expected = JsonFactory.readFrom(jsonString);
+
+            final JsonValue actual = JsonFactory.readFrom(jsonString.getBytes(StandardCharsets.UTF_8));
+
+            assertThat(actual).as(jsonString).isEqualTo(expected);
+            assertThat(actual.toString()).as(jsonString).isEqualTo(expected.toString());
+        }
+    }
+
+    @Test
+    public void parsesBuffersWithoutAccessibleArray() {
+        for (final String jsonString : VALID_JSON_STRINGS) {
+            final byte[] bytes = jsonString.getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+            directBuffer.put(bytes).flip();
+
+            assertThat(JsonFactory.readFrom(directBuffer)).as(jsonString).isEqualTo(JsonFactory.readFrom(jsonString));
+            assertThat(JsonFactory.readFrom(ByteBuffer.wrap(bytes).asReadOnlyBuffer()))
+                    .as(jsonString)
+                    .isEqualTo(JsonFactory.readFrom(jsonString));
+        }
+    }
+
+    @Test
+    public void parsesOnlyRemainingBytesAndKeepsPosition() {
+        final byte[] bytes = "xx{\"a\":true}yy".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+
+        final JsonValue actual = JsonFactory.readFrom(byteBuffer);
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder().set("a", true).build());
+        assertThat(byteBuffer.position()).isZero();
+    }
+
+    @Test
+    public void recurringKeysAreShared() {
+        final JsonObject first = JsonFactory.readFrom("{\"thingId\":1}".getBytes(StandardCharsets.UTF_8)).asObject();
+        final JsonObject second = JsonFactory.readFrom("{\"thingId\":2}".getBytes(StandardCharsets.UTF_8)).asObject();
+
+        assertThat(first.getKeys().get(0).toString()).isSameAs(second.getKeys().get(0).toString());
+    }
+
+    @Test
+    public void invalidJsonFailsWithParseException() {
+        final List<String> invalidJsonStrings = Arrays.asList("{", "[1,]", "{\"a\"}", "01", "tru", "\"abc",
+                "{\"a\":1}x", "[1 2]", "\"\\x\"", "-", "1.", "{a:1}", "\"a\nb\"");
+        for (final String invalidJsonString : invalidJsonStrings) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJsonString)
+                    .isThrownBy(() -> JsonFactory.readFrom(invalidJsonString.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void failureReportsOffset() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.readFrom("[1 2]".getBytes(StandardCharsets.UTF_8)))
+                .withMessage("Expected ',' or ']' at offset <3>!");
+    }
+
+    @Test
+    public void exceptionsOfCustomHandlerAreWrapped() {
+        final DittoJsonHandler<?, ?, ?> jsonHandlerMock = Mockito.mock(DittoJsonHandler.class);
+        Mockito.doThrow(new IllegalArgumentException("empty key")).when(jsonHandlerMock).endNumber(Mockito.any());
+
+        final Consumer<ByteBuffer> underTest = JsonValueParser.fromByteBuffer(jsonHandlerMock);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.accept(ByteBuffer.wrap("42".getBytes(StandardCharsets.UTF_8))))
+                .withMessage("Failed to parse JSON value from bytes!")
+                .withCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Simple Test executing the benchmark scenarios of {@link JsonObjectModificationBenchmark} and verifying that both
+ * JSON object implementations yield equal results.
+ */
+public final class JsonObjectModificationBenchmarkTest {
+
+    private JsonObjectModificationState state;
+    private JsonObjectModificationBenchmark underTest;
+
+    @Before
+    public void setUp() {
+        state = new JsonObjectModificationState();
+        state.numberOfFields = 100;
+        state.setUp();
+        underTest = new JsonObjectModificationBenchmark();
+    }
+
+    @Test
+    public void setExistingField() {
+        assertThat(underTest.setExistingFieldPersistent(state))
+                .isEqualTo(underTest.setExistingFieldImmutable(state));
+    }
+
+    @Test
+    public void setNewField() {
+        assertThat(underTest.setNewFieldPersistent(state)).isEqualTo(underTest.setNewFieldImmutable(state));
+    }
+
+    @Test
+    public void removeField() {
+        assertThat(underTest.removeFieldPersistent(state)).isEqualTo(underTest.removeFieldImmutable(state));
+    }
+
+    @Test
+    public void setNestedValue() {
+        assertThat(underTest.setNestedValuePersistent(state)).isEqualTo(underTest.setNestedValueImmutable(state));
+    }
+
+}
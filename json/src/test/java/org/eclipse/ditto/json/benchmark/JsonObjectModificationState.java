@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State of {@link JsonObjectModificationBenchmark}: a JSON object with a configurable number of fields in the
+ * copy-on-write and in the structurally shared implementation.
+ */
+@State(Scope.Benchmark)
+public class JsonObjectModificationState {
+
+    static final String EXISTING_KEY = "field0";
+    static final String NEW_KEY = "newField";
+    static final JsonPointer NESTED_POINTER = JsonPointer.of("nested/field0");
+
+    @Param({"10", "100", "1000"})
+    int numberOfFields;
+
+    JsonObject immutableJsonObject;
+    JsonObject persistentJsonObject;
+
+    @Setup
+    public void setUp() {
+        final JsonObjectBuilder nestedBuilder = JsonFactory.newObjectBuilder();
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < numberOfFields; i++) {
+            nestedBuilder.set("field" + i, i);
+            builder.set("field" + i, "value" + i);
+        }
+        final JsonObject nested = nestedBuilder.build();
+        immutableJsonObject = builder.set("nested", nested).build();
+        persistentJsonObject = JsonFactory.newPersistentObject(immutableJsonObject)
+                .setValue("nested", JsonFactory.newPersistentObject(nested));
+    }
+
+}
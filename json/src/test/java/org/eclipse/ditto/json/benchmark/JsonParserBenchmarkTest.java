@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Simple Test executing the benchmark scenarios of {@link JsonParserBenchmark} and verifying that both parsers yield
+ * equal results.
+ */
+public final class JsonParserBenchmarkTest {
+
+    @Test
+    public void parseSingleThing() {
+        assertParsersYieldEqualResults(1);
+    }
+
+    @Test
+    public void parseListOfThings() {
+        assertParsersYieldEqualResults(100);
+    }
+
+    private static void assertParsersYieldEqualResults(final int numberOfThings) {
+        final JsonParserState state = new JsonParserState();
+        state.numberOfThings = numberOfThings;
+        state.setUp();
+        final JsonParserBenchmark underTest = new JsonParserBenchmark();
+
+        assertThat(underTest.parseUtf8Bytes(state)).isEqualTo(underTest.parseDecodedString(state));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State of {@link JsonParserBenchmark}: the UTF-8 encoded JSON of a list of things which resemble the things of
+ * a typical IoT solution.
+ */
+@State(Scope.Benchmark)
+public class JsonParserState {
+
+    @Param({"1", "100"})
+    int numberOfThings;
+
+    byte[] utf8Bytes;
+
+    @Setup
+    public void setUp() {
+        final JsonArrayBuilder things = JsonFactory.newArrayBuilder();
+        for (int i = 0; i < numberOfThings; i++) {
+            things.add(createThing(i));
+        }
+        final String json = 1 == numberOfThings ? createThing(0).toString() : things.build().toString();
+        utf8Bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static JsonObject createThing(final int index) {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < 5; i++) {
+            features.set("sensor-" + i, JsonFactory.newObjectBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("value", 20.5 + i)
+                            .set("unit", "°C")
+                            .set("lastUpdate", "2020-10-19T12:00:00.000Z")
+                            .set("status", JsonFactory.newObjectBuilder()
+                                    .set("battery", 87)
+                                    .set("online", true)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:thing-" + index)
+                .set("policyId", "org.eclipse.ditto:policy-" + index)
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME äöü")
+                        .set("serialNo", 4711L + index)
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("latitude", 47.68)
+                                .set("longitude", 9.39)
+                                .build())
+                        .build())
+                .set("features", features.build())
+                .set("_revision", 42)
+                .set("_modified", "2020-10-19T12:00:00.000Z")
+                .build();
+    }
+
+}
@@ -67,6 +67,17 @@ final class PolicyTrie {
         this.children = children;
     }
 
+    /**
+     * Creates a trie node from its grant-revoke-index and its children.
+     *
+     * @param grantRevokeIndex the grant-revoke-index of the node.
+     * @param children the children of the node by their keys.
+     * @return the trie node.
+     */
+    static PolicyTrie of(final GrantRevokeIndex grantRevokeIndex, final Map<JsonKey, PolicyTrie> children) {
+        return new PolicyTrie(grantRevokeIndex, children);
+    }
+
     /**
      * Interprets a {@link org.eclipse.ditto.model.policies.Policy} as trie. For each policy entry, a map from
      * granted/revoked permissions to their corresponding subjects is added to a trie node at the exact location of the
@@ -218,6 +229,15 @@ final class PolicyTrie {
         return new PolicyTrie(newGrantRevokeMap, newChildren);
     }
 
+    /**
+     * Returns the children of this node by their keys.
+     *
+     * @return an unmodifiable view of the children.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
     /**
      * Returns whether a child exists for the given key.
      *
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Serializes the 3 policy tries of a {@link TrieBasedPolicyEnforcer} into one compact JSON object and back.
+ * <p>
+ * As the tries have the same shape, they are written in one traversal. Each node is an object with the
+ * non-empty grant-revoke-indices of the inherited trie ({@code i}), of the bottom-up grant trie ({@code g}) and of
+ * the bottom-up revoke trie ({@code r}) as well as an array of alternating child keys and child nodes ({@code c}).
+ * A grant-revoke-index is an array of the grant relation and the revoke relation. A relation is an array of
+ * alternating permissions and arrays of alternating subject indices and weights. Subject IDs are written once in
+ * the array {@code subjects} and referred to by their indices.
+ * </p>
+ */
+@NotThreadSafe
+final class PolicyTrieJsonSerializer {
+
+    /**
+     * Version of the serialization format.
+     */
+    private static final int VERSION = 1;
+
+    private static final JsonFieldDefinition<Integer> JSON_VERSION = JsonFactory.newIntFieldDefinition("version");
+    private static final JsonFieldDefinition<JsonArray> JSON_SUBJECTS =
+            JsonFactory.newJsonArrayFieldDefinition("subjects");
+    private static final JsonFieldDefinition<JsonObject> JSON_TRIE = JsonFactory.newJsonObjectFieldDefinition("trie");
+
+    private static final JsonFieldDefinition<JsonArray> JSON_INHERITED = JsonFactory.newJsonArrayFieldDefinition("i");
+    private static final JsonFieldDefinition<JsonArray> JSON_BOTTOM_UP_GRANT =
+            JsonFactory.newJsonArrayFieldDefinition("g");
+    private static final JsonFieldDefinition<JsonArray> JSON_BOTTOM_UP_REVOKE =
+            JsonFactory.newJsonArrayFieldDefinition("r");
+    private static final JsonFieldDefinition<JsonArray> JSON_CHILDREN = JsonFactory.newJsonArrayFieldDefinition("c");
+
+    private final Map<String, Integer> subjectIndices;
+
+    private PolicyTrieJsonSerializer() {
+        subjectIndices = new LinkedHashMap<>();
+    }
+
+    /**
+     * Serializes the tries of a policy enforcer.
+     *
+     * @param inheritedTrie the inherited trie.
+     * @param bottomUpGrantTrie the bottom-up grant trie of the same shape.
+     * @param bottomUpRevokeTrie the bottom-up revoke trie of the same shape.
+     * @return the JSON object.
+     */
+    static JsonObject toJson(final PolicyTrie inheritedTrie, final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie) {
+
+        final PolicyTrieJsonSerializer serializer = new PolicyTrieJsonSerializer();
+        final JsonObject trie = serializer.nodeToJson(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie);
+        final JsonArray subjects = JsonFactory.newArrayBuilder().addStrings(serializer.subjectIndices.keySet()).build();
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_VERSION, VERSION)
+                .set(JSON_SUBJECTS, subjects)
+                .set(JSON_TRIE, trie)
+                .build();
+    }
+
+    /**
+     * Deserializes the tries of a policy enforcer.
+     *
+     * @param jsonObject the JSON object created by {@link #toJson(PolicyTrie, PolicyTrie, PolicyTrie)}.
+     * @return the inherited trie, the bottom-up grant trie and the bottom-up revoke trie in this order.
+     * @throws JsonParseException if {@code jsonObject} is not in the expected format.
+     */
+    static List<PolicyTrie> fromJson(final JsonObject jsonObject) {
+        try {
+            final int version = jsonObject.getValueOrThrow(JSON_VERSION);
+            if (VERSION != version) {
+                throw new IllegalArgumentException("Unsupported version <" + version + ">");
+            }
+            final List<String> subjects = new ArrayList<>();
+            jsonObject.getValueOrThrow(JSON_SUBJECTS).forEach(subject -> subjects.add(subject.asString()));
+            final List<PolicyTrie> tries = new ArrayList<>(3);
+            nodeFromJson(jsonObject.getValueOrThrow(JSON_TRIE), subjects, tries);
+            return tries;
+        } catch (final JsonParseException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw JsonParseException.newBuilder()
+                    .message("The JSON object is not a serialized policy enforcer: " + e.getMessage())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private JsonObject nodeToJson(final PolicyTrie inherited, final PolicyTrie bottomUpGrant,
+            final PolicyTrie bottomUpRevoke) {
+
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        setIndex(builder, JSON_INHERITED, inherited.getGrantRevokeIndex());
+        setIndex(builder, JSON_BOTTOM_UP_GRANT, bottomUpGrant.getGrantRevokeIndex());
+        setIndex(builder, JSON_BOTTOM_UP_REVOKE, bottomUpRevoke.getGrantRevokeIndex());
+        final Map<JsonKey, PolicyTrie> children = inherited.getChildren();
+        if (!children.isEmpty()) {
+            final JsonArrayBuilder childrenBuilder = JsonFactory.newArrayBuilder();
+            children.forEach((key, child) -> childrenBuilder.add(key.toString())
+                    .add(nodeToJson(child, bottomUpGrant.getChildren().get(key),
+                            bottomUpRevoke.getChildren().get(key))));
+            builder.set(JSON_CHILDREN, childrenBuilder.build());
+        }
+        return builder.build();
+    }
+
+    private void setIndex(final JsonObjectBuilder builder, final JsonFieldDefinition<JsonArray> fieldDefinition,
+            final GrantRevokeIndex grantRevokeIndex) {
+
+        // empty indices are omitted
+        if (!grantRevokeIndex.getGranted().isEmpty() || !grantRevokeIndex.getRevoked().isEmpty()) {
+            builder.set(fieldDefinition, JsonFactory.newArrayBuilder()
+                    .add(relationToJson(grantRevokeIndex.getGranted()), relationToJson(grantRevokeIndex.getRevoked()))
+                    .build());
+        }
+    }
+
+    private JsonArray relationToJson(final PermissionSubjectsMap relation) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        relation.forEach((permission, weightedSubjects) -> {
+            final JsonArrayBuilder subjectsBuilder = JsonFactory.newArrayBuilder();
+            weightedSubjects.forEach((subjectId, weight) -> subjectsBuilder.add(getSubjectIndex(subjectId), weight));
+            builder.add(permission).add(subjectsBuilder.build());
+        });
+        return builder.build();
+    }
+
+    private int getSubjectIndex(final String subjectId) {
+        return subjectIndices.computeIfAbsent(subjectId, unused -> subjectIndices.size());
+    }
+
+    private static void nodeFromJson(final JsonObject node, final List<String> subjects,
+            final List<PolicyTrie> tries) {
+
+        final Map<JsonKey, PolicyTrie> inheritedChildren = new HashMap<>();
+        final Map<JsonKey, PolicyTrie> bottomUpGrantChildren = new HashMap<>();
+        final Map<JsonKey, PolicyTrie> bottomUpRevokeChildren = new HashMap<>();
+        final Iterator<JsonValue> childrenIterator = node.getValue(JSON_CHILDREN)
+                .map(JsonArray::iterator)
+                .orElseGet(Collections::emptyIterator);
+        while (childrenIterator.hasNext()) {
+            final JsonKey key = JsonKey.of(childrenIterator.next().asString());
+            final List<PolicyTrie> childTries = new ArrayList<>(3);
+            nodeFromJson(childrenIterator.next().asObject(), subjects, childTries);
+            inheritedChildren.put(key, childTries.get(0));
+            bottomUpGrantChildren.put(key, childTries.get(1));
+            bottomUpRevokeChildren.put(key, childTries.get(2));
+        }
+        tries.add(PolicyTrie.of(indexFromJson(node, JSON_INHERITED, subjects), inheritedChildren));
+        tries.add(PolicyTrie.of(indexFromJson(node, JSON_BOTTOM_UP_GRANT, subjects), bottomUpGrantChildren));
+        tries.add(PolicyTrie.of(indexFromJson(node, JSON_BOTTOM_UP_REVOKE, subjects), bottomUpRevokeChildren));
+    }
+
+    private static GrantRevokeIndex indexFromJson(final JsonObject node,
+            final JsonFieldDefinition<JsonArray> fieldDefinition, final List<String> subjects) {
+
+        final Optional<JsonArray> grantRevokeIndex = node.getValue(fieldDefinition);
+        if (!grantRevokeIndex.isPresent()) {
+            return new GrantRevokeIndex();
+        }
+        final Iterator<JsonValue> iterator = grantRevokeIndex.get().iterator();
+        final PermissionSubjectsMap grantMap = relationFromJson(iterator.next().asArray(), subjects);
+        final PermissionSubjectsMap revokeMap = relationFromJson(iterator.next().asArray(), subjects);
+        return new GrantRevokeIndex(grantMap, revokeMap);
+    }
+
+    private static PermissionSubjectsMap relationFromJson(final JsonArray relation, final List<String> subjects) {
+        final PermissionSubjectsMap result = new PermissionSubjectsMap();
+        final Iterator<JsonValue> iterator = relation.iterator();
+        while (iterator.hasNext()) {
+            final String permission = iterator.next().asString();
+            final Iterator<JsonValue> weightedSubjects = iterator.next().asArray().iterator();
+            final Map<String, Integer> subjectWeights = new HashMap<>();
+            while (weightedSubjects.hasNext()) {
+                final String subjectId = subjects.get(weightedSubjects.next().asInt());
+                subjectWeights.put(subjectId, weightedSubjects.next().asInt());
+            }
+            result.put(permission, subjectWeights);
+        }
+        return result;
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -22,6 +23,7 @@ import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
 import org.eclipse.ditto.model.enforcers.EffectedSubjects;
 import org.eclipse.ditto.model.enforcers.Enforcer;
@@ -62,8 +64,12 @@ import org.eclipse.ditto.model.policies.ResourceKey;
  * permissions, e. g., a resource is considered writable only if all sub-resources are writable, and any WRITE-revoked
  * resource make all its super-resources non-writable. To build it, start from {@code inheritedTrie}, push revoked
  * subjects from descendants up to ancestors. </li> </ol> See Javadoc of individual methods for more details.
+ * <p>
+ * Building the tries of a large policy is expensive. Therefore the tries can be serialized by {@link #toJson()} once
+ * per policy revision and restored by {@link #fromJson(JsonObject)} without rebuilding them.
+ * </p>
  */
-public final class TrieBasedPolicyEnforcer implements Enforcer {
+public final class TrieBasedPolicyEnforcer implements Enforcer, Jsonifiable<JsonObject> {
 
     /**
      * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
@@ -87,6 +93,12 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
     }
 
+    private TrieBasedPolicyEnforcer(final List<PolicyTrie> tries) {
+        inheritedTrie = tries.get(0);
+        bottomUpGrantTrie = tries.get(1);
+        bottomUpRevokeTrie = tries.get(2);
+    }
+
     /**
      * Constructs a trie-based policy enforcer from a policy.
      *
@@ -98,6 +110,30 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
     }
 
+    /**
+     * Restores a trie-based policy enforcer from its JSON representation.
+     *
+     * @param jsonObject the JSON representation created by {@link #toJson()}.
+     * @return the policy enforcer.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code jsonObject} is not the JSON representation of a
+     * trie-based policy enforcer.
+     */
+    public static TrieBasedPolicyEnforcer fromJson(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object");
+        return new TrieBasedPolicyEnforcer(PolicyTrieJsonSerializer.fromJson(jsonObject));
+    }
+
+    /**
+     * Returns the compact JSON representation of the tries of this enforcer.
+     *
+     * @return the JSON representation.
+     */
+    @Override
+    public JsonObject toJson() {
+        return PolicyTrieJsonSerializer.toJson(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie);
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.enforcers.testbench.algorithms.PolicyAlgorithm;
+import org.eclipse.ditto.model.enforcers.testbench.algorithms.TrieBasedPolicyAlgorithm;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.Policy;
+
+/**
+ * Runs all scenarios with trie-based policy enforcers restored from their serialized JSON strings.
+ */
+public final class SerializedTrieBasedPolicyAlgorithmTest extends AbstractPolicyAlgorithmTest {
+
+    @Override
+    protected PolicyAlgorithm getPolicyAlgorithm(final Policy policy) {
+        final String serializedEnforcer = TrieBasedPolicyEnforcer.newInstance(policy).toJson().toString();
+        return new TrieBasedPolicyAlgorithm(
+                TrieBasedPolicyEnforcer.fromJson(JsonFactory.newObject(serializedEnforcer)));
+    }
+
+}
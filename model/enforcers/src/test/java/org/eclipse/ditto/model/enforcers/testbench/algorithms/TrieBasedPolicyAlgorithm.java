@@ -31,7 +31,11 @@ public final class TrieBasedPolicyAlgorithm implements PolicyAlgorithm {
     private final TrieBasedPolicyEnforcer trieBasedPolicyEvaluator;
 
     public TrieBasedPolicyAlgorithm(final Policy policy) {
-        trieBasedPolicyEvaluator = TrieBasedPolicyEnforcer.newInstance(policy);
+        this(TrieBasedPolicyEnforcer.newInstance(policy));
+    }
+
+    public TrieBasedPolicyAlgorithm(final TrieBasedPolicyEnforcer trieBasedPolicyEnforcer) {
+        trieBasedPolicyEvaluator = trieBasedPolicyEnforcer;
     }
 
     @Override
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
@@ -47,6 +48,22 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void restoredEnforcerHasSamePermissions() {
+        final TrieBasedPolicyEnforcer original =
+                TrieBasedPolicyEnforcer.newInstance(defaultPolicy(PolicyId.of("namespace", "id")));
+
+        final TrieBasedPolicyEnforcer restored = TrieBasedPolicyEnforcer.fromJson(original.toJson());
+
+        assertThat(restored.getSubjectIdsWithPermission(ResourceKey.newInstance("foo", "/foo"),
+                Permissions.newInstance("READ")).getGranted()).containsExactly("dummy:test");
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void restoringFromUnknownJsonFails() {
+        TrieBasedPolicyEnforcer.fromJson(JsonFactory.newObjectBuilder().set("version", 0).build());
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
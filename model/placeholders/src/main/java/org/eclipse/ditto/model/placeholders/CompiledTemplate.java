@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+
+/**
+ * A template string compiled into its literal segments and the pipelines of its placeholder expressions.
+ * <p>
+ * Executing a compiled template with an {@link ImmutableExpressionResolver} yields the same result as
+ * {@link ExpressionResolver#substitute(String, java.util.function.Function)} with
+ * {@link ImmutableExpressionResolver#resolveAsPipelineElement(String)}, but neither matches regular expressions nor
+ * looks up pipeline functions again. Templates are compiled once per distinct template string; as templates originate
+ * from the configuration of connections, their number is small.
+ * </p>
+ */
+@Immutable
+final class CompiledTemplate {
+
+    /**
+     * Maximum number of cached compiled templates; the cache is cleared when it is exceeded.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 10_000;
+
+    private static final Map<String, CompiledTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final List<String> literals;
+    private final List<CompiledExpression> expressions;
+
+    private CompiledTemplate(final List<String> literals, final List<CompiledExpression> expressions) {
+        this.literals = literals;
+        this.expressions = expressions;
+    }
+
+    /**
+     * Returns the compiled template of a template string, compiling it if it was not compiled before.
+     *
+     * @param template the template string.
+     * @return the compiled template.
+     */
+    static CompiledTemplate of(final String template) {
+        final CompiledTemplate cachedTemplate = CACHE.get(template);
+        if (null != cachedTemplate) {
+            return cachedTemplate;
+        }
+        final CompiledTemplate compiledTemplate = compile(template);
+        if (CACHE.size() >= MAX_CACHED_TEMPLATES) {
+            CACHE.clear();
+        }
+        CACHE.putIfAbsent(template, compiledTemplate);
+        return compiledTemplate;
+    }
+
+    /**
+     * Compiles a template string.
+     *
+     * @param template the template string.
+     * @return the compiled template.
+     */
+    static CompiledTemplate compile(final String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<CompiledExpression> expressions = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            final String placeholderExpression = Placeholders.groupNames()
+                    .stream()
+                    .map(matcher::group)
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .orElse("");
+            literals.add(template.substring(literalStart, matcher.start()));
+            expressions.add(CompiledExpression.compile(placeholderExpression));
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(Collections.unmodifiableList(literals),
+                Collections.unmodifiableList(expressions));
+    }
+
+    /**
+     * Resolves this template.
+     *
+     * @param expressionResolver the resolver of placeholders and executor of pipeline functions.
+     * @return the resolved string, a signifier for resolution failure, or one for deletion.
+     */
+    PipelineElement execute(final ImmutableExpressionResolver expressionResolver) {
+        if (expressions.isEmpty()) {
+            return PipelineElement.resolved(literals.get(0));
+        }
+        final StringBuilder resultBuilder = new StringBuilder();
+        for (int i = 0; i < expressions.size(); ++i) {
+            final PipelineElement element = expressions.get(i).execute(expressionResolver);
+            switch (element.getType()) {
+                case DELETED:
+                case UNRESOLVED:
+                    // abort pipeline execution: resolution failed or the string has been deleted.
+                    return element;
+                default:
+                    resultBuilder.append(literals.get(i));
+                    element.toOptional().ifPresent(resultBuilder::append);
+            }
+        }
+        resultBuilder.append(literals.get(expressions.size()));
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    /**
+     * A placeholder expression compiled into its input placeholder and its bound pipeline functions.
+     */
+    @Immutable
+    private static final class CompiledExpression {
+
+        private final String expression;
+        private final boolean valid;
+        private final boolean startsWithFunction;
+        private final String firstStage;
+        @Nullable private final String placeholderPrefix;
+        @Nullable private final String placeholderName;
+        private final List<CompiledFunction> functions;
+
+        private CompiledExpression(final String expression, final boolean valid, final boolean startsWithFunction,
+                final String firstStage, @Nullable final String placeholderPrefix,
+                @Nullable final String placeholderName, final List<CompiledFunction> functions) {
+
+            this.expression = expression;
+            this.valid = valid;
+            this.startsWithFunction = startsWithFunction;
+            this.firstStage = firstStage;
+            this.placeholderPrefix = placeholderPrefix;
+            this.placeholderName = placeholderName;
+            this.functions = functions;
+        }
+
+        private static CompiledExpression compile(final String expression) {
+            final List<String> stages;
+            try {
+                stages = ImmutableExpressionResolver.getPipelineStagesExpressions(expression);
+            } catch (final DittoRuntimeException e) {
+                // invalid expressions are left to the interpreter to fail on each execution as before
+                return new CompiledExpression(expression, false, false, "", null, null, Collections.emptyList());
+            }
+            final String firstStage = ImmutableExpressionResolver.getFirstExpressionInPipe(stages);
+            final boolean startsWithFunction = ImmutableExpressionResolver.isFirstPlaceholderFunction(firstStage);
+            final String prefix = startsWithFunction
+                    ? null
+                    : ImmutableExpressionResolver.getPlaceholderPrefix(firstStage).orElse(null);
+            final String name = null != prefix ? firstStage.substring(prefix.length() + 1) : null;
+            final List<CompiledFunction> functions = new ArrayList<>();
+            stages.stream()
+                    .skip(startsWithFunction ? 0 : 1)
+                    .map(CompiledFunction::compile)
+                    .forEach(functions::add);
+            return new CompiledExpression(expression, true, startsWithFunction, firstStage, prefix, name,
+                    Collections.unmodifiableList(functions));
+        }
+
+        private PipelineElement execute(final ImmutableExpressionResolver expressionResolver) {
+            if (!valid) {
+                return expressionResolver.resolveAsPipelineElement(expression);
+            }
+            PipelineElement element = startsWithFunction
+                    ? PipelineElement.unresolved()
+                    : expressionResolver.resolveSinglePlaceholder(placeholderPrefix, placeholderName, firstStage);
+            for (final CompiledFunction function : functions) {
+                element = function.apply(element, expressionResolver);
+            }
+            return element;
+        }
+
+    }
+
+    /**
+     * A pipeline function bound to the parameters of its stage.
+     */
+    @Immutable
+    private static final class CompiledFunction {
+
+        private static final String FUNCTION_PREFIX = FunctionExpression.PREFIX + SEPARATOR;
+
+        private final String stage;
+        @Nullable private final PipelineFunction function;
+        private final String parameters;
+
+        private CompiledFunction(final String stage, @Nullable final PipelineFunction function,
+                final String parameters) {
+
+            this.stage = stage;
+            this.function = function;
+            this.parameters = parameters;
+        }
+
+        private static CompiledFunction compile(final String stage) {
+            return ImmutableFunctionExpression.INSTANCE.getSupportedFunctions()
+                    .stream()
+                    .filter(pf -> stage.startsWith(FUNCTION_PREFIX + pf.getName() + "("))
+                    .findFirst()
+                    .map(pf -> new CompiledFunction(stage, pf,
+                            stage.substring(FUNCTION_PREFIX.length() + pf.getName().length()).trim()))
+                    // unknown functions are left to the function expression to fail on each execution as before
+                    .orElseGet(() -> new CompiledFunction(stage, null, ""));
+        }
+
+        private PipelineElement apply(final PipelineElement element,
+                final ImmutableExpressionResolver expressionResolver) {
+
+            if (null == function) {
+                return ImmutableFunctionExpression.INSTANCE.resolve(stage, element, expressionResolver);
+            }
+            return function.apply(element, parameters, expressionResolver);
+        }
+
+    }
+
+}
@@ -14,7 +14,6 @@ package org.eclipse.ditto.model.placeholders;
 
 import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -89,25 +88,43 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private Optional<Map.Entry<PlaceholderResolver<?>, String>> findPlaceholderResolver(
-            final String placeholderInPipeline) {
-        return getPlaceholderPrefix(placeholderInPipeline)
-                .flatMap(prefix -> {
-                    final String name = placeholderInPipeline.substring(prefix.length() + 1);
-                    return Optional.ofNullable(placeholderResolvers.get(prefix))
-                            .filter(resolver -> resolver.supports(name))
-                            .map(resolver -> new AbstractMap.SimpleImmutableEntry<>(resolver, name));
-                });
+    /**
+     * Resolves the expression template by its compiled form, which is compiled once per distinct template.
+     *
+     * @param expressionTemplate the expressionTemplate to resolve.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     */
+    @Override
+    public PipelineElement resolve(final String expressionTemplate) {
+        return CompiledTemplate.of(expressionTemplate).execute(this);
     }
 
     private PipelineElement resolveSinglePlaceholder(final String placeholderInPipeline) {
-        final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
-                .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
+        final String prefix = getPlaceholderPrefix(placeholderInPipeline).orElse(null);
+        final String name = null != prefix ? placeholderInPipeline.substring(prefix.length() + 1) : null;
+        return resolveSinglePlaceholder(prefix, name, placeholderInPipeline);
+    }
+
+    /**
+     * Resolves a placeholder whose prefix and name were already split.
+     *
+     * @param prefix the prefix of the placeholder or {@code null} if it has none.
+     * @param name the name of the placeholder or {@code null} if it has no prefix.
+     * @param placeholderInPipeline the placeholder as it appears in the pipeline.
+     * @return the resolved placeholder.
+     * @throws UnresolvedPlaceholderException if no resolver supports the placeholder.
+     */
+    PipelineElement resolveSinglePlaceholder(@Nullable final String prefix, @Nullable final String name,
+            final String placeholderInPipeline) {
+
+        final PlaceholderResolver<?> resolver = null != prefix ? placeholderResolvers.get(prefix) : null;
+        if (null == resolver || null == name || !resolver.supports(name)) {
+            throw UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build();
+        }
 
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            return resolverPair.getKey()
-                    .resolve(resolverPair.getValue())
+            return resolver.resolve(name)
                     .map(PipelineElement::resolved)
                     .orElseGet(PipelineElement::unresolved);
         } else {
@@ -116,7 +133,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -137,7 +154,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
     }
 
     // the first expression can be a placeholder or a function expression
-    private String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
+    static String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
         if (pipelineStagesExpressions.isEmpty()) {
             return "";
         }
@@ -151,7 +168,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         return new ImmutablePipeline(ImmutableFunctionExpression.INSTANCE, pipelineStages);
     }
 
-    private Optional<String> getPlaceholderPrefix(final String placeholder) {
+    static Optional<String> getPlaceholderPrefix(final String placeholder) {
         final int separatorIndex = placeholder.indexOf(SEPARATOR);
         if (separatorIndex == -1) {
             return Optional.empty();
@@ -185,7 +202,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 "]";
     }
 
-    private static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
+    static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
         return firstPlaceholderInPipeline.startsWith(FunctionExpression.PREFIX + SEPARATOR);
     }
 }
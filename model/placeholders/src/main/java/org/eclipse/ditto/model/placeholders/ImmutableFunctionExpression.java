@@ -63,6 +63,15 @@ final class ImmutableFunctionExpression implements FunctionExpression {
                 .anyMatch(psfName -> expressionName.startsWith(psfName + "("));
     }
 
+    /**
+     * Returns the supported pipeline functions in the order in which they are matched against expressions.
+     *
+     * @return the supported pipeline functions.
+     */
+    List<PipelineFunction> getSupportedFunctions() {
+        return SUPPORTED;
+    }
+
     @Override
     public PipelineElement resolve(final String expression, final PipelineElement resolvedInputValue,
             final ExpressionResolver expressionResolver) {
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CompiledTemplate}.
+ */
+public final class CompiledTemplateTest {
+
+    private static final Map<String, String> HEADERS = Collections.singletonMap("device_id", "device:4711");
+
+    private final ImmutableExpressionResolver resolver = new ImmutableExpressionResolver(Collections.singletonList(
+            new ImmutablePlaceholderResolver<>(PlaceholderFactory.newHeadersPlaceholder(), HEADERS)));
+
+    @Test
+    public void templateIsCompiledOnce() {
+        final String template = "devices/{{ header:device_id }}";
+
+        assertThat(CompiledTemplate.of(template)).isSameAs(CompiledTemplate.of(template));
+    }
+
+    @Test
+    public void literalsAndPipelinesAreConcatenated() {
+        final CompiledTemplate underTest = CompiledTemplate.compile(
+                "a/{{ header:device_id | fn:substring-after(':') }}/b/{{header:device_id}}/c");
+
+        assertThat(underTest.execute(resolver)).isEqualTo(PipelineElement.resolved("a/4711/b/device:4711/c"));
+    }
+
+    @Test
+    public void templateWithoutPlaceholdersResolvesToItself() {
+        assertThat(CompiledTemplate.compile("plain/address").execute(resolver))
+                .isEqualTo(PipelineElement.resolved("plain/address"));
+    }
+
+    @Test
+    public void unresolvedAndDeletedPipelinesAbortTheTemplate() {
+        assertThat(CompiledTemplate.compile("a/{{ header:missing }}/{{ header:device_id }}").execute(resolver))
+                .isEqualTo(PipelineElement.unresolved());
+        assertThat(CompiledTemplate.compile("a/{{ header:device_id | fn:delete() }}").execute(resolver))
+                .isEqualTo(PipelineElement.deleted());
+    }
+
+    @Test
+    public void invalidExpressionsFailOnExecutionOnly() {
+        final CompiledTemplate unknownFunction = CompiledTemplate.compile("{{ header:device_id | fn:unknown() }}");
+        final CompiledTemplate unknownPlaceholder = CompiledTemplate.compile("{{ thing:id }}");
+
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> unknownFunction.execute(resolver));
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> unknownPlaceholder.execute(resolver));
+    }
+
+}
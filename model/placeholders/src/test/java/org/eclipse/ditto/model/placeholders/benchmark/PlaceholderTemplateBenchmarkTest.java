@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.placeholders.PipelineElement;
+import org.junit.Test;
+
+/**
+ * Simple Test executing the benchmark scenarios of {@link PlaceholderTemplateBenchmark} and verifying that
+ * interpreted and compiled templates yield equal results.
+ */
+public final class PlaceholderTemplateBenchmarkTest {
+
+    @Test
+    public void resolveAddressOfPlaceholders() {
+        assertResolutionsYieldEqualResults("telemetry/{{ thing:namespace }}/{{ thing:name }}",
+                "telemetry/org.eclipse.ditto/thing-4711");
+    }
+
+    @Test
+    public void resolveSingleHeader() {
+        assertResolutionsYieldEqualResults("{{ header:device_id }}", "device-4711");
+    }
+
+    @Test
+    public void resolvePipelineWithFunctionParameterPlaceholder() {
+        assertResolutionsYieldEqualResults(
+                "{{ header:correlation-id | fn:substring-before(':') | fn:default(header:device_id) }}", "4711");
+    }
+
+    @Test
+    public void resolveAddressOfPlaceholdersAndPipeline() {
+        assertResolutionsYieldEqualResults(
+                "events/{{ thing:id }}/{{ header:content-type | fn:lower() | fn:default('application/json') }}",
+                "events/org.eclipse.ditto:thing-4711/application/json");
+    }
+
+    private static void assertResolutionsYieldEqualResults(final String template, final String expected) {
+        final PlaceholderTemplateState state = new PlaceholderTemplateState();
+        state.template = template;
+        state.setUp();
+        final PlaceholderTemplateBenchmark underTest = new PlaceholderTemplateBenchmark();
+
+        final PipelineElement compiled = underTest.resolveCompiled(state);
+
+        assertThat(compiled).isEqualTo(underTest.resolveInterpreted(state));
+        assertThat(compiled.toOptional()).contains(expected);
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders.benchmark;
+
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.things.ThingId;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State of {@link PlaceholderTemplateBenchmark}: an expression resolver for the thing ID and the headers of a message
+ * and templates as they appear in target addresses and header mappings of connections.
+ */
+@State(Scope.Benchmark)
+public class PlaceholderTemplateState {
+
+    @Param({
+            "telemetry/{{ thing:namespace }}/{{ thing:name }}",
+            "{{ header:device_id }}",
+            "{{ header:correlation-id | fn:substring-before(':') | fn:default(header:device_id) }}",
+            "events/{{ thing:id }}/{{ header:content-type | fn:lower() | fn:default('application/json') }}"
+    })
+    String template;
+
+    ExpressionResolver expressionResolver;
+
+    @Setup
+    public void setUp() {
+        final Map<String, String> headers = DittoHeaders.newBuilder()
+                .correlationId("4711:0815")
+                .contentType("Application/JSON")
+                .putHeader("device_id", "device-4711")
+                .build();
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(),
+                        ThingId.of("org.eclipse.ditto", "thing-4711")),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), headers)
+        );
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * A Java {@link Predicate} of {@link Thing}s compiled from {@link Criteria}. It evaluates to the same result as the
+ * predicate of {@link ThingPredicateVisitor#apply(Criteria)} but does not serialize the thing for each field and does
+ * not map the values of fields to Java objects.
+ * <p>
+ * Compiling is not free; callers which evaluate the same criteria repeatedly should keep the compiled predicate.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+@Immutable
+public final class CompiledThingPredicate implements Predicate<Thing> {
+
+    private final Criteria criteria;
+    private final Predicate<Thing> compiledPredicate;
+
+    private CompiledThingPredicate(final Criteria criteria) {
+        this.criteria = criteria;
+        compiledPredicate = ThingPredicateCompiler.compile(criteria);
+    }
+
+    /**
+     * Compiles the given criteria.
+     *
+     * @param criteria the criteria.
+     * @return the compiled predicate.
+     * @throws NullPointerException if {@code criteria} is {@code null}.
+     */
+    public static CompiledThingPredicate of(final Criteria criteria) {
+        requireNonNull(criteria, "The criteria must not be null!");
+        return new CompiledThingPredicate(criteria);
+    }
+
+    /**
+     * Returns the criteria this predicate was compiled from.
+     *
+     * @return the criteria.
+     */
+    public Criteria getCriteria() {
+        return criteria;
+    }
+
+    @Override
+    public boolean test(final Thing thing) {
+        return compiledPredicate.test(thing);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "criteria=" + criteria +
+                "]";
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * PredicateVisitor compiling Ditto query predicates into Java {@link Predicate}s of the {@link JsonValue} of a field.
+ * The predicates accept {@code null} for fields which are not present.
+ * <p>
+ * The result of each predicate is the same as of the predicate created by {@link ThingPredicatePredicateVisitor}.
+ * The type of the predicate's value is evaluated once so that values of the same type are compared without mapping
+ * them to Java objects. Only comparisons of different types fall back to the mapping of
+ * {@code ThingPredicatePredicateVisitor}.
+ * </p>
+ */
+@Immutable
+final class JsonValuePredicateVisitor implements PredicateVisitor<Predicate<JsonValue>> {
+
+    private static final JsonValuePredicateVisitor INSTANCE = new JsonValuePredicateVisitor();
+
+    /**
+     * Largest absolute value of a long which can be converted to a double without loss of precision.
+     */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private JsonValuePredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Compiles the given Ditto query predicate.
+     *
+     * @param predicate the Ditto query predicate.
+     * @return the predicate of the field's value.
+     */
+    static Predicate<JsonValue> apply(final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+        return predicate.accept(INSTANCE);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitEq(@Nullable final Object value) {
+        return isEqualTo(value);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitNe(@Nullable final Object value) {
+        return isEqualTo(value).negate();
+    }
+
+    @Override
+    public Predicate<JsonValue> visitGe(@Nullable final Object value) {
+        return compareTo(value, result -> result >= 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitGt(@Nullable final Object value) {
+        return compareTo(value, result -> result > 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitLe(@Nullable final Object value) {
+        return compareTo(value, result -> result <= 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitLt(@Nullable final Object value) {
+        return compareTo(value, result -> result < 0);
+    }
+
+    @Override
+    public Predicate<JsonValue> visitIn(final List<?> values) {
+        @SuppressWarnings("unchecked")
+        final Predicate<JsonValue>[] alternatives = values.stream()
+                .map(JsonValuePredicateVisitor::isEqualTo)
+                .toArray(Predicate[]::new);
+        return jsonValue -> {
+            for (final Predicate<JsonValue> alternative : alternatives) {
+                if (alternative.test(jsonValue)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public Predicate<JsonValue> visitLike(final String value) {
+        final Pattern pattern = Pattern.compile(value);
+        return jsonValue -> null != jsonValue && jsonValue.isString() &&
+                pattern.matcher(jsonValue.asString()).matches();
+    }
+
+    private static Predicate<JsonValue> isEqualTo(@Nullable final Object value) {
+        final Predicate<JsonValue> result;
+        if (null == value) {
+            // fields with null values are treated as absent and thus never equal to anything
+            result = jsonValue -> false;
+        } else if (value instanceof Long) {
+            final long longValue = (Long) value;
+            result = jsonValue -> null != jsonValue && isLong(jsonValue) && jsonValue.asLong() == longValue;
+        } else if (value instanceof Double) {
+            final long doubleBits = Double.doubleToLongBits((Double) value);
+            result = jsonValue -> null != jsonValue && isDouble(jsonValue) &&
+                    Double.doubleToLongBits(jsonValue.asDouble()) == doubleBits;
+        } else if (value instanceof String) {
+            result = jsonValue -> null != jsonValue && jsonValue.isString() && value.equals(jsonValue.asString());
+        } else if (value instanceof Boolean) {
+            final boolean booleanValue = (Boolean) value;
+            result = jsonValue -> null != jsonValue && jsonValue.isBoolean() && jsonValue.asBoolean() == booleanValue;
+        } else {
+            result = jsonValue -> null != jsonValue &&
+                    value.equals(ThingPredicatePredicateVisitor.mapJsonValueToJava(jsonValue));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Predicate<JsonValue> compareTo(@Nullable final Object value,
+            final IntPredicate comparisonResultPredicate) {
+
+        if (!(value instanceof Comparable)) {
+            return jsonValue -> false;
+        }
+        final Comparable comparableValue = (Comparable) value;
+        return jsonValue -> {
+            if (null == jsonValue || !(jsonValue.isString() || jsonValue.isBoolean() || jsonValue.isNumber())) {
+                return false;
+            }
+            return comparisonResultPredicate.test(compare(comparableValue, jsonValue));
+        };
+    }
+
+    /**
+     * Compares the value of a field with the value of a predicate like
+     * {@link ThingPredicatePredicateVisitor#compare(Comparable, Comparable)} does.
+     */
+    @SuppressWarnings("rawtypes")
+    private static int compare(final Comparable value, final JsonValue jsonValue) {
+        if (value instanceof Long) {
+            final long longValue = (Long) value;
+            if (isLong(jsonValue)) {
+                return Long.compare(jsonValue.asLong(), longValue);
+            } else if (isDouble(jsonValue) && isExactDouble(longValue)) {
+                return compareDoubles(jsonValue.asDouble(), longValue);
+            }
+        } else if (value instanceof Double) {
+            final double doubleValue = (Double) value;
+            if (isDouble(jsonValue)) {
+                return compareDoubles(jsonValue.asDouble(), doubleValue);
+            } else if (isLong(jsonValue) && isExactDouble(jsonValue.asLong())) {
+                return compareDoubles(jsonValue.asLong(), doubleValue);
+            }
+        } else if (value instanceof String && jsonValue.isString()) {
+            return jsonValue.asString().compareTo((String) value);
+        } else if (value instanceof Boolean && jsonValue.isBoolean()) {
+            return Boolean.compare(jsonValue.asBoolean(), (Boolean) value);
+        }
+        final Object javaValue = ThingPredicatePredicateVisitor.mapJsonValueToJava(jsonValue);
+        return ThingPredicatePredicateVisitor.compare(value, (Comparable) javaValue);
+    }
+
+    private static boolean isLong(final JsonValue jsonValue) {
+        return jsonValue.isNumber() && jsonValue.isLong();
+    }
+
+    private static boolean isDouble(final JsonValue jsonValue) {
+        return jsonValue.isNumber() && !jsonValue.isLong();
+    }
+
+    private static boolean isExactDouble(final long longValue) {
+        return -MAX_EXACT_DOUBLE <= longValue && longValue <= MAX_EXACT_DOUBLE;
+    }
+
+    /*
+     * Doubles are compared by their decimal string representations when they are mapped to Java objects. As these
+     * representations convert back to the same doubles, comparing the doubles yields the same order. Only positive
+     * and negative zero have equal decimal representations.
+     */
+    private static int compareDoubles(final double d1, final double d2) {
+        if (d1 == d2) {
+            return 0;
+        }
+        return d1 < d2 ? -1 : 1;
+    }
+
+}
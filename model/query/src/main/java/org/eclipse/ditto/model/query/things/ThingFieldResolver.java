@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * Resolves the value of a filtered field of a {@link Thing}.
+ * <p>
+ * The JSON pointer of the field is parsed once. Attributes, feature properties, the thing ID and the namespace are
+ * read via the accessors of the thing so that the remaining parts of the thing are never serialized. All other fields
+ * are looked up in the JSON representation of the thing.
+ * </p>
+ */
+@Immutable
+abstract class ThingFieldResolver {
+
+    private static final String SLASH = "/";
+
+    /**
+     * Returns the resolver of the field the given expression refers to.
+     *
+     * @param fieldExpression the filtered field.
+     * @return the resolver.
+     */
+    static ThingFieldResolver of(final FilterFieldExpression fieldExpression) {
+        return fieldExpression.acceptFilterVisitor(ResolverFactory.INSTANCE);
+    }
+
+    /**
+     * Resolves the value of the field.
+     *
+     * @param thing the thing to get the value from.
+     * @return the value or {@code null} if the thing does not contain the field.
+     */
+    @Nullable
+    abstract JsonValue resolve(Thing thing);
+
+    @Immutable
+    private static final class ResolverFactory implements FilterFieldExpressionVisitor<ThingFieldResolver> {
+
+        private static final ResolverFactory INSTANCE = new ResolverFactory();
+
+        @Override
+        public ThingFieldResolver visitAttribute(final String key) {
+            return new AttributeResolver(JsonPointer.of(key));
+        }
+
+        @Override
+        public ThingFieldResolver visitFeatureIdProperty(final String featureId, final String property) {
+            if (featureId.contains(SLASH)) {
+                return new JsonResolver(JsonPointer.of("/features/" + featureId + "/properties/" + property));
+            }
+            return new FeaturePropertyResolver(featureId, JsonPointer.of(property), false);
+        }
+
+        @Override
+        public ThingFieldResolver visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            final String featureIdString = featureId.toString();
+            if (featureIdString.contains(SLASH)) {
+                return new JsonResolver(
+                        JsonPointer.of("/features/" + featureId + "/desiredProperties/" + desiredProperty));
+            }
+            return new FeaturePropertyResolver(featureIdString, JsonPointer.of(desiredProperty), true);
+        }
+
+        @Override
+        public ThingFieldResolver visitSimple(final String fieldName) {
+            final JsonPointer pointer = JsonPointer.of(fieldName);
+            if (pointer.equals(Thing.JsonFields.ID.getPointer())) {
+                return ThingIdResolver.INSTANCE;
+            } else if (pointer.equals(Thing.JsonFields.NAMESPACE.getPointer())) {
+                return NamespaceResolver.INSTANCE;
+            }
+            return new JsonResolver(pointer);
+        }
+
+    }
+
+    @Immutable
+    private static final class AttributeResolver extends ThingFieldResolver {
+
+        private final JsonPointer pointer;
+
+        private AttributeResolver(final JsonPointer pointer) {
+            this.pointer = pointer;
+        }
+
+        @Nullable
+        @Override
+        JsonValue resolve(final Thing thing) {
+            return thing.getAttributes()
+                    .flatMap(attributes -> attributes.getValue(pointer))
+                    .orElse(null);
+        }
+
+    }
+
+    @Immutable
+    private static final class FeaturePropertyResolver extends ThingFieldResolver {
+
+        private final String featureId;
+        private final JsonPointer pointer;
+        private final boolean desired;
+
+        private FeaturePropertyResolver(final String featureId, final JsonPointer pointer, final boolean desired) {
+            this.featureId = featureId;
+            this.pointer = pointer;
+            this.desired = desired;
+        }
+
+        @Nullable
+        @Override
+        JsonValue resolve(final Thing thing) {
+            return thing.getFeatures()
+                    .flatMap(features -> features.getFeature(featureId))
+                    .flatMap(feature -> desired ? feature.getDesiredProperties() : feature.getProperties())
+                    .flatMap(properties -> properties.getValue(pointer))
+                    .orElse(null);
+        }
+
+    }
+
+    @Immutable
+    private static final class ThingIdResolver extends ThingFieldResolver {
+
+        private static final ThingIdResolver INSTANCE = new ThingIdResolver();
+
+        @Nullable
+        @Override
+        JsonValue resolve(final Thing thing) {
+            return thing.getEntityId().map(thingId -> JsonValue.of(thingId.toString())).orElse(null);
+        }
+
+    }
+
+    @Immutable
+    private static final class NamespaceResolver extends ThingFieldResolver {
+
+        private static final NamespaceResolver INSTANCE = new NamespaceResolver();
+
+        @Nullable
+        @Override
+        JsonValue resolve(final Thing thing) {
+            return thing.getNamespace().map(namespace -> JsonValue.of(namespace)).orElse(null);
+        }
+
+    }
+
+    @Immutable
+    private static final class JsonResolver extends ThingFieldResolver {
+
+        private final JsonPointer pointer;
+
+        private JsonResolver(final JsonPointer pointer) {
+            this.pointer = pointer;
+        }
+
+        @Nullable
+        @Override
+        JsonValue resolve(final Thing thing) {
+            return thing.toJson(field -> true).getValue(pointer).orElse(null);
+        }
+
+    }
+
+}
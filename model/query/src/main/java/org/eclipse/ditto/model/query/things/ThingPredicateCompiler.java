@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * CriteriaVisitor compiling {@link Criteria} into a tree of Java {@link Predicate}s of {@link Thing}s which evaluate
+ * to the same result as the predicates of {@link ThingPredicateVisitor}. All work which does not depend on the
+ * evaluated thing is done once during compilation:
+ * <ul>
+ * <li>the JSON pointers of the fields are parsed,</li>
+ * <li>the comparisons are specialized to the type of the predicate's value and</li>
+ * <li>the patterns of {@code like} predicates are compiled.</li>
+ * </ul>
+ * Conjunctions and disjunctions stop evaluating at the first conclusive operand.
+ */
+@Immutable
+final class ThingPredicateCompiler implements CriteriaVisitor<Predicate<Thing>> {
+
+    private static final ThingPredicateCompiler INSTANCE = new ThingPredicateCompiler();
+
+    private ThingPredicateCompiler() {
+        // only internally instantiable
+    }
+
+    /**
+     * Compiles the given criteria.
+     *
+     * @param criteria the criteria to compile.
+     * @return the compiled predicate.
+     */
+    static Predicate<Thing> compile(final Criteria criteria) {
+        return criteria.accept(INSTANCE);
+    }
+
+    @Override
+    public Predicate<Thing> visitAnd(final List<Predicate<Thing>> conjuncts) {
+        final Predicate<Thing>[] operands = toArray(conjuncts);
+        return thing -> {
+            for (final Predicate<Thing> operand : operands) {
+                if (!operand.test(thing)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<Thing> visitAny() {
+        return thing -> true;
+    }
+
+    @Override
+    public Predicate<Thing> visitExists(final ExistsFieldExpression fieldExpression) {
+        return ExistsThingPredicateVisitor.apply(fieldExpression);
+    }
+
+    @Override
+    public Predicate<Thing> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+
+        final ThingFieldResolver fieldResolver = ThingFieldResolver.of(fieldExpression);
+        final Predicate<JsonValue> valuePredicate = JsonValuePredicateVisitor.apply(predicate);
+        return thing -> valuePredicate.test(fieldResolver.resolve(thing));
+    }
+
+    @Override
+    public Predicate<Thing> visitNor(final List<Predicate<Thing>> negativeDisjoints) {
+        return visitOr(negativeDisjoints).negate();
+    }
+
+    @Override
+    public Predicate<Thing> visitOr(final List<Predicate<Thing>> disjoints) {
+        final Predicate<Thing>[] operands = toArray(disjoints);
+        return thing -> {
+            for (final Predicate<Thing> operand : operands) {
+                if (operand.test(thing)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Thing>[] toArray(final List<Predicate<Thing>> predicates) {
+        return predicates.toArray(new Predicate[0]);
+    }
+
+}
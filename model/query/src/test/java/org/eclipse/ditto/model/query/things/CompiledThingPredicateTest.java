@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledThingPredicate}.
+ */
+public final class CompiledThingPredicateTest {
+
+    private static final QueryFilterCriteriaFactory QUERY_FILTER_CRITERIA_FACTORY =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    private static final List<JsonValue> FIELD_VALUES = Arrays.asList(
+            JsonValue.of(42),
+            JsonValue.of(42.0),
+            JsonValue.of(22.26),
+            JsonValue.of(-0.0),
+            JsonValue.of(9007199254740993L),
+            JsonValue.of("42"),
+            JsonValue.of("ccc_string"),
+            JsonValue.of("true"),
+            JsonValue.of(true),
+            JsonValue.nullLiteral(),
+            JsonArray.of(1, 2),
+            JsonObject.newBuilder().set("a", 1).build()
+    );
+
+    private static final List<String> FIELDS = Arrays.asList(
+            "attributes/x",
+            "features/f/properties/x",
+            "features/f/desiredProperties/x",
+            "thingId",
+            "_namespace",
+            "policyId",
+            "attributes/missing"
+    );
+
+    private static final List<String> VALUES = Arrays.asList(
+            "42", "41", "43", "42.0", "22.26", "-0.0", "9007199254740992", "\"42\"", "\"22.26\"", "\"ccc_string\"",
+            "\"bbb\"", "\"true\"", "true", "false"
+    );
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(CompiledThingPredicate.class, areImmutable(),
+                provided(Criteria.class, Predicate.class).areAlsoImmutable());
+    }
+
+    @Test
+    public void keepsCompiledCriteria() {
+        final Criteria criteria = createCriteria("eq(attributes/x,42)");
+
+        assertThat(CompiledThingPredicate.of(criteria).getCriteria()).isSameAs(criteria);
+    }
+
+    @Test
+    public void comparisonsEvaluateLikeThingPredicateVisitor() {
+        for (final String field : FIELDS) {
+            for (final String value : VALUES) {
+                for (final String operator : Arrays.asList("eq", "ne", "gt", "ge", "lt", "le")) {
+                    assertEvaluatesLikeThingPredicateVisitor(operator + "(" + field + "," + value + ")");
+                }
+                assertEvaluatesLikeThingPredicateVisitor("in(" + field + "," + value + ",\"zzz\",7)");
+            }
+            assertEvaluatesLikeThingPredicateVisitor("like(" + field + ",\"*4*\")");
+            assertEvaluatesLikeThingPredicateVisitor("like(" + field + ",\"ns:?d\")");
+            assertEvaluatesLikeThingPredicateVisitor("exists(" + field + ")");
+        }
+    }
+
+    @Test
+    public void logicalOperatorsEvaluateLikeThingPredicateVisitor() {
+        assertEvaluatesLikeThingPredicateVisitor("and(gt(attributes/x,10),like(thingId,\"ns:*\"))");
+        assertEvaluatesLikeThingPredicateVisitor("or(eq(attributes/x,\"42\"),eq(features/f/properties/x,42))");
+        assertEvaluatesLikeThingPredicateVisitor("not(lt(features/f/desiredProperties/x,22.26))");
+        assertEvaluatesLikeThingPredicateVisitor("and(or(exists(attributes/x),eq(_namespace,\"ns\")),ne(policyId,1))");
+    }
+
+    private static void assertEvaluatesLikeThingPredicateVisitor(final String filter) {
+        final Criteria criteria = createCriteria(filter);
+        final Predicate<Thing> expectedPredicate = ThingPredicateVisitor.apply(criteria);
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(criteria);
+
+        for (final JsonValue fieldValue : FIELD_VALUES) {
+            final Thing thing = createThing(fieldValue);
+            assertThat(underTest.test(thing))
+                    .as("Filtering '%s' on value <%s>", filter, fieldValue)
+                    .isEqualTo(expectedPredicate.test(thing));
+        }
+        final Thing emptyThing = Thing.newBuilder().build();
+        assertThat(underTest.test(emptyThing))
+                .as("Filtering '%s' on empty thing", filter)
+                .isEqualTo(expectedPredicate.test(emptyThing));
+    }
+
+    private static Criteria createCriteria(final String filter) {
+        return QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+    }
+
+    private static Thing createThing(final JsonValue fieldValue) {
+        final FeatureProperties properties = FeatureProperties.newBuilder().set("x", fieldValue).build();
+        return Thing.newBuilder()
+                .setId(ThingId.of("ns", "id"))
+                .setPolicyId("ns:policy")
+                .setAttribute(JsonPointer.of("x"), fieldValue)
+                .setFeature(Feature.newBuilder()
+                        .properties(properties)
+                        .desiredProperties(properties)
+                        .withId("f")
+                        .build())
+                .build();
+    }
+
+}
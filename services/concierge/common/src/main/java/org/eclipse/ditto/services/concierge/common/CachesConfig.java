@@ -46,6 +46,35 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns how long the thing ID cache loader waits for further cache misses after a miss before retrieving the
+     * missed things as one batch.
+     *
+     * @return the batch window.
+     */
+    Duration getBatchWindow();
+
+    /**
+     * Returns the maximum number of things of the thing ID cache retrieved as one batch.
+     *
+     * @return the maximum batch size.
+     */
+    int getBatchMaxSize();
+
+    /**
+     * Indicates whether {@code RetrieveThing} commands are answered from a cache of things.
+     *
+     * @return {@code true} if the thing cache is enabled.
+     */
+    boolean isThingCacheEnabled();
+
+    /**
+     * Returns the config of the thing cache.
+     *
+     * @return the config.
+     */
+    CacheConfig getThingCacheConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +84,22 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * How long the thing ID cache waits for further cache misses before retrieving the missed things as one batch.
+         */
+        BATCH_WINDOW("batch-window", Duration.ofMillis(5L)),
+
+        /**
+         * The maximum number of things of the thing ID cache retrieved as one batch.
+         */
+        BATCH_MAX_SIZE("batch-max-size", 100),
+
+        /**
+         * Whether {@code RetrieveThing} commands are answered from a cache of things.
+         */
+        THING_CACHE_ENABLED("thing.enabled", false);
 
         private final String path;
         private final Object defaultValue;
@@ -35,11 +35,19 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final Duration batchWindow;
+    private final int batchMaxSize;
+    private final boolean thingCacheEnabled;
+    private final CacheConfig thingCacheConfig;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        batchWindow = config.getDuration(CachesConfigValue.BATCH_WINDOW.getConfigPath());
+        batchMaxSize = config.getInt(CachesConfigValue.BATCH_MAX_SIZE.getConfigPath());
+        thingCacheEnabled = config.getBoolean(CachesConfigValue.THING_CACHE_ENABLED.getConfigPath());
+        thingCacheConfig = DefaultCacheConfig.of(config, "thing");
     }
 
     /**
@@ -68,6 +76,26 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+
+    @Override
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    @Override
+    public boolean isThingCacheEnabled() {
+        return thingCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getThingCacheConfig() {
+        return thingCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +107,17 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                batchWindow.equals(that.batchWindow) &&
+                batchMaxSize == that.batchMaxSize &&
+                thingCacheEnabled == that.thingCacheEnabled &&
+                thingCacheConfig.equals(that.thingCacheConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, batchWindow, batchMaxSize,
+                thingCacheEnabled, thingCacheConfig);
     }
 
     @Override
@@ -93,6 +126,10 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", batchWindow=" + batchWindow +
+                ", batchMaxSize=" + batchMaxSize +
+                ", thingCacheEnabled=" + thingCacheEnabled +
+                ", thingCacheConfig=" + thingCacheConfig +
                 "]";
     }
 
@@ -62,6 +62,18 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.getBatchWindow())
+                .as(CachesConfig.CachesConfigValue.BATCH_WINDOW.getConfigPath())
+                .isEqualTo(CachesConfig.CachesConfigValue.BATCH_WINDOW.getDefaultValue());
+
+        softly.assertThat(underTest.getBatchMaxSize())
+                .as(CachesConfig.CachesConfigValue.BATCH_MAX_SIZE.getConfigPath())
+                .isEqualTo(CachesConfig.CachesConfigValue.BATCH_MAX_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.isThingCacheEnabled())
+                .as(CachesConfig.CachesConfigValue.THING_CACHE_ENABLED.getConfigPath())
+                .isEqualTo(CachesConfig.CachesConfigValue.THING_CACHE_ENABLED.getDefaultValue());
     }
 
     @Test
@@ -72,6 +84,29 @@ public final class DefaultCachesConfigTest {
                 .as(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(30L));
 
+        softly.assertThat(underTest.getBatchWindow())
+                .as(CachesConfig.CachesConfigValue.BATCH_WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(20L));
+
+        softly.assertThat(underTest.getBatchMaxSize())
+                .as(CachesConfig.CachesConfigValue.BATCH_MAX_SIZE.getConfigPath())
+                .isEqualTo(50);
+
+        softly.assertThat(underTest.isThingCacheEnabled())
+                .as(CachesConfig.CachesConfigValue.THING_CACHE_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getThingCacheConfig())
+                .as("thingCacheConfig")
+                .satisfies(thingCacheConfig -> {
+                    softly.assertThat(thingCacheConfig.getMaximumSize())
+                            .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                            .isEqualTo(5000);
+                    softly.assertThat(thingCacheConfig.getExpireAfterWrite())
+                            .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(5L));
+                });
+
         softly.assertThat(underTest.getEnforcerCacheConfig())
                 .as("enforcerCacheConfig")
                 .satisfies(enforcerCacheConfig -> {
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+
+/**
+ * Cache of the JSON of things by their IDs and revisions to answer {@code RetrieveThing} commands without asking the
+ * things shard region.
+ * <p>
+ * Entries are filled from responses of the things shard region and invalidated by each modify command forwarded for
+ * their thing. As signals are routed to concierge instances by the IDs of their entities, all modifications of a thing
+ * pass the instance caching it as long as the cluster membership does not change; the expiry of the cache config
+ * bounds the inconsistency otherwise. Of two responses of concurrent loads, the one with the higher revision wins.
+ * </p>
+ * <p>
+ * A modify command is forwarded asynchronously, so a load started after the invalidation may still reach the thing
+ * before the modification does. An invalidation therefore leaves a marker counting the modifications which may be in
+ * flight. Loaded things are cached only if their revision shows that all of them were applied, i.e. exceeds the
+ * revision cached before the invalidation by at least their number, or if the load started after the modifications
+ * were answered or timed out.
+ * </p>
+ * <p>
+ * Size, hits and misses are reported as cache metrics. The age of cached things served is recorded in the histogram
+ * {@value #STALENESS_METRIC_NAME} in milliseconds.
+ * </p>
+ */
+@ThreadSafe
+public final class ThingCache {
+
+    private static final String CACHE_NAME = "ditto_concierge_thing_cache";
+    private static final String STALENESS_METRIC_NAME = CACHE_NAME + "_staleness_ms";
+    private static final long UNKNOWN_REVISION = -1L;
+
+    private final Cache<EntityIdWithResourceType, CachedThing> cache;
+    private final Histogram stalenessHistogram;
+
+    private ThingCache(final Cache<EntityIdWithResourceType, CachedThing> cache) {
+        this.cache = cache;
+        stalenessHistogram = DittoMetrics.histogram(STALENESS_METRIC_NAME);
+    }
+
+    /**
+     * Creates a thing cache.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param executor the executor of the cache.
+     * @return the thing cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ThingCache of(final CacheConfig cacheConfig, final Executor executor) {
+        return new ThingCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor));
+    }
+
+    /**
+     * Retrieves the cached thing with the given ID.
+     *
+     * @param thingId the ID of the thing.
+     * @return the cached thing or an empty optional if the thing is not cached.
+     */
+    public Optional<CachedThing> get(final ThingId thingId) {
+        final Optional<CachedThing> cachedThing = cache.getIfPresent(key(thingId))
+                .getNow(Optional.empty())
+                .filter(CachedThing::isValid);
+        cachedThing.ifPresent(thing -> stalenessHistogram.record(System.currentTimeMillis() - thing.cachedAt));
+        return cachedThing;
+    }
+
+    /**
+     * Marks the start of loading a thing to put into this cache.
+     *
+     * @return the token to pass to {@link #put(ThingId, long, JsonObject, long)} with the loaded thing.
+     */
+    public long startLoad() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Caches the JSON of a thing unless a higher revision of it is cached already or modifications of it may have been
+     * in flight when its load started and the revision does not contain them.
+     *
+     * @param thingId the ID of the thing.
+     * @param revision the revision of the thing.
+     * @param thingJson the JSON of the thing in its default view.
+     * @param loadToken the token returned by {@link #startLoad()} before the thing was loaded.
+     * @throws NullPointerException if {@code thingId} or {@code thingJson} is {@code null}.
+     */
+    public void put(final ThingId thingId, final long revision, final JsonObject thingJson, final long loadToken) {
+        checkNotNull(thingJson, "thingJson");
+        final CachedThing loadedThing = new CachedThing(revision, thingJson, System.currentTimeMillis(), 0, 0L);
+        cache.asMap().compute(key(thingId), (key, existing) -> {
+            if (null == existing) {
+                return loadedThing;
+            } else if (existing.isValid()) {
+                return existing.revision >= revision ? existing : loadedThing;
+            } else {
+                return existing.isSettledBy(revision, loadToken) ? loadedThing : existing;
+            }
+        });
+    }
+
+    /**
+     * Invalidates a cached thing because a modify command for it is forwarded.
+     *
+     * @param thingId the ID of the thing.
+     * @param modificationTimeout how long the modify command may take until it is answered or times out.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public void invalidate(final ThingId thingId, final Duration modificationTimeout) {
+        checkNotNull(modificationTimeout, "modificationTimeout");
+        final long now = System.nanoTime();
+        final long pendingUntil = now + modificationTimeout.toNanos();
+        cache.asMap().compute(key(thingId), (key, existing) -> {
+            final long lastKnownRevision;
+            final int pendingModifications;
+            if (null == existing) {
+                lastKnownRevision = UNKNOWN_REVISION;
+                pendingModifications = 1;
+            } else if (existing.isValid()) {
+                lastKnownRevision = existing.revision;
+                pendingModifications = 1;
+            } else if (existing.pendingUntil - now > 0) {
+                lastKnownRevision = existing.revision;
+                pendingModifications = existing.pendingModifications + 1;
+            } else {
+                // the earlier modifications were answered or timed out without telling whether they were applied
+                lastKnownRevision = UNKNOWN_REVISION;
+                pendingModifications = 1;
+            }
+            final long markerPendingUntil = null != existing && !existing.isValid() &&
+                    existing.pendingUntil - pendingUntil > 0 ? existing.pendingUntil : pendingUntil;
+            return new CachedThing(lastKnownRevision, null, System.currentTimeMillis(), pendingModifications,
+                    markerPendingUntil);
+        });
+    }
+
+    /**
+     * Returns the underlying cache, e.g. to invalidate the things of whole namespaces.
+     *
+     * @return the cache.
+     */
+    public Cache<EntityIdWithResourceType, ?> getCache() {
+        return cache;
+    }
+
+    private static EntityIdWithResourceType key(final ThingId thingId) {
+        return EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, checkNotNull(thingId, "thingId"));
+    }
+
+    /**
+     * A cached thing or the marker of an invalidation. A marker holds the revision cached before the invalidation, the
+     * number of modifications which may be in flight and the {@link System#nanoTime()} until they are answered or
+     * timed out.
+     */
+    @Immutable
+    public static final class CachedThing {
+
+        private static final String ENTITY_TAG_PREFIX = "\"rev:";
+
+        private final long revision;
+        @Nullable private final JsonObject thingJson;
+        private final long cachedAt;
+        private final int pendingModifications;
+        private final long pendingUntil;
+
+        private CachedThing(final long revision, @Nullable final JsonObject thingJson, final long cachedAt,
+                final int pendingModifications, final long pendingUntil) {
+
+            this.revision = revision;
+            this.thingJson = thingJson;
+            this.cachedAt = cachedAt;
+            this.pendingModifications = pendingModifications;
+            this.pendingUntil = pendingUntil;
+        }
+
+        /**
+         * Returns the revision of the cached thing.
+         *
+         * @return the revision.
+         */
+        public long getRevision() {
+            return revision;
+        }
+
+        /**
+         * Returns the JSON of the cached thing in its default view.
+         *
+         * @return the JSON.
+         */
+        public JsonObject getThingJson() {
+            if (null == thingJson) {
+                throw new IllegalStateException("An invalidation marker has no thing JSON.");
+            }
+            return thingJson;
+        }
+
+        /**
+         * Returns the entity tag of the cached thing as the things service computes it.
+         *
+         * @return the entity tag.
+         */
+        public EntityTag getEntityTag() {
+            return EntityTag.strong(ENTITY_TAG_PREFIX + revision + "\"");
+        }
+
+        /**
+         * Extracts the revision of a thing from its entity tag.
+         *
+         * @param entityTag the entity tag of a thing.
+         * @return the revision or an empty optional if the entity tag does not contain the revision of a thing.
+         */
+        public static Optional<Long> getRevision(final EntityTag entityTag) {
+            final String opaqueTag = entityTag.getOpaqueTag();
+            if (!entityTag.isWeak() && opaqueTag.startsWith(ENTITY_TAG_PREFIX) && opaqueTag.endsWith("\"")) {
+                try {
+                    return Optional.of(Long.parseLong(
+                            opaqueTag.substring(ENTITY_TAG_PREFIX.length(), opaqueTag.length() - 1)));
+                } catch (final NumberFormatException e) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.empty();
+        }
+
+        private boolean isValid() {
+            return null != thingJson;
+        }
+
+        private boolean isSettledBy(final long loadedRevision, final long loadToken) {
+            final boolean containsPendingModifications = UNKNOWN_REVISION != revision &&
+                    loadedRevision >= revision + pendingModifications;
+            return containsPendingModifications || loadToken - pendingUntil >= 0;
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.ditto.model.things.Permission.ADMINISTRATE;
 import static org.eclipse.ditto.services.models.policies.Permission.MIN_REQUIRED_POLICY_PERMISSIONS;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -40,8 +41,10 @@ import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
@@ -79,6 +82,7 @@ import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.IdentityCache;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.headers.conditional.ConditionalHeadersValidator;
 import org.eclipse.ditto.signals.commands.base.CommandToExceptionRegistry;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
@@ -98,6 +102,8 @@ import org.eclipse.ditto.signals.commands.things.exceptions.ThingCommandToModify
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotCreatableException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotModifiableException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionFailedException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
@@ -131,6 +137,12 @@ public final class ThingCommandEnforcement
     private static final JsonFieldSelector THING_QUERY_COMMAND_RESPONSE_ALLOWLIST =
             JsonFactory.newFieldSelector(Thing.JsonFields.ID);
 
+    /**
+     * Validator of conditional headers of {@code RetrieveThing} commands answered from the thing cache.
+     */
+    private static final ConditionalHeadersValidator THING_CACHE_CONDITIONAL_HEADERS_VALIDATOR =
+            ConditionalHeadersValidator.of(new ThingCacheConditionalHeadersValidationSettings());
+
     private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
     private final ActorRef thingsShardRegion;
     private final ActorRef policiesShardRegion;
@@ -141,6 +153,7 @@ public final class ThingCommandEnforcement
     private final PreEnforcer preEnforcer;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     private final PolicyIdReferencePlaceholderResolver policyIdReferencePlaceholderResolver;
+    @Nullable private final ThingCache thingCache;
 
     private ThingCommandEnforcement(final Contextual<ThingCommand<?>> data,
             final ActorRef thingsShardRegion,
@@ -149,7 +162,8 @@ public final class ThingCommandEnforcement
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             final PreEnforcer preEnforcer,
-            final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+            @Nullable final ThingCache thingCache) {
 
         super(data, ThingQueryCommandResponse.class);
         this.thingsShardRegion = requireNonNull(thingsShardRegion);
@@ -160,6 +174,7 @@ public final class ThingCommandEnforcement
         this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
         this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
         this.preEnforcer = preEnforcer;
+        this.thingCache = thingCache;
         thingEnforcerRetriever =
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         policyEnforcerRetriever = new EnforcerRetriever(IdentityCache.INSTANCE, policyEnforcerCache);
@@ -335,6 +350,11 @@ public final class ThingCommandEnforcement
                 final RetrieveThing retrieveThing = (RetrieveThing) thingQueryCommand;
                 result = withMessageToReceiverViaAskFuture(retrieveThing, sender(),
                         () -> retrieveThingAndPolicy(retrieveThing, policyId, enforcer));
+            } else if (thingCache != null && thingQueryCommand instanceof RetrieveThing &&
+                    isAnswerableByThingCache((RetrieveThing) thingQueryCommand)) {
+                final RetrieveThing retrieveThing = (RetrieveThing) thingQueryCommand;
+                result = withMessageToReceiverViaAskFuture(retrieveThing, sender(),
+                        () -> retrieveThingViaCache(thingCache, retrieveThing, enforcer));
             } else {
                 result = withMessageToReceiverViaAskFuture(thingQueryCommand, sender(),
                         () -> askAndBuildJsonView(thingsShardRegion, thingQueryCommand, enforcer));
@@ -392,6 +412,78 @@ public final class ThingCommandEnforcement
         }
     }
 
+    /**
+     * Answer a retrieve-thing command from the thing cache. On a cache miss, the thing is retrieved in its default view
+     * without preconditions and cached before the selected fields and preconditions are applied.
+     *
+     * @param thingCache the thing cache.
+     * @param retrieveThing the retrieve-thing command.
+     * @param enforcer the enforcer for the command.
+     * @return future response.
+     */
+    private CompletionStage<ThingQueryCommandResponse> retrieveThingViaCache(final ThingCache thingCache,
+            final RetrieveThing retrieveThing, final Enforcer enforcer) {
+
+        final ThingId thingId = retrieveThing.getThingEntityId();
+        final Optional<ThingCache.CachedThing> cachedThing = thingCache.get(thingId);
+        if (cachedThing.isPresent()) {
+            return CompletableFuture.completedFuture(cachedThing.get())
+                    .thenApply(thing -> filterJsonView(
+                            respondFromThingJson(retrieveThing, thing.getThingJson(), thing.getEntityTag()),
+                            enforcer));
+        }
+
+        final long loadToken = thingCache.startLoad();
+        final DittoHeaders dittoHeadersWithoutPreconditionHeaders =
+                DittoHeaders.newBuilder(retrieveThing.getDittoHeaders())
+                        .removePreconditionHeaders()
+                        .build();
+        final RetrieveThing retrieveDefaultView =
+                RetrieveThing.getBuilder(thingId, dittoHeadersWithoutPreconditionHeaders).build();
+        return ask(thingsShardRegion, retrieveDefaultView, "retrieving thing for the thing cache")
+                .thenApply(response -> {
+                    final RetrieveThingResponse retrieveThingResponse = (RetrieveThingResponse) response;
+                    final JsonObject thingJson = retrieveThingResponse.getEntity(JsonSchemaVersion.V_2);
+                    final Optional<EntityTag> entityTag = retrieveThingResponse.getDittoHeaders().getETag();
+                    entityTag.flatMap(ThingCache.CachedThing::getRevision)
+                            .ifPresent(revision -> thingCache.put(thingId, revision, thingJson, loadToken));
+                    return filterJsonView(respondFromThingJson(retrieveThing, thingJson, entityTag.orElse(null)),
+                            enforcer);
+                });
+    }
+
+    private static RetrieveThingResponse respondFromThingJson(final RetrieveThing retrieveThing,
+            final JsonObject thingJson, @Nullable final EntityTag entityTag) {
+
+        THING_CACHE_CONDITIONAL_HEADERS_VALIDATOR.checkConditionalHeaders(retrieveThing, entityTag);
+        final JsonObject selectedThingJson = retrieveThing.getSelectedFields()
+                .map(thingJson::get)
+                .orElse(thingJson);
+        final DittoHeaders dittoHeaders = null != entityTag
+                ? retrieveThing.getDittoHeaders().toBuilder().eTag(entityTag).build()
+                : retrieveThing.getDittoHeaders();
+        return RetrieveThingResponse.of(retrieveThing.getThingEntityId(), selectedThingJson, dittoHeaders);
+    }
+
+    /**
+     * Check whether a retrieve-thing command can be answered from the default view of the thing in the thing cache,
+     * i.e. whether it retrieves the current revision in API version 2 and selects no special fields.
+     *
+     * @param retrieveThing the retrieve-thing command.
+     * @return whether the command can be answered from the thing cache.
+     */
+    private static boolean isAnswerableByThingCache(final RetrieveThing retrieveThing) {
+        return JsonSchemaVersion.V_2 == retrieveThing.getImplementedSchemaVersion() &&
+                !retrieveThing.getSnapshotRevision().isPresent() &&
+                retrieveThing.getSelectedFields()
+                        .map(selector -> selector.getPointers()
+                                .stream()
+                                .noneMatch(jsonPointer -> jsonPointer.getRoot()
+                                        .filter(jsonKey -> jsonKey.toString().startsWith("_"))
+                                        .isPresent()))
+                        .orElse(true);
+    }
+
     /**
      * Retrieve a thing before retrieving its inlined policy. Report errors to sender.
      *
@@ -568,9 +660,27 @@ public final class ThingCommandEnforcement
         if (command instanceof ThingModifyCommand && ((ThingModifyCommand) command).changesAuthorization()) {
             invalidateThingCaches(command.getThingEntityId());
         }
+        if (thingCache != null && command instanceof ThingModifyCommand) {
+            thingCache.invalidate(command.getThingEntityId(), getModificationTimeout(command));
+        }
         return withMessageToReceiver(command, thingsShardRegion);
     }
 
+    /**
+     * The duration after which a forwarded modify command is answered or timed out: the longer of the timeout of the
+     * command and the ask timeout of enforcement.
+     *
+     * @param command the modify command.
+     * @return the duration.
+     */
+    private Duration getModificationTimeout(final ThingCommand<?> command) {
+        final Duration askTimeout = getAskTimeout();
+        return command.getDittoHeaders()
+                .getTimeout()
+                .filter(timeout -> timeout.compareTo(askTimeout) > 0)
+                .orElse(askTimeout);
+    }
+
     /**
      * Whenever a Command changed the authorization, the caches must be invalidated - otherwise a directly following
      * Command targeted for the same entity will probably fail as the enforcer was not yet updated.
@@ -1159,6 +1269,27 @@ public final class ThingCommandEnforcement
 
     }
 
+    /**
+     * Settings for validating conditional headers of {@code RetrieveThing} commands answered from the thing cache like
+     * the things service does.
+     */
+    private static final class ThingCacheConditionalHeadersValidationSettings
+            implements ConditionalHeadersValidator.ValidationSettings {
+
+        @Override
+        public DittoRuntimeExceptionBuilder createPreconditionFailedExceptionBuilder(final String conditionalHeaderName,
+                final String expected, final String actual) {
+            return ThingPreconditionFailedException.newBuilder(conditionalHeaderName, expected, actual);
+        }
+
+        @Override
+        public DittoRuntimeExceptionBuilder createPreconditionNotModifiedExceptionBuilder(
+                final String expectedNotToMatch, final String matched) {
+            return ThingPreconditionNotModifiedException.newBuilder(expectedNotToMatch, matched);
+        }
+
+    }
+
     /**
      * Provides {@link AbstractEnforcement} for commands of type {@link ThingCommand}.
      */
@@ -1173,6 +1304,7 @@ public final class ThingCommandEnforcement
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
         private final PreEnforcer preEnforcer;
         private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
+        @Nullable private final ThingCache thingCache;
 
         /**
          * Constructor.
@@ -1216,6 +1348,43 @@ public final class ThingCommandEnforcement
                 @Nullable final PreEnforcer preEnforcer,
                 final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
 
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, subjectIssuersForPolicyMigration, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingsShardRegion the ActorRef to the Things shard region.
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param preEnforcer pre-enforcer function to block undesirable messages to policies shard region.
+         * @param thingCache the cache to answer retrieve-thing commands from or {@code null} to always ask the things
+         * shard region.
+         */
+        public Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                @Nullable final ThingCache thingCache) {
+
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, thingCache);
+        }
+
+        private Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+                @Nullable final ThingCache thingCache) {
+
             this.thingsShardRegion = requireNonNull(thingsShardRegion);
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.thingIdCache = requireNonNull(thingIdCache);
@@ -1223,6 +1392,7 @@ public final class ThingCommandEnforcement
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.preEnforcer = Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture);
             this.subjectIssuersForPolicyMigration = requireNonNull(subjectIssuersForPolicyMigration);
+            this.thingCache = thingCache;
         }
 
         @Override
@@ -1246,7 +1416,7 @@ public final class ThingCommandEnforcement
         @Override
         public AbstractEnforcement<ThingCommand<?>> createEnforcement(final Contextual<ThingCommand<?>> context) {
             return new ThingCommandEnforcement(context, thingsShardRegion, policiesShardRegion, thingIdCache,
-                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration);
+                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration, thingCache);
         }
 
     }
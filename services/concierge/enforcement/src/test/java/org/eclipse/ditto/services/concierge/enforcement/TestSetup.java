@@ -86,6 +86,10 @@ public final class TestSetup {
         CACHES_CONFIG = DefaultCachesConfig.of(conciergeScopedConfig);
     }
 
+    public static ThingCache newThingCache() {
+        return ThingCache.of(CACHES_CONFIG.getThingCacheConfig(), Runnable::run);
+    }
+
     public static ActorRef newEnforcerActor(final ActorSystem system, final ActorRef testActorRef,
             final ActorRef mockEntitiesActor) {
 
@@ -116,6 +120,7 @@ public final class TestSetup {
         private final ActorRef policiesShardRegion;
         @Nullable private ActorRef conciergeForwarder;
         @Nullable private PreEnforcer preEnforcer;
+        @Nullable private ThingCache thingCache;
 
         EnforcerActorBuilder(final ActorSystem system, final ActorRef testActorRef,
                 final ActorRef mockEntityActors) {
@@ -138,6 +143,11 @@ public final class TestSetup {
             return this;
         }
 
+        public EnforcerActorBuilder setThingCache(@Nullable final ThingCache thingCache) {
+            this.thingCache = thingCache;
+            return this;
+        }
+
         public EnforcerActorBuilder setConciergeForwarder(final ActorRef conciergeForwarder) {
             this.conciergeForwarder = conciergeForwarder;
             return this;
@@ -166,7 +176,8 @@ public final class TestSetup {
 
             final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
             enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegion,
-                    policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
+                    policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer,
+                    thingCache));
             enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegion, policyEnforcerCache));
             enforcementProviders.add(
                     new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache, aclEnforcerCache,
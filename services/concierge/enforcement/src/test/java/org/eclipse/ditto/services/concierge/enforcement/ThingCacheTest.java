@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ThingCache}.
+ */
+public final class ThingCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing", "cached");
+    private static final Duration MODIFICATION_TIMEOUT = Duration.ofMinutes(1L);
+
+    private final ThingCache underTest =
+            ThingCache.of(DefaultCacheConfig.of(ConfigFactory.empty(), "thing"), Runnable::run);
+
+    @Test
+    public void cachedThingIsReturnedWithItsEntityTag() {
+        underTest.put(THING_ID, 3L, thingJson(3), underTest.startLoad());
+
+        assertThat(underTest.get(THING_ID)).hasValueSatisfying(cachedThing -> {
+            assertThat(cachedThing.getRevision()).isEqualTo(3L);
+            assertThat(cachedThing.getThingJson()).isEqualTo(thingJson(3));
+            assertThat(cachedThing.getEntityTag()).isEqualTo(EntityTag.fromString("\"rev:3\""));
+        });
+    }
+
+    @Test
+    public void invalidatedThingIsNotReturned() {
+        underTest.put(THING_ID, 3L, thingJson(3), underTest.startLoad());
+        underTest.invalidate(THING_ID, MODIFICATION_TIMEOUT);
+
+        assertThat(underTest.get(THING_ID)).isEmpty();
+    }
+
+    @Test
+    public void thingLoadedBeforeInvalidationIsNotCached() {
+        underTest.put(THING_ID, 3L, thingJson(3), underTest.startLoad());
+        final long loadToken = underTest.startLoad();
+        underTest.invalidate(THING_ID, MODIFICATION_TIMEOUT);
+        underTest.put(THING_ID, 3L, thingJson(3), loadToken);
+
+        assertThat(underTest.get(THING_ID)).isEmpty();
+
+        underTest.put(THING_ID, 4L, thingJson(4), underTest.startLoad());
+
+        assertThat(underTest.get(THING_ID)).hasValueSatisfying(
+                cachedThing -> assertThat(cachedThing.getRevision()).isEqualTo(4L));
+    }
+
+    @Test
+    public void thingLoadedBeforeModificationWasAppliedIsNotCached() {
+        underTest.put(THING_ID, 3L, thingJson(3), underTest.startLoad());
+        underTest.invalidate(THING_ID, MODIFICATION_TIMEOUT);
+
+        // the load starts after the invalidation, but reaches the thing before the forwarded modify command does
+        underTest.put(THING_ID, 3L, thingJson(3), underTest.startLoad());
+
+        assertThat(underTest.get(THING_ID)).isEmpty();
+    }
+
+    @Test
+    public void thingIsCachedOnceAllPendingModificationsWereApplied() {
+        underTest.put(THING_ID, 3L, thingJson(3), underTest.startLoad());
+        underTest.invalidate(THING_ID, MODIFICATION_TIMEOUT);
+        underTest.invalidate(THING_ID, MODIFICATION_TIMEOUT);
+
+        underTest.put(THING_ID, 4L, thingJson(4), underTest.startLoad());
+
+        assertThat(underTest.get(THING_ID)).isEmpty();
+
+        underTest.put(THING_ID, 5L, thingJson(5), underTest.startLoad());
+
+        assertThat(underTest.get(THING_ID)).hasValueSatisfying(
+                cachedThing -> assertThat(cachedThing.getRevision()).isEqualTo(5L));
+    }
+
+    @Test
+    public void thingWithoutKnownRevisionIsCachedOnlyAfterModificationTimedOut() {
+        underTest.invalidate(THING_ID, MODIFICATION_TIMEOUT);
+        underTest.put(THING_ID, 4L, thingJson(4), underTest.startLoad());
+
+        assertThat(underTest.get(THING_ID)).isEmpty();
+
+        underTest.invalidate(THING_ID, Duration.ZERO);
+        underTest.put(THING_ID, 4L, thingJson(4), underTest.startLoad());
+
+        // the first modification may still be in flight
+        assertThat(underTest.get(THING_ID)).isEmpty();
+
+        final ThingCache otherCache =
+                ThingCache.of(DefaultCacheConfig.of(ConfigFactory.empty(), "thing"), Runnable::run);
+        otherCache.invalidate(THING_ID, Duration.ZERO);
+        otherCache.put(THING_ID, 4L, thingJson(4), otherCache.startLoad());
+
+        assertThat(otherCache.get(THING_ID)).hasValueSatisfying(
+                cachedThing -> assertThat(cachedThing.getRevision()).isEqualTo(4L));
+    }
+
+    @Test
+    public void lowerRevisionDoesNotReplaceHigherRevision() {
+        final long loadToken = underTest.startLoad();
+        underTest.put(THING_ID, 5L, thingJson(5), loadToken);
+        underTest.put(THING_ID, 4L, thingJson(4), loadToken);
+
+        assertThat(underTest.get(THING_ID)).hasValueSatisfying(
+                cachedThing -> assertThat(cachedThing.getThingJson()).isEqualTo(thingJson(5)));
+    }
+
+    @Test
+    public void revisionIsExtractedFromEntityTagOfThing() {
+        assertThat(ThingCache.CachedThing.getRevision(EntityTag.fromString("\"rev:42\""))).contains(42L);
+        assertThat(ThingCache.CachedThing.getRevision(EntityTag.fromString("W/\"rev:42\""))).isEmpty();
+        assertThat(ThingCache.CachedThing.getRevision(EntityTag.fromString("\"hash:2a\""))).isEmpty();
+    }
+
+    private static JsonObject thingJson(final int revision) {
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, THING_ID.toString())
+                .set("attributes", JsonObject.newBuilder().set("revision", revision).build())
+                .build();
+    }
+
+}
@@ -32,6 +32,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
@@ -39,8 +40,11 @@ import org.eclipse.ditto.json.assertions.DittoJsonAssertions;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatchers;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
@@ -68,6 +72,7 @@ import org.eclipse.ditto.signals.commands.things.exceptions.FeatureNotModifiable
 import org.eclipse.ditto.signals.commands.things.exceptions.PolicyInvalidException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotModifiableException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
@@ -98,6 +103,8 @@ import scala.concurrent.duration.Duration;
 @SuppressWarnings({"squid:S3599", "squid:S1171"})
 public final class ThingCommandEnforcementTest {
 
+    private static final JsonPointer SECRET_ATTRIBUTE = JsonPointer.of("attributes/secret");
+
     @Rule
     public final TestName testName = new TestName();
 
@@ -730,6 +737,192 @@ public final class ThingCommandEnforcementTest {
         }};
     }
 
+    @Test
+    public void answerRetrieveThingWithSelectedFieldsFromThingCache() {
+        final TestProbe entitiesProbe = TestProbe.apply("entities", system);
+
+        new TestKit(system) {{
+            final ActorRef underTest = newEnforcerActorWithThingCache(getRef(), entitiesProbe.ref());
+            cacheThingWithSecretAttribute(this, underTest, entitiesProbe);
+
+            final RetrieveThing retrieveThing = RetrieveThing.getBuilder(THING_ID, headers(V_2))
+                    .withSelectedFields(JsonFieldSelector.newInstance("thingId", "attributes/location"))
+                    .build();
+            underTest.tell(retrieveThing, getRef());
+
+            final RetrieveThingResponse response = expectMsgClass(RetrieveThingResponse.class);
+            DittoJsonAssertions.assertThat(response.getEntity().asObject())
+                    .isEqualTo(JsonObject.newBuilder()
+                            .set(Thing.JsonFields.ID, THING_ID.toString())
+                            .set(JsonPointer.of("attributes/location"), "kitchen")
+                            .build());
+            assertThat(response.getDittoHeaders().getETag()).contains(entityTag(1L));
+            entitiesProbe.expectNoMessage(Duration.create(200, TimeUnit.MILLISECONDS));
+        }};
+    }
+
+    @Test
+    public void answerRetrieveThingFromThingCacheWithRestrictedView() {
+        final TestProbe entitiesProbe = TestProbe.apply("entities", system);
+
+        new TestKit(system) {{
+            final ActorRef underTest = newEnforcerActorWithThingCache(getRef(), entitiesProbe.ref());
+            final RetrieveThingResponse cacheMissResponse =
+                    cacheThingWithSecretAttribute(this, underTest, entitiesProbe);
+            assertThat(cacheMissResponse.getEntity().asObject().getValue(SECRET_ATTRIBUTE)).isEmpty();
+
+            underTest.tell(getReadCommand(), getRef());
+
+            final RetrieveThingResponse cacheHitResponse = expectMsgClass(RetrieveThingResponse.class);
+            entitiesProbe.expectNoMessage(Duration.create(200, TimeUnit.MILLISECONDS));
+            assertThat(cacheHitResponse.getEntity().asObject().getValue(SECRET_ATTRIBUTE)).isEmpty();
+            assertThat(cacheHitResponse.getEntity().asObject().getValue("attributes/location"))
+                    .contains(JsonValue.of("kitchen"));
+        }};
+    }
+
+    @Test
+    public void answerRetrieveThingWithMatchingIfNoneMatchFromThingCacheWithNotModified() {
+        final TestProbe entitiesProbe = TestProbe.apply("entities", system);
+
+        new TestKit(system) {{
+            final ActorRef underTest = newEnforcerActorWithThingCache(getRef(), entitiesProbe.ref());
+            cacheThingWithSecretAttribute(this, underTest, entitiesProbe);
+
+            final DittoHeaders ifNoneMatchHeaders = headers(V_2).toBuilder()
+                    .ifNoneMatch(EntityTagMatchers.fromStrings(entityTag(1L).toString()))
+                    .build();
+            underTest.tell(RetrieveThing.of(THING_ID, ifNoneMatchHeaders), getRef());
+
+            final ThingPreconditionNotModifiedException notModified =
+                    expectMsgClass(ThingPreconditionNotModifiedException.class);
+            assertThat(notModified.getStatusCode()).isEqualTo(HttpStatusCode.NOT_MODIFIED);
+            entitiesProbe.expectNoMessage(Duration.create(200, TimeUnit.MILLISECONDS));
+        }};
+    }
+
+    @Test
+    public void forwardedModifyCommandInvalidatesThingCache() {
+        final TestProbe entitiesProbe = TestProbe.apply("entities", system);
+
+        new TestKit(system) {{
+            final ActorRef underTest = newEnforcerActorWithThingCache(getRef(), entitiesProbe.ref());
+            cacheThingWithSecretAttribute(this, underTest, entitiesProbe);
+
+            final ModifyAttribute modifyAttribute =
+                    ModifyAttribute.of(THING_ID, JsonPointer.of("location"), JsonValue.of("garden"), headers(V_2));
+            underTest.tell(modifyAttribute, getRef());
+            entitiesProbe.expectMsgClass(ModifyAttribute.class);
+            entitiesProbe.reply(ModifyAttributeResponse.modified(THING_ID, JsonPointer.of("location"), headers(V_2)));
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            // the cached thing is outdated, thus the things shard region is asked again
+            underTest.tell(getReadCommand(), getRef());
+            entitiesProbe.expectMsgClass(RetrieveThing.class);
+            entitiesProbe.reply(RetrieveThingResponse.of(THING_ID,
+                    thingWithSecretAttribute().setValue("attributes/location", "garden"),
+                    headers(V_2).toBuilder().eTag(entityTag(2L)).build()));
+
+            final RetrieveThingResponse response = expectMsgClass(RetrieveThingResponse.class);
+            assertThat(response.getEntity().asObject().getValue("attributes/location"))
+                    .contains(JsonValue.of("garden"));
+        }};
+    }
+
+    @Test
+    public void thingRetrievedBeforeForwardedModifyCommandWasAppliedIsNotCached() {
+        final TestProbe entitiesProbe = TestProbe.apply("entities", system);
+
+        new TestKit(system) {{
+            final ActorRef underTest = newEnforcerActorWithThingCache(getRef(), entitiesProbe.ref());
+            cacheThingWithSecretAttribute(this, underTest, entitiesProbe);
+
+            final ModifyAttribute modifyAttribute =
+                    ModifyAttribute.of(THING_ID, JsonPointer.of("location"), JsonValue.of("garden"), headers(V_2));
+            underTest.tell(modifyAttribute, getRef());
+            entitiesProbe.expectMsgClass(ModifyAttribute.class);
+            final ActorRef modifySender = entitiesProbe.lastSender();
+
+            // the retrieve-thing command overtakes the modify command and sees the thing before the modification
+            underTest.tell(getReadCommand(), getRef());
+            entitiesProbe.expectMsgClass(RetrieveThing.class);
+            entitiesProbe.reply(RetrieveThingResponse.of(THING_ID, thingWithSecretAttribute(),
+                    headers(V_2).toBuilder().eTag(entityTag(1L)).build()));
+            expectMsgClass(RetrieveThingResponse.class);
+            modifySender.tell(ModifyAttributeResponse.modified(THING_ID, JsonPointer.of("location"), headers(V_2)),
+                    entitiesProbe.ref());
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            // the thing before the modification was not cached, thus the things shard region is asked again
+            underTest.tell(getReadCommand(), getRef());
+            entitiesProbe.expectMsgClass(RetrieveThing.class);
+            entitiesProbe.reply(RetrieveThingResponse.of(THING_ID,
+                    thingWithSecretAttribute().setValue("attributes/location", "garden"),
+                    headers(V_2).toBuilder().eTag(entityTag(2L)).build()));
+            expectMsgClass(RetrieveThingResponse.class);
+
+            // the modified thing is cached
+            underTest.tell(getReadCommand(), getRef());
+            final RetrieveThingResponse response = expectMsgClass(RetrieveThingResponse.class);
+            entitiesProbe.expectNoMessage(Duration.create(200, TimeUnit.MILLISECONDS));
+            assertThat(response.getEntity().asObject().getValue("attributes/location"))
+                    .contains(JsonValue.of("garden"));
+        }};
+    }
+
+    /**
+     * Loads the enforcer of the thing, which is not allowed to read {@link #SECRET_ATTRIBUTE}, and puts the thing in
+     * the thing cache by retrieving it once.
+     *
+     * @return the response to the retrieve-thing command which missed the thing cache.
+     */
+    private RetrieveThingResponse cacheThingWithSecretAttribute(final TestKit testKit, final ActorRef underTest,
+            final TestProbe entitiesProbe) {
+
+        final PolicyId policyId = PolicyId.of(THING_ID);
+        final JsonObject policy = PoliciesModelFactory.newPolicyBuilder(policyId)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT_ID)
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                        READ.name(), WRITE.name())
+                .setRevokedPermissions(PoliciesResourceType.thingResource(SECRET_ATTRIBUTE), READ.name())
+                .build()
+                .toJson(FieldType.all());
+
+        underTest.tell(getReadCommand(), testKit.getRef());
+        entitiesProbe.expectMsgClass(SudoRetrieveThing.class);
+        entitiesProbe.reply(SudoRetrieveThingResponse.of(newThingWithPolicyId(policyId), DittoHeaders.empty()));
+        entitiesProbe.expectMsgClass(SudoRetrievePolicy.class);
+        entitiesProbe.reply(SudoRetrievePolicyResponse.of(policyId, policy, DittoHeaders.empty()));
+
+        final RetrieveThing retrieveDefaultView = entitiesProbe.expectMsgClass(RetrieveThing.class);
+        assertThat(retrieveDefaultView.getSelectedFields()).isEmpty();
+        entitiesProbe.reply(RetrieveThingResponse.of(THING_ID, thingWithSecretAttribute(),
+                headers(V_2).toBuilder().eTag(entityTag(1L)).build()));
+
+        return testKit.expectMsgClass(RetrieveThingResponse.class);
+    }
+
+    private ActorRef newEnforcerActorWithThingCache(final ActorRef testActorRef, final ActorRef entitiesActor) {
+        return new TestSetup.EnforcerActorBuilder(system, testActorRef, entitiesActor)
+                .setThingCache(TestSetup.newThingCache())
+                .build();
+    }
+
+    private static JsonObject thingWithSecretAttribute() {
+        return newThing()
+                .setPolicyId(PolicyId.of(THING_ID))
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+                .setAttribute(JsonPointer.of("secret"), JsonValue.of("swordfish"))
+                .build()
+                .toJson(V_2);
+    }
+
+    private static EntityTag entityTag(final long revision) {
+        return EntityTag.strong("\"rev:" + revision + "\"");
+    }
+
     private ActorRef newEnforcerActor(final ActorRef testActorRef) {
         return TestSetup.newEnforcerActor(system, testActorRef, mockEntitiesActor);
     }
@@ -55,16 +55,23 @@ public final class ThingsAggregatorActor extends AbstractActor {
      */
     public static final String ACTOR_NAME = "aggregator";
 
+    /**
+     * The name of the Actor which aggregates Things for the enforcement caches.
+     */
+    public static final String CACHE_LOADER_ACTOR_NAME = "cacheLoaderAggregator";
+
     private static final String AGGREGATOR_INTERNAL_DISPATCHER = "aggregator-internal-dispatcher";
 
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final ActorRef targetActor;
+    private final boolean targetIsShardRegion;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
 
     @SuppressWarnings("unused")
-    private ThingsAggregatorActor(final ActorRef targetActor) {
+    private ThingsAggregatorActor(final ActorRef targetActor, final boolean targetIsShardRegion) {
         this.targetActor = targetActor;
+        this.targetIsShardRegion = targetIsShardRegion;
         final ThingsAggregatorConfig aggregatorConfig = DittoConciergeConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         ).getThingsAggregatorConfig();
@@ -79,26 +86,41 @@ public final class ThingsAggregatorActor extends AbstractActor {
      * @return the Akka configuration Props object
      */
     public static Props props(final ActorRef targetActor) {
-        return Props.create(ThingsAggregatorActor.class, targetActor)
+        return Props.create(ThingsAggregatorActor.class, targetActor, false)
+                .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
+    }
+
+    /**
+     * Creates Akka configuration object Props for a ThingsAggregatorActor which only handles
+     * {@link SudoRetrieveThings} by asking the things shard region directly. The Things are serialized in their
+     * original schema version, as the enforcement caches require.
+     *
+     * @param thingsShardRegion the shard region of the Things.
+     * @return the Akka configuration Props object
+     */
+    public static Props propsForShardRegion(final ActorRef thingsShardRegion) {
+        return Props.create(ThingsAggregatorActor.class, thingsShardRegion, true)
                 .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
     }
 
     @Override
     public Receive createReceive() {
-        return ReceiveBuilder.create()
-                // # handle "RetrieveThings" command
-                .match(RetrieveThings.class, rt -> {
-                    log.withCorrelationId(rt)
-                            .info("Got '{}' message. Retrieving requested '{}' Things..",
-                                    RetrieveThings.class.getSimpleName(),
-                                    rt.getThingEntityIds().size());
-                    retrieveThings(rt, getSender());
-                })
-
+        final ReceiveBuilder receiveBuilder = ReceiveBuilder.create();
+        if (!targetIsShardRegion) {
+            // # handle "RetrieveThings" command, which must not bypass the enforcement
+            receiveBuilder.match(RetrieveThings.class, rt -> {
+                log.withCorrelationId(rt)
+                        .info("Got '{}' message. Retrieving requested '{}' Things..",
+                                RetrieveThings.class.getSimpleName(),
+                                rt.getThingEntityIds().size());
+                retrieveThings(rt, getSender());
+            });
+        }
+        return receiveBuilder
                 // # handle "SudoRetrieveThings" command
                 .match(SudoRetrieveThings.class, rt -> {
                     log.withCorrelationId(rt)
-                            .info("Got '{}' message. Retrieving requested '{}' Things..",
+                            .debug("Got '{}' message. Retrieving requested '{}' Things..",
                                     SudoRetrieveThings.class.getSimpleName(),
                                     rt.getThingIds().size());
                     retrieveThings(rt, getSender());
@@ -133,7 +155,7 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
         final SourceRef<Jsonifiable> commandResponseSource = Source.from(thingIds)
                 .filter(Objects::nonNull)
-                .map(thingId -> {
+                .<Object>map(thingId -> {
                     final Command<?> toBeWrapped;
                     if (command instanceof RetrieveThings) {
                         toBeWrapped = Optional.ofNullable(selectedFields)
@@ -141,6 +163,8 @@ public final class ThingsAggregatorActor extends AbstractActor {
                                         .withSelectedFields(sf)
                                         .build())
                                 .orElse(RetrieveThing.of(thingId, dittoHeaders));
+                    } else if (targetIsShardRegion) {
+                        return SudoRetrieveThing.withOriginalSchemaVersion(thingId, selectedFields, dittoHeaders);
                     } else {
                         toBeWrapped = Optional.ofNullable(selectedFields)
                                 .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
@@ -15,8 +15,10 @@ package org.eclipse.ditto.services.concierge.starter.proxy;
 import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants.CLUSTER_ROLE;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -37,11 +39,13 @@ import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.ThingCache;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
 import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
+import org.eclipse.ditto.services.concierge.starter.actors.ThingsAggregatorActor;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
@@ -51,6 +55,8 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.BatchCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.BatchingCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
@@ -68,6 +74,7 @@ import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.stream.SystemMaterializer;
 
 /**
  * Ditto default implementation of{@link EnforcerActorFactory}.
@@ -94,13 +101,19 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
         final ActorRef thingsShardRegionProxy = shardRegions.things();
 
+        final ActorRef cacheLoaderAggregator =
+                context.actorOf(ThingsAggregatorActor.propsForShardRegion(thingsShardRegionProxy),
+                        ThingsAggregatorActor.CACHE_LOADER_ACTOR_NAME);
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingEnforcerIdCacheLoader =
-                new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy);
+                batching(new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy, cacheLoaderAggregator,
+                                SystemMaterializer.get(actorSystem).materializer()), conciergeConfig,
+                        ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE);
         final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
                 CacheFactory.createCache(thingEnforcerIdCacheLoader, cachesConfig.getIdCacheConfig(),
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
+        // policies cannot be retrieved in batches, hence their loads are not delayed by the batch window
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
                 new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
@@ -115,6 +128,12 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
                         actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
 
+        // optional cache to answer RetrieveThing commands from
+        final ThingCache thingCache = cachesConfig.isThingCacheEnabled()
+                ? ThingCache.of(cachesConfig.getThingCacheConfig(),
+                        actorSystem.dispatchers().lookup("thing-cache-dispatcher"))
+                : null;
+
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
         final PreEnforcer preEnforcer = newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
@@ -124,7 +143,8 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegionProxy,
-                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
+                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer,
+                thingCache));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache,
                 aclEnforcerCache, liveSignalPub));
@@ -142,9 +162,13 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         pubSubMediator.tell(DistPubSubAccess.put(conciergeForwarder), ActorRef.noSender());
 
         // start cache invalidator
+        final List<Cache<EntityIdWithResourceType, ?>> cachesToInvalidateByNamespace =
+                new ArrayList<>(Arrays.asList(thingIdCache, policyEnforcerCache, aclEnforcerCache));
+        if (null != thingCache) {
+            cachesToInvalidateByNamespace.add(thingCache.getCache());
+        }
         final Props cachedNamespaceInvalidatorProps =
-                CachedNamespaceInvalidator.props(blockedNamespaces,
-                        Arrays.asList(thingIdCache, policyEnforcerCache, aclEnforcerCache));
+                CachedNamespaceInvalidator.props(blockedNamespaces, cachesToInvalidateByNamespace);
         context.actorOf(cachedNamespaceInvalidatorProps, CachedNamespaceInvalidator.ACTOR_NAME);
 
         // start cluster singleton that writes to the distributed cache of blocked namespaces
@@ -179,6 +203,20 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                 .orElse(originalSignal);
     }
 
+    /**
+     * Coalesces the cache misses of a loader into batches per shard. Things are sharded by the same cluster-wide
+     * number of shards as concierge.
+     */
+    private static <V> AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> batching(
+            final BatchCacheLoader<V> cacheLoader,
+            final ConciergeConfig conciergeConfig,
+            final String cacheName) {
+
+        final CachesConfig cachesConfig = conciergeConfig.getCachesConfig();
+        return BatchingCacheLoader.of(cacheLoader, cachesConfig.getBatchWindow(), cachesConfig.getBatchMaxSize(),
+                conciergeConfig.getClusterConfig().getNumberOfShards(), cacheName + "_batch_size");
+    }
+
     private static PreEnforcer newPreEnforcer(final BlockedNamespaces blockedNamespaces,
             final PlaceholderSubstitution placeholderSubstitution) {
 
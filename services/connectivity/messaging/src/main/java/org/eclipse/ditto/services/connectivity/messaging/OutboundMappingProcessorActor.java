@@ -18,9 +18,12 @@ import static org.eclipse.ditto.model.connectivity.MetricType.MAPPED;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -55,9 +58,7 @@ import org.eclipse.ditto.model.connectivity.LogType;
 import org.eclipse.ditto.model.connectivity.MetricDirection;
 import org.eclipse.ditto.model.connectivity.MetricType;
 import org.eclipse.ditto.model.connectivity.Target;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
@@ -83,6 +84,9 @@ import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.acks.base.Acknowledgements;
 import org.eclipse.ditto.signals.base.Signal;
@@ -132,8 +136,11 @@ public final class OutboundMappingProcessorActor
     private final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitor responseMappedMonitor;
     private final SignalEnrichmentFacade signalEnrichmentFacade;
+    private final QueryFilterCriteriaCache queryFilterCriteriaCache;
     private final int processorPoolSize;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
+    private final Counter enrichedTargetsCounter;
+    private final Counter enrichmentGroupsCounter;
 
     @SuppressWarnings("unused")
     private OutboundMappingProcessorActor(final ActorRef clientActor,
@@ -164,8 +171,14 @@ public final class OutboundMappingProcessorActor
         responseMappedMonitor = connectionMonitorRegistry.forResponseMapped(connectionId);
         signalEnrichmentFacade =
                 ConnectivitySignalEnrichmentProvider.get(getContext().getSystem()).getFacade(connectionId);
+        queryFilterCriteriaCache = QueryFilterCriteriaCache.get(getContext().getSystem());
         this.processorPoolSize = determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(limitsConfig.getHeadersMaxSize());
+        // the ratio of both counters is the deduplication ratio of enrichment and payload mapping
+        enrichedTargetsCounter = DittoMetrics.counter("connection_outbound_enriched_targets")
+                .tag("id", connectionId.toString());
+        enrichmentGroupsCounter = DittoMetrics.counter("connection_outbound_enrichment_groups")
+                .tag("id", connectionId.toString());
     }
 
     /**
@@ -304,16 +317,20 @@ public final class OutboundMappingProcessorActor
      * <li>
      *   Targets with matching filtered topics without extra fields are grouped into 1 outbound signal, followed by
      * </li>
-     * <li>one outbound signal for each target with a matching filtered topic with extra fields.</li>
+     * <li>
+     *   one outbound signal for each group of targets with a matching filtered topic with the same extra fields,
+     *   filter and authorization context.
+     * </li>
      * </ol>
-     * The matching filtered topic is attached in the latter case.
+     * The matching filtered topic of the first target of the group is attached in the latter case.
      * Consequently, for each outbound signal leaving this flow, if it has a filtered topic attached,
-     * then it has 1 unique target with a matching topic with extra fields.
-     * This satisfies the precondition of {@code this#enrichAndFilterSignal}.
+     * then all its targets share the extra fields, the filter and the authorization context of the topic.
+     * This satisfies the precondition of {@code this#enrichAndFilterSignal}. Enrichment and payload mapping run once
+     * per group and the mapped message is published to all targets of the group.
      *
      * @return the flow.
      */
-    private static Flow<OutboundSignalWithId, Pair<OutboundSignalWithId, FilteredTopic>, NotUsed> splitByTargetExtraFieldsFlow() {
+    private Flow<OutboundSignalWithId, Pair<OutboundSignalWithId, FilteredTopic>, NotUsed> splitByTargetExtraFieldsFlow() {
         return Flow.<OutboundSignalWithId>create()
                 .mapConcat(outboundSignal -> {
                     final Pair<List<Target>, List<Pair<Target, FilteredTopic>>> splitTargets =
@@ -328,12 +345,16 @@ public final class OutboundMappingProcessorActor
                                     ? Stream.of(Pair.create(outboundSignal.setTargets(splitTargets.first()), null))
                                     : Stream.empty();
 
+                    final List<Pair<List<Target>, FilteredTopic>> targetGroups =
+                            groupTargetsByEnrichment(splitTargets.second());
+                    if (!targetGroups.isEmpty()) {
+                        enrichedTargetsCounter.increment(splitTargets.second().size());
+                        enrichmentGroupsCounter.increment(targetGroups.size());
+                    }
                     final Stream<Pair<OutboundSignalWithId, FilteredTopic>> outboundSignalWithExtraFields =
-                            splitTargets.second().stream()
-                                    .map(targetAndSelector -> Pair.create(
-                                            outboundSignal.setTargets(
-                                                    Collections.singletonList(targetAndSelector.first())),
-                                            targetAndSelector.second()));
+                            targetGroups.stream()
+                                    .map(targetGroup -> Pair.create(outboundSignal.setTargets(targetGroup.first()),
+                                            targetGroup.second()));
 
                     return Stream.concat(outboundSignalWithoutExtraFields, outboundSignalWithExtraFields)
                             .collect(Collectors.toList());
@@ -342,7 +363,8 @@ public final class OutboundMappingProcessorActor
 
 
     // Called inside stream; must be thread-safe
-    // precondition: whenever filteredTopic != null, it contains an extra fields
+    // precondition: whenever filteredTopic != null, it contains an extra fields and all targets share the extra fields,
+    // the filter and the authorization context of the first target
     private CompletionStage<Collection<OutboundSignalWithId>> enrichAndFilterSignal(
             final Pair<OutboundSignalWithId, FilteredTopic> outboundSignalWithExtraFields) {
 
@@ -374,13 +396,13 @@ public final class OutboundMappingProcessorActor
                             .warning("Could not retrieve extra data due to: {} {}", error.getClass().getSimpleName(),
                                     error.getMessage());
                     // recover from all errors to keep message-mapping-stream running despite enrichment failures
-                    return Collections.singletonList(recoverFromEnrichmentError(outboundSignal, target, error));
+                    return Collections.singletonList(recoverFromEnrichmentError(outboundSignal, error));
                 });
     }
 
     // Called inside future; must be thread-safe
     private OutboundSignalWithId recoverFromEnrichmentError(final OutboundSignalWithId outboundSignal,
-            final Target target, final Throwable error) {
+            final Throwable error) {
 
         // show enrichment failure in the connection logs
         logEnrichmentFailure(outboundSignal, connectionId, error);
@@ -399,7 +421,7 @@ public final class OutboundMappingProcessorActor
                     new ImmutableConnectionFailure(getSelf(), error, "Signal enrichment failed");
             clientActor.tell(connectionFailure, getSelf());
         }
-        return outboundSignal.setTargets(Collections.singletonList(target));
+        return outboundSignal;
     }
 
     private void logEnrichmentFailure(final OutboundSignal outboundSignal, final ConnectionId connectionId,
@@ -614,12 +636,12 @@ public final class OutboundMappingProcessorActor
             // evaluate filter criteria again if signal enrichment is involved.
             final Signal<?> signal = outboundSignalWithExtra.getSource();
             final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased()
-                    .filterCriteria(filter.get(), dittoHeaders);
+            final CompiledThingPredicate predicate =
+                    queryFilterCriteriaCache.getPredicate(filter.get(), dittoHeaders);
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> ThingEventToThingConverter
                             .mergeThingWithExtraFields(signal, extraFields.get(), extra)
-                            .filter(ThingPredicateVisitor.apply(criteria))
+                            .filter(predicate)
                             .map(thing -> outboundSignalWithExtra))
                     .map(Collections::singletonList)
                     .orElse(List.of());
@@ -675,6 +697,30 @@ public final class OutboundMappingProcessorActor
         }
     }
 
+    /**
+     * Group targets with extra fields by everything the result of signal enrichment and filtering depends on, so that
+     * identical targets share 1 enrichment and 1 payload mapping.
+     *
+     * @param targetsWithExtraFields targets together with their matching filtered topic with extra fields.
+     * @return groups of targets in the order of their first target, each with the filtered topic of its first target.
+     */
+    private static List<Pair<List<Target>, FilteredTopic>> groupTargetsByEnrichment(
+            final List<Pair<Target, FilteredTopic>> targetsWithExtraFields) {
+
+        final Map<List<Object>, Pair<List<Target>, FilteredTopic>> groups = new LinkedHashMap<>();
+        for (final Pair<Target, FilteredTopic> targetAndTopic : targetsWithExtraFields) {
+            final Target target = targetAndTopic.first();
+            final FilteredTopic filteredTopic = targetAndTopic.second();
+            final List<Object> signature = Arrays.asList(target.getAuthorizationContext(),
+                    filteredTopic.getExtraFields().orElse(null), filteredTopic.getFilter().orElse(null));
+            groups.computeIfAbsent(signature,
+                    key -> Pair.<List<Target>, FilteredTopic>create(new ArrayList<>(), filteredTopic))
+                    .first()
+                    .add(target);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
     private static boolean isCommandResponseWithReplyTarget(final Signal<?> signal) {
         final DittoHeaders dittoHeaders = signal.getDittoHeaders();
         return signal instanceof CommandResponse && dittoHeaders.getReplyTarget().isPresent();
@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -29,4 +33,85 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by the Kafka client.
+     *
+     * @return internal consumer configuration needed by the Kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Return how many consumed records may await acknowledgement before the consumer pauses its partitions.
+     *
+     * @return the maximum number of records in flight per consumer.
+     */
+    int getConsumerMaxInFlight();
+
+    /**
+     * Return how often a consumer polls for new records.
+     *
+     * @return the poll interval.
+     */
+    Duration getConsumerPollInterval();
+
+    /**
+     * Return how long a single poll may wait for new records. It blocks the dispatcher thread of the consumer.
+     *
+     * @return the poll timeout.
+     */
+    Duration getConsumerPollTimeout();
+
+    /**
+     * Return how often a consumer commits the offsets of acknowledged records.
+     *
+     * @return the commit interval.
+     */
+    Duration getConsumerCommitInterval();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * How many consumed records may await acknowledgement before the consumer pauses its partitions.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer.max-in-flight", 200),
+
+        /**
+         * How often a consumer polls for new records.
+         */
+        CONSUMER_POLL_INTERVAL("consumer.poll-interval", Duration.ofMillis(50L)),
+
+        /**
+         * How long a single poll may wait for new records.
+         */
+        CONSUMER_POLL_TIMEOUT("consumer.poll-timeout", Duration.ofMillis(50L)),
+
+        /**
+         * How often a consumer commits the offsets of acknowledged records.
+         */
+        CONSUMER_COMMIT_INTERVAL("consumer.commit-interval", Duration.ofSeconds(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
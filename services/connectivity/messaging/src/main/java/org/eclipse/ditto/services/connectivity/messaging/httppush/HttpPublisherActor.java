@@ -526,11 +526,13 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
                     final org.eclipse.ditto.model.base.headers.contenttype.ContentType dittoContentType =
                             org.eclipse.ditto.model.base.headers.contenttype.ContentType.of(contentType.toString());
                     if (dittoContentType.isJson()) {
-                        final String bodyString = new String(bytes, charset);
                         try {
-                            return JsonFactory.readFrom(bodyString);
+                            // UTF-8 encoded JSON is parsed without decoding it to a string first
+                            return StandardCharsets.UTF_8.equals(charset)
+                                    ? JsonFactory.readFrom(bytes)
+                                    : JsonFactory.readFrom(new String(bytes, charset));
                         } catch (final Exception e) {
-                            return JsonValue.of(bodyString);
+                            return JsonValue.of(new String(bytes, charset));
                         }
                     } else if (dittoContentType.isBinary()) {
                         final String base64bytes = Base64.getEncoder().encodeToString(bytes);
@@ -14,28 +14,37 @@ package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
 import java.util.Map;
 
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
     private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<byte[]> VALUE_DESERIALIZER = new ByteArrayDeserializer();
 
     private final Connection connection;
     private final Map<String, Object> properties;
+    private final ProducerPropertiesFactory propertiesFactory;
 
-    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties) {
+    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties,
+            final ProducerPropertiesFactory propertiesFactory) {
 
         this.connection = connection;
         properties = producerProperties;
+        this.propertiesFactory = propertiesFactory;
     }
 
     /**
@@ -49,7 +58,7 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
         final ProducerPropertiesFactory settingsFactory =
                 ProducerPropertiesFactory.getInstance(connection, kafkaConfig);
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties());
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties(), settingsFactory);
     }
 
     @Override
@@ -62,4 +71,12 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
         return new KafkaProducer<>(properties, KEY_SERIALIZER, VALUE_SERIALIZER);
     }
 
+    @Override
+    public org.apache.kafka.clients.consumer.Consumer<String, byte[]> newConsumer(final String sourceAddress,
+            final int consumerIndex) {
+
+        return new KafkaConsumer<>(propertiesFactory.getConsumerProperties(sourceAddress, consumerIndex),
+                KEY_DESERIALIZER, VALUE_DESERIALIZER);
+    }
+
 }
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -23,6 +25,7 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
@@ -48,6 +51,7 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -64,6 +68,7 @@ public final class KafkaClientActor extends BaseClientActor {
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -151,9 +156,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private void connectClient(final boolean dryRun, final ConnectionId connectionId,
             @Nullable final CharSequence correlationId) {
 
-        // start publisher
+        // start publisher; consumers are started by startConsumerActors once the client is connected
         startKafkaPublisher(dryRun, connectionId, correlationId);
-        // no command consumers as we don't support consuming from sources yet
     }
 
     private void startKafkaPublisher(final boolean dryRun, final ConnectionId connectionId,
@@ -168,10 +172,33 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(@Nullable final ClientConnected clientConnected) {
+        stopConsumerActors();
+        // consumers of all client actors of the connection share the partitions of each source address
+        for (final Source source : connection().getSources()) {
+            for (final String sourceAddress : source.getAddresses()) {
+                for (int i = 0; i < source.getConsumerCount(); i++) {
+                    final Props consumerActorProps = KafkaConsumerActor.props(connectionId(), sourceAddress,
+                            getInboundMappingProcessorActor(), source, i, connectionFactory);
+                    kafkaConsumerActors.add(startChildActorConflictFree(
+                            KafkaConsumerActor.ACTOR_NAME_PREFIX + sourceAddress + "-", consumerActorProps));
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(DONE);
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
         stopPublisherActor();
+        stopConsumerActors();
+    }
+
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
     }
 
     @Override
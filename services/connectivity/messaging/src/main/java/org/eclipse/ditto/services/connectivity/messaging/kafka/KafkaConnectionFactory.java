@@ -12,11 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -33,4 +34,13 @@ interface KafkaConnectionFactory {
      * @return the producer.
      */
     Producer<String, String> newProducer();
+
+    /**
+     * Create a consumer of Kafka records. The consumer is not thread-safe and must be used by one actor only.
+     *
+     * @param sourceAddress the topic to consume.
+     * @param consumerIndex the index of the consumer among the consumers of the source address.
+     * @return the consumer.
+     */
+    Consumer<String, byte[]> newConsumer(String sourceAddress, int consumerIndex);
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.common.CharsetDeterminer;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.PayloadMapping;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.models.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which polls records from a Kafka topic and forwards them to a {@code MessageMappingProcessorActor}.
+ * <p>
+ * All consumers of a connection join one consumer group, so that the broker spreads the partitions of the topic over
+ * the consumers of all client actors. Offsets are committed in batches per commit interval, each up to the first
+ * record of its partition whose acknowledgement is still outstanding. All partitions are paused while the number of
+ * records in flight reaches the configured maximum.
+ * </p>
+ */
+public final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    private static final String DISPATCHER_NAME = "kafka-consumer-dispatcher";
+    private static final String CONTENT_TYPE_APPLICATION_OCTET_STREAM = "application/octet-stream";
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10L);
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    @Nullable
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+    private final PayloadMapping payloadMapping;
+    private final KafkaConfig kafkaConfig;
+    private final Consumer<String, byte[]> consumer;
+    private final Map<TopicPartition, PartitionOffsets> offsetsByPartition;
+
+    private int inFlight;
+    private boolean paused;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final String sourceAddress,
+            final ActorRef inboundMappingProcessor, final Source source, final int consumerIndex,
+            final KafkaConnectionFactory connectionFactory) {
+
+        super(connectionId, sourceAddress, inboundMappingProcessor, source, ConnectionType.KAFKA);
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(value -> EnforcementFactoryFactory.newEnforcementFilterFactory(value,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+        payloadMapping = source.getPayloadMapping();
+        kafkaConfig = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getConnectionConfig()
+                .getKafkaConfig();
+        consumer = connectionFactory.newConsumer(sourceAddress, consumerIndex);
+        offsetsByPartition = new HashMap<>();
+        inFlight = 0;
+        paused = false;
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code KafkaConsumerActor}.
+     *
+     * @param connectionId ID of the connection.
+     * @param sourceAddress the topic to consume.
+     * @param inboundMappingProcessor the message mapping processor where received messages are forwarded to.
+     * @param source the configured connection source for the consumer actor.
+     * @param consumerIndex the index of the consumer among the consumers of the source address.
+     * @param connectionFactory factory of the Kafka consumer.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final String sourceAddress,
+            final ActorRef inboundMappingProcessor, final Source source, final int consumerIndex,
+            final KafkaConnectionFactory connectionFactory) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, sourceAddress, inboundMappingProcessor, source,
+                consumerIndex, connectionFactory)
+                .withDispatcher(DISPATCHER_NAME);
+    }
+
+    @Override
+    protected DittoDiagnosticLoggingAdapter log() {
+        return log;
+    }
+
+    @Override
+    public void preStart() {
+        consumer.subscribe(Collections.singletonList(sourceAddress), new RebalanceListener());
+        timers().startTimerWithFixedDelay(Control.POLL, Control.POLL, kafkaConfig.getConsumerPollInterval());
+        timers().startTimerWithFixedDelay(Control.COMMIT, Control.COMMIT, kafkaConfig.getConsumerCommitInterval());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        try {
+            consumer.commitSync(collectOffsetsToCommit(offsetsByPartition.keySet()));
+        } catch (final KafkaException e) {
+            log.info("Committing offsets on stop failed: {}", e.getMessage());
+        }
+        consumer.close(CLOSE_TIMEOUT);
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.POLL, poll -> poll())
+                .matchEquals(Control.COMMIT, commit -> commitAsync())
+                .match(Settled.class, this::handleSettled)
+                .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                }).build();
+    }
+
+    private void poll() {
+        final ConsumerRecords<String, byte[]> records;
+        try {
+            records = consumer.poll(kafkaConfig.getConsumerPollTimeout());
+        } catch (final KafkaException e) {
+            handlePollFailure(e);
+            return;
+        }
+        records.forEach(this::handleRecord);
+        if (!paused && inFlight >= kafkaConfig.getConsumerMaxInFlight()) {
+            log.debug("Pausing partitions of topic <{}> with <{}> records in flight.", sourceAddress, inFlight);
+            consumer.pause(consumer.assignment());
+            paused = true;
+        }
+    }
+
+    private void handlePollFailure(final KafkaException e) {
+        log.warning("Polling topic <{}> failed: {}", sourceAddress, e.getMessage());
+        timers().cancel(Control.POLL);
+        handleAddressStatus(ConnectivityModelFactory.newStatusUpdate(InstanceIdentifierSupplier.getInstance().get(),
+                ConnectivityStatus.FAILED, sourceAddress, "Polling failed: " + e.getMessage(), Instant.now()));
+        getContext().getParent()
+                .tell(new ImmutableConnectionFailure(getSelf(), e, "Kafka consumer failed"), getSelf());
+    }
+
+    private void handleRecord(final ConsumerRecord<String, byte[]> record) {
+        final TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+        final PartitionOffsets partitionOffsets =
+                offsetsByPartition.computeIfAbsent(topicPartition, tp -> new PartitionOffsets());
+        final long offset = record.offset();
+        final int epoch = partitionOffsets.add(offset);
+        inFlight++;
+
+        Map<String, String> headers = null;
+        try {
+            headers = extractHeadersFromRecord(record);
+            final String correlationId = headers.get(DittoHeaderDefinition.CORRELATION_ID.getKey());
+            if (log.isDebugEnabled()) {
+                log.withCorrelationId(correlationId)
+                        .debug("Received record from Kafka at offset <{}> of partition <{}>.", offset,
+                                topicPartition);
+            }
+            final ExternalMessageBuilder externalMessageBuilder =
+                    ExternalMessageFactory.newExternalMessageBuilder(headers);
+            final String contentType = headers.get(ExternalMessage.CONTENT_TYPE_HEADER);
+            final byte[] value = record.value() != null ? record.value() : new byte[0];
+            if (shouldBeInterpretedAsBytes(contentType)) {
+                externalMessageBuilder.withBytes(value);
+            } else {
+                final String text = new String(value, CharsetDeterminer.getInstance().apply(contentType));
+                externalMessageBuilder.withTextAndBytes(text, value);
+            }
+            externalMessageBuilder.withAuthorizationContext(source.getAuthorizationContext());
+            if (headerEnforcementFilterFactory != null) {
+                externalMessageBuilder.withEnforcement(headerEnforcementFilterFactory.getFilter(headers));
+            }
+            externalMessageBuilder.withHeaderMapping(source.getHeaderMapping().orElse(null));
+            externalMessageBuilder.withSourceAddress(sourceAddress);
+            externalMessageBuilder.withPayloadMapping(payloadMapping);
+            final ExternalMessage externalMessage = externalMessageBuilder.build();
+            inboundMonitor.success(externalMessage);
+
+            final ActorRef self = getSelf();
+            forwardToMappingActor(externalMessage,
+                    () -> {
+                        self.tell(new Settled(topicPartition, partitionOffsets, offset, epoch, false),
+                                ActorRef.noSender());
+                        inboundAcknowledgedMonitor.success(externalMessage,
+                                "Sending success acknowledgement: offset {0} of {1} may be committed",
+                                offset, topicPartition);
+                    },
+                    redeliver -> {
+                        self.tell(new Settled(topicPartition, partitionOffsets, offset, epoch, redeliver),
+                                ActorRef.noSender());
+                        inboundAcknowledgedMonitor.exception("Sending negative acknowledgement: " +
+                                "offset {0} of {1}, redeliver={2}", offset, topicPartition, redeliver);
+                    });
+        } catch (final DittoRuntimeException e) {
+            log.warning("Processing record at offset <{}> of <{}> failed: {}", offset, topicPartition,
+                    e.getMessage());
+            if (headers != null) {
+                // send response if headers were extracted successfully
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+                inboundMonitor.failure(headers, e);
+            } else {
+                inboundMonitor.failure(e);
+            }
+            handleSettled(new Settled(topicPartition, partitionOffsets, offset, epoch, false));
+        } catch (final Exception e) {
+            log.warning("Processing record at offset <{}> of <{}> failed: {}", offset, topicPartition,
+                    e.getMessage());
+            if (headers != null) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+            handleSettled(new Settled(topicPartition, partitionOffsets, offset, epoch, false));
+        }
+    }
+
+    private void handleSettled(final Settled settled) {
+        final PartitionOffsets partitionOffsets = settled.partitionOffsets;
+        // ignore records of revoked partitions; their new owner resumes from the last committed offset.
+        if (offsetsByPartition.get(settled.topicPartition) == partitionOffsets) {
+            if (settled.redeliver) {
+                final int dropped = partitionOffsets.rewind(settled.offset, settled.epoch);
+                if (dropped > 0) {
+                    inFlight -= dropped;
+                    consumer.seek(settled.topicPartition, settled.offset);
+                }
+            } else if (partitionOffsets.remove(settled.offset, settled.epoch)) {
+                inFlight--;
+            }
+        }
+        resumeIfBelowMaxInFlight();
+    }
+
+    private void resumeIfBelowMaxInFlight() {
+        if (paused && inFlight < kafkaConfig.getConsumerMaxInFlight()) {
+            log.debug("Resuming partitions of topic <{}> with <{}> records in flight.", sourceAddress, inFlight);
+            consumer.resume(consumer.paused());
+            paused = false;
+        }
+    }
+
+    private void commitAsync() {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = collectOffsetsToCommit(offsetsByPartition.keySet());
+        if (!offsets.isEmpty()) {
+            // the consumer invokes the callback in the thread of this actor during a later call
+            consumer.commitAsync(offsets, (committedOffsets, error) -> {
+                if (error != null) {
+                    log.info("Committing offsets <{}> failed: {}", committedOffsets, error.getMessage());
+                    committedOffsets.keySet().forEach(this::forgetCommittedOffset);
+                }
+            });
+        }
+    }
+
+    private void forgetCommittedOffset(final TopicPartition topicPartition) {
+        final PartitionOffsets partitionOffsets = offsetsByPartition.get(topicPartition);
+        if (partitionOffsets != null) {
+            partitionOffsets.committed = -1L;
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> collectOffsetsToCommit(
+            final Collection<TopicPartition> topicPartitions) {
+
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (final TopicPartition topicPartition : topicPartitions) {
+            final PartitionOffsets partitionOffsets = offsetsByPartition.get(topicPartition);
+            if (partitionOffsets != null) {
+                final long committable = partitionOffsets.getCommittable();
+                if (committable > partitionOffsets.committed) {
+                    offsets.put(topicPartition, new OffsetAndMetadata(committable));
+                    partitionOffsets.committed = committable;
+                }
+            }
+        }
+        return offsets;
+    }
+
+    private static boolean shouldBeInterpretedAsBytes(@Nullable final String contentType) {
+        return contentType != null && contentType.startsWith(CONTENT_TYPE_APPLICATION_OCTET_STREAM);
+    }
+
+    private static Map<String, String> extractHeadersFromRecord(final ConsumerRecord<?, ?> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (header.value() != null) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Called by the consumer in the thread of this actor while polling.
+     */
+    private final class RebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+            try {
+                consumer.commitSync(collectOffsetsToCommit(partitions));
+            } catch (final KafkaException e) {
+                log.info("Committing offsets of revoked partitions <{}> failed: {}", partitions, e.getMessage());
+            }
+            for (final TopicPartition topicPartition : partitions) {
+                final PartitionOffsets partitionOffsets = offsetsByPartition.remove(topicPartition);
+                if (partitionOffsets != null) {
+                    inFlight -= partitionOffsets.pending.size();
+                }
+            }
+            resumeIfBelowMaxInFlight();
+        }
+
+        @Override
+        public void onPartitionsAssigned(final Collection<TopicPartition> partitions) {
+            log.info("Assigned partitions <{}> of topic <{}>.", partitions, sourceAddress);
+            if (paused) {
+                consumer.pause(partitions);
+            }
+        }
+
+    }
+
+    /**
+     * Offsets of one partition: records awaiting acknowledgement, the offset after the last polled record and the
+     * last committed offset. Each pending offset remembers the epoch of its delivery, which is increased whenever the
+     * partition is rewound for redelivery, so that late settlements of discarded deliveries are ignored.
+     */
+    private static final class PartitionOffsets {
+
+        private final NavigableMap<Long, Integer> pending = new TreeMap<>();
+        private long next = 0L;
+        private long committed = -1L;
+        private int epoch = 0;
+
+        private int add(final long offset) {
+            pending.put(offset, epoch);
+            next = Math.max(next, offset + 1);
+            return epoch;
+        }
+
+        private boolean remove(final long offset, final int deliveryEpoch) {
+            return pending.remove(offset, deliveryEpoch);
+        }
+
+        private int rewind(final long offset, final int deliveryEpoch) {
+            final Integer pendingEpoch = pending.get(offset);
+            if (pendingEpoch == null || pendingEpoch != deliveryEpoch) {
+                return 0;
+            }
+            final NavigableMap<Long, Integer> discarded = pending.tailMap(offset, true);
+            final int size = discarded.size();
+            discarded.clear();
+            next = offset;
+            epoch++;
+            return size;
+        }
+
+        private long getCommittable() {
+            return pending.isEmpty() ? next : pending.firstKey();
+        }
+
+    }
+
+    private static final class Settled {
+
+        private final TopicPartition topicPartition;
+        private final PartitionOffsets partitionOffsets;
+        private final long offset;
+        private final int epoch;
+        private final boolean redeliver;
+
+        private Settled(final TopicPartition topicPartition, final PartitionOffsets partitionOffsets,
+                final long offset, final int epoch, final boolean redeliver) {
+
+            this.topicPartition = topicPartition;
+            this.partitionOffsets = partitionOffsets;
+            this.offset = offset;
+            this.epoch = epoch;
+            this.redeliver = redeliver;
+        }
+
+    }
+
+    enum Control {
+
+        /**
+         * Trigger to poll for new records.
+         */
+        POLL,
+
+        /**
+         * Trigger to commit the offsets of acknowledged records.
+         */
+        COMMIT
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
@@ -28,13 +29,14 @@ import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import com.typesafe.config.Config;
 
 /**
- * Creates Kafka producer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
+ * Creates Kafka producer and consumer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
  * configuration.
  */
 final class ProducerPropertiesFactory {
 
     /**
-     * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig inside producer internal config.
+     * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig inside producer internal config
+     * and by org.apache.kafka.clients.consumer.ConsumerConfig inside consumer internal config.
      * Defined by a previously used Alpakka kafka client.
      */
     private static final String KAFKA_CLIENTS_KEY = "kafka-clients";
@@ -71,13 +73,42 @@ final class ProducerPropertiesFactory {
         return Collections.unmodifiableMap(producerProperties);
     }
 
+    Map<String, Object> getConsumerProperties(final String sourceAddress, final int consumerIndex) {
+        final Config internalConsumerConfig = kafkaConfig.getInternalConsumerConfig();
+        final HashMap<String, Object> consumerProperties = internalConsumerConfig.hasPath(KAFKA_CLIENTS_KEY)
+                ? configToProperties(internalConsumerConfig.getConfig(KAFKA_CLIENTS_KEY))
+                : new HashMap<>();
+        addConsumerMetadata(consumerProperties, sourceAddress, consumerIndex);
+        addConsumerGroup(consumerProperties);
+        addSecurityProtocol(consumerProperties);
+        addSpecificConfig(consumerProperties);
+        return Collections.unmodifiableMap(consumerProperties);
+    }
+
     private void addMetadata(final HashMap<String, Object> properties) {
+        properties.put(CommonClientConfigs.CLIENT_ID_CONFIG, getClientId());
+    }
+
+    private void addConsumerMetadata(final HashMap<String, Object> properties, final String sourceAddress,
+            final int consumerIndex) {
+
+        // the client ID must be unique among all consumers in the JVM, otherwise their JMX registrations collide:
+        properties.put(CommonClientConfigs.CLIENT_ID_CONFIG,
+                getClientId() + "-" + sourceAddress + "-" + consumerIndex);
+    }
+
+    private String getClientId() {
         // identify the connected Kafka client by the connectionId followed by the instance index
         // (in order to be able to differentiate if a clientCount >1 was configured):
         final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
+        return connection.getId() + "-" + instanceIdentifierSupplier.get();
+    }
 
-        properties.put(CommonClientConfigs.CLIENT_ID_CONFIG,
-                connection.getId() + "-" + instanceIdentifierSupplier.get());
+    private void addConsumerGroup(final HashMap<String, Object> properties) {
+        // all consumers of the connection form one group so that the broker spreads the partitions of the source
+        // topics over all client actors; offsets are committed only after acknowledgement by the consumer actors.
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, connection.getId().toString());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
     }
 
     private void addSpecificConfig(final HashMap<String, Object> properties) {
@@ -134,7 +165,7 @@ final class ProducerPropertiesFactory {
     }
 
     /**
-     * Convert an unwrapped config into a flat properties map for the Kafka producer.
+     * Convert an unwrapped config into a flat properties map for the Kafka producer or consumer.
      *
      * @param unwrapped Result of {@code ConfigObject#unwrapped} containing structural maps.
      * @param prefix prefix of the config path.
@@ -98,6 +98,7 @@ import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersiste
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -719,7 +720,8 @@ public final class ConnectionPersistenceActor
 
     private void prepareForSignalForwarding(final StagedCommand command) {
         if (entity != null) {
-            signalFilter = new SignalFilter(entity, connectionMonitorRegistry);
+            signalFilter = new SignalFilter(entity, connectionMonitorRegistry,
+                    QueryFilterCriteriaCache.get(getContext().getSystem()));
         }
 
         // remove previous subscriptions.
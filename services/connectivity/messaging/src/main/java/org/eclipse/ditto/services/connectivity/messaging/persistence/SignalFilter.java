@@ -34,11 +34,11 @@ import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
+import org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -60,16 +60,21 @@ final class SignalFilter {
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final QueryFilterCriteriaCache queryFilterCriteriaCache;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
      *
      * @param connection the connection to filter the signals on.
+     * @param connectionMonitorRegistry the registry of monitors of dispatched and filtered signals.
+     * @param queryFilterCriteriaCache the cache of parsed filters of the connection's targets.
      */
     SignalFilter(final Connection connection,
-            final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
+            final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry,
+            final QueryFilterCriteriaCache queryFilterCriteriaCache) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        this.queryFilterCriteriaCache = queryFilterCriteriaCache;
     }
 
     /**
@@ -109,7 +114,7 @@ final class SignalFilter {
                 .anyMatch(applyTopicFilter(signal));
     }
 
-    private static boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
                 .filter(applyNamespaceFilter(signal))
@@ -129,7 +134,7 @@ final class SignalFilter {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private static boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
+    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
         final Optional<String> filterOptional = filteredTopic.getFilter();
         if (filterOptional.isPresent() && signal instanceof ThingEvent) {
             // match filter ignoring "extraFields"
@@ -151,8 +156,8 @@ final class SignalFilter {
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a valid criterion
      */
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        return QueryFilterCriteriaFactory.modelBased().filterCriteria(filter, dittoHeaders);
+    private Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        return queryFilterCriteriaCache.getCriteria(filter, dittoHeaders);
     }
 
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
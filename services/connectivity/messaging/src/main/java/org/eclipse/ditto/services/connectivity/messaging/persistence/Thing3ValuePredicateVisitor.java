@@ -19,15 +19,16 @@ import java.util.function.Function;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.criteria.Predicate;
 import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.FieldExpression;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.FieldExpressionVisitor;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.model.query.things.ExistsThingPredicateVisitor;
-import org.eclipse.ditto.model.query.things.FilterThingPredicateVisitor;
-import org.eclipse.ditto.model.query.things.ThingPredicatePredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
 
 /**
@@ -36,6 +37,8 @@ import org.eclipse.ditto.model.things.Thing;
 final class Thing3ValuePredicateVisitor
         implements CriteriaVisitor<Function<Thing, Thing3ValuePredicateVisitor.Trilean>> {
 
+    private static final CriteriaFactory CRITERIA_FACTORY = new CriteriaFactoryImpl();
+
     private final Set<JsonPointer> unknownFields;
 
     private Thing3ValuePredicateVisitor(final Set<JsonPointer> unknownFields) {
@@ -69,23 +72,21 @@ final class Thing3ValuePredicateVisitor
 
     @Override
     public Function<Thing, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
-        return thing -> isUnknownField(fieldExpression)
-                ? Trilean.UNKNOWN
-                : Trilean.lift(ExistsThingPredicateVisitor.apply(fieldExpression).test(thing));
+        if (isUnknownField(fieldExpression)) {
+            return thing -> Trilean.UNKNOWN;
+        }
+        final java.util.function.Predicate<Thing> existsPredicate = ExistsThingPredicateVisitor.apply(fieldExpression);
+        return thing -> Trilean.lift(existsPredicate.test(thing));
     }
 
     @Override
     public Function<Thing, Trilean> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return thing -> {
-            if (isUnknownField(fieldExpression)) {
-                return Trilean.UNKNOWN;
-            } else {
-                final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor.getInstance();
-                return Trilean.lift(
-                        FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
-                );
-            }
-        };
+        if (isUnknownField(fieldExpression)) {
+            return thing -> Trilean.UNKNOWN;
+        }
+        final CompiledThingPredicate fieldPredicate =
+                CompiledThingPredicate.of(CRITERIA_FACTORY.fieldCriteria(fieldExpression, predicate));
+        return thing -> Trilean.lift(fieldPredicate.test(thing));
     }
 
     @Override
@@ -288,6 +288,15 @@ public abstract class AbstractConsumerActorTest<M> {
         );
     }
 
+    /**
+     * Acknowledge an inbound message which a consumer actor forwarded to a test probe in place of the mapping actor.
+     *
+     * @param responseCollector the sender of the forwarded message, which collects the acknowledgements.
+     */
+    protected static void acknowledge(final ActorRef responseCollector) {
+        responseCollector.tell(ResponseCollectorActor.setCount(0), ActorRef.noSender());
+    }
+
     protected abstract Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping);
 
     protected abstract Props getConsumerActorProps(final ActorRef mappingActor,
@@ -227,6 +227,31 @@ public final class OutboundMappingProcessorActorTest {
         }};
     }
 
+    @Test
+    public void publishOnceToTargetsWithIdenticalEnrichment() {
+        new TestKit(actorSystem) {{
+            final Props props =
+                    OutboundMappingProcessorActor.props(clientActorProbe.ref(), getProcessor(), CONNECTION, 3);
+            final ActorRef underTest = actorSystem.actorOf(props);
+
+            // WHEN: mapping processor actor receives outbound signal with 2 authorized targets
+            // with the same extra fields, filter and authorization context
+            final Attributes attributes = Attributes.newBuilder().set("target2", "value").build();
+            final OutboundSignal outboundSignal =
+                    outboundTwinEvent(attributes, List.of(), List.of(target2(), target5()));
+            underTest.tell(outboundSignal, getRef());
+            proxyActorProbe.expectMsgClass(RetrieveThing.class);
+            proxyActorProbe.reply(retrieveThingResponse(attributes));
+
+            // THEN: the signal is enriched and mapped once and the mapped message is published to both targets
+            final BaseClientActor.PublishMappedMessage publish =
+                    clientActorProbe.expectMsgClass(BaseClientActor.PublishMappedMessage.class);
+            assertThat(publish.getOutboundSignal().getMappedOutboundSignals()).hasSize(1);
+            assertThat(publish.getOutboundSignal().first().getTargets()).containsExactly(target2(), target5());
+            proxyActorProbe.expectNoMessage();
+        }};
+    }
+
     private OutboundMappingProcessor getProcessor() {
         return OutboundMappingProcessor.of(CONNECTION, actorSystem, TestConstants.CONNECTIVITY_CONFIG,
                 protocolAdapterProvider.getProtocolAdapter("test"),
@@ -264,7 +289,7 @@ public final class OutboundMappingProcessorActorTest {
         final String uri = "tcp://localhost:1883";
         return ConnectivityModelFactory.newConnectionBuilder(connectionId(), type, status, uri)
                 .setSources(List.of(createTestSource()))
-                .setTargets(List.of(target1(), target2(), target3(), target4()))
+                .setTargets(List.of(target1(), target2(), target3(), target4(), target5()))
                 .payloadMappingDefinition(ConnectivityModelFactory.newPayloadMappingDefinition(Map.of(
                         "javascript",
                         ConnectivityModelFactory.newMappingContext("JavaScript", Map.of(
@@ -331,6 +356,13 @@ public final class OutboundMappingProcessorActorTest {
                 .build();
     }
 
+    private static Target target5() {
+        return ConnectivityModelFactory.newTargetBuilder(target2())
+                .address("target5")
+                .issuedAcknowledgementLabel(null)
+                .build();
+    }
+
     private static AuthorizationContext singletonContext(final AuthorizationSubject subject) {
         return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subject);
     }
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.header;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.FilteredAcknowledgementRequest;
+import org.eclipse.ditto.model.base.common.DittoConstants;
+import org.eclipse.ditto.model.base.common.ResponseType;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.PayloadMapping;
+import org.eclipse.ditto.model.connectivity.ReplyTarget;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.connectivity.SourceBuilder;
+import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link KafkaConsumerActor}. A {@link MockConsumer} stands in for the broker: the records of each test
+ * are handed out by the next poll of the consumer actor, which the returned inbound message triggers.
+ */
+public final class KafkaConsumerActorTest extends AbstractConsumerActorTest<KafkaConsumerActor.Control> {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "kafka-consumer";
+    private static final TopicPartition TOPIC_PARTITION = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition OTHER_TOPIC_PARTITION = new TopicPartition(TOPIC, 1);
+    private static final long OFFSET = 42L;
+    private static final String OFFSET_HEADER = "offset";
+    private static final Duration COMMIT_INTERVALS = Duration.ofMillis(500L);
+
+    private final AssigningMockConsumer consumer = new AssigningMockConsumer(TOPIC_PARTITION);
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor,
+            final Set<AcknowledgementRequest> acknowledgementRequests) {
+
+        return getConsumerActorProps(mappingActor, sourceBuilder()
+                .acknowledgementRequests(FilteredAcknowledgementRequest.of(acknowledgementRequests, null))
+                .build());
+    }
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping) {
+        return getConsumerActorProps(mappingActor, sourceBuilder().payloadMapping(payloadMapping).build());
+    }
+
+    private Props getConsumerActorProps(final ActorRef mappingActor, final Source source) {
+        final KafkaConnectionFactory connectionFactory = Mockito.mock(KafkaConnectionFactory.class);
+        Mockito.when(connectionFactory.newConsumer(TOPIC, 0)).thenReturn(consumer);
+        return KafkaConsumerActor.props(CONNECTION_ID, TOPIC, mappingActor, source, 0, connectionFactory);
+    }
+
+    private static SourceBuilder<?> sourceBuilder() {
+        return ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .enforcement(ENFORCEMENT)
+                .headerMapping(TestConstants.HEADER_MAPPING)
+                .replyTarget(ReplyTarget.newBuilder()
+                        .address("foo")
+                        .expectedResponseTypes(ResponseType.ERROR, ResponseType.RESPONSE, ResponseType.NACK)
+                        .build());
+    }
+
+    @Override
+    protected KafkaConsumerActor.Control getInboundMessage(final String payload,
+            final Map.Entry<String, Object> header) {
+
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add(new RecordHeader(REPLY_TO_HEADER.getKey(), bytes(REPLY_TO_HEADER.getValue())));
+        headers.add(new RecordHeader(header.getKey(), bytes(String.valueOf(header.getValue()))));
+        headers.add(new RecordHeader(ExternalMessage.CONTENT_TYPE_HEADER,
+                bytes(DittoConstants.DITTO_PROTOCOL_CONTENT_TYPE)));
+        final byte[] value = bytes(payload);
+        final ConsumerRecord<String, byte[]> record =
+                new ConsumerRecord<>(TOPIC, TOPIC_PARTITION.partition(), OFFSET, 0L, TimestampType.CREATE_TIME, null,
+                        0, value.length, null, value, headers);
+
+        // the partition is assigned once the consumer actor has subscribed, which happens before its first poll
+        consumer.schedulePollTask(() -> consumer.addRecord(record));
+        return KafkaConsumerActor.Control.POLL;
+    }
+
+    @Override
+    protected void verifyMessageSettlement(final TestKit testKit, final boolean isSuccessExpected,
+            final boolean shouldRedeliver) {
+
+        if (isSuccessExpected || !shouldRedeliver) {
+            // the record is done with; its offset is committed with the next batch
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(getCommittedOffset()).isEqualTo(OFFSET + 1));
+        } else {
+            // the consumer seeks back to the record so that the next poll delivers it again
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(consumer.position(TOPIC_PARTITION)).isEqualTo(OFFSET));
+            assertThat(getCommittedOffset()).isLessThanOrEqualTo(OFFSET);
+        }
+    }
+
+    @Test
+    public void commitStopsAtFirstUnacknowledgedOffset() {
+        new TestKit(actorSystem) {{
+            final TestKit mappingActor = new TestKit(actorSystem);
+            scheduleRecords(consumer, record(TOPIC_PARTITION, 0L), record(TOPIC_PARTITION, 1L),
+                    record(TOPIC_PARTITION, 2L));
+            childActorOf(getConsumerActorProps(mappingActor.getRef(), plainSource()));
+            final ActorRef collector0 = expectRecord(mappingActor, 0L);
+            final ActorRef collector1 = expectRecord(mappingActor, 1L);
+            final ActorRef collector2 = expectRecord(mappingActor, 2L);
+
+            // WHEN: the records after the first one are acknowledged
+            acknowledge(collector2);
+            acknowledge(collector1);
+
+            // THEN: nothing after the first record is committed
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(getCommittedOffset(consumer, TOPIC_PARTITION)).isZero());
+            mappingActor.expectNoMessage(COMMIT_INTERVALS);
+            assertThat(getCommittedOffset(consumer, TOPIC_PARTITION)).isZero();
+
+            // WHEN: the first record is acknowledged
+            acknowledge(collector0);
+
+            // THEN: the offsets of all records are committed
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(getCommittedOffset(consumer, TOPIC_PARTITION)).isEqualTo(3L));
+        }};
+    }
+
+    @Test
+    public void pausesAtMaxInFlightAndResumesAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final TestKit mappingActor = new TestKit(actorSystem);
+            // max-in-flight is 3 in test.conf
+            scheduleRecords(consumer, record(TOPIC_PARTITION, 0L), record(TOPIC_PARTITION, 1L),
+                    record(TOPIC_PARTITION, 2L));
+            childActorOf(getConsumerActorProps(mappingActor.getRef(), plainSource()));
+            final ActorRef collector0 = expectRecord(mappingActor, 0L);
+            expectRecord(mappingActor, 1L);
+            expectRecord(mappingActor, 2L);
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(consumer.paused()).containsExactly(TOPIC_PARTITION));
+
+            // WHEN: another record arrives while the partition is paused
+            scheduleRecords(consumer, record(TOPIC_PARTITION, 3L));
+
+            // THEN: it is not polled
+            mappingActor.expectNoMessage(COMMIT_INTERVALS);
+
+            // WHEN: a record in flight is acknowledged
+            acknowledge(collector0);
+
+            // THEN: the partition is resumed and the record polled
+            expectRecord(mappingActor, 3L);
+            assertThat(consumer.paused()).isEmpty();
+        }};
+    }
+
+    @Test
+    public void revokingPartitionDiscardsItsRecordsInFlight() {
+        new TestKit(actorSystem) {{
+            final TestKit mappingActor = new TestKit(actorSystem);
+            scheduleRecords(consumer, record(TOPIC_PARTITION, 0L), record(TOPIC_PARTITION, 1L),
+                    record(TOPIC_PARTITION, 2L));
+            childActorOf(getConsumerActorProps(mappingActor.getRef(), plainSource()));
+            final ActorRef collector0 = expectRecord(mappingActor, 0L);
+            expectRecord(mappingActor, 1L);
+            expectRecord(mappingActor, 2L);
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(consumer.paused()).containsExactly(TOPIC_PARTITION));
+
+            // WHEN: the paused partition with 3 records in flight is reassigned to another consumer of the group
+            consumer.updateBeginningOffsets(Collections.singletonMap(OTHER_TOPIC_PARTITION, 0L));
+            consumer.schedulePollTask(() -> {
+                consumer.reassign(OTHER_TOPIC_PARTITION);
+                consumer.addRecord(record(OTHER_TOPIC_PARTITION, 0L));
+            });
+
+            // THEN: the records of the revoked partition no longer count as in flight and the new partition is polled
+            expectRecord(mappingActor, 0L);
+            assertThat(consumer.paused()).isEmpty();
+
+            // WHEN: a record of the revoked partition is acknowledged late
+            acknowledge(collector0);
+
+            // THEN: its offset is not committed; the new owner of the partition consumes it again
+            mappingActor.expectNoMessage(COMMIT_INTERVALS);
+            assertThat(getCommittedOffset(consumer, TOPIC_PARTITION)).isZero();
+        }};
+    }
+
+    @Test
+    public void consumersOfOneGroupConsumeTheirOwnPartitions() {
+        new TestKit(actorSystem) {{
+            final TestKit mappingActor = new TestKit(actorSystem);
+            // the broker spreads the partitions of the topic over the consumers of the group
+            final AssigningMockConsumer otherConsumer = new AssigningMockConsumer(OTHER_TOPIC_PARTITION);
+            final KafkaConnectionFactory connectionFactory = Mockito.mock(KafkaConnectionFactory.class);
+            Mockito.when(connectionFactory.newConsumer(TOPIC, 0)).thenReturn(consumer);
+            Mockito.when(connectionFactory.newConsumer(TOPIC, 1)).thenReturn(otherConsumer);
+            scheduleRecords(consumer, record(TOPIC_PARTITION, 0L));
+            scheduleRecords(otherConsumer, record(OTHER_TOPIC_PARTITION, 0L), record(OTHER_TOPIC_PARTITION, 1L));
+
+            for (int i = 0; i < 2; i++) {
+                childActorOf(KafkaConsumerActor.props(CONNECTION_ID, TOPIC, mappingActor.getRef(), plainSource(), i,
+                        connectionFactory));
+            }
+            for (int i = 0; i < 3; i++) {
+                mappingActor.expectMsgClass(ExternalMessage.class);
+                acknowledge(mappingActor.getLastSender());
+            }
+
+            // each consumer commits the offsets of its own partition only
+            Awaitility.await()
+                    .atMost(3L, TimeUnit.SECONDS)
+                    .untilAsserted(() -> {
+                        assertThat(getCommittedOffset(consumer, TOPIC_PARTITION)).isEqualTo(1L);
+                        assertThat(getCommittedOffset(otherConsumer, OTHER_TOPIC_PARTITION)).isEqualTo(2L);
+                    });
+            assertThat(getCommittedOffset(consumer, OTHER_TOPIC_PARTITION)).isEqualTo(-1L);
+            assertThat(getCommittedOffset(otherConsumer, TOPIC_PARTITION)).isEqualTo(-1L);
+            Mockito.verify(connectionFactory).newConsumer(TOPIC, 0);
+            Mockito.verify(connectionFactory).newConsumer(TOPIC, 1);
+        }};
+    }
+
+    private long getCommittedOffset() {
+        return getCommittedOffset(consumer, TOPIC_PARTITION);
+    }
+
+    private static long getCommittedOffset(final AssigningMockConsumer consumer,
+            final TopicPartition topicPartition) {
+
+        return consumer.committedOffsets.getOrDefault(topicPartition, -1L);
+    }
+
+    private static Source plainSource() {
+        return ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .build();
+    }
+
+    private static ActorRef expectRecord(final TestKit mappingActor, final long offset) {
+        final ExternalMessage message = mappingActor.expectMsgClass(ExternalMessage.class);
+        assertThat(message.getHeaders()).containsEntry(OFFSET_HEADER, String.valueOf(offset));
+        return mappingActor.getLastSender();
+    }
+
+    @SafeVarargs
+    private static void scheduleRecords(final MockConsumer<String, byte[]> consumer,
+            final ConsumerRecord<String, byte[]>... records) {
+
+        // the partitions are assigned once the consumer actor has subscribed, which happens before its first poll
+        consumer.schedulePollTask(() -> {
+            for (final ConsumerRecord<String, byte[]> record : records) {
+                consumer.addRecord(record);
+            }
+        });
+    }
+
+    private static ConsumerRecord<String, byte[]> record(final TopicPartition topicPartition, final long offset) {
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add(new RecordHeader(OFFSET_HEADER, bytes(String.valueOf(offset))));
+        final byte[] value = bytes(TestConstants.modifyThing());
+        return new ConsumerRecord<>(topicPartition.topic(), topicPartition.partition(), offset, 0L,
+                TimestampType.CREATE_TIME, null, 0, value.length, null, value, headers);
+    }
+
+    @Override
+    protected void testHeaderMapping() {
+        testInboundMessage(header("device_id", TestConstants.Things.THING_ID), true, msg -> {
+            assertThat(msg.getDittoHeaders()).containsEntry("eclipse", "ditto");
+            assertThat(msg.getDittoHeaders()).containsEntry("thing_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("device_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("prefixed_thing_id",
+                    "some.prefix." + TestConstants.Things.THING_ID);
+            assertThat(msg.getDittoHeaders()).containsEntry("suffixed_thing_id",
+                    TestConstants.Things.THING_ID + ".some.suffix");
+        }, response -> fail("not expected"));
+    }
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Stands in for the group coordinator of the broker, which MockConsumer lacks: assigns the given partitions on
+     * subscription and reassigns them on request, notifying the rebalance listener in the thread of the consumer.
+     */
+    private static final class AssigningMockConsumer extends MockConsumer<String, byte[]> {
+
+        private final List<TopicPartition> initialAssignment;
+        // MockConsumer reports the committed offsets of partitions only while they are assigned
+        private final Map<TopicPartition, Long> committedOffsets = new ConcurrentHashMap<>();
+        private ConsumerRebalanceListener listener;
+
+        private AssigningMockConsumer(final TopicPartition... initialAssignment) {
+            super(OffsetResetStrategy.EARLIEST);
+            this.initialAssignment = Arrays.asList(initialAssignment);
+            updateBeginningOffsets(this.initialAssignment.stream()
+                    .collect(Collectors.toMap(Function.identity(), topicPartition -> 0L)));
+        }
+
+        @Override
+        public synchronized void subscribe(final Collection<String> topics, final ConsumerRebalanceListener listener) {
+            super.subscribe(topics, listener);
+            this.listener = listener;
+            rebalance(initialAssignment);
+            listener.onPartitionsAssigned(initialAssignment);
+        }
+
+        @Override
+        public synchronized void commitAsync(final Map<TopicPartition, OffsetAndMetadata> offsets,
+                final OffsetCommitCallback callback) {
+
+            offsets.forEach((topicPartition, offset) -> committedOffsets.put(topicPartition, offset.offset()));
+            super.commitAsync(offsets, callback);
+        }
+
+        /**
+         * Revoke all assigned partitions and assign the given ones. Must be called by a poll task.
+         */
+        private void reassign(final TopicPartition... newAssignment) {
+            listener.onPartitionsRevoked(assignment());
+            rebalance(Arrays.asList(newAssignment));
+            listener.onPartitionsAssigned(Arrays.asList(newAssignment));
+        }
+
+    }
+
+}
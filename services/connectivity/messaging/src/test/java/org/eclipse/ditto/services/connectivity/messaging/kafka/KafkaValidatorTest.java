@@ -77,11 +77,16 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events");
 
-        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        verifySourceIsInvalid(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events/"));
+        verifySourceIsInvalid(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "ditto/{{thing:id}}"));
     }
 
     @Test
@@ -156,4 +161,9 @@ public final class KafkaValidatorTest {
                 .isThrownBy(() -> underTest.validate(connection, DittoHeaders.empty(), actorSystem));
     }
 
+    private void verifySourceIsInvalid(final Source source) {
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+    }
+
 }
@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
@@ -50,6 +52,8 @@ public final class ProducerPropertiesFactoryTest {
     @SuppressWarnings("squid:S2068")
     private static final String PASSWORD = "pw";
     private static final String TARGET_ADDRESS = "events";
+    private static final String SOURCE_ADDRESS = "commands";
+    private static final String OTHER_SOURCE_ADDRESS = "messages";
     private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
 
     private static KafkaConfig kafkaConfig;
@@ -102,4 +106,41 @@ public final class ProducerPropertiesFactoryTest {
         );
     }
 
+    @Test
+    public void addsConsumerGroupAndFlattensConsumerProperties() {
+        final Map<String, Object> properties = underTest.getConsumerProperties(SOURCE_ADDRESS, 0);
+
+        final List<String> servers =
+                Arrays.asList(properties.get(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG).toString().split(","));
+
+        assertThat(servers).containsExactlyInAnyOrder(BOOTSTRAP_SERVERS);
+
+        // all consumers of the connection share one group and commit offsets manually
+        assertThat(properties).contains(
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.GROUP_ID_CONFIG, CONNECTION_ID.toString()),
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false),
+                new AbstractMap.SimpleEntry<>("max.poll.records", 42)
+        );
+    }
+
+    @Test
+    public void consumersShareGroupButHaveUniqueClientIds() {
+        final List<Map<String, Object>> consumerProperties = Arrays.asList(
+                underTest.getConsumerProperties(SOURCE_ADDRESS, 0),
+                underTest.getConsumerProperties(SOURCE_ADDRESS, 1),
+                underTest.getConsumerProperties(OTHER_SOURCE_ADDRESS, 0));
+
+        assertThat(consumerProperties)
+                .extracting(properties -> properties.get(ConsumerConfig.GROUP_ID_CONFIG))
+                .containsOnly(CONNECTION_ID.toString());
+        // the client ID registers the JMX beans of the consumer and must therefore be unique in the JVM
+        assertThat(consumerProperties)
+                .extracting(properties -> properties.get(CommonClientConfigs.CLIENT_ID_CONFIG))
+                .doesNotHaveDuplicates()
+                .doesNotContain(underTest.getProducerProperties().get(CommonClientConfigs.CLIENT_ID_CONFIG));
+        assertThat(consumerProperties.get(1).get(CommonClientConfigs.CLIENT_ID_CONFIG).toString())
+                .startsWith(CONNECTION_ID.toString())
+                .endsWith("-" + SOURCE_ADDRESS + "-1");
+    }
+
 }
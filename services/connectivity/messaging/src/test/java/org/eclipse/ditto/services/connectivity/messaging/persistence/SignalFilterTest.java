@@ -52,6 +52,8 @@ import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
@@ -61,6 +63,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.mockito.internal.util.collections.Sets;
 
+import com.typesafe.config.ConfigFactory;
+
 @RunWith(Parameterized.class)
 public final class SignalFilterTest {
 
@@ -182,6 +186,8 @@ public final class SignalFilterTest {
     public List<Target> expectedTargets;
 
     private final ConnectionMonitorRegistry connectionMonitorRegistry = TestConstants.Monitoring.MONITOR_REGISTRY_MOCK;
+    private final QueryFilterCriteriaCache queryFilterCriteriaCache = QueryFilterCriteriaCache.of(
+            DefaultCacheConfig.of(ConfigFactory.empty(), "query-filter-criteria-cache"), Runnable::run);
 
     @Test
     public void test() {
@@ -191,7 +197,7 @@ public final class SignalFilterTest {
                         ConnectivityStatus.OPEN,
                         URI).targets(targets).build();
 
-        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry, queryFilterCriteriaCache);
         final List<Target> filteredTargets = signalFilter.filter(signal(signalTopic, readSubjects));
         Assertions.assertThat(filteredTargets)
                 .isEqualTo(expectedTargets);
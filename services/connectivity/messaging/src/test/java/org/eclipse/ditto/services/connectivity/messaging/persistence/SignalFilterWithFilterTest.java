@@ -39,9 +39,13 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache;
 import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Tests {@link org.eclipse.ditto.services.connectivity.messaging.persistence.SignalFilter} for filtering with namespace + RQL filter.
  */
@@ -56,6 +60,8 @@ public final class SignalFilterWithFilterTest {
             ConnectivityModelFactory.newHeaderMapping(Collections.singletonMap("reply-to", "{{fn:delete()}}"));
 
     private final ConnectionMonitorRegistry connectionMonitorRegistry = TestConstants.Monitoring.MONITOR_REGISTRY_MOCK;
+    private final QueryFilterCriteriaCache queryFilterCriteriaCache = QueryFilterCriteriaCache.of(
+            DefaultCacheConfig.of(ConfigFactory.empty(), "query-filter-criteria-cache"), Runnable::run);
 
     @Test
     public void applySignalFilterWithNamespaces() {
@@ -104,7 +110,7 @@ public final class SignalFilterWithFilterTest {
                 .build();
         final ThingModified thingModified = ThingModified.of(thing, 3L, headers);
 
-        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry, queryFilterCriteriaCache);
         final List<Target> filteredTargets = signalFilter.filter(thingModified);
 
         assertThat(filteredTargets).containsOnly(targetA); // THEN: only targetA should be in the filtered targets
@@ -166,7 +172,7 @@ public final class SignalFilterWithFilterTest {
                 .build();
         final ThingModified thingModified = ThingModified.of(thing, 3L, headers);
 
-        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry, queryFilterCriteriaCache);
         final List<Target> filteredTargets = signalFilter.filter(thingModified);
 
         assertThat(filteredTargets).containsOnly(targetA); // THEN: only targetA should be in the filtered targets
@@ -242,7 +248,7 @@ public final class SignalFilterWithFilterTest {
                 .build();
         final ThingModified thingModified = ThingModified.of(thing, 3L, headers);
 
-        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry, queryFilterCriteriaCache);
         final List<Target> filteredTargets = signalFilter.filter(thingModified);
 
         assertThat(filteredTargets).containsOnly(targetA,
@@ -14,7 +14,6 @@ package org.eclipse.ditto.services.gateway.endpoints.actors;
 
 import java.nio.ByteBuffer;
 import java.time.Duration;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,7 +27,6 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonRuntimeException;
-import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
@@ -80,7 +78,6 @@ import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.model.Uri;
 import akka.http.javadsl.model.headers.Location;
-import akka.http.javadsl.model.headers.RawHeader;
 import akka.http.scaladsl.model.ContentType$;
 import akka.http.scaladsl.model.EntityStreamSizeException;
 import akka.japi.pf.ReceiveBuilder;
@@ -100,17 +97,16 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
      */
     public static final String COMPLETE_MESSAGE = "complete";
 
-    private static final akka.http.javadsl.model.ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
     private static final akka.http.javadsl.model.ContentType CONTENT_TYPE_TEXT = ContentTypes.TEXT_PLAIN_UTF8;
 
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final ActorRef proxyActor;
-    private final HeaderTranslator headerTranslator;
     private final CompletableFuture<HttpResponse> httpResponseFuture;
     private final HttpRequest httpRequest;
     private final CommandConfig commandConfig;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
+    private final HttpResponseRenderer httpResponseRenderer;
     @Nullable private Uri responseLocationUri;
 
     @Nullable private DittoHeaders incomingCommandHeaders = null;
@@ -123,10 +119,10 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             final CommandConfig commandConfig) {
 
         this.proxyActor = proxyActor;
-        this.headerTranslator = headerTranslator;
         this.httpResponseFuture = httpResponseFuture;
         this.httpRequest = request;
         this.commandConfig = commandConfig;
+        httpResponseRenderer = HttpResponseRenderer.of(headerTranslator, httpConfig);
         ackregatorStarter = AcknowledgementAggregatorActorStarter.of(getContext(),
                 HttpAcknowledgementConfig.of(httpConfig),
                 headerTranslator,
@@ -241,10 +237,6 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         }
     }
 
-    private DittoHeaders getExternalHeaders(final DittoHeaders dittoHeaders) {
-        return DittoHeaders.of(headerTranslator.toExternalAndRetainKnownHeaders(dittoHeaders));
-    }
-
     private void handleWhoami(final Whoami command) {
         logger.withCorrelationId(command).debug("Got Whoami.", command);
         final ActorContext context = getContext();
@@ -328,13 +320,14 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                             responseWithoutHeaders, commandResponse.getDittoHeaders());
 
                     final Optional<String> entityPlainStringOptional = withEntity.getEntityPlainString();
-                    final ContentType contentType = getContentType(commandResponse.getDittoHeaders());
+                    final ContentType contentType =
+                            HttpResponseRenderer.getContentType(commandResponse.getDittoHeaders());
                     final HttpResponse response;
                     if (entityPlainStringOptional.isPresent()) {
-                        response = addEntityAccordingToContentType(responseWithoutBody,
+                        response = HttpResponseRenderer.addEntityAccordingToContentType(responseWithoutBody,
                                 entityPlainStringOptional.get(), contentType);
                     } else {
-                        response = addEntityAccordingToContentType(responseWithoutBody,
+                        response = httpResponseRenderer.addEntityAccordingToContentType(responseWithoutBody,
                                 withEntity.getEntity(commandResponse.getImplementedSchemaVersion()),
                                 contentType);
                     }
@@ -448,28 +441,19 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         logger.withCorrelationId(exception)
                 .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
 
-        final HttpResponse responseWithoutHeaders = buildResponseWithoutHeadersFromDittoRuntimeException(exception);
+        final HttpResponse responseWithoutHeaders =
+                HttpResponseRenderer.buildResponseWithoutHeadersFromDittoRuntimeException(exception);
         final HttpResponse response =
                 enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders, exception.getDittoHeaders());
 
         completeWithResult(response);
     }
 
-    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
-            final DittoRuntimeException exception) {
-
-        final HttpResponse responseWithoutHeaders = HttpResponse.create().withStatus(exception.getStatusCode().toInt());
-        if (HttpStatusCode.NOT_MODIFIED.equals(exception.getStatusCode())) {
-            return responseWithoutHeaders;
-        }
-        return responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
-    }
-
     private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
             final DittoHeaders allDittoHeaders) {
 
         logger.setCorrelationId(allDittoHeaders);
-        final Map<String, String> externalHeaders = getExternalHeaders(allDittoHeaders);
+        final Map<String, String> externalHeaders = httpResponseRenderer.getExternalHeaders(allDittoHeaders);
 
         if (externalHeaders.isEmpty()) {
             logger.debug("No external headers for enhancing the response, returning it as-is.");
@@ -477,16 +461,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         }
 
         logger.debug("Enhancing response with external headers <{}>.", externalHeaders);
-        final List<HttpHeader> externalHttpHeaders = externalHeaders
-                .entrySet()
-                .stream()
-                /*
-                 * Content type is set by the entity. See response.entity().getContentType().
-                 * If we set it here this will cause a WARN log.
-                 */
-                .filter(entry -> !entry.getKey().equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey()))
-                .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
+        final List<HttpHeader> externalHttpHeaders = HttpResponseRenderer.toHttpHeaders(externalHeaders);
         logger.discardCorrelationId();
 
         return response.withHeaders(externalHttpHeaders);
@@ -518,38 +493,6 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         getContext().stop(getSelf());
     }
 
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
-            final ContentType contentType) {
-
-        final ByteString byteString;
-
-        if (contentType.isBinary()) {
-            byteString = ByteString.fromArray(Base64.getDecoder().decode(entityPlain));
-        } else {
-            byteString = ByteString.fromString(entityPlain);
-        }
-
-        return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
-    }
-
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
-            final ContentType contentType) {
-
-        final String entityString;
-
-        if (contentType.isJson()) {
-            entityString = entity.toString();
-        } else {
-            entityString = entity.asString();
-        }
-
-        return addEntityAccordingToContentType(response, entityString, contentType);
-    }
-
-    private static ContentType getContentType(final DittoHeaders dittoHeaders) {
-        return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
-    }
-
     private HttpResponse createCommandResponse(final DittoHeaders dittoHeaders, final HttpStatusCode statusCode,
             final WithOptionalEntity withOptionalEntity) {
 
@@ -565,7 +508,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         return createHttpResponseWithHeadersAndBody(statusCode, addHeaders, addBodyIfEntityExists);
     }
 
-    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
+    private UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
             final WithOptionalEntity withOptionalEntity) {
 
         return response -> {
@@ -575,7 +518,8 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion()
                     .orElse(dittoHeaders.getImplementedSchemaVersion());
             return withOptionalEntity.getEntity(schemaVersion)
-                    .map(entity -> addEntityAccordingToContentType(response, entity, getContentType(dittoHeaders)))
+                    .map(entity -> httpResponseRenderer.addEntityAccordingToContentType(response, entity,
+                            HttpResponseRenderer.getContentType(dittoHeaders)))
                     .orElse(response);
         };
     }
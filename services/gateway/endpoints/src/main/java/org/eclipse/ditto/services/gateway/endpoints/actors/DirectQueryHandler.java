@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.contenttype.ContentType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLogger;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
+
+import akka.actor.ActorRef;
+import akka.actor.Status;
+import akka.http.javadsl.model.HttpResponse;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Handles HTTP requests of simple query commands without a per-request actor.
+ * <p>
+ * A query command which requires a response, requests no acknowledgements and does not target the live channel is
+ * answered by exactly one command response of the proxy actor. For such commands this handler asks the proxy actor
+ * directly and maps the response to an HTTP response in the same way as {@link AbstractHttpRequestActor} does. This
+ * saves the creation of a top-level actor for each of these requests. All other commands are still handled by the
+ * HTTP request actor.
+ * </p>
+ */
+@Immutable
+public final class DirectQueryHandler {
+
+    private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(DirectQueryHandler.class);
+
+    private final ActorRef proxyActor;
+    private final HttpResponseRenderer httpResponseRenderer;
+    private final CommandConfig commandConfig;
+
+    private DirectQueryHandler(final ActorRef proxyActor,
+            final HttpResponseRenderer httpResponseRenderer,
+            final CommandConfig commandConfig) {
+
+        this.proxyActor = proxyActor;
+        this.httpResponseRenderer = httpResponseRenderer;
+        this.commandConfig = commandConfig;
+    }
+
+    /**
+     * Returns an instance of {@code DirectQueryHandler}.
+     *
+     * @param proxyActor the proxy actor which delegates commands.
+     * @param headerTranslator translates Ditto headers to external HTTP headers.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @param commandConfig the configuration settings for incoming commands (via HTTP requests) in the gateway.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static DirectQueryHandler of(final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig,
+            final CommandConfig commandConfig) {
+
+        checkNotNull(proxyActor, "proxyActor");
+        checkNotNull(headerTranslator, "headerTranslator");
+        checkNotNull(httpConfig, "httpConfig");
+        checkNotNull(commandConfig, "commandConfig");
+
+        return new DirectQueryHandler(proxyActor, HttpResponseRenderer.of(headerTranslator, httpConfig),
+                commandConfig);
+    }
+
+    /**
+     * Indicates whether the given message is a command which can be handled by this handler.
+     *
+     * @param message the message to be sent to the proxy actor.
+     * @return {@code true} if {@code message} is a query command which is answered by a single response.
+     */
+    public static boolean isApplicable(final Object message) {
+        if (!(message instanceof Command) || message instanceof DevOpsCommand || message instanceof Whoami) {
+            return false;
+        }
+        final Command<?> command = (Command<?>) message;
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        return Command.Category.QUERY == command.getCategory() &&
+                dittoHeaders.isResponseRequired() &&
+                dittoHeaders.getAcknowledgementRequests().isEmpty() &&
+                !dittoHeaders.getChannel().filter(TopicPath.Channel.LIVE.getName()::equals).isPresent();
+    }
+
+    /**
+     * Sends the given command to the proxy actor and maps its response to an HTTP response.
+     *
+     * @param command the command which must be {@link #isApplicable(Object) applicable}.
+     * @return a future of the HTTP response which completes normally also for errors.
+     */
+    public CompletionStage<HttpResponse> handle(final Command<?> command) {
+        final Duration timeout = command.getDittoHeaders().getTimeout().orElse(commandConfig.getDefaultTimeout());
+        LOGGER.withCorrelationId(command).debug("Got <{}>. Asking the proxy actor about it.", command.getType());
+
+        return Patterns.ask(proxyActor, command, timeout)
+                .handle((response, error) -> {
+                    if (null != error) {
+                        return handleAskFailure(command, timeout, error);
+                    }
+                    return toHttpResponse(command, response);
+                });
+    }
+
+    private HttpResponse toHttpResponse(final Command<?> command, final Object response) {
+        final HttpResponse result;
+        if (response instanceof HttpResponse) {
+            result = (HttpResponse) response;
+        } else if (response instanceof CommandResponse && response instanceof WithEntity) {
+            result = toHttpResponse((CommandResponse<?>) response, (WithEntity<?>) response);
+        } else if (response instanceof CommandResponse && response instanceof WithOptionalEntity) {
+            result = toHttpResponse((CommandResponse<?>) response, (WithOptionalEntity) response);
+        } else if (response instanceof ErrorResponse) {
+            result = toHttpResponse(((ErrorResponse<?>) response).getDittoRuntimeException());
+        } else if (response instanceof Status.Failure) {
+            result = handleFailure(command, ((Status.Failure) response).cause());
+        } else if (response instanceof JsonRuntimeException || response instanceof DittoRuntimeException) {
+            result = handleFailure(command, (Throwable) response);
+        } else {
+            LOGGER.withCorrelationId(command)
+                    .error("Got unknown message when a command response was expected: <{}>!", response);
+            result = HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        }
+        return result;
+    }
+
+    private HttpResponse toHttpResponse(final CommandResponse<?> commandResponse, final WithEntity<?> withEntity) {
+        final HttpResponse responseWithoutBody = withExternalHeaders(
+                HttpResponse.create().withStatus(commandResponse.getStatusCode().toInt()),
+                commandResponse.getDittoHeaders());
+        final ContentType contentType = HttpResponseRenderer.getContentType(commandResponse.getDittoHeaders());
+        final Optional<String> entityPlainStringOptional = withEntity.getEntityPlainString();
+        if (entityPlainStringOptional.isPresent()) {
+            return HttpResponseRenderer.addEntityAccordingToContentType(responseWithoutBody,
+                    entityPlainStringOptional.get(), contentType);
+        }
+        return httpResponseRenderer.addEntityAccordingToContentType(responseWithoutBody,
+                withEntity.getEntity(commandResponse.getImplementedSchemaVersion()), contentType);
+    }
+
+    private HttpResponse toHttpResponse(final CommandResponse<?> commandResponse,
+            final WithOptionalEntity withOptionalEntity) {
+
+        final DittoHeaders dittoHeaders = commandResponse.getDittoHeaders();
+        final HttpResponse response = withExternalHeaders(
+                HttpResponse.create().withStatus(commandResponse.getStatusCode().toInt()), dittoHeaders);
+        if (HttpStatusCode.NO_CONTENT == commandResponse.getStatusCode()) {
+            return response;
+        }
+        final JsonSchemaVersion schemaVersion =
+                dittoHeaders.getSchemaVersion().orElse(dittoHeaders.getImplementedSchemaVersion());
+        return withOptionalEntity.getEntity(schemaVersion)
+                .map(entity -> httpResponseRenderer.addEntityAccordingToContentType(response, entity,
+                        HttpResponseRenderer.getContentType(dittoHeaders)))
+                .orElse(response);
+    }
+
+    private HttpResponse toHttpResponse(final DittoRuntimeException exception) {
+        LOGGER.withCorrelationId(exception)
+                .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
+        return withExternalHeaders(HttpResponseRenderer.buildResponseWithoutHeadersFromDittoRuntimeException(exception),
+                exception.getDittoHeaders());
+    }
+
+    private HttpResponse handleAskFailure(final Command<?> command, final Duration timeout, final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                ? error.getCause()
+                : error;
+        if (cause instanceof AskTimeoutException) {
+            // the proxy actor did not answer in time; respond like the HTTP request actor on its receive timeout
+            return toHttpResponse(GatewayCommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build());
+        }
+        return handleFailure(command, cause);
+    }
+
+    private HttpResponse handleFailure(final Command<?> command, final Throwable cause) {
+        final HttpResponse result;
+        if (cause instanceof JsonRuntimeException) {
+            result = toHttpResponse(new DittoJsonException((RuntimeException) cause));
+        } else if (cause instanceof DittoRuntimeException) {
+            result = toHttpResponse((DittoRuntimeException) cause);
+        } else {
+            LOGGER.withCorrelationId(command)
+                    .error("Got <{}> when a command response was expected: <{}>!", cause.getClass().getSimpleName(),
+                            cause.getMessage());
+            result = HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        }
+        return result;
+    }
+
+    private HttpResponse withExternalHeaders(final HttpResponse response, final DittoHeaders dittoHeaders) {
+        final DittoHeaders externalHeaders = httpResponseRenderer.getExternalHeaders(dittoHeaders);
+        if (externalHeaders.isEmpty()) {
+            return response;
+        }
+        return response.withHeaders(HttpResponseRenderer.toHttpHeaders(externalHeaders));
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.contenttype.ContentType;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.utils.JsonEntityRenderer;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
+
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.util.ByteString;
+
+/**
+ * Renders the parts of HTTP responses to commands which do not depend on the state of a request, i. e. entities and
+ * external headers. It is shared by {@link AbstractHttpRequestActor} and {@link DirectQueryHandler}.
+ */
+@Immutable
+final class HttpResponseRenderer {
+
+    private static final akka.http.javadsl.model.ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
+
+    private final HeaderTranslator headerTranslator;
+    private final long chunkedResponseThreshold;
+
+    private HttpResponseRenderer(final HeaderTranslator headerTranslator, final long chunkedResponseThreshold) {
+        this.headerTranslator = headerTranslator;
+        this.chunkedResponseThreshold = chunkedResponseThreshold;
+    }
+
+    /**
+     * Returns an instance of {@code HttpResponseRenderer}.
+     *
+     * @param headerTranslator translates Ditto headers to external headers.
+     * @param httpConfig provides the threshold for chunked responses.
+     * @return the instance.
+     */
+    static HttpResponseRenderer of(final HeaderTranslator headerTranslator, final HttpConfig httpConfig) {
+        return new HttpResponseRenderer(headerTranslator, httpConfig.getChunkedResponseThreshold());
+    }
+
+    /**
+     * Returns the headers of the given Ditto headers which may be exposed to HTTP clients.
+     *
+     * @param dittoHeaders the Ditto headers.
+     * @return the external headers.
+     */
+    DittoHeaders getExternalHeaders(final DittoHeaders dittoHeaders) {
+        return DittoHeaders.of(headerTranslator.toExternalAndRetainKnownHeaders(dittoHeaders));
+    }
+
+    /**
+     * Converts the given external headers to HTTP headers. The content type is omitted as it is set by the entity.
+     *
+     * @param externalHeaders the external headers.
+     * @return the HTTP headers.
+     */
+    static List<HttpHeader> toHttpHeaders(final Map<String, String> externalHeaders) {
+        return externalHeaders
+                .entrySet()
+                .stream()
+                /*
+                 * Content type is set by the entity. See response.entity().getContentType().
+                 * If we set it here this will cause a WARN log.
+                 */
+                .filter(entry -> !entry.getKey().equalsIgnoreCase(DittoHeaderDefinition.CONTENT_TYPE.getKey()))
+                .map(entry -> RawHeader.create(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
+            final DittoRuntimeException exception) {
+
+        final HttpResponse responseWithoutHeaders = HttpResponse.create().withStatus(exception.getStatusCode().toInt());
+        if (HttpStatusCode.NOT_MODIFIED.equals(exception.getStatusCode())) {
+            return responseWithoutHeaders;
+        }
+        return responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
+    }
+
+    static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+            final ContentType contentType) {
+
+        final ByteString byteString;
+
+        if (contentType.isBinary()) {
+            byteString = ByteString.fromArray(Base64.getDecoder().decode(entityPlain));
+        } else {
+            byteString = ByteString.fromString(entityPlain);
+        }
+
+        return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
+    }
+
+    HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
+            final ContentType contentType) {
+
+        final HttpResponse result;
+
+        if (contentType.isJson()) {
+            // render the UTF-8 bytes directly instead of materializing the JSON string of the entity first
+            result = response.withEntity(JsonEntityRenderer.toResponseEntity(
+                    ContentTypes.parse(contentType.getValue()), entity, chunkedResponseThreshold));
+        } else {
+            result = addEntityAccordingToContentType(response, entity.asString(), contentType);
+        }
+
+        return result;
+    }
+
+    static ContentType getContentType(final DittoHeaders dittoHeaders) {
+        return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
+    }
+
+}
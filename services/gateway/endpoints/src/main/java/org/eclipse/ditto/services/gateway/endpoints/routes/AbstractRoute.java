@@ -38,7 +38,8 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.base.config.ThrottlingConfig;
-import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
+import org.eclipse.ditto.services.gateway.endpoints.actors.DefaultHttpRequestActorPropsFactory;
+import org.eclipse.ditto.services.gateway.endpoints.actors.DirectQueryHandler;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActorPropsFactory;
 import org.eclipse.ditto.services.gateway.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
@@ -96,6 +97,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final CommandConfig commandConfig;
     private final HeaderTranslator headerTranslator;
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    @Nullable private final DirectQueryHandler directQueryHandler;
     private final Set<String> mediaTypeJsonWithFallbacks;
     private final Attributes supervisionStrategy;
 
@@ -131,6 +133,13 @@ public abstract class AbstractRoute extends AllDirectives {
                 AkkaClassLoader.instantiate(actorSystem, HttpRequestActorPropsFactory.class,
                         httpConfig.getActorPropsFactoryFullQualifiedClassname());
 
+        // custom HTTP request actors may handle queries differently, thus they get all commands
+        if (httpRequestActorPropsFactory instanceof DefaultHttpRequestActorPropsFactory) {
+            directQueryHandler = DirectQueryHandler.of(proxyActor, headerTranslator, httpConfig, commandConfig);
+        } else {
+            directQueryHandler = null;
+        }
+
         supervisionStrategy = createSupervisionStrategy();
     }
 
@@ -249,9 +258,9 @@ public abstract class AbstractRoute extends AllDirectives {
                         return new Status.Failure(e);
                     }
                 })
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
-        );
+                .toMat(Sink.head(), Keep.right())
+        ).whenComplete((commandOrFailure, streamFailure) ->
+                dispatchCommand(ctx, commandOrFailure, streamFailure, httpResponseFuture));
 
         // optional step: transform the response entity:
         if (responseTransformFunction != null) {
@@ -287,6 +296,29 @@ public abstract class AbstractRoute extends AllDirectives {
         }
     }
 
+    /**
+     * Answers simple queries without per-request actor; everything else, including failures to read the request
+     * payload, is handled by an HTTP request actor.
+     */
+    private void dispatchCommand(final RequestContext ctx,
+            @Nullable final Object commandOrFailure,
+            @Nullable final Throwable streamFailure,
+            final CompletableFuture<HttpResponse> httpResponseFuture) {
+
+        if (null != directQueryHandler && null == streamFailure && DirectQueryHandler.isApplicable(commandOrFailure)) {
+            directQueryHandler.handle((Command<?>) commandOrFailure).whenComplete((response, error) -> {
+                if (null != error) {
+                    httpResponseFuture.completeExceptionally(error);
+                } else {
+                    httpResponseFuture.complete(response);
+                }
+            });
+        } else {
+            final Object message = null != streamFailure ? new Status.Failure(streamFailure) : commandOrFailure;
+            createHttpPerRequestActor(ctx, httpResponseFuture).tell(message, ActorRef.noSender());
+        }
+    }
+
     /**
      * Processes the {@link HttpResponse} by consuming the CompletionStage and returning another (or the same)
      * CompletionStage. May be used to modify the HttpResponse before it is sent back to client.
@@ -41,9 +41,6 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.SignalEnrichmentFailedException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
@@ -59,6 +56,7 @@ import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache;
 import org.eclipse.ditto.services.utils.search.SearchSource;
 import org.eclipse.ditto.services.utils.search.SearchSourceBuilder;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
@@ -112,7 +110,6 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
-    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ActorRef pubSubMediator;
 
     private SseAuthorizationEnforcer sseAuthorizationEnforcer;
@@ -123,12 +120,10 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
 
     private ThingsSseRouteBuilder(final ActorRef streamingActor,
             final StreamingConfig streamingConfig,
-            final QueryFilterCriteriaFactory queryFilterCriteriaFactory,
             final ActorRef pubSubMediator) {
 
         this.streamingActor = streamingActor;
         this.streamingConfig = streamingConfig;
-        this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
         this.pubSubMediator = pubSubMediator;
         sseAuthorizationEnforcer = new NoOpSseAuthorizationEnforcer();
         sseConnectionSupervisor = new NoOpSseConnectionSupervisor();
@@ -148,10 +143,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
             final StreamingConfig streamingConfig,
             final ActorRef pubSubMediator) {
         checkNotNull(streamingActor, "streamingActor");
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
-
-        return new ThingsSseRouteBuilder(streamingActor, streamingConfig, queryFilterCriteriaFactory, pubSubMediator);
+        return new ThingsSseRouteBuilder(streamingActor, streamingConfig, pubSubMediator);
     }
 
     @Override
@@ -247,7 +239,8 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                 dittoHeaders -> sseAuthorizationEnforcer.checkAuthorization(ctx, dittoHeaders).thenApply(_void -> {
                     if (filterString != null) {
                         // will throw an InvalidRqlExpressionException if the RQL expression was not valid:
-                        queryFilterCriteriaFactory.filterCriteria(filterString, dittoHeaders);
+                        QueryFilterCriteriaCache.get(ctx.getMaterializer().system())
+                                .getCriteria(filterString, dittoHeaders);
                     }
 
                     final Source<SessionedJsonifiable, SupervisedStream.WithQueue> publisherSource =
@@ -319,6 +312,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                             .options(parameters.get(PARAM_OPTION))
                             .fields(parameters.get(PARAM_FIELDS))
                             .namespaces(parameters.get(PARAM_NAMESPACES))
+                            .hydrationBatchSize(streamingConfig.getSseConfig().getSearchHydrationBatchSize())
                             .dittoHeaders(dittoHeaders);
 
                     // ctx.getRequest().getHeader(LastEventId.class) is not working
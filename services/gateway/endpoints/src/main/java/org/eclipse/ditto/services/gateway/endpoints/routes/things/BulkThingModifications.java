@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.things;
+
+import static org.eclipse.ditto.model.base.exceptions.DittoJsonException.wrapJsonRuntimeException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingTooLargeException;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLogger;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayCommandTimeoutException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.Status;
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpCharsets;
+import akka.http.javadsl.model.MediaType;
+import akka.http.javadsl.model.MediaTypes;
+import akka.http.scaladsl.model.EntityStreamSizeException;
+import akka.japi.pf.PFBuilder;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Framing;
+import akka.stream.javadsl.FramingTruncation;
+import akka.util.ByteString;
+
+/**
+ * Processes bulk requests of thing modifications.
+ * <p>
+ * A bulk request is a stream of newline delimited JSON objects. Each non-blank line is a thing including its ID and
+ * optionally {@code _policy} or {@code _copyPolicyFrom} like the body of {@code PUT /things/<thingId>}. It is sent to
+ * the proxy actor as {@link ModifyThing} which creates the thing if it does not exist yet.
+ * </p>
+ * <p>
+ * The modifications are distributed over {@code bulk-parallelism} partitions by the hash of the thing ID in the same
+ * way cluster sharding distributes things over shards. Each partition sends one modification after the other, so
+ * that modifications of the same thing are applied in the order of the request. The result of each line is emitted as
+ * a line of newline delimited JSON as soon as it is known; results of different partitions may thus be emitted in
+ * another order than the lines of the request. Reading the request is backpressured by the processing of the
+ * modifications and by the consumer of the results.
+ * </p>
+ * <p>
+ * If the request cannot be read any further, e.g. because a line or the whole request is too large, the results end
+ * with a line without index which contains the status and the error.
+ * </p>
+ */
+@Immutable
+final class BulkThingModifications {
+
+    /**
+     * Media type of newline delimited JSON which is accepted for bulk requests.
+     */
+    static final MediaType.WithFixedCharset APPLICATION_NDJSON =
+            MediaTypes.applicationWithFixedCharset("x-ndjson", HttpCharsets.UTF_8);
+
+    /**
+     * Content type of the results of bulk requests.
+     */
+    static final ContentType CONTENT_TYPE_NDJSON = ContentTypes.create(APPLICATION_NDJSON);
+
+    static final JsonFieldDefinition<Long> JSON_INDEX = JsonFactory.newLongFieldDefinition("index");
+    static final JsonFieldDefinition<String> JSON_THING_ID = JsonFactory.newStringFieldDefinition("thingId");
+    static final JsonFieldDefinition<Integer> JSON_STATUS = JsonFactory.newIntFieldDefinition("status");
+    static final JsonFieldDefinition<JsonObject> JSON_ERROR = JsonFactory.newJsonObjectFieldDefinition("error");
+
+    private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(BulkThingModifications.class);
+
+    private static final ByteString NEWLINE = ByteString.fromString("\n");
+
+    private final ActorRef proxyActor;
+    private final CommandConfig commandConfig;
+
+    private BulkThingModifications(final ActorRef proxyActor, final CommandConfig commandConfig) {
+        this.proxyActor = proxyActor;
+        this.commandConfig = commandConfig;
+    }
+
+    /**
+     * Returns an instance of {@code BulkThingModifications}.
+     *
+     * @param proxyActor the proxy actor which delegates the modify commands.
+     * @param commandConfig the configuration settings for incoming commands (via HTTP requests) in the gateway.
+     * @return the instance.
+     */
+    static BulkThingModifications of(final ActorRef proxyActor, final CommandConfig commandConfig) {
+        return new BulkThingModifications(proxyActor, commandConfig);
+    }
+
+    /**
+     * Creates the flow from the bytes of a bulk request to the bytes of its newline delimited results.
+     *
+     * @param dittoHeaders the headers of the bulk request.
+     * @return the flow.
+     */
+    Flow<ByteString, ByteString, NotUsed> createFlow(final DittoHeaders dittoHeaders) {
+        final int parallelism = commandConfig.getBulkParallelism();
+        final int maxLineLength = commandConfig.getBulkMaxLineLength();
+        final String correlationId = dittoHeaders.getCorrelationId().orElseGet(() -> UUID.randomUUID().toString());
+
+        return Framing.delimiter(NEWLINE, maxLineLength, FramingTruncation.ALLOW)
+                .map(ByteString::utf8String)
+                .zipWithIndex()
+                .filterNot(lineWithIndex -> lineWithIndex.first().trim().isEmpty())
+                .map(lineWithIndex -> BulkItem.parse(lineWithIndex.first(), lineWithIndex.second(),
+                        dittoHeaders.toBuilder().correlationId(correlationId + "-" + lineWithIndex.second())))
+                .groupBy(parallelism, item -> item.getPartition(parallelism))
+                .mapAsync(1, this::process)
+                .mergeSubstreams()
+                .map(BulkThingModifications::toLine)
+                // the request cannot be processed further after any failure of the stream; its last line tells why
+                .recover(new PFBuilder<Throwable, ByteString>()
+                        .match(Throwable.class, e -> toLine(toErrorResult(e, maxLineLength, dittoHeaders)))
+                        .build());
+    }
+
+    private static JsonObject toErrorResult(final Throwable error, final int maxLineLength,
+            final DittoHeaders dittoHeaders) {
+
+        final DittoRuntimeException exception;
+        if (error instanceof Framing.FramingException) {
+            // the request cannot be split into lines beyond a line which is too long
+            exception = ThingTooLargeException.newBuilder(maxLineLength + 1L, maxLineLength)
+                    .message(error.getMessage())
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        } else if (error instanceof EntityStreamSizeException) {
+            final long limit = ((EntityStreamSizeException) error).limit();
+            exception = ThingTooLargeException.newBuilder(limit + 1L, limit)
+                    .message("The bulk request exceeds the maximum size of <" + limit + "> bytes.")
+                    .description("Split the bulk request into smaller requests.")
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        } else if (error instanceof DittoRuntimeException) {
+            exception = ((DittoRuntimeException) error).setDittoHeaders(dittoHeaders);
+        } else {
+            LOGGER.withCorrelationId(dittoHeaders)
+                    .error("Bulk request failed with <{}>: <{}>!", error.getClass().getSimpleName(),
+                            error.getMessage());
+            exception = GatewayInternalErrorException.newBuilder()
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        return JsonObject.newBuilder()
+                .set(JSON_STATUS, exception.getStatusCode().toInt())
+                .set(JSON_ERROR, exception.toJson())
+                .build();
+    }
+
+    private CompletionStage<JsonObject> process(final BulkItem item) {
+        if (null != item.error) {
+            return CompletableFuture.completedFuture(item.toResult(item.error));
+        }
+        final ModifyThing command = item.command;
+        final Duration timeout = command.getDittoHeaders().getTimeout().orElse(commandConfig.getDefaultTimeout());
+        return Patterns.ask(proxyActor, command, timeout)
+                .handle((response, error) -> {
+                    if (null != error) {
+                        return item.toResult(toDittoRuntimeException(command, timeout, error));
+                    }
+                    return toResult(item, response);
+                });
+    }
+
+    private static JsonObject toResult(final BulkItem item, final Object response) {
+        final JsonObject result;
+        if (response instanceof ErrorResponse) {
+            result = item.toResult(((ErrorResponse<?>) response).getDittoRuntimeException());
+        } else if (response instanceof CommandResponse) {
+            result = item.toResult(((CommandResponse<?>) response).getStatusCode());
+        } else if (response instanceof Status.Failure) {
+            result = item.toResult(toDittoRuntimeException(item.command, null, ((Status.Failure) response).cause()));
+        } else if (response instanceof Throwable) {
+            result = item.toResult(toDittoRuntimeException(item.command, null, (Throwable) response));
+        } else {
+            LOGGER.withCorrelationId(item.command)
+                    .error("Got unknown message when a command response was expected: <{}>!", response);
+            result = item.toResult(GatewayInternalErrorException.newBuilder()
+                    .dittoHeaders(item.command.getDittoHeaders())
+                    .build());
+        }
+        return result;
+    }
+
+    private static DittoRuntimeException toDittoRuntimeException(final ModifyThing command,
+            @Nullable final Duration timeout, final Throwable error) {
+
+        final Throwable cause = error instanceof CompletionException && null != error.getCause()
+                ? error.getCause()
+                : error;
+        final DittoRuntimeException result;
+        if (cause instanceof AskTimeoutException && null != timeout) {
+            result = GatewayCommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build();
+        } else if (cause instanceof DittoRuntimeException) {
+            result = (DittoRuntimeException) cause;
+        } else if (cause instanceof JsonRuntimeException) {
+            result = new DittoJsonException((RuntimeException) cause, command.getDittoHeaders());
+        } else {
+            LOGGER.withCorrelationId(command)
+                    .error("Got <{}> when a command response was expected: <{}>!", cause.getClass().getSimpleName(),
+                            cause.getMessage());
+            result = GatewayInternalErrorException.newBuilder()
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build();
+        }
+        return result;
+    }
+
+    private static ByteString toLine(final JsonObject jsonObject) {
+        return ByteString.fromString(jsonObject.toString()).concat(NEWLINE);
+    }
+
+    /**
+     * A line of a bulk request parsed into a modify command or into the error why it could not be parsed.
+     */
+    private static final class BulkItem {
+
+        private final long index;
+        @Nullable private final ThingId thingId;
+        @Nullable private final ModifyThing command;
+        @Nullable private final DittoRuntimeException error;
+
+        private BulkItem(final long index, @Nullable final ThingId thingId, @Nullable final ModifyThing command,
+                @Nullable final DittoRuntimeException error) {
+
+            this.index = index;
+            this.thingId = thingId;
+            this.command = command;
+            this.error = error;
+        }
+
+        private static BulkItem parse(final String line, final long index,
+                final DittoHeadersBuilder<?, ?> headersBuilder) {
+
+            final DittoHeaders itemHeaders = headersBuilder
+                    .acknowledgementRequests(Collections.emptyList())
+                    .responseRequired(true)
+                    .build();
+            ThingId thingId = null;
+            try {
+                final JsonObject thingJson = wrapJsonRuntimeException(() -> JsonFactory.newObject(line));
+                thingId = ThingId.of(wrapJsonRuntimeException(() -> thingJson.getValueOrThrow(Thing.JsonFields.ID)));
+                final Thing thing = wrapJsonRuntimeException(() -> ThingsModelFactory.newThing(thingJson));
+                final JsonObject inlinePolicy = thingJson.getValue(Policy.INLINED_FIELD_NAME)
+                        .map(jsonValue -> wrapJsonRuntimeException(jsonValue::asObject))
+                        .orElse(null);
+                final String copyPolicyFrom = wrapJsonRuntimeException(() ->
+                        thingJson.getValue(ModifyThing.JSON_COPY_POLICY_FROM).orElse(null));
+                final ModifyThing command = ModifyThing.of(thingId, thing, inlinePolicy, copyPolicyFrom, itemHeaders);
+                return new BulkItem(index, thingId, command, null);
+            } catch (final DittoRuntimeException e) {
+                return new BulkItem(index, thingId, null, e.setDittoHeaders(itemHeaders));
+            }
+        }
+
+        /*
+         * Partitions like ShardRegionExtractor determines the shard of an entity.
+         */
+        private int getPartition(final int numberOfPartitions) {
+            if (null == thingId) {
+                return (int) (index % numberOfPartitions);
+            }
+            final int hashcode = thingId.toString().hashCode();
+            final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
+            return nonNegativeHashcode % numberOfPartitions;
+        }
+
+        private JsonObject toResult(final HttpStatusCode statusCode) {
+            return resultBuilder().set(JSON_STATUS, statusCode.toInt()).build();
+        }
+
+        private JsonObject toResult(final DittoRuntimeException exception) {
+            return resultBuilder()
+                    .set(JSON_STATUS, exception.getStatusCode().toInt())
+                    .set(JSON_ERROR, exception.toJson())
+                    .build();
+        }
+
+        private JsonObjectBuilder resultBuilder() {
+            final JsonObjectBuilder builder = JsonObject.newBuilder().set(JSON_INDEX, index);
+            if (null != thingId) {
+                builder.set(JSON_THING_ID, thingId.toString());
+            }
+            return builder;
+        }
+
+    }
+
+}
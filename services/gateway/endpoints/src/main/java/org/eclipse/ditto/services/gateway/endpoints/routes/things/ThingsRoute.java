@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -37,6 +38,7 @@ import org.eclipse.ditto.model.things.ThingDefinition;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.endpoints.utils.UriEncoding;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
@@ -67,6 +69,9 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.server.PathMatchers;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
@@ -82,9 +87,12 @@ public final class ThingsRoute extends AbstractRoute {
     private static final String PATH_ATTRIBUTES = "attributes";
     private static final String PATH_THING_DEFINITION = "definition";
     private static final String PATH_ACL = "acl";
+    private static final String PATH_BULK = "bulk";
 
     private final FeaturesRoute featuresRoute;
     private final MessagesRoute messagesRoute;
+    private final BulkThingModifications bulkThingModifications;
+    private final long bulkMaxRequestSize;
 
     /**
      * Constructs the {@code /things} route builder.
@@ -112,6 +120,8 @@ public final class ThingsRoute extends AbstractRoute {
                 claimMessageConfig, headerTranslator);
         messagesRoute = new MessagesRoute(proxyActor, actorSystem, httpConfig, commandConfig, messageConfig,
                 claimMessageConfig, headerTranslator);
+        bulkThingModifications = BulkThingModifications.of(proxyActor, commandConfig);
+        bulkMaxRequestSize = commandConfig.getBulkMaxRequestSize();
     }
 
     private static Thing createThingForPost(final String jsonString) {
@@ -172,6 +182,7 @@ public final class ThingsRoute extends AbstractRoute {
         return rawPathPrefix(PathMatchers.slash().concat(PATH_THINGS), () ->
                 concat(
                         things(ctx, dittoHeaders),
+                        thingsBulk(ctx, dittoHeaders),
                         rawPathPrefix(PathMatchers.slash().concat(PathMatchers.segment()),
                                 // /things/<thingId>
                                 thingId -> buildThingEntryRoute(ctx, dittoHeaders, ThingId.of(thingId))
@@ -220,6 +231,37 @@ public final class ThingsRoute extends AbstractRoute {
         );
     }
 
+    /*
+     * Describes {@code /things/bulk} route.
+     *
+     * @return {@code /things/bulk} route.
+     */
+    private Route thingsBulk(final RequestContext ctx, final DittoHeaders dittoHeaders) {
+        return rawPathPrefix(PathMatchers.slash().concat(PATH_BULK), () ->
+                pathEndOrSingleSlash(() ->
+                        post(() -> // POST /things/bulk
+                                ContentTypeValidationDirective.ensureValidContentType(
+                                        Collections.singleton(BulkThingModifications.APPLICATION_NDJSON.toString()),
+                                        ctx, dittoHeaders, () -> withBulkSizeLimit(() ->
+                                                extractDataBytes(payloadSource ->
+                                                        complete(HttpResponse.create()
+                                                                .withStatus(StatusCodes.OK)
+                                                                .withEntity(HttpEntities.createChunked(
+                                                                        BulkThingModifications.CONTENT_TYPE_NDJSON,
+                                                                        payloadSource.via(bulkThingModifications
+                                                                                .createFlow(dittoHeaders)))))
+                                                )
+                                        )
+                                )
+                        )
+                )
+        );
+    }
+
+    private Route withBulkSizeLimit(final Supplier<Route> inner) {
+        return bulkMaxRequestSize > 0 ? withSizeLimit(bulkMaxRequestSize, inner) : withoutSizeLimit(inner);
+    }
+
     private Route buildRetrieveThingsRoute(final RequestContext ctx, final DittoHeaders dittoHeaders) {
         return parameter(ThingsParameter.IDS.toString(), idsString ->
                 parameterOptional(ThingsParameter.FIELDS.toString(), fieldsString ->
@@ -94,9 +94,10 @@ public final class ThingSearchRoute extends AbstractRoute {
      * @return {@code /search/things/count} route.
      */
     private Route countThings(final RequestContext ctx, final DittoHeaders dittoHeaders) {
-        // GET things/count?filter=<filterString>&namespaces=<namespacesString>
+        // GET things/count?filter=<filterString>&option=<optionsString>&namespaces=<namespacesString>
         return get(() -> thingSearchParameterOptional(params -> handlePerRequest(ctx,
                 CountThings.of(calculateFilter(params.get(FILTER)),
+                        calculateOptions(params.get(OPTION)),
                         calculateNamespaces(params.get(NAMESPACES)),
                         dittoHeaders))));
     }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonValue;
+
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.ResponseEntity;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
+
+/**
+ * Renders {@link JsonValue}s directly into UTF-8 encoded {@link ByteString}s of HTTP entities.
+ * <p>
+ * In contrast to {@code ByteString.fromString(jsonValue.toString())} the JSON string of the whole value is never
+ * materialized. Objects and arrays are traversed and their members are encoded one after another. Values whose
+ * serialized size exceeds a threshold are emitted as chunked entity so that their bytes are produced only when the
+ * client consumes them.
+ * </p>
+ */
+@Immutable
+public final class JsonEntityRenderer {
+
+    private JsonEntityRenderer() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Renders the given JSON value into a response entity. If the serialized value is not larger than
+     * {@code chunkedThreshold} bytes, a strict entity is returned. Otherwise a chunked entity is returned whose chunks
+     * have about {@code chunkedThreshold} bytes each and are rendered on demand.
+     *
+     * @param contentType the content type of the entity.
+     * @param jsonValue the JSON value to be rendered.
+     * @param chunkedThreshold the size in bytes from which on the entity is chunked.
+     * @return the response entity.
+     * @throws NullPointerException if {@code contentType} or {@code jsonValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code chunkedThreshold} is not positive.
+     */
+    public static ResponseEntity toResponseEntity(final ContentType contentType, final JsonValue jsonValue,
+            final long chunkedThreshold) {
+
+        checkNotNull(contentType, "contentType");
+        checkNotNull(jsonValue, "jsonValue");
+        checkArgument(chunkedThreshold, threshold -> 0 < threshold,
+                () -> "The chunked threshold must be positive!");
+
+        final int chunkSize = (int) Math.min(chunkedThreshold, Integer.MAX_VALUE);
+        final ChunkIterator chunkIterator = new ChunkIterator(jsonValue, chunkSize);
+        final ByteString firstChunk = chunkIterator.next();
+        if (!chunkIterator.hasNext()) {
+            return HttpEntities.create(contentType, firstChunk);
+        }
+
+        // the chunks are rendered lazily as the entity is consumed by the client; each materialization renders all
+        // chunks from the start so that the entity may be consumed more than once
+        return HttpEntities.createChunked(contentType,
+                Source.fromIterator(() -> new ChunkIterator(jsonValue, chunkSize)));
+    }
+
+    /**
+     * Renders the given JSON value into a single UTF-8 encoded byte string.
+     *
+     * @param jsonValue the JSON value to be rendered.
+     * @return the byte string which is equal to the UTF-8 encoded {@code jsonValue.toString()}.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     */
+    public static ByteString toByteString(final JsonValue jsonValue) {
+        checkNotNull(jsonValue, "jsonValue");
+        return new ChunkIterator(jsonValue, Integer.MAX_VALUE).next();
+    }
+
+    /**
+     * Traverses a JSON value depth-first and encodes it in chunks. A chunk is completed as soon as it reached the
+     * configured size after writing a member of an object or an array; thus chunks may be larger than this size by
+     * the length of a single primitive member.
+     */
+    @NotThreadSafe
+    private static final class ChunkIterator implements Iterator<ByteString> {
+
+        private static final byte COMMA = ',';
+        private static final byte COLON = ':';
+
+        private final int chunkSize;
+        private final Deque<Level> openLevels;
+        @Nullable private JsonValue rootValue;
+
+        private ChunkIterator(final JsonValue rootValue, final int chunkSize) {
+            this.chunkSize = chunkSize;
+            this.rootValue = rootValue;
+            openLevels = new ArrayDeque<>();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != rootValue || !openLevels.isEmpty();
+        }
+
+        @Override
+        public ByteString next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ByteStringBuilder chunkBuilder = ByteString.createBuilder();
+            if (null != rootValue) {
+                writeValue(rootValue, chunkBuilder);
+                rootValue = null;
+            }
+            while (!openLevels.isEmpty() && chunkBuilder.length() < chunkSize) {
+                writeNextMember(chunkBuilder);
+            }
+            return chunkBuilder.result();
+        }
+
+        private void writeNextMember(final ByteStringBuilder chunkBuilder) {
+            final Level currentLevel = openLevels.element();
+            if (currentLevel.members.hasNext()) {
+                if (currentLevel.isFirstMember) {
+                    currentLevel.isFirstMember = false;
+                } else {
+                    chunkBuilder.putByte(COMMA);
+                }
+                final Object member = currentLevel.members.next();
+                if (member instanceof JsonField) {
+                    final JsonField jsonField = (JsonField) member;
+                    writeString(JsonValue.of(jsonField.getKeyName()).toString(), chunkBuilder);
+                    chunkBuilder.putByte(COLON);
+                    writeValue(jsonField.getValue(), chunkBuilder);
+                } else {
+                    writeValue((JsonValue) member, chunkBuilder);
+                }
+            } else {
+                openLevels.pop();
+                chunkBuilder.putByte(currentLevel.closingCharacter);
+            }
+        }
+
+        private void writeValue(final JsonValue jsonValue, final ByteStringBuilder chunkBuilder) {
+            if (jsonValue.isNull()) {
+                writeString(jsonValue.toString(), chunkBuilder);
+            } else if (jsonValue.isObject()) {
+                chunkBuilder.putByte((byte) '{');
+                openLevels.push(new Level(jsonValue.asObject().iterator(), (byte) '}'));
+            } else if (jsonValue.isArray()) {
+                chunkBuilder.putByte((byte) '[');
+                openLevels.push(new Level(jsonValue.asArray().iterator(), (byte) ']'));
+            } else {
+                writeString(jsonValue.toString(), chunkBuilder);
+            }
+        }
+
+        private static void writeString(final String s, final ByteStringBuilder chunkBuilder) {
+            chunkBuilder.putBytes(s.getBytes(StandardCharsets.UTF_8));
+        }
+
+    }
+
+    @NotThreadSafe
+    private static final class Level {
+
+        private final Iterator<?> members;
+        private final byte closingCharacter;
+        private boolean isFirstMember;
+
+        private Level(final Iterator<?> members, final byte closingCharacter) {
+            this.members = members;
+            this.closingCharacter = closingCharacter;
+            isFirstMember = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Test;
+
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpResponse;
+import akka.stream.SystemMaterializer;
+import akka.testkit.TestProbe;
+
+/**
+ * Unit test for {@link DirectQueryHandler}.
+ */
+public final class DirectQueryHandlerTest extends AbstractHttpRequestActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:direct-query");
+
+    @Test
+    public void onlySimpleQueriesAreApplicable() {
+        final DittoHeaders dittoHeaders = createDittoHeaders();
+
+        assertThat(DirectQueryHandler.isApplicable(RetrieveThing.of(THING_ID, dittoHeaders))).isTrue();
+        assertThat(DirectQueryHandler.isApplicable(RetrieveThing.of(THING_ID,
+                dittoHeaders.toBuilder().channel("live").build()))).isFalse();
+        assertThat(DirectQueryHandler.isApplicable(RetrieveThing.of(THING_ID,
+                dittoHeaders.toBuilder().responseRequired(false).build()))).isFalse();
+        assertThat(DirectQueryHandler.isApplicable(RetrieveThing.of(THING_ID, dittoHeaders.toBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build()))).isFalse();
+        assertThat(DirectQueryHandler.isApplicable(ModifyAttribute.of(THING_ID, JsonPointer.of("foo"),
+                JsonValue.of(42), dittoHeaders))).isFalse();
+        assertThat(DirectQueryHandler.isApplicable(Whoami.of(dittoHeaders))).isFalse();
+        assertThat(DirectQueryHandler.isApplicable("retrieve")).isFalse();
+    }
+
+    @Test
+    public void responseIsRenderedWithoutPerRequestActor() {
+        final TestProbe proxyActorProbe = TestProbe.apply(system);
+        final DirectQueryHandler underTest = createDirectQueryHandler(proxyActorProbe);
+        final DittoHeaders dittoHeaders = createDittoHeaders();
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, dittoHeaders);
+        final JsonObject thingJson = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+
+        final CompletableFuture<HttpResponse> responseFuture =
+                underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(RetrieveThingResponse.of(THING_ID, thingJson, dittoHeaders));
+
+        final HttpResponse response = responseFuture.join();
+        assertThat(response.status().intValue()).isEqualTo(HttpStatusCode.OK.toInt());
+        assertThat(response.getHeader("correlation-id").map(HttpHeader::value))
+                .contains(dittoHeaders.getCorrelationId().orElseThrow());
+        assertThat(JsonObject.of(getBody(response))).isEqualTo(thingJson);
+    }
+
+    @Test
+    public void errorIsRenderedWithItsStatusCode() {
+        final TestProbe proxyActorProbe = TestProbe.apply(system);
+        final DirectQueryHandler underTest = createDirectQueryHandler(proxyActorProbe);
+        final DittoHeaders dittoHeaders = createDittoHeaders();
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, dittoHeaders);
+
+        final CompletableFuture<HttpResponse> responseFuture =
+                underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(ThingNotAccessibleException.newBuilder(THING_ID).dittoHeaders(dittoHeaders).build());
+
+        final HttpResponse response = responseFuture.join();
+        assertThat(response.status().intValue()).isEqualTo(HttpStatusCode.NOT_FOUND.toInt());
+        assertThat(JsonObject.of(getBody(response)).getValue("error"))
+                .contains(JsonValue.of(ThingNotAccessibleException.ERROR_CODE));
+    }
+
+    @Test
+    public void missingResponseResultsInCommandTimeout() {
+        final TestProbe proxyActorProbe = TestProbe.apply(system);
+        final DirectQueryHandler underTest = createDirectQueryHandler(proxyActorProbe);
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, createDittoHeaders().toBuilder()
+                .timeout(Duration.ofMillis(200))
+                .build());
+
+        final HttpResponse response = underTest.handle(retrieveThing).toCompletableFuture().join();
+
+        assertThat(response.status().intValue()).isEqualTo(HttpStatusCode.REQUEST_TIMEOUT.toInt());
+    }
+
+    private static DirectQueryHandler createDirectQueryHandler(final TestProbe proxyActorProbe) {
+        return DirectQueryHandler.of(proxyActorProbe.ref(), HEADER_TRANSLATOR, gatewayConfig.getHttpConfig(),
+                gatewayConfig.getCommandConfig());
+    }
+
+    private static DittoHeaders createDittoHeaders() {
+        return DittoHeaders.newBuilder()
+                .correlationId(UUID.randomUUID().toString())
+                .responseRequired(true)
+                .build();
+    }
+
+    private static String getBody(final HttpResponse response) {
+        return response.entity()
+                .toStrict(1000L, SystemMaterializer.get(system).materializer())
+                .toCompletableFuture()
+                .join()
+                .getData()
+                .utf8String();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import akka.actor.ActorRef;
+import akka.http.javadsl.model.HttpResponse;
+
+/**
+ * JMH Benchmark comparing the throughput of a retrieve query handled by a per-request {@link HttpRequestActor} with
+ * the same query answered by {@link org.eclipse.ditto.services.gateway.endpoints.actors.DirectQueryHandler}.
+ * Run it with {@code -t <number of cores>} to get the requests per second of a gateway.
+ */
+@State(Scope.Benchmark)
+public class HttpQueryDispatchBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public HttpResponse perRequestActor(final HttpQueryDispatchState state) {
+        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+        final ActorRef httpRequestActor = state.system.actorOf(HttpRequestActor.props(state.proxyActor,
+                HttpQueryDispatchState.HEADER_TRANSLATOR, state.httpRequest, httpResponseFuture,
+                state.gatewayConfig.getHttpConfig(), state.gatewayConfig.getCommandConfig()));
+        httpRequestActor.tell(state.retrieveThing, ActorRef.noSender());
+        return httpResponseFuture.join();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public HttpResponse directQuery(final HttpQueryDispatchState state) {
+        return state.directQueryHandler.handle(state.retrieveThing).toCompletableFuture().join();
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.http.javadsl.model.HttpResponse;
+
+/**
+ * Simple Test executing the benchmark scenarios of {@link HttpQueryDispatchBenchmark} and verifying that both ways of
+ * handling a query yield equal responses.
+ */
+public final class HttpQueryDispatchBenchmarkTest {
+
+    private HttpQueryDispatchState state;
+
+    @Before
+    public void setUp() {
+        state = new HttpQueryDispatchState();
+        state.setUp();
+    }
+
+    @After
+    public void tearDown() {
+        state.tearDown();
+    }
+
+    @Test
+    public void bothWaysYieldEqualResponses() {
+        final HttpQueryDispatchBenchmark underTest = new HttpQueryDispatchBenchmark();
+
+        final HttpResponse perRequestActorResponse = underTest.perRequestActor(state);
+        final HttpResponse directQueryResponse = underTest.directQuery(state);
+
+        assertThat(directQueryResponse.status()).isEqualTo(perRequestActorResponse.status());
+        assertThat(directQueryResponse.entity()).isEqualTo(perRequestActorResponse.entity());
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.benchmark;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.messages.MessageHeaderDefinition;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.actors.DirectQueryHandler;
+import org.eclipse.ditto.services.gateway.util.config.DittoGatewayConfig;
+import org.eclipse.ditto.services.gateway.util.config.GatewayConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.http.javadsl.model.HttpRequest;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * State of {@link HttpQueryDispatchBenchmark}: an actor system with a proxy actor which answers each
+ * {@code RetrieveThing} immediately, so that only the overhead of the gateway's request handling is measured.
+ */
+@State(Scope.Benchmark)
+public class HttpQueryDispatchState {
+
+    static final HeaderTranslator HEADER_TRANSLATOR = HeaderTranslator.of(DittoHeaderDefinition.values(),
+            MessageHeaderDefinition.values());
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:benchmark");
+
+    ActorSystem system;
+    GatewayConfig gatewayConfig;
+    ActorRef proxyActor;
+    DirectQueryHandler directQueryHandler;
+    HttpRequest httpRequest;
+    RetrieveThing retrieveThing;
+
+    @Setup
+    public void setUp() {
+        system = ActorSystem.create("benchmark");
+        gatewayConfig = DittoGatewayConfig.of(DefaultScopedConfig.dittoScoped(ConfigFactory.load("test.conf")));
+        proxyActor = system.actorOf(Props.create(RetrieveThingAnsweringActor.class));
+        directQueryHandler = DirectQueryHandler.of(proxyActor, HEADER_TRANSLATOR, gatewayConfig.getHttpConfig(),
+                gatewayConfig.getCommandConfig());
+        httpRequest = HttpRequest.GET("/api/2/things/" + THING_ID);
+        retrieveThing = RetrieveThing.of(THING_ID, DittoHeaders.newBuilder()
+                .correlationId("benchmark")
+                .responseRequired(true)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    private static final class RetrieveThingAnsweringActor extends AbstractActor {
+
+        private final JsonObject thingJson = JsonObject.newBuilder()
+                .set("thingId", THING_ID.toString())
+                .set("attributes", JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                .build();
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(RetrieveThing.class, retrieveThing -> getSender().tell(
+                            RetrieveThingResponse.of(retrieveThing.getThingEntityId(), thingJson,
+                                    retrieveThing.getDittoHeaders()), getSelf()))
+                    .build();
+        }
+
+    }
+
+}
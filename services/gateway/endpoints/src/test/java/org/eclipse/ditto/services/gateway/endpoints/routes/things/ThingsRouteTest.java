@@ -14,8 +14,14 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.things;
 
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestConstants;
@@ -186,4 +192,67 @@ public final class ThingsRouteTest extends EndpointTestBase {
         result.assertStatusCode(StatusCodes.BAD_REQUEST);
     }
 
+    @Test
+    public void postBulkThingModificationsRespondsWithResultPerLine() {
+        final String body = "{\"thingId\":\"org.eclipse.ditto:a\",\"attributes\":{\"foo\":1}}\n" +
+                "\n" +
+                "{\"thingId\":\"org.eclipse.ditto:b\"}\n" +
+                "{\"attributes\":{\"foo\":2}}\n" +
+                "{invalid";
+        final HttpRequest request = HttpRequest.POST("/things/bulk")
+                .withEntity(HttpEntities.create(BulkThingModifications.CONTENT_TYPE_NDJSON, body));
+        final TestRouteResult result = underTest.run(request);
+        result.assertStatusCode(StatusCodes.OK);
+
+        final List<JsonObject> results = Arrays.stream(result.entityString().split("\n"))
+                .map(JsonObject::of)
+                .sorted(Comparator.comparing(line -> line.getValueOrThrow(BulkThingModifications.JSON_INDEX)))
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).contains(BulkThingModifications.JSON_INDEX, JsonValue.of(0));
+        assertThat(results.get(0)).contains(BulkThingModifications.JSON_THING_ID, "org.eclipse.ditto:a");
+        assertThat(results.get(0)).contains(BulkThingModifications.JSON_STATUS,
+                JsonValue.of(EndpointTestConstants.DUMMY_COMMAND_SUCCESS.intValue()));
+        assertThat(results.get(1)).contains(BulkThingModifications.JSON_INDEX, JsonValue.of(2));
+        assertThat(results.get(1)).contains(BulkThingModifications.JSON_THING_ID, "org.eclipse.ditto:b");
+        assertThat(results.get(2)).contains(BulkThingModifications.JSON_INDEX, JsonValue.of(3));
+        assertThat(results.get(2)).contains(BulkThingModifications.JSON_STATUS,
+                JsonValue.of(StatusCodes.BAD_REQUEST.intValue()));
+        assertThat(results.get(3)).contains(BulkThingModifications.JSON_INDEX, JsonValue.of(4));
+        assertThat(results.get(3)).contains(BulkThingModifications.JSON_STATUS,
+                JsonValue.of(StatusCodes.BAD_REQUEST.intValue()));
+    }
+
+    @Test
+    public void postBulkThingModificationsWithMistypedCopyPolicyFromFailsOnlyThatLine() {
+        final String body = "{\"thingId\":\"org.eclipse.ditto:a\",\"_copyPolicyFrom\":42}\n" +
+                "{\"thingId\":\"org.eclipse.ditto:b\"}\n";
+        final HttpRequest request = HttpRequest.POST("/things/bulk")
+                .withEntity(HttpEntities.create(BulkThingModifications.CONTENT_TYPE_NDJSON, body));
+        final TestRouteResult result = underTest.run(request);
+        result.assertStatusCode(StatusCodes.OK);
+
+        final List<JsonObject> results = Arrays.stream(result.entityString().split("\n"))
+                .map(JsonObject::of)
+                .sorted(Comparator.comparing(line -> line.getValueOrThrow(BulkThingModifications.JSON_INDEX)))
+                .collect(Collectors.toList());
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).contains(BulkThingModifications.JSON_INDEX, JsonValue.of(0));
+        assertThat(results.get(0)).contains(BulkThingModifications.JSON_STATUS,
+                JsonValue.of(StatusCodes.BAD_REQUEST.intValue()));
+        assertThat(results.get(1)).contains(BulkThingModifications.JSON_INDEX, JsonValue.of(1));
+        assertThat(results.get(1)).contains(BulkThingModifications.JSON_STATUS,
+                JsonValue.of(EndpointTestConstants.DUMMY_COMMAND_SUCCESS.intValue()));
+    }
+
+    @Test
+    public void postBulkThingModificationsWithJsonContentTypeIsRejected() {
+        final HttpRequest request = HttpRequest.POST("/things/bulk")
+                .withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, "{}"));
+        final TestRouteResult result = underTest.run(request);
+        result.assertStatusCode(StatusCodes.UNSUPPORTED_MEDIA_TYPE);
+    }
+
 }
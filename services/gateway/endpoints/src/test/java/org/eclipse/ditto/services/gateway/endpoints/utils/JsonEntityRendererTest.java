@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.ResponseEntity;
+import akka.stream.SystemMaterializer;
+import akka.testkit.javadsl.TestKit;
+import akka.util.ByteString;
+
+/**
+ * Unit test for {@link JsonEntityRenderer}.
+ */
+public final class JsonEntityRendererTest {
+
+    private static final List<JsonValue> JSON_VALUES = Arrays.asList(
+            JsonObject.empty(),
+            JsonArray.empty(),
+            JsonFactory.nullLiteral(),
+            JsonFactory.nullObject(),
+            JsonValue.of("héllo \"w€rld\"\n"),
+            JsonValue.of(42),
+            JsonValue.of(1.5),
+            JsonObject.of("{\"thingId\":\"org.eclipse.ditto:ä\",\"attributes\":{\"a\\\"b\":[1,{\"c\":null},[]]," +
+                    "\"empty\":{}},\"features\":{\"f\":{\"properties\":{\"x\":true}}}}")
+    );
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void beforeClass() {
+        system = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        if (null != system) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(JsonEntityRenderer.class, areImmutable());
+    }
+
+    @Test
+    public void byteStringIsEqualToEncodedStringRepresentation() {
+        for (final JsonValue jsonValue : JSON_VALUES) {
+            assertThat(JsonEntityRenderer.toByteString(jsonValue))
+                    .as(jsonValue.toString())
+                    .isEqualTo(ByteString.fromString(jsonValue.toString()));
+        }
+    }
+
+    @Test
+    public void smallValueIsRenderedAsStrictEntity() {
+        for (final JsonValue jsonValue : JSON_VALUES) {
+            final ResponseEntity entity =
+                    JsonEntityRenderer.toResponseEntity(ContentTypes.APPLICATION_JSON, jsonValue, 1024);
+
+            assertThat(entity).isInstanceOf(HttpEntity.Strict.class);
+            assertThat(((HttpEntity.Strict) entity).getData()).isEqualTo(ByteString.fromString(jsonValue.toString()));
+        }
+    }
+
+    @Test
+    public void largeValueIsRenderedAsChunkedEntity() {
+        for (final JsonValue jsonValue : JSON_VALUES) {
+            final ResponseEntity entity =
+                    JsonEntityRenderer.toResponseEntity(ContentTypes.APPLICATION_JSON, jsonValue, 1);
+
+            if (jsonValue.isObject() && !jsonValue.isNull() && !jsonValue.asObject().isEmpty()) {
+                assertThat(entity.isChunked()).as(jsonValue.toString()).isTrue();
+            }
+            assertThat(entity.getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+            assertThat(toStrictData(entity)).as(jsonValue.toString())
+                    .isEqualTo(ByteString.fromString(jsonValue.toString()));
+        }
+    }
+
+    @Test
+    public void chunkedEntityCanBeConsumedRepeatedly() {
+        final JsonValue jsonValue = JSON_VALUES.get(JSON_VALUES.size() - 1);
+        final ResponseEntity entity = JsonEntityRenderer.toResponseEntity(ContentTypes.APPLICATION_JSON, jsonValue, 1);
+
+        assertThat(entity.isChunked()).isTrue();
+        assertThat(toStrictData(entity)).isEqualTo(ByteString.fromString(jsonValue.toString()));
+        assertThat(toStrictData(entity)).isEqualTo(ByteString.fromString(jsonValue.toString()));
+    }
+
+    private static ByteString toStrictData(final ResponseEntity entity) {
+        return entity.toStrict(10_000L, SystemMaterializer.get(system).materializer())
+                .toCompletableFuture()
+                .join()
+                .getData();
+    }
+
+}
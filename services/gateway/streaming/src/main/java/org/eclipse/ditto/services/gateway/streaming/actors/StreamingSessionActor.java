@@ -38,12 +38,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -64,6 +59,7 @@ import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache;
 import org.eclipse.ditto.services.utils.search.SubscriptionManager;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
@@ -112,6 +108,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
     private final Set<AcknowledgementLabel> declaredAcks;
+    private final QueryFilterCriteriaCache queryFilterCriteriaCache;
     private final ThreadSafeDittoLoggingAdapter logger;
 
     @Nullable private Cancellable sessionTerminationCancellable;
@@ -152,6 +149,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         );
         this.subscriptionManager = getContext().actorOf(subscriptionManagerProps, SubscriptionManager.ACTOR_NAME);
         declaredAcks = connect.getDeclaredAcknowledgementLabels();
+        queryFilterCriteriaCache = QueryFilterCriteriaCache.get(getContext().getSystem());
     }
 
     /**
@@ -271,10 +269,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return ReceiveBuilder.create()
                 .match(StartStreaming.class, startStreaming -> {
                     authorizationContext = startStreaming.getAuthorizationContext();
-                    Criteria criteria;
+                    CompiledThingPredicate eventFilter;
                     try {
-                        criteria = startStreaming.getFilter()
-                                .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
+                        eventFilter = startStreaming.getFilter()
+                                .map(f -> compileFilter(f, DittoHeaders.newBuilder()
                                         .correlationId(startStreaming.getConnectionCorrelationId())
                                         .build()))
                                 .orElse(null);
@@ -284,7 +282,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         eventAndResponsePublisher.offer(SessionedJsonifiable.error(e));
                         return;
                     }
-                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
+                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), eventFilter,
                             startStreaming.getExtraFields().orElse(null), self());
                     streamingSessions.put(startStreaming.getStreamingType(), session);
 
@@ -636,14 +634,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+    private CompiledThingPredicate compileFilter(final String filter, final DittoHeaders dittoHeaders) {
+        return queryFilterCriteriaCache.getPredicate(filter, dittoHeaders);
     }
 
     private void confirmSubscription(final StreamingType streamingType) {
@@ -38,6 +38,31 @@ public interface CommandConfig {
      */
     Duration getMaxTimeout();
 
+    /**
+     * Returns how many thing modifications of a bulk request are processed in parallel.
+     *
+     * @return the parallelism of bulk requests.
+     * @since 1.5.0
+     */
+    int getBulkParallelism();
+
+    /**
+     * Returns the maximum length in bytes of a single line of a bulk request.
+     *
+     * @return the maximum line length.
+     * @since 1.5.0
+     */
+    int getBulkMaxLineLength();
+
+    /**
+     * Returns the maximum size in bytes of the body of a bulk request. It replaces the maximum content length of
+     * ordinary requests for bulk requests. Zero or a negative value means that the size is not limited.
+     *
+     * @return the maximum request size.
+     * @since 1.5.0
+     */
+    long getBulkMaxRequestSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CommandConfig}.
@@ -52,7 +77,22 @@ public interface CommandConfig {
         /**
          * The maximum possible timeout of requested command.
          */
-        MAX_TIMEOUT("max-timeout", "1m");
+        MAX_TIMEOUT("max-timeout", "1m"),
+
+        /**
+         * How many thing modifications of a bulk request are processed in parallel.
+         */
+        BULK_PARALLELISM("bulk-parallelism", 16),
+
+        /**
+         * The maximum length in bytes of a single line of a bulk request.
+         */
+        BULK_MAX_LINE_LENGTH("bulk-max-line-length", 131_072L),
+
+        /**
+         * The maximum size in bytes of the body of a bulk request.
+         */
+        BULK_MAX_REQUEST_SIZE("bulk-max-request-size", 1_073_741_824L);
 
         private final String path;
         private final Object defaultValue;
@@ -34,10 +34,17 @@ public final class DefaultCommandConfig implements CommandConfig {
 
     private final Duration defaultTimeout;
     private final Duration maxTimeout;
+    private final int bulkParallelism;
+    private final int bulkMaxLineLength;
+    private final long bulkMaxRequestSize;
 
     private DefaultCommandConfig(final ScopedConfig scopedConfig) {
         defaultTimeout = scopedConfig.getDuration(CommandConfigValue.DEFAULT_TIMEOUT.getConfigPath());
         maxTimeout = scopedConfig.getDuration(CommandConfigValue.MAX_TIMEOUT.getConfigPath());
+        bulkParallelism = scopedConfig.getInt(CommandConfigValue.BULK_PARALLELISM.getConfigPath());
+        bulkMaxLineLength =
+                Math.toIntExact(scopedConfig.getBytes(CommandConfigValue.BULK_MAX_LINE_LENGTH.getConfigPath()));
+        bulkMaxRequestSize = scopedConfig.getBytes(CommandConfigValue.BULK_MAX_REQUEST_SIZE.getConfigPath());
     }
 
     /**
@@ -62,6 +69,21 @@ public final class DefaultCommandConfig implements CommandConfig {
         return maxTimeout;
     }
 
+    @Override
+    public int getBulkParallelism() {
+        return bulkParallelism;
+    }
+
+    @Override
+    public int getBulkMaxLineLength() {
+        return bulkMaxLineLength;
+    }
+
+    @Override
+    public long getBulkMaxRequestSize() {
+        return bulkMaxRequestSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -71,12 +93,16 @@ public final class DefaultCommandConfig implements CommandConfig {
             return false;
         }
         final DefaultCommandConfig that = (DefaultCommandConfig) o;
-        return Objects.equals(defaultTimeout, that.defaultTimeout) && Objects.equals(maxTimeout, that.maxTimeout);
+        return bulkParallelism == that.bulkParallelism &&
+                bulkMaxLineLength == that.bulkMaxLineLength &&
+                bulkMaxRequestSize == that.bulkMaxRequestSize &&
+                Objects.equals(defaultTimeout, that.defaultTimeout) &&
+                Objects.equals(maxTimeout, that.maxTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(defaultTimeout, maxTimeout);
+        return Objects.hash(defaultTimeout, maxTimeout, bulkParallelism, bulkMaxLineLength, bulkMaxRequestSize);
     }
 
     @Override
@@ -84,6 +110,9 @@ public final class DefaultCommandConfig implements CommandConfig {
         return getClass().getSimpleName() + " [" +
                 "defaultTimeout=" + defaultTimeout +
                 ", maxTimeout=" + maxTimeout +
+                ", bulkParallelism=" + bulkParallelism +
+                ", bulkMaxLineLength=" + bulkMaxLineLength +
+                ", bulkMaxRequestSize=" + bulkMaxRequestSize +
                 "]";
     }
 
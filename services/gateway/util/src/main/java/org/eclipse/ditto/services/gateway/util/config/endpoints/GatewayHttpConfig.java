@@ -53,6 +53,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final String actorPropsFactoryFullQualifiedClassname;
     private final Set<HeaderDefinition> queryParamsAsHeaders;
     private final Set<String> additionalAcceptedMediaTypes;
+    private final long chunkedResponseThreshold;
     private final Duration coordinatedShutdownTimeout;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig) {
@@ -71,6 +72,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         additionalAcceptedMediaTypes =
                 Set.of(scopedConfig.getString(GatewayHttpConfigValue.ADDITIONAL_ACCEPTED_MEDIA_TYPES.getConfigPath())
                         .split(","));
+        chunkedResponseThreshold =
+                scopedConfig.getBytes(GatewayHttpConfigValue.CHUNKED_RESPONSE_THRESHOLD.getConfigPath());
     }
 
     private static Set<JsonSchemaVersion> getJsonSchemaVersions(final Config httpScopedConfig) {
@@ -209,6 +212,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         return additionalAcceptedMediaTypes;
     }
 
+    @Override
+    public long getChunkedResponseThreshold() {
+        return chunkedResponseThreshold;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -230,14 +238,15 @@ public final class GatewayHttpConfig implements HttpConfig {
                 requestTimeout.equals(that.requestTimeout) &&
                 actorPropsFactoryFullQualifiedClassname.equals(that.actorPropsFactoryFullQualifiedClassname) &&
                 queryParamsAsHeaders.equals(that.queryParamsAsHeaders) &&
-                additionalAcceptedMediaTypes.equals(that.additionalAcceptedMediaTypes);
+                additionalAcceptedMediaTypes.equals(that.additionalAcceptedMediaTypes) &&
+                chunkedResponseThreshold == that.chunkedResponseThreshold;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(hostname, port, coordinatedShutdownTimeout, schemaVersions, forceHttps, redirectToHttps,
                 redirectToHttpsBlocklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname,
-                queryParamsAsHeaders, additionalAcceptedMediaTypes);
+                queryParamsAsHeaders, additionalAcceptedMediaTypes, chunkedResponseThreshold);
     }
 
     @Override
@@ -255,6 +264,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
                 ", queryParamsAsHeaders=" + queryParamsAsHeaders +
                 ", additionalAcceptedMediaTypes=" + additionalAcceptedMediaTypes +
+                ", chunkedResponseThreshold=" + chunkedResponseThreshold +
                 "]";
     }
 
@@ -103,6 +103,15 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     Set<String> getAdditionalAcceptedMediaTypes();
 
+    /**
+     * Returns the serialized size in bytes from which on JSON responses are sent as chunked entity instead of a strict
+     * entity.
+     *
+     * @return the size threshold for chunked responses.
+     * @since 1.5.0
+     */
+    long getChunkedResponseThreshold();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -168,7 +177,14 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
          *
          * @since 1.1.0
          */
-        ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types", MediaTypes.APPLICATION_OCTET_STREAM.toString());
+        ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types", MediaTypes.APPLICATION_OCTET_STREAM.toString()),
+
+        /**
+         * The serialized size in bytes from which on JSON responses are streamed as chunked entity.
+         *
+         * @since 1.5.0
+         */
+        CHUNKED_RESPONSE_THRESHOLD("chunked-response-threshold", 262_144L);
 
         private final String path;
         private final Object defaultValue;
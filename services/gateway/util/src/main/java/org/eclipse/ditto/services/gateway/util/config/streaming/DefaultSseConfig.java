@@ -18,7 +18,6 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.ThrottlingConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
-import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -30,9 +29,12 @@ import com.typesafe.config.Config;
 final class DefaultSseConfig implements SseConfig {
 
     private final ThrottlingConfig throttlingConfig;
+    private final int searchHydrationBatchSize;
 
     private DefaultSseConfig(final ScopedConfig scopedConfig) {
         throttlingConfig = ThrottlingConfig.of(scopedConfig);
+        searchHydrationBatchSize =
+                scopedConfig.getPositiveIntOrThrow(SseConfigValue.SEARCH_HYDRATION_BATCH_SIZE);
     }
 
     /**
@@ -43,7 +45,7 @@ final class DefaultSseConfig implements SseConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static SseConfig of(final Config config) {
-        return new DefaultSseConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, new KnownConfigValue[0]));
+        return new DefaultSseConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, SseConfigValue.values()));
     }
 
     @Override
@@ -51,21 +53,34 @@ final class DefaultSseConfig implements SseConfig {
         return throttlingConfig;
     }
 
+    @Override
+    public int getSearchHydrationBatchSize() {
+        return searchHydrationBatchSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
-        return o instanceof DefaultSseConfig &&
-                Objects.equals(throttlingConfig, ((DefaultSseConfig) o).throttlingConfig);
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSseConfig that = (DefaultSseConfig) o;
+        return searchHydrationBatchSize == that.searchHydrationBatchSize &&
+                Objects.equals(throttlingConfig, that.throttlingConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(throttlingConfig);
+        return Objects.hash(throttlingConfig, searchHydrationBatchSize);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "throttlingConfig=" + throttlingConfig +
+                ", searchHydrationBatchSize=" + searchHydrationBatchSize +
                 "]";
     }
 
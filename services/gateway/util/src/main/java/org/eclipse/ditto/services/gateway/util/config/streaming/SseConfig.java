@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.gateway.util.config.streaming;
 
 import org.eclipse.ditto.services.base.config.ThrottlingConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 
 /**
  * Provides configuration settings of SSE.
@@ -31,4 +32,42 @@ public interface SseConfig {
      */
     ThrottlingConfig getThrottlingConfig();
 
+    /**
+     * Returns how many search results of a search SSE connection to retrieve with one command.
+     *
+     * @return the hydration batch size.
+     */
+    int getSearchHydrationBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code SseConfig}.
+     */
+    enum SseConfigValue implements KnownConfigValue {
+
+        /**
+         * How many search results to retrieve from the things shard region with one command.
+         */
+        SEARCH_HYDRATION_BATCH_SIZE("search-hydration-batch-size", 1);
+
+        private final String path;
+        private final Object defaultValue;
+
+        SseConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
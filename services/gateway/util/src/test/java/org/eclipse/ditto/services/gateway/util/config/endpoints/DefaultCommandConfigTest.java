@@ -66,6 +66,15 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.getMaxTimeout())
                 .as(MessageConfig.MessageConfigValue.MAX_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(60L));
+        softly.assertThat(underTest.getBulkParallelism())
+                .as(CommandConfig.CommandConfigValue.BULK_PARALLELISM.getConfigPath())
+                .isEqualTo(16);
+        softly.assertThat(underTest.getBulkMaxLineLength())
+                .as(CommandConfig.CommandConfigValue.BULK_MAX_LINE_LENGTH.getConfigPath())
+                .isEqualTo(128 * 1024);
+        softly.assertThat(underTest.getBulkMaxRequestSize())
+                .as(CommandConfig.CommandConfigValue.BULK_MAX_REQUEST_SIZE.getConfigPath())
+                .isEqualTo(1024L * 1024L * 1024L);
     }
 
     @Test
@@ -78,6 +87,15 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.getMaxTimeout())
                 .as(MessageConfig.MessageConfigValue.MAX_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(55L));
+        softly.assertThat(underTest.getBulkParallelism())
+                .as(CommandConfig.CommandConfigValue.BULK_PARALLELISM.getConfigPath())
+                .isEqualTo(7);
+        softly.assertThat(underTest.getBulkMaxLineLength())
+                .as(CommandConfig.CommandConfigValue.BULK_MAX_LINE_LENGTH.getConfigPath())
+                .isEqualTo(4096);
+        softly.assertThat(underTest.getBulkMaxRequestSize())
+                .as(CommandConfig.CommandConfigValue.BULK_MAX_REQUEST_SIZE.getConfigPath())
+                .isEqualTo(10L * 1024L * 1024L);
     }
 
 }
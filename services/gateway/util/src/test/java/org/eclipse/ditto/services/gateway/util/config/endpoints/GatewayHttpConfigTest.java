@@ -203,4 +203,22 @@ public final class GatewayHttpConfigTest {
                 .contains("application-json");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getChunkedResponseThresholdReturnsDefaultIfNotSet() {
+        final GatewayHttpConfig underTest = GatewayHttpConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getChunkedResponseThreshold())
+                .as(HttpConfig.GatewayHttpConfigValue.CHUNKED_RESPONSE_THRESHOLD.getConfigPath())
+                .isEqualTo(HttpConfig.GatewayHttpConfigValue.CHUNKED_RESPONSE_THRESHOLD.getDefaultValue());
+    }
+
+    @Test
+    public void getConfiguredChunkedResponseThreshold() {
+        final GatewayHttpConfig underTest = GatewayHttpConfig.of(gatewayHttpTestConfig);
+
+        softly.assertThat(underTest.getChunkedResponseThreshold())
+                .as(HttpConfig.GatewayHttpConfigValue.CHUNKED_RESPONSE_THRESHOLD.getConfigPath())
+                .isEqualTo(1024L * 1024L);
+    }
+
+}
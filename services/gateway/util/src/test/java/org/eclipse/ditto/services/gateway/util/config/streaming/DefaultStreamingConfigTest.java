@@ -94,6 +94,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getWebsocketConfig().getThrottlingConfig().getLimit())
                 .as("websocket.throttling.limit")
                 .isEqualTo(9);
+        softly.assertThat(underTest.getSseConfig().getSearchHydrationBatchSize())
+                .as(SseConfig.SseConfigValue.SEARCH_HYDRATION_BATCH_SIZE.getConfigPath())
+                .isEqualTo(50);
     }
 
 }
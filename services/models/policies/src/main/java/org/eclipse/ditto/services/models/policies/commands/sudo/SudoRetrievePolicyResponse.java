@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.models.policies.commands.sudo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -53,17 +54,23 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
     static final JsonFieldDefinition<JsonObject> JSON_POLICY =
             JsonFactory.newJsonObjectFieldDefinition("payload/policy", FieldType.REGULAR, JsonSchemaVersion.V_2);
 
+    static final JsonFieldDefinition<JsonObject> JSON_ENFORCER =
+            JsonFactory.newJsonObjectFieldDefinition("payload/enforcer", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
     private final PolicyId policyId;
     private final JsonObject policy;
+    @Nullable private final JsonObject enforcer;
 
     private SudoRetrievePolicyResponse(final PolicyId policyId,
             final HttpStatusCode statusCode,
             final JsonObject policy,
+            @Nullable final JsonObject enforcer,
             final DittoHeaders dittoHeaders) {
 
         super(TYPE, statusCode, dittoHeaders);
         this.policyId = checkNotNull(policyId, "Policy ID");
         this.policy = checkNotNull(policy, "Policy");
+        this.enforcer = enforcer;
     }
 
     /**
@@ -81,6 +88,7 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
                 checkNotNull(policy, "Policy") //
                         .toJson(dittoHeaders.getSchemaVersion().orElse(policy.getLatestSchemaVersion()),
                                 FieldType.regularOrSpecial()),
+                null,
                 dittoHeaders);
     }
 
@@ -96,7 +104,25 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
     public static SudoRetrievePolicyResponse of(final PolicyId policyId, final JsonObject policy,
             final DittoHeaders dittoHeaders) {
 
-        return new SudoRetrievePolicyResponse(policyId, HttpStatusCode.OK, policy, dittoHeaders);
+        return new SudoRetrievePolicyResponse(policyId, HttpStatusCode.OK, policy, null, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrievePolicyResponse} command which contains the serialized enforcer of the
+     * policy.
+     *
+     * @param policyId the Policy ID.
+     * @param policy the retrieved Policy.
+     * @param enforcer the JSON representation of the enforcer of the retrieved policy or {@code null}.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument but {@code enforcer} is {@code null}.
+     * @since 1.5.0
+     */
+    public static SudoRetrievePolicyResponse of(final PolicyId policyId, final JsonObject policy,
+            @Nullable final JsonObject enforcer, final DittoHeaders dittoHeaders) {
+
+        return new SudoRetrievePolicyResponse(policyId, HttpStatusCode.OK, policy, enforcer, dittoHeaders);
     }
 
     /**
@@ -131,8 +157,9 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
                             jsonObject.getValueOrThrow(SudoCommandResponse.JsonFields.JSON_POLICY_ID);
                     final PolicyId policyId = PolicyId.of(extractedPolicyId);
                     final JsonObject extractedPolicy = jsonObject.getValueOrThrow(JSON_POLICY);
+                    final JsonObject extractedEnforcer = jsonObject.getValue(JSON_ENFORCER).orElse(null);
 
-                    return of(policyId, extractedPolicy, dittoHeaders);
+                    return of(policyId, extractedPolicy, extractedEnforcer, dittoHeaders);
                 });
     }
 
@@ -150,6 +177,28 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
         return PoliciesModelFactory.newPolicy(policy);
     }
 
+    /**
+     * Returns the JSON representation of the enforcer of the retrieved policy, which was built by the policies service
+     * once per policy revision.
+     *
+     * @return the JSON representation of the enforcer or an empty optional if the response does not contain it.
+     * @since 1.5.0
+     */
+    public Optional<JsonObject> getEnforcer() {
+        return Optional.ofNullable(enforcer);
+    }
+
+    /**
+     * Returns a copy of this response with the given JSON representation of the enforcer of the retrieved policy.
+     *
+     * @param enforcer the JSON representation of the enforcer or {@code null} to remove it.
+     * @return the copy.
+     * @since 1.5.0
+     */
+    public SudoRetrievePolicyResponse setEnforcer(@Nullable final JsonObject enforcer) {
+        return of(policyId, policy, enforcer, getDittoHeaders());
+    }
+
     @Override
     public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
         return policy;
@@ -158,12 +207,12 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
     @Override
     public SudoRetrievePolicyResponse setEntity(final JsonValue entity) {
         checkNotNull(entity, "entity");
-        return of(policyId, entity.asObject(), getDittoHeaders());
+        return of(policyId, entity.asObject(), enforcer, getDittoHeaders());
     }
 
     @Override
     public SudoRetrievePolicyResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return of(policyId, policy, dittoHeaders);
+        return of(policyId, policy, enforcer, dittoHeaders);
     }
 
     @Override
@@ -173,6 +222,9 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
         final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
         jsonObjectBuilder.set(SudoCommandResponse.JsonFields.JSON_POLICY_ID, String.valueOf(policyId), predicate);
         jsonObjectBuilder.set(JSON_POLICY, policy, predicate);
+        if (null != enforcer) {
+            jsonObjectBuilder.set(JSON_ENFORCER, enforcer, predicate);
+        }
     }
 
     @Override
@@ -192,17 +244,18 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
         return that.canEqual(this) &&
                 Objects.equals(policyId, that.policyId) &&
                 Objects.equals(policy, that.policy) &&
+                Objects.equals(enforcer, that.enforcer) &&
                 super.equals(o);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), policyId, policy);
+        return Objects.hash(super.hashCode(), policyId, policy, enforcer);
     }
 
     @Override
     public String toString() {
-        return super.toString() + "policyId=" + policyId + "policy=" + policy + "]";
+        return super.toString() + "policyId=" + policyId + "policy=" + policy + ", enforcer=" + enforcer + "]";
     }
 
 }
@@ -94,6 +94,20 @@ public final class SudoRetrievePolicyResponseTest {
         assertThat(underTest.getPolicy().toJson()).isEqualTo(TestConstants.Policy.POLICY.toJson());
     }
 
+    /** */
+    @Test
+    public void enforcerIsSerializedIfPresent() {
+        final JsonObject enforcer = JsonFactory.newObjectBuilder().set("version", 1).build();
+        final SudoRetrievePolicyResponse underTest =
+                SudoRetrievePolicyResponse.of(TestConstants.Policy.POLICY_ID, TestConstants.Policy.POLICY,
+                        EMPTY_DITTO_HEADERS).setEnforcer(enforcer);
+        final JsonObject actualJson = underTest.toJson(FieldType.REGULAR.or(FieldType.SPECIAL));
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON.set(SudoRetrievePolicyResponse.JSON_ENFORCER, enforcer));
+        assertThat(SudoRetrievePolicyResponse.fromJson(actualJson, EMPTY_DITTO_HEADERS)).isEqualTo(underTest);
+        assertThat(SudoRetrievePolicyResponse.fromJson(KNOWN_JSON, EMPTY_DITTO_HEADERS).getEnforcer()).isEmpty();
+    }
+
     /** */
     @Test
     public void checkSudoCommandResponseRegistryWorks() {
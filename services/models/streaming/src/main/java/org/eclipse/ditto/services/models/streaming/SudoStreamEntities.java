@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.model.base.json.FieldType.REGULAR;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.base.WithIdButActuallyNot;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which starts a stream of the current state of entities without starting their persistence actors.
+ * <p>
+ * The current state of each entity is restored from its newest snapshot and the events persisted after it, or from
+ * all its events if it has no snapshot. Each element of the stream is a {@link StreamedSnapshot} whose snapshot is
+ * the JSON representation of the entity. Deleted entities are not streamed. The stream is ordered by entity ID; a
+ * consumer resumes after an interruption by setting the ID of the last received entity as lower bound.
+ * </p>
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoStreamEntities.TYPE_PREFIX, name = SudoStreamEntities.NAME)
+public final class SudoStreamEntities extends AbstractCommand<SudoStreamEntities>
+        implements StartStreamRequest, WithIdButActuallyNot {
+
+    static final String NAME = "SudoStreamEntities";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private final int burst;
+    private final long timeoutMillis;
+    private final EntityId lowerBound;
+    private final String namespace;
+
+    private SudoStreamEntities(final Integer burst,
+            final Long timeoutMillis,
+            final EntityId lowerBound,
+            final String namespace,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+
+        this.burst = burst;
+        this.timeoutMillis = timeoutMillis;
+        this.lowerBound = lowerBound;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Creates a new {@code SudoStreamEntities} command.
+     *
+     * @param burst the amount of entities to restore with each query.
+     * @param timeoutMillis maximum time to wait for acknowledgement of each stream element.
+     * @param namespace the namespace of the entities to stream, or an empty string to stream entities of all
+     * namespaces.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoStreamEntities of(final Integer burst, final Long timeoutMillis,
+            final String namespace, final DittoHeaders dittoHeaders) {
+
+        return new SudoStreamEntities(burst, timeoutMillis, DefaultEntityId.dummy(), namespace, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoStreamEntities} from a JSON object.
+     *
+     * @param jsonObject the JSON representation of the command.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the expected format.
+     */
+    public static SudoStreamEntities fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        final int burst = jsonObject.getValueOrThrow(JsonFields.JSON_BURST);
+        final long timeoutMillis = jsonObject.getValueOrThrow(JsonFields.JSON_TIMEOUT_MILLIS);
+        final EntityId lowerBound = jsonObject.getValue(JsonFields.JSON_LOWER_BOUND)
+                .map(DefaultEntityId::of)
+                .orElseGet(DefaultEntityId::dummy);
+        final String namespace = jsonObject.getValue(JsonFields.JSON_NAMESPACE).orElse("");
+        return new SudoStreamEntities(burst, timeoutMillis, lowerBound, namespace, dittoHeaders);
+    }
+
+    /**
+     * Create a copy of this command with a lower-bound set. Only entities with greater IDs are streamed.
+     *
+     * @param lowerBound the lower bound.
+     * @return a copy of this command with lower-bound set.
+     */
+    public SudoStreamEntities withLowerBound(final EntityId lowerBound) {
+        return new SudoStreamEntities(burst, timeoutMillis, lowerBound, namespace, getDittoHeaders());
+    }
+
+    /**
+     * Return the lower-bound entity ID to resume a stream.
+     *
+     * @return the lower-bound entity ID.
+     */
+    public EntityId getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Return whether the command has a non-empty lower bound.
+     *
+     * @return whether the command has a non-empty lower bound.
+     */
+    public boolean hasNonEmptyLowerBound() {
+        return !lowerBound.isDummy();
+    }
+
+    /**
+     * Return the namespace of the entities to stream.
+     *
+     * @return the namespace, or an empty string if entities of all namespaces are streamed.
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.JSON_BURST, burst, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_TIMEOUT_MILLIS, timeoutMillis, predicate);
+        if (!lowerBound.isDummy()) {
+            jsonObjectBuilder.set(JsonFields.JSON_LOWER_BOUND, lowerBound.toString(), predicate);
+        }
+        if (!namespace.isEmpty()) {
+            jsonObjectBuilder.set(JsonFields.JSON_NAMESPACE, namespace, predicate);
+        }
+    }
+
+    @Override
+    public String getTypePrefix() {
+        return TYPE_PREFIX;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoStreamEntities setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoStreamEntities(burst, timeoutMillis, lowerBound, namespace, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), burst, timeoutMillis, lowerBound, namespace);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (obj instanceof SudoStreamEntities) {
+            final SudoStreamEntities that = (SudoStreamEntities) obj;
+            return burst == that.burst &&
+                    timeoutMillis == that.timeoutMillis &&
+                    Objects.equals(lowerBound, that.lowerBound) &&
+                    Objects.equals(namespace, that.namespace) &&
+                    super.equals(that);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoStreamEntities;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString()
+                + ", burst=" + burst
+                + ", timeoutMillis=" + timeoutMillis
+                + ", lowerBound=" + lowerBound
+                + ", namespace=" + namespace
+                + "]";
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public String getResourceType() {
+        return TYPE;
+    }
+
+    static final class JsonFields {
+
+        static final JsonFieldDefinition<Integer> JSON_BURST =
+                JsonFactory.newIntFieldDefinition("payload/burst", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<Long> JSON_TIMEOUT_MILLIS =
+                JsonFactory.newLongFieldDefinition("payload/timeoutMillis", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<String> JSON_LOWER_BOUND =
+                JsonFactory.newStringFieldDefinition("payload/lowerBound", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<String> JSON_NAMESPACE =
+                JsonFactory.newStringFieldDefinition("payload/namespace", REGULAR, V_1, V_2);
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.model.base.json.FieldType.REGULAR;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.base.WithIdButActuallyNot;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which starts a stream of digests over consecutive ranges of the newest snapshots.
+ * <p>
+ * Each element of the stream is a {@link StreamedSnapshot} whose entity ID is the inclusive upper bound of its range
+ * and whose snapshot is a JSON object with the fields {@code count} and {@code hash}: the number of entities whose
+ * newest snapshot in the range is not deleted and the sum modulo 2<sup>64</sup> of {@link #hash(CharSequence, long)}
+ * over the entity IDs and revisions of those snapshots. Unlike a sum of revisions, the sum of hashes does not let a
+ * missing entity or a revision difference be cancelled out by another one.
+ * The exclusive lower bound of each range is the upper bound of the previous range or the lower bound of the command.
+ * </p>
+ * <p>
+ * The hash of each entity is stored with its snapshot in the field {@value #HASH_FIELD} when the snapshot is written,
+ * so that the digest of a range is aggregated by the database without transferring the snapshots. As MongoDB sums
+ * 64-bit integers with overflow into floating point numbers, the hash is stored in two halves which are summed
+ * separately without overflow: the signed upper 32 bits in {@value #HASH_HIGH} and the unsigned lower 32 bits in
+ * {@value #HASH_LOW}. Snapshots written without the hash make the digest of their range differ.
+ * </p>
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoStreamSnapshotDigests.TYPE_PREFIX, name = SudoStreamSnapshotDigests.NAME)
+public final class SudoStreamSnapshotDigests extends AbstractCommand<SudoStreamSnapshotDigests>
+        implements StartStreamRequest, WithIdButActuallyNot {
+
+    static final String NAME = "SudoStreamSnapshotDigests";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * Field of each streamed digest containing the number of entities in its range.
+     */
+    public static final String COUNT = "count";
+
+    /**
+     * Field of each streamed digest containing the sum of the hashes of the entities in its range.
+     */
+    public static final String HASH = "hash";
+
+    /**
+     * Field of snapshots and search index entries containing the halves of the hash of the entity.
+     */
+    public static final String HASH_FIELD = "__hash";
+
+    /**
+     * Field of {@link #HASH_FIELD} containing the signed upper 32 bits of the hash as 32-bit integer.
+     */
+    public static final String HASH_HIGH = "h";
+
+    /**
+     * Field of {@link #HASH_FIELD} containing the unsigned lower 32 bits of the hash as 64-bit integer.
+     */
+    public static final String HASH_LOW = "l";
+
+    private static final long LOWER_32_BITS = 0xffffffffL;
+
+    private final int burst;
+    private final long timeoutMillis;
+    private final EntityId lowerBound;
+
+    private SudoStreamSnapshotDigests(final Integer burst,
+            final Long timeoutMillis,
+            final EntityId lowerBound,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+
+        this.burst = burst;
+        this.timeoutMillis = timeoutMillis;
+        this.lowerBound = lowerBound;
+    }
+
+    /**
+     * Creates a new {@code SudoStreamSnapshotDigests} command.
+     *
+     * @param burst the amount of snapshots to digest into one range.
+     * @param timeoutMillis maximum time to wait for acknowledgement of each stream element.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoStreamSnapshotDigests of(final Integer burst, final Long timeoutMillis,
+            final DittoHeaders dittoHeaders) {
+
+        return new SudoStreamSnapshotDigests(burst, timeoutMillis, DefaultEntityId.dummy(), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoStreamSnapshotDigests} from a JSON object.
+     *
+     * @param jsonObject the JSON representation of the command.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the expected format.
+     */
+    public static SudoStreamSnapshotDigests fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        final int burst = jsonObject.getValueOrThrow(JsonFields.JSON_BURST);
+        final long timeoutMillis = jsonObject.getValueOrThrow(JsonFields.JSON_TIMEOUT_MILLIS);
+        final EntityId lowerBound = jsonObject.getValue(JsonFields.JSON_LOWER_BOUND)
+                .map(DefaultEntityId::of)
+                .orElseGet(DefaultEntityId::dummy);
+        return new SudoStreamSnapshotDigests(burst, timeoutMillis, lowerBound, dittoHeaders);
+    }
+
+    /**
+     * Create a copy of this command with a lower-bound set. The lower bound must be a full PID consisting of a prefix
+     * and an entity ID.
+     *
+     * @param lowerBound the lower bound.
+     * @return a copy of this command with lower-bound set.
+     */
+    public SudoStreamSnapshotDigests withLowerBound(final EntityId lowerBound) {
+        return new SudoStreamSnapshotDigests(burst, timeoutMillis, lowerBound, getDittoHeaders());
+    }
+
+    /**
+     * Return the lower-bound PID to resume a stream.
+     *
+     * @return the lower-bound PID.
+     */
+    public EntityId getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Return whether the command has a non-empty lower bound.
+     *
+     * @return whether the command has a non-empty lower bound.
+     */
+    public boolean hasNonEmptyLowerBound() {
+        return !lowerBound.isDummy();
+    }
+
+    /**
+     * Compute the hash of an entity with a revision. The hashes of all entities of a range are summed up into the
+     * {@link #HASH} field of the digest of the range.
+     *
+     * @param entityId the entity ID.
+     * @param revision the revision of the entity.
+     * @return the hash.
+     */
+    public static long hash(final CharSequence entityId, final long revision) {
+        // 64-bit FNV-1a of the entity ID
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < entityId.length(); ++i) {
+            hash ^= entityId.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash ^ mix(revision));
+    }
+
+    /**
+     * Return the signed upper 32 bits of a hash to store in {@link #HASH_HIGH}.
+     *
+     * @param hash the hash.
+     * @return the upper half of the hash.
+     */
+    public static int getHashHigh(final long hash) {
+        return (int) (hash >> 32);
+    }
+
+    /**
+     * Return the unsigned lower 32 bits of a hash to store in {@link #HASH_LOW}.
+     *
+     * @param hash the hash.
+     * @return the lower half of the hash.
+     */
+    public static long getHashLow(final long hash) {
+        return hash & LOWER_32_BITS;
+    }
+
+    /**
+     * Compute the sum modulo 2<sup>64</sup> of hashes from the sums of their halves.
+     *
+     * @param hashHighSum the sum of the values of {@link #HASH_HIGH}.
+     * @param hashLowSum the sum of the values of {@link #HASH_LOW}.
+     * @return the sum of the hashes.
+     */
+    public static long sumOfHashes(final long hashHighSum, final long hashLowSum) {
+        return (hashHighSum << 32) + hashLowSum;
+    }
+
+    private static long mix(final long value) {
+        // finalizer of SplitMix64
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.JSON_BURST, burst, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_TIMEOUT_MILLIS, timeoutMillis, predicate);
+        if (!lowerBound.isDummy()) {
+            jsonObjectBuilder.set(JsonFields.JSON_LOWER_BOUND, lowerBound.toString(), predicate);
+        }
+    }
+
+    @Override
+    public String getTypePrefix() {
+        return TYPE_PREFIX;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoStreamSnapshotDigests setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoStreamSnapshotDigests(burst, timeoutMillis, lowerBound, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), burst, timeoutMillis, lowerBound);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (obj instanceof SudoStreamSnapshotDigests) {
+            final SudoStreamSnapshotDigests that = (SudoStreamSnapshotDigests) obj;
+            return burst == that.burst &&
+                    timeoutMillis == that.timeoutMillis &&
+                    Objects.equals(lowerBound, that.lowerBound) &&
+                    super.equals(that);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoStreamSnapshotDigests;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString()
+                + ", burst=" + burst
+                + ", timeoutMillis=" + timeoutMillis
+                + ", lowerBound=" + lowerBound
+                + "]";
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public String getResourceType() {
+        return TYPE;
+    }
+
+    static final class JsonFields {
+
+        static final JsonFieldDefinition<Integer> JSON_BURST =
+                JsonFactory.newIntFieldDefinition("payload/burst", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<Long> JSON_TIMEOUT_MILLIS =
+                JsonFactory.newLongFieldDefinition("payload/timeoutMillis", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<String> JSON_LOWER_BOUND =
+                JsonFactory.newStringFieldDefinition("payload/lowerBound", REGULAR, V_1, V_2);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.models.streaming.SudoStreamEntities}.
+ */
+public final class SudoStreamEntitiesTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoStreamEntities.class, areImmutable(),
+                provided(EntityId.class).areAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoStreamEntities.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void testSerialization() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamEntities underTest =
+                SudoStreamEntities.of(123, 456L, "org.eclipse.ditto", dittoHeaders);
+        final JsonObject serialized = underTest.toJson(FieldType.regularOrSpecial());
+        final SudoStreamEntities deserialized = SudoStreamEntities.fromJson(serialized, dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+
+    @Test
+    public void testSerializationWithLowerBound() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamEntities underTest = SudoStreamEntities.of(123, 456L, "", dittoHeaders)
+                .withLowerBound(DefaultEntityId.of("org.eclipse.ditto:thing"));
+        final JsonObject serialized = underTest.toJson(FieldType.regularOrSpecial());
+        final SudoStreamEntities deserialized = SudoStreamEntities.fromJson(serialized, dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.getNamespace()).isEmpty();
+    }
+
+    @Test
+    public void parseWithRegistry() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamEntities underTest =
+                SudoStreamEntities.of(123, 456L, "org.eclipse.ditto", dittoHeaders);
+        final SudoStreamEntities expected = SudoStreamEntities.fromJson(underTest.toJson(), dittoHeaders);
+        final Jsonifiable<?> parsed = GlobalCommandRegistry.getInstance().parse(underTest.toJson(), dittoHeaders);
+        assertThat(parsed).isEqualTo(expected);
+    }
+
+}
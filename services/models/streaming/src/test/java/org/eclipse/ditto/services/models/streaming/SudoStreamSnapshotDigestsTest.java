@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests}.
+ */
+public final class SudoStreamSnapshotDigestsTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoStreamSnapshotDigests.class, areImmutable(),
+                provided(EntityId.class).areAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoStreamSnapshotDigests.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void testSerialization() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamSnapshotDigests underTest =
+                SudoStreamSnapshotDigests.of(123, 456L, dittoHeaders);
+        final JsonObject serialized = underTest.toJson(FieldType.regularOrSpecial());
+        final SudoStreamSnapshotDigests deserialized = SudoStreamSnapshotDigests.fromJson(serialized, dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+
+    @Test
+    public void parseWithRegistry() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamSnapshotDigests underTest =
+                SudoStreamSnapshotDigests.of(123, 456L, dittoHeaders);
+        final SudoStreamSnapshotDigests expected = SudoStreamSnapshotDigests.fromJson(underTest.toJson(), dittoHeaders);
+        final Jsonifiable<?> parsed = GlobalCommandRegistry.getInstance().parse(underTest.toJson(), dittoHeaders);
+        assertThat(parsed).isEqualTo(expected);
+    }
+
+    @Test
+    public void revisionDifferencesDoNotCancelOut() {
+        // the revision sums of both ranges are equal
+        final long hash = SudoStreamSnapshotDigests.hash("ns:a", 1L) + SudoStreamSnapshotDigests.hash("ns:b", 3L);
+        final long hashWithOtherRevisions =
+                SudoStreamSnapshotDigests.hash("ns:a", 2L) + SudoStreamSnapshotDigests.hash("ns:b", 2L);
+
+        assertThat(hash).isNotEqualTo(hashWithOtherRevisions);
+    }
+
+    @Test
+    public void hashDependsOnEntityIdAndRevision() {
+        final long hash = SudoStreamSnapshotDigests.hash("ns:a", 1L);
+
+        assertThat(SudoStreamSnapshotDigests.hash("ns:a", 1L)).isEqualTo(hash);
+        assertThat(SudoStreamSnapshotDigests.hash("ns:b", 1L)).isNotEqualTo(hash);
+        assertThat(SudoStreamSnapshotDigests.hash("ns:a", 2L)).isNotEqualTo(hash);
+    }
+
+    @Test
+    public void sumOfHashHalvesIsSumOfHashes() {
+        final long[] hashes = {
+                SudoStreamSnapshotDigests.hash("ns:a", 1L),
+                SudoStreamSnapshotDigests.hash("ns:b", 2L),
+                SudoStreamSnapshotDigests.hash("ns:c", 3L),
+                Long.MIN_VALUE,
+                Long.MAX_VALUE,
+                -1L
+        };
+        long sum = 0L;
+        long highSum = 0L;
+        long lowSum = 0L;
+        for (final long hash : hashes) {
+            sum += hash;
+            highSum += SudoStreamSnapshotDigests.getHashHigh(hash);
+            lowSum += SudoStreamSnapshotDigests.getHashLow(hash);
+        }
+
+        assertThat(SudoStreamSnapshotDigests.sumOfHashes(highSum, lowSum)).isEqualTo(sum);
+    }
+
+}
@@ -17,10 +17,12 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithWarmUpConfig;
 
 /**
  * Provides configuration settings for policy entities.
  */
 @Immutable
-public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
+        WithWarmUpConfig {
 }
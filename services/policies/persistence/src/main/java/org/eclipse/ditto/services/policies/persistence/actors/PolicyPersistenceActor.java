@@ -152,6 +152,11 @@ public final class PolicyPersistenceActor
         return policyConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected boolean isWarmUpEnabled() {
+        return policyConfig.getWarmUpConfig().isEnabled();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(PolicyLifecycle.DELETED);
@@ -12,14 +12,20 @@
  */
 package org.eclipse.ditto.services.policies.persistence.actors.strategies.commands;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.metadata.Metadata;
 import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
@@ -28,11 +34,29 @@ import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy} command w/o valid authorization context.
+ * <p>
+ * The response contains the serialized enforcer of the policy so that the services loading policies for enforcement
+ * do not have to build it themselves. The enforcer is built once per policy revision; the enforcers of the most
+ * recently retrieved policies are kept.
+ * </p>
  */
 final class SudoRetrievePolicyStrategy extends AbstractPolicyQueryCommandStrategy<SudoRetrievePolicy> {
 
+    /**
+     * Maximum number of policies whose serialized enforcers are kept.
+     */
+    private static final int MAX_CACHED_ENFORCERS = 1000;
+
+    private final Map<PolicyId, RevisionedEnforcer> enforcers;
+
     SudoRetrievePolicyStrategy() {
         super(SudoRetrievePolicy.class);
+        enforcers = Collections.synchronizedMap(new LinkedHashMap<PolicyId, RevisionedEnforcer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<PolicyId, RevisionedEnforcer> eldest) {
+                return size() > MAX_CACHED_ENFORCERS;
+            }
+        });
     }
 
     @Override
@@ -43,7 +67,8 @@ final class SudoRetrievePolicyStrategy extends AbstractPolicyQueryCommandStrateg
             @Nullable final Metadata metadata) {
 
         final SudoRetrievePolicyResponse rawResponse =
-                SudoRetrievePolicyResponse.of(context.getState(), entity, command.getDittoHeaders());
+                SudoRetrievePolicyResponse.of(context.getState(), entity, command.getDittoHeaders())
+                        .setEnforcer(getEnforcer(context.getState(), entity));
         return ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, rawResponse, entity));
     }
 
@@ -51,4 +76,36 @@ final class SudoRetrievePolicyStrategy extends AbstractPolicyQueryCommandStrateg
     public Optional<EntityTag> nextEntityTag(final SudoRetrievePolicy command, @Nullable final Policy newEntity) {
         return Optional.ofNullable(newEntity).flatMap(EntityTag::fromEntity);
     }
+
+    @Nullable
+    private JsonObject getEnforcer(final PolicyId policyId, @Nullable final Policy policy) {
+        if (null == policy) {
+            return null;
+        }
+        final Optional<Long> revision = policy.getRevision().map(PolicyRevision::toLong);
+        if (!revision.isPresent()) {
+            return TrieBasedPolicyEnforcer.newInstance(policy).toJson();
+        }
+        final RevisionedEnforcer cachedEnforcer = enforcers.get(policyId);
+        if (null != cachedEnforcer && cachedEnforcer.revision == revision.get()) {
+            return cachedEnforcer.enforcer;
+        }
+        // built outside of the lock of the map as building the enforcer of a large policy takes a while
+        final JsonObject enforcer = TrieBasedPolicyEnforcer.newInstance(policy).toJson();
+        enforcers.put(policyId, new RevisionedEnforcer(revision.get(), enforcer));
+        return enforcer;
+    }
+
+    private static final class RevisionedEnforcer {
+
+        private final long revision;
+        private final JsonObject enforcer;
+
+        private RevisionedEnforcer(final long revision, final JsonObject enforcer) {
+            this.revision = revision;
+            this.enforcer = enforcer;
+        }
+
+    }
+
 }
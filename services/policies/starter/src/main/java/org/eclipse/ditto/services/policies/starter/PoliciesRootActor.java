@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.policies.starter;
 import static org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants.CLUSTER_ROLE;
 
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
@@ -34,6 +35,8 @@ import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistentactors.EntityWarmUpActor;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
 import akka.actor.ActorRef;
@@ -78,9 +81,19 @@ public final class PoliciesRootActor extends DittoRootActor {
         pubSubMediator.tell(DistPubSubAccess.put(persistenceStreamingActor), getSelf());
 
         final ClusterConfig clusterConfig = policiesConfig.getClusterConfig();
+        final ShardRegionExtractor shardRegionExtractor =
+                ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem);
         final ActorRef policiesShardRegion = ClusterSharding.get(actorSystem)
                 .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
-                        ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
+                        shardRegionExtractor);
+
+        final WarmUpConfig warmUpConfig = policiesConfig.getPolicyConfig().getWarmUpConfig();
+        if (warmUpConfig.isEnabled()) {
+            startChildActor(EntityWarmUpActor.ACTOR_NAME,
+                    EntityWarmUpActor.props(warmUpConfig, PoliciesMessagingConstants.SHARD_REGION,
+                            policiesShardRegion, shardRegionExtractor, PolicyId.class,
+                            policiesConfig.getMongoDbConfig()));
+        }
 
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
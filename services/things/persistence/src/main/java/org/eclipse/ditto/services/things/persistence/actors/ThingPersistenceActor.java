@@ -157,6 +157,16 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected boolean isWarmUpEnabled() {
+        return thingConfig.getWarmUpConfig().isEnabled();
+    }
+
+    @Override
+    protected boolean isGroupCommitEnabled() {
+        return thingConfig.getGroupCommitConfig().isEnabled();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -12,9 +12,7 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
-import java.util.Deque;
-import java.util.concurrent.LinkedBlockingDeque;
-
+import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceActorMessageQueue;
 import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingTooManyModifyingRequestsException;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
@@ -23,12 +21,9 @@ import com.typesafe.config.Config;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
-import akka.dispatch.DequeBasedMessageQueue;
-import akka.dispatch.Envelope;
 import akka.dispatch.MailboxType;
 import akka.dispatch.MessageQueue;
 import akka.dispatch.ProducesMessageQueue;
-import akka.dispatch.UnboundedDequeBasedMessageQueueSemantics;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
 
@@ -67,89 +62,30 @@ public class ThingPersistenceActorMailbox implements MailboxType,
     /**
      * The MessageQueue implementation.
      */
-    public static class ThingPersistenceActorMessageQueue extends LinkedBlockingDeque<Envelope> implements
-            DequeBasedMessageQueue, UnboundedDequeBasedMessageQueueSemantics {
-
-        private static final long serialVersionUID = -3799029649510677683L;
-
-        private final transient LoggingAdapter log;
+    public static class ThingPersistenceActorMessageQueue
+            extends AbstractPersistenceActorMessageQueue<ThingModifyCommand> {
 
-        private final int capacity;
+        private final LoggingAdapter log;
 
         public ThingPersistenceActorMessageQueue(final int capacity, final ActorSystem actorSystem) {
+            super(ThingModifyCommand.class, capacity);
             log = Logging.getLogger(actorSystem, ThingPersistenceActorMessageQueue.class);
-            this.capacity = capacity;
-        }
-
-        @Override
-        public Deque<Envelope> queue() {
-            return this;
-        }
-
-        @Override
-        public void enqueue(final ActorRef receiver, final Envelope handle) {
-            final Object message = handle.message();
-            if (message instanceof ThingModifyCommand) {
-                queueSizeBasedAction(handle.sender(), (ThingModifyCommand) message, () -> queue().add(handle));
-            } else {
-                // all other messages are enqueued right away and with no "limit":
-                queue().add(handle);
-            }
-        }
-
-        @Override
-        public void enqueueFirst(final ActorRef receiver, final Envelope handle) {
-            final Object message = handle.message();
-            if (message instanceof ThingModifyCommand) {
-                queueSizeBasedAction(handle.sender(), (ThingModifyCommand) message, () -> queue().addFirst(handle));
-            } else {
-                // all other messages are enqueued right away and with no "limit":
-                queue().addFirst(handle);
-            }
-        }
-
-        private void queueSizeBasedAction(final ActorRef sender, final ThingModifyCommand command, final Runnable r) {
-            // instead of blocking return "too many requests" response if numberOfMessages > capacity
-            if (numberOfMessages() > capacity) {
-                log.warning("Number of messages ({}) in the Mailbox of thing with ID '{}' exceeded the max capacity of "
-                                + "{} -> rejecting ThingModifyCommand '{}'", numberOfMessages(), command.getEntityId(), capacity,
-                        command.getType());
-
-                final ThingErrorResponse errorResponse = ThingErrorResponse.of(command.getThingEntityId(),
-                        ThingTooManyModifyingRequestsException //
-                                .newBuilder(command.getThingEntityId()) //
-                                .dittoHeaders(command.getDittoHeaders()) //
-                                .build());
-                sender.tell(errorResponse, null);
-            } else {
-                r.run();
-            }
-        }
-
-        @Override
-        public Envelope dequeue() {
-            return queue().poll();
-        }
-
-        @Override
-        public int numberOfMessages() {
-            return queue().size();
-        }
-
-        @Override
-        public boolean hasMessages() {
-            return !queue().isEmpty();
         }
 
         @Override
-        public void cleanUp(final ActorRef owner, final MessageQueue deadLetters) {
-            if (hasMessages()) {
-                Envelope envelope = dequeue();
-                while (envelope != null) {
-                    deadLetters.enqueue(owner, envelope);
-                    envelope = dequeue();
-                }
-            }
+        protected void rejectModifyCommand(final ActorRef sender, final ThingModifyCommand command,
+                final int numberOfMessages, final int capacity) {
+
+            log.warning("Number of messages ({}) in the Mailbox of thing with ID '{}' exceeded the max capacity of "
+                            + "{} -> rejecting ThingModifyCommand '{}'", numberOfMessages, command.getEntityId(), capacity,
+                    command.getType());
+
+            final ThingErrorResponse errorResponse = ThingErrorResponse.of(command.getThingEntityId(),
+                    ThingTooManyModifyingRequestsException //
+                            .newBuilder(command.getThingEntityId()) //
+                            .dittoHeaders(command.getDittoHeaders()) //
+                            .build());
+            sender.tell(errorResponse, null);
         }
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingEventStrategies;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoEventAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.EntityRestorer;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.japi.Pair;
+import akka.persistence.journal.EventSeq;
+
+/**
+ * Restores things from the snapshot store and the event journal in the same way as the thing persistence actor
+ * recovers them.
+ */
+@ThreadSafe
+final class ThingRestorer implements EntityRestorer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingRestorer.class);
+
+    private final ThingMongoEventAdapter eventAdapter = new ThingMongoEventAdapter(null);
+    private final ThingEventStrategies eventStrategies = ThingEventStrategies.getInstance();
+
+    @Override
+    public Optional<JsonObject> restore(@Nullable final BsonDocument snapshot,
+            final List<Pair<Long, BsonDocument>> events) {
+
+        try {
+            Thing thing = null == snapshot
+                    ? null
+                    : ThingsModelFactory.newThing(DittoBsonJson.getInstance().serialize(snapshot).asObject());
+            for (final Pair<Long, BsonDocument> event : events) {
+                final EventSeq eventSeq = eventAdapter.fromJournal(event.second(), null);
+                if (!eventSeq.events().isEmpty() && eventSeq.events().head() instanceof ThingEvent) {
+                    thing = eventStrategies.handle((ThingEvent<?>) eventSeq.events().head(), thing, event.first());
+                }
+            }
+            if (null == thing || thing.hasLifecycle(ThingLifecycle.DELETED)) {
+                return Optional.empty();
+            } else {
+                return Optional.of(thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial()));
+            }
+        } catch (final JsonRuntimeException | DittoRuntimeException e) {
+            LOGGER.error("Failed to restore thing from snapshot <{}>", snapshot, e);
+            return Optional.empty();
+        }
+    }
+
+}
@@ -73,7 +73,7 @@ public final class ThingsPersistenceStreamingActorCreator {
      */
     public static ActorRef startSnapshotStreamingActor(final BiFunction<String, Props, ActorRef> actorCreator) {
         final Props props = SnapshotStreamingActor.props(ThingsPersistenceStreamingActorCreator::pid2EntityId,
-                ThingsPersistenceStreamingActorCreator::entityId2Pid);
+                ThingsPersistenceStreamingActorCreator::entityId2Pid, new ThingRestorer());
         return actorCreator.apply(SNAPSHOT_STREAMING_ACTOR_NAME, props);
     }
 
@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
@@ -88,6 +89,18 @@ public final class ThingMongoEventAdapter implements EventAdapter {
             JsonFactory.newJsonObjectFieldDefinition("payload", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    /**
+     * Field which marks journal entries written in the current journal schema. Entries carrying the field with the
+     * value {@link #CURRENT_JOURNAL_SCHEMA} need no migration when read and are parsed without copying.
+     */
+    static final String JOURNAL_SCHEMA_FIELD = "__journalSchema";
+
+    /**
+     * Version of the journal schema written by {@link #toJournal(Object)}. Has to be increased if the format of
+     * persisted events changes in a way which requires a migration in {@link #fromJournal(Object, String)}.
+     */
+    static final int CURRENT_JOURNAL_SCHEMA = 1;
+
     private final Map<String, Function<JsonObject, JsonObject>> migrationMappings;
     private final ExtendedActorSystem system;
     private final GlobalEventRegistry eventRegistry;
@@ -143,7 +156,8 @@ public final class ThingMongoEventAdapter implements EventAdapter {
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
                             // remove the policy entries from thing event payload
-                            .remove(POLICY_IN_THING_EVENT_PAYLOAD);
+                            .remove(POLICY_IN_THING_EVENT_PAYLOAD)
+                            .setValue(JOURNAL_SCHEMA_FIELD, CURRENT_JOURNAL_SCHEMA);
             final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
             return dittoBsonJson.parse(jsonObject);
         } else {
@@ -153,18 +167,28 @@ public final class ThingMongoEventAdapter implements EventAdapter {
 
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
-        if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+        if (event instanceof BsonDocument && isInCurrentJournalSchema((BsonDocument) event)) {
+            final JsonObject jsonObject = DittoBsonJson.getInstance().serialize((BsonDocument) event);
+            return EventSeq.single(tryToCreateEventFrom(jsonObject, this::createEventFromCurrentSchema));
+        } else if (event instanceof BsonValue) {
+            final JsonValue jsonValue = DittoBsonJson.getInstance().serialize((BsonValue) event);
+            return EventSeq.single(tryToCreateEventFrom(jsonValue, this::createEventFrom));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
         }
     }
 
+    private static boolean isInCurrentJournalSchema(final BsonDocument bsonDocument) {
+        final BsonValue journalSchema = bsonDocument.get(JOURNAL_SCHEMA_FIELD);
+        return null != journalSchema && journalSchema.isNumber() &&
+                journalSchema.asNumber().intValue() == CURRENT_JOURNAL_SCHEMA;
+    }
+
     @Nullable
-    private Event tryToCreateEventFrom(final JsonValue json) {
+    private <T extends JsonValue> Event tryToCreateEventFrom(final T json, final Function<T, Event> eventCreator) {
         try {
-            return createEventFrom(json);
+            return eventCreator.apply(json);
         } catch (final JsonParseException | DittoRuntimeException e) {
             final String message = MessageFormat.format("Could not deserialize ThingEvent JSON: ''{0}''", json);
             if (system != null) {
@@ -176,6 +200,14 @@ public final class ThingMongoEventAdapter implements EventAdapter {
         }
     }
 
+    /*
+     * Events written in the current journal schema neither need migrations nor the default revision, because the
+     * revision is not persisted and parsing falls back to the default revision anyway.
+     */
+    private Event createEventFromCurrentSchema(final JsonObject jsonObject) {
+        return eventRegistry.parse(jsonObject, DittoHeaders.empty());
+    }
+
     private Event createEventFrom(final JsonValue json) {
         final JsonObject jsonObject = json.asObject()
                 .setValue(Event.JsonFields.REVISION.getPointer(), Event.DEFAULT_REVISION);
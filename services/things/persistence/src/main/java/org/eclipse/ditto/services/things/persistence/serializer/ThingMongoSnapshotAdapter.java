@@ -16,13 +16,16 @@ import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
 import org.slf4j.LoggerFactory;
 
 /**
  * A {@link org.eclipse.ditto.services.utils.persistence.SnapshotAdapter} for snapshotting a
- * {@link org.eclipse.ditto.model.things.Thing}.
+ * {@link org.eclipse.ditto.model.things.Thing}. Each snapshot contains the hash of the ID and revision of the thing
+ * in the field {@value SudoStreamSnapshotDigests#HASH_FIELD} for the digests of background sync.
  */
 @ThreadSafe
 public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapter<Thing> {
@@ -34,6 +37,21 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
         super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class));
     }
 
+    @Override
+    protected JsonObject convertToJson(final Thing snapshotEntity) {
+        final JsonObject thingJson = super.convertToJson(snapshotEntity);
+        return snapshotEntity.getEntityId()
+                .map(thingId -> {
+                    final long revision = snapshotEntity.getRevision().map(ThingRevision::toLong).orElse(0L);
+                    final long hash = SudoStreamSnapshotDigests.hash(thingId, revision);
+                    return thingJson.setValue(SudoStreamSnapshotDigests.HASH_FIELD, JsonObject.newBuilder()
+                            .set(SudoStreamSnapshotDigests.HASH_HIGH, SudoStreamSnapshotDigests.getHashHigh(hash))
+                            .set(SudoStreamSnapshotDigests.HASH_LOW, SudoStreamSnapshotDigests.getHashLow(hash))
+                            .build());
+                })
+                .orElse(thingJson);
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
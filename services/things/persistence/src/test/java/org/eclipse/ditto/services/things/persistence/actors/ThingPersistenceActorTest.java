@@ -89,6 +89,7 @@ import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAcl;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAclEntry;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributes;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatures;
@@ -753,6 +754,49 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void modifyAttributesWithGroupCommitAreAnsweredInOrder() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit.enabled = true"));
+
+        final Thing thing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setPolicyId(POLICY_ID)
+                .build();
+        final ThingId thingId = getIdOrThrow(thing);
+        final int numberOfModifications = 20;
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // send all modifications at once so that they are processed while journal writes are in flight
+                for (int i = 0; i < numberOfModifications; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of("attr" + i), JsonValue.of(i),
+                            dittoHeadersV2), getRef());
+                }
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+                for (int i = 0; i < numberOfModifications; i++) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    assertThat(response.getAttributePointer().toString()).isEqualTo("/attr" + i);
+                }
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = retrieveThingResponse.getThing();
+                assertThat(retrievedThing.getRevision().map(Revision::toLong))
+                        .contains((long) numberOfModifications + 1);
+                for (int i = 0; i < numberOfModifications; i++) {
+                    final String attributeKey = "attr" + i;
+                    assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(attributeKey)))
+                            .contains(JsonValue.of(i));
+                }
+            }
+        };
+    }
+
     @Test
     public void retrieveAttribute() {
         final JsonPointer attributeKey = JsonFactory.newPointer("isValid");
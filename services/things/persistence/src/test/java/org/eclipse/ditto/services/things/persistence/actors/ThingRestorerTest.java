@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoEventAdapter;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Test;
+
+import akka.japi.Pair;
+
+/**
+ * Tests {@link ThingRestorer}.
+ */
+public final class ThingRestorerTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:restorer");
+    private static final JsonPointer ATTRIBUTE = JsonPointer.of("x");
+
+    private final ThingRestorer underTest = new ThingRestorer();
+    private final ThingMongoEventAdapter eventAdapter = new ThingMongoEventAdapter(null);
+
+    @Test
+    public void restoreFromSnapshotOnly() {
+        final Optional<JsonObject> result = underTest.restore(snapshot(), Collections.emptyList());
+
+        assertThat(result).isNotEmpty();
+        assertThat(result.get().getValue(Thing.JsonFields.REVISION)).contains(1L);
+        assertThat(result.get().getValue(Thing.JsonFields.ATTRIBUTES.getPointer().append(ATTRIBUTE)))
+                .contains(JsonValue.of(1));
+    }
+
+    @Test
+    public void restoreFromSnapshotAndEvents() {
+        final AttributeModified attributeModified =
+                AttributeModified.of(THING_ID, ATTRIBUTE, JsonValue.of(2), 2L, DittoHeaders.empty());
+
+        final Optional<JsonObject> result =
+                underTest.restore(snapshot(), Collections.singletonList(Pair.create(2L, toJournal(attributeModified))));
+
+        assertThat(result).isNotEmpty();
+        assertThat(result.get().getValue(Thing.JsonFields.REVISION)).contains(2L);
+        assertThat(result.get().getValue(Thing.JsonFields.ATTRIBUTES.getPointer().append(ATTRIBUTE)))
+                .contains(JsonValue.of(2));
+    }
+
+    @Test
+    public void deletedThingIsNotRestored() {
+        final AttributeModified attributeModified =
+                AttributeModified.of(THING_ID, ATTRIBUTE, JsonValue.of(2), 2L, DittoHeaders.empty());
+        final ThingDeleted thingDeleted = ThingDeleted.of(THING_ID, 3L, DittoHeaders.empty());
+
+        final Optional<JsonObject> result = underTest.restore(snapshot(), Arrays.asList(
+                Pair.create(2L, toJournal(attributeModified)),
+                Pair.create(3L, toJournal(thingDeleted))));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void restoreFromEventsWithoutSnapshot() {
+        final ThingCreated thingCreated =
+                ThingCreated.of(thing(1L, ThingLifecycle.ACTIVE), 1L, null, DittoHeaders.empty(), null);
+        final AttributeModified attributeModified =
+                AttributeModified.of(THING_ID, ATTRIBUTE, JsonValue.of(2), 2L, DittoHeaders.empty());
+
+        final Optional<JsonObject> result = underTest.restore(null, Arrays.asList(
+                Pair.create(1L, toJournal(thingCreated)),
+                Pair.create(2L, toJournal(attributeModified))));
+
+        assertThat(result).isNotEmpty();
+        assertThat(result.get().getValue(Thing.JsonFields.REVISION)).contains(2L);
+        assertThat(result.get().getValue(Thing.JsonFields.ATTRIBUTES.getPointer().append(ATTRIBUTE)))
+                .contains(JsonValue.of(2));
+    }
+
+    @Test
+    public void restoreThingCreatedAgainAfterDeletedSnapshot() {
+        final BsonDocument deletedSnapshot =
+                (BsonDocument) new ThingMongoSnapshotAdapter().toSnapshotStore(thing(2L, ThingLifecycle.DELETED));
+        final ThingCreated thingCreated = ThingCreated.of(thing(3L, ThingLifecycle.ACTIVE), 3L, null,
+                DittoHeaders.empty(), null);
+
+        final Optional<JsonObject> result =
+                underTest.restore(deletedSnapshot, Collections.singletonList(Pair.create(3L, toJournal(thingCreated))));
+
+        assertThat(result).isNotEmpty();
+        assertThat(result.get().getValue(Thing.JsonFields.REVISION)).contains(3L);
+    }
+
+    private static BsonDocument snapshot() {
+        return (BsonDocument) new ThingMongoSnapshotAdapter().toSnapshotStore(thing(1L, ThingLifecycle.ACTIVE));
+    }
+
+    private static Thing thing(final long revision, final ThingLifecycle lifecycle) {
+        return ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setRevision(revision)
+                .setLifecycle(lifecycle)
+                .setAttribute(ATTRIBUTE, JsonValue.of(1))
+                .build();
+    }
+
+    private BsonDocument toJournal(final Object event) {
+        return (BsonDocument) eventAdapter.toJournal(event);
+    }
+
+}
@@ -14,10 +14,13 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.eclipse.ditto.model.base.assertions.DittoBaseAssertions.assertThat;
 
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
@@ -41,6 +44,7 @@ import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
 import org.eclipse.ditto.signals.events.things.FeaturesCreated;
 import org.eclipse.ditto.signals.events.things.FeaturesModified;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.junit.Test;
 
@@ -617,6 +621,28 @@ public final class ThingMongoEventAdapterTest {
                 .isEqualTo(TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES.toJsonString());
     }
 
+    @Test
+    public void serializedEventIsTaggedWithCurrentJournalSchema() {
+        final AttributeModified attributeModified = AttributeModified.of(TestConstants.Thing.THING_ID,
+                JsonPointer.of("/foo"), JsonValue.of("bar"), 5L, DittoHeaders.empty());
+
+        final Object actual = underTest.toJournal(attributeModified);
+
+        assertThat(actual).isInstanceOf(BsonDocument.class);
+        assertThat(((BsonDocument) actual).get(ThingMongoEventAdapter.JOURNAL_SCHEMA_FIELD))
+                .isEqualTo(new BsonInt32(ThingMongoEventAdapter.CURRENT_JOURNAL_SCHEMA));
+    }
+
+    @Test
+    public void eventInCurrentJournalSchemaSurvivesRoundTrip() {
+        final AttributeModified attributeModified = AttributeModified.of(TestConstants.Thing.THING_ID,
+                JsonPointer.of("/foo"), JsonValue.of("bar"), Event.DEFAULT_REVISION, DittoHeaders.empty());
+
+        final Object actual = underTest.fromJournal(underTest.toJournal(attributeModified), null).events().head();
+
+        assertThat(actual).isEqualTo(attributeModified);
+    }
+
     private static Object toDbObject(final JsonObject jsonObject) {
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(jsonObject);
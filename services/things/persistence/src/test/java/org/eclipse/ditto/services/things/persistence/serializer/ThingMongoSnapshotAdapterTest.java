@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.bson.BsonDocument;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -48,6 +50,21 @@ public final class ThingMongoSnapshotAdapterTest {
         toSnapshotStoreFromSnapshotStoreRoundtripReturnsExpected(TestConstants.Thing.THING_V2);
     }
 
+    @Test
+    public void snapshotContainsHashOfThingIdAndRevision() {
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final long hash = SudoStreamSnapshotDigests.hash(thing.getEntityId().orElseThrow(),
+                thing.getRevision().map(ThingRevision::toLong).orElseThrow());
+
+        final BsonDocument snapshot = (BsonDocument) underTest.toSnapshotStore(thing);
+
+        final BsonDocument hashDocument = snapshot.getDocument(SudoStreamSnapshotDigests.HASH_FIELD);
+        assertThat(hashDocument.getNumber(SudoStreamSnapshotDigests.HASH_HIGH).longValue())
+                .isEqualTo(SudoStreamSnapshotDigests.getHashHigh(hash));
+        assertThat(hashDocument.getNumber(SudoStreamSnapshotDigests.HASH_LOW).longValue())
+                .isEqualTo(SudoStreamSnapshotDigests.getHashLow(hash));
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundtripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
         assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
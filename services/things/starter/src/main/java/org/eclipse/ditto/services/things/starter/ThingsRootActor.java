@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.things.starter;
 
 import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.CLUSTER_ROLE;
 
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
@@ -34,6 +35,8 @@ import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistentactors.EntityWarmUpActor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
@@ -83,6 +86,13 @@ public final class ThingsRootActor extends DittoRootActor {
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
+        final WarmUpConfig warmUpConfig = thingsConfig.getThingConfig().getWarmUpConfig();
+        if (warmUpConfig.isEnabled()) {
+            startChildActor(EntityWarmUpActor.ACTOR_NAME,
+                    EntityWarmUpActor.props(warmUpConfig, ThingsMessagingConstants.SHARD_REGION, thingsShardRegion,
+                            shardRegionExtractor, ThingId.class, thingsConfig.getMongoDbConfig()));
+        }
+
         startChildActor(ThingPersistenceOperationsActor.ACTOR_NAME,
                 ThingPersistenceOperationsActor.props(pubSubMediator, thingsConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), thingsConfig.getPersistenceOperationsConfig()));
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.thingsearch.common.config;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.health.config.BackgroundStreamingConfig;
@@ -105,6 +106,30 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
      */
     Duration getRecovery();
 
+    /**
+     * Returns the thing IDs splitting the thing ID space into ranges which are synchronized in parallel.
+     * Each bound is the inclusive upper bound of one range and the exclusive lower bound of the next one.
+     *
+     * @return the ascending partition bounds, empty if background sync is not partitioned.
+     */
+    List<String> getPartitionBounds();
+
+    /**
+     * Returns how many snapshots to digest into one range before comparing the range with the search index.
+     * Only the entries of ranges whose digests differ are compared one by one.
+     *
+     * @return the number of snapshots per range, or 0 if all entries are compared one by one.
+     */
+    int getRangeDigestSize();
+
+    /**
+     * Returns every how many rounds of background sync to compare all entries one by one if ranges are digested.
+     * Digests do not contain policy revisions; outdated policy revisions are only detected in these rounds.
+     *
+     * @return the number of rounds per round comparing all entries.
+     */
+    int getRangeDigestFullSyncInterval();
+
     /**
      * Enumeration of known config keys and default values for {@code PersistenceCleanupConfig}
      */
@@ -169,7 +194,22 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
         /**
          * Assume upstream healthy if no error happened for this long.
          */
-        RECOVERY("recovery", Duration.ofMinutes(4L));
+        RECOVERY("recovery", Duration.ofMinutes(4L)),
+
+        /**
+         * Thing IDs splitting the thing ID space into ranges synchronized in parallel.
+         */
+        PARTITION_BOUNDS("partition-bounds", List.of()),
+
+        /**
+         * Number of snapshots to digest into one range, or 0 to compare all entries one by one.
+         */
+        RANGE_DIGEST_SIZE("range-digest.size", 0),
+
+        /**
+         * Every how many rounds to compare all entries one by one if ranges are digested.
+         */
+        RANGE_DIGEST_FULL_SYNC_INTERVAL("range-digest.full-sync-interval", 10);
 
         private final String path;
         private final Object defaultValue;
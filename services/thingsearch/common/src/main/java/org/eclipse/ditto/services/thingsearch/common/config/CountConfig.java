@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for counting things in the search index.
+ */
+@Immutable
+public interface CountConfig {
+
+    /**
+     * Indicates whether results of count queries should be cached.
+     *
+     * @return {@code true} if count results are cached, {@code false} else.
+     */
+    boolean isCacheEnabled();
+
+    /**
+     * Returns the configuration of the count cache. Its {@code expire-after-write} duration is the upper bound of the
+     * staleness of a cached count.
+     *
+     * @return the cache config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * Returns the number of documents to sample from the search index in order to estimate an approximate count.
+     *
+     * @return the sample size.
+     */
+    int getApproximateSampleSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for CountConfig.
+     */
+    enum CountConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether results of count queries should be cached.
+         */
+        CACHE_ENABLED("cache-enabled", false),
+
+        /**
+         * The number of documents to sample in order to estimate an approximate count.
+         */
+        APPROXIMATE_SAMPLE_SIZE("approximate-sample-size", 1000);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private CountConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
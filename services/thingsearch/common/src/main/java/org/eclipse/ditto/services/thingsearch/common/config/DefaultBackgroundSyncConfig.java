@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.thingsearch.common.config;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
@@ -39,6 +41,9 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     private final Duration maxBackoff;
     private final int maxRestarts;
     private final Duration recovery;
+    private final List<String> partitionBounds;
+    private final int rangeDigestSize;
+    private final int rangeDigestFullSyncInterval;
 
     private DefaultBackgroundSyncConfig(final Config config) {
         this.config = config;
@@ -54,16 +59,20 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         this.maxBackoff = config.getDuration(ConfigValue.MAX_BACKOFF.getConfigPath());
         this.maxRestarts = config.getInt(ConfigValue.MAX_RESTARTS.getConfigPath());
         this.recovery = config.getDuration(ConfigValue.RECOVERY.getConfigPath());
+        partitionBounds =
+                Collections.unmodifiableList(config.getStringList(ConfigValue.PARTITION_BOUNDS.getConfigPath()));
+        rangeDigestSize = config.getInt(ConfigValue.RANGE_DIGEST_SIZE.getConfigPath());
+        rangeDigestFullSyncInterval = config.getInt(ConfigValue.RANGE_DIGEST_FULL_SYNC_INTERVAL.getConfigPath());
     }
 
     /**
-     * Parse HOCON into configuration for background sync actor.
+     * Parse HOCON into configuration for background sync actor. Missing values fall back to their defaults.
      *
      * @param config the HOCON.
      * @return config for background sync actor.
      */
     public static BackgroundSyncConfig parse(final Config config) {
-        return new DefaultBackgroundSyncConfig(config);
+        return new DefaultBackgroundSyncConfig(ConfigWithFallback.newInstance(config, ConfigValue.values()));
     }
 
     public static BackgroundSyncConfig fromUpdaterConfig(final Config updaterConfig) {
@@ -156,6 +165,21 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         return recovery;
     }
 
+    @Override
+    public List<String> getPartitionBounds() {
+        return partitionBounds;
+    }
+
+    @Override
+    public int getRangeDigestSize() {
+        return rangeDigestSize;
+    }
+
+    @Override
+    public int getRangeDigestFullSyncInterval() {
+        return rangeDigestFullSyncInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultBackgroundSyncConfig) {
@@ -172,6 +196,9 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
                     Objects.equals(maxBackoff, that.maxBackoff) &&
                     maxRestarts == that.maxRestarts &&
                     Objects.equals(recovery, that.recovery) &&
+                    Objects.equals(partitionBounds, that.partitionBounds) &&
+                    rangeDigestSize == that.rangeDigestSize &&
+                    rangeDigestFullSyncInterval == that.rangeDigestFullSyncInterval &&
                     Objects.equals(config, that.config);
         } else {
             return false;
@@ -181,7 +208,8 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     @Override
     public int hashCode() {
         return Objects.hash(enabled, quietPeriod, idleTimeout, keptEvents, toleranceWindow, policyAskTimeout,
-                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery, config);
+                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery, partitionBounds,
+                rangeDigestSize, rangeDigestFullSyncInterval, config);
     }
 
     @Override
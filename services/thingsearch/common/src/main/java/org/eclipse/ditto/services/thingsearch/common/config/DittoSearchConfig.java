@@ -44,6 +44,8 @@ public final class DittoSearchConfig implements SearchConfig {
 
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
+    @Nullable private final String promotedFieldsByNamespace;
+    private final int exportBatchSize;
     private final DeleteConfig deleteConfig;
     private final DeletionConfig deletionConfig;
     private final UpdaterConfig updaterConfig;
@@ -52,6 +54,7 @@ public final class DittoSearchConfig implements SearchConfig {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final StreamConfig streamConfig;
+    private final CountConfig countConfig;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -62,11 +65,15 @@ public final class DittoSearchConfig implements SearchConfig {
         final ConfigWithFallback configWithFallback =
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
+        promotedFieldsByNamespace =
+                configWithFallback.getStringOrNull(SearchConfigValue.PROMOTED_FIELDS_BY_NAMESPACE);
+        exportBatchSize = configWithFallback.getPositiveIntOrThrow(SearchConfigValue.EXPORT_BATCH_SIZE);
         deleteConfig = DefaultDeleteConfig.of(configWithFallback);
         deletionConfig = DefaultDeletionConfig.of(configWithFallback);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
         streamConfig = DefaultStreamConfig.of(configWithFallback);
+        countConfig = DefaultCountConfig.of(configWithFallback);
     }
 
     /**
@@ -86,6 +93,16 @@ public final class DittoSearchConfig implements SearchConfig {
         return Optional.ofNullable(mongoHintsByNamespace);
     }
 
+    @Override
+    public Optional<String> getPromotedFieldsByNamespace() {
+        return Optional.ofNullable(promotedFieldsByNamespace);
+    }
+
+    @Override
+    public int getExportBatchSize() {
+        return exportBatchSize;
+    }
+
     @Override
     public DeleteConfig getDeleteConfig() {
         return deleteConfig;
@@ -106,6 +123,11 @@ public final class DittoSearchConfig implements SearchConfig {
         return streamConfig;
     }
 
+    @Override
+    public CountConfig getCountConfig() {
+        return countConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -156,7 +178,9 @@ public final class DittoSearchConfig implements SearchConfig {
             return false;
         }
         final DittoSearchConfig that = (DittoSearchConfig) o;
-        return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+        return exportBatchSize == that.exportBatchSize &&
+                Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+                Objects.equals(promotedFieldsByNamespace, that.promotedFieldsByNamespace) &&
                 Objects.equals(deleteConfig, that.deleteConfig) &&
                 Objects.equals(deletionConfig, that.deletionConfig) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
@@ -165,19 +189,23 @@ public final class DittoSearchConfig implements SearchConfig {
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
-                Objects.equals(streamConfig, that.streamConfig);
+                Objects.equals(streamConfig, that.streamConfig) &&
+                Objects.equals(countConfig, that.countConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+        return Objects.hash(mongoHintsByNamespace, promotedFieldsByNamespace, exportBatchSize, deleteConfig,
+                deletionConfig, updaterConfig, dittoServiceConfig, healthCheckConfig, indexInitializationConfig,
+                persistenceOperationsConfig, mongoDbConfig, streamConfig, countConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
+                ", promotedFieldsByNamespace=" + promotedFieldsByNamespace +
+                ", exportBatchSize=" + exportBatchSize +
                 ", deleteConfig=" + deleteConfig +
                 ", deletionConfig=" + deletionConfig +
                 ", updaterConfig=" + updaterConfig +
@@ -187,6 +215,7 @@ public final class DittoSearchConfig implements SearchConfig {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", streamConfig=" + streamConfig +
+                ", countConfig=" + countConfig +
                 "]";
     }
 
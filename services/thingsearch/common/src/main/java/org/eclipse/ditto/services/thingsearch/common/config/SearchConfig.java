@@ -32,6 +32,21 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
 
     Optional<String> getMongoHintsByNamespace();
 
+    /**
+     * Returns the JSON representation of the fields to promote per namespace, e.g.
+     * {@code {"org.eclipse.ditto":["/attributes/location/region"]}}.
+     *
+     * @return the promoted fields by namespace if any are configured.
+     */
+    Optional<String> getPromotedFieldsByNamespace();
+
+    /**
+     * Returns how many thing IDs to retrieve with each query when streaming search results sorted by thing ID.
+     *
+     * @return the export batch size.
+     */
+    int getExportBatchSize();
+
     /**
      * Returns the configuration settings of the "delete" section.
      *
@@ -61,6 +76,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration settings for counting things.
+     *
+     * @return the config.
+     * @since 1.5.0
+     */
+    CountConfig getCountConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -69,7 +92,17 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
         /**
          * Default value is {@code null}.
          */
-        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null);
+        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
+
+        /**
+         * Default value is {@code null}.
+         */
+        PROMOTED_FIELDS_BY_NAMESPACE("promoted-fields-by-namespace", null),
+
+        /**
+         * How many thing IDs to retrieve with each query when streaming search results sorted by thing ID.
+         */
+        EXPORT_BATCH_SIZE("export-batch-size", 1000);
 
         private final String path;
         private final Object defaultValue;
@@ -12,11 +12,13 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.BeforeClass;
@@ -45,7 +47,8 @@ public final class DefaultBackgroundSyncConfigTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(DefaultBackgroundSyncConfig.class, areImmutable(), provided(Config.class).isAlsoImmutable());
+        assertInstancesOf(DefaultBackgroundSyncConfig.class, areImmutable(), provided(Config.class).isAlsoImmutable(),
+                assumingFields("partitionBounds").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
 
     @Test
@@ -95,5 +98,30 @@ public final class DefaultBackgroundSyncConfigTest {
         softly.assertThat(underTest.getPolicyAskTimeout())
                 .as(BackgroundSyncConfig.ConfigValue.POLICY_ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofHours(11L));
+        softly.assertThat(underTest.getPartitionBounds())
+                .as(BackgroundSyncConfig.ConfigValue.PARTITION_BOUNDS.getConfigPath())
+                .isEqualTo(List.of("org.eclipse.ditto:m", "org.eclipse.ditto:t"));
+        softly.assertThat(underTest.getRangeDigestSize())
+                .as(BackgroundSyncConfig.ConfigValue.RANGE_DIGEST_SIZE.getConfigPath())
+                .isEqualTo(12);
+        softly.assertThat(underTest.getRangeDigestFullSyncInterval())
+                .as(BackgroundSyncConfig.ConfigValue.RANGE_DIGEST_FULL_SYNC_INTERVAL.getConfigPath())
+                .isEqualTo(13);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parseFallsBackToDefaultValues() {
+        final BackgroundSyncConfig underTest = DefaultBackgroundSyncConfig.parse(ConfigFactory.parseString(
+                "enabled = false"));
+
+        softly.assertThat(underTest.isEnabled())
+                .as(BackgroundSyncConfig.ConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(false);
+        softly.assertThat(underTest.getPartitionBounds())
+                .as(BackgroundSyncConfig.ConfigValue.PARTITION_BOUNDS.getConfigPath())
+                .isEqualTo(BackgroundSyncConfig.ConfigValue.PARTITION_BOUNDS.getDefaultValue());
+        softly.assertThat(underTest.getRangeDigestSize())
+                .as(BackgroundSyncConfig.ConfigValue.RANGE_DIGEST_SIZE.getConfigPath())
+                .isEqualTo(BackgroundSyncConfig.ConfigValue.RANGE_DIGEST_SIZE.getDefaultValue());
+    }
+}
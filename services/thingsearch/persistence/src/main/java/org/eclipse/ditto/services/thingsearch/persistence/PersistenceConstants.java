@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.thingsearch.persistence;
 
 
 import org.eclipse.ditto.model.query.expression.FieldExpressionUtil;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 
 /**
  * Constants for Search Persistence.
@@ -171,6 +172,21 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = "r";
 
+    /**
+     * Field name for the copies of the flat attributes promoted for the namespace of a thing.
+     */
+    public static final String FIELD_PROMOTED = "p";
+
+    /**
+     * Path to the keys of promoted attributes.
+     */
+    public static final String FIELD_PATH_PROMOTED_KEY = FIELD_PROMOTED + DOT + FIELD_INTERNAL_KEY;
+
+    /**
+     * Path to the values of promoted attributes.
+     */
+    public static final String FIELD_PATH_PROMOTED_VALUE = FIELD_PROMOTED + DOT + FIELD_INTERNAL_VALUE;
+
     /**
      * Mark a document for deletion.
      */
@@ -186,6 +202,21 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_PATH_MODIFIED = FIELD_SORTING + DOT + FIELD_MODIFIED;
 
+    /**
+     * Field name for the hash of thing ID and revision, stored as halves to sum up in aggregations.
+     */
+    public static final String FIELD_HASH = SudoStreamSnapshotDigests.HASH_FIELD;
+
+    /**
+     * Expression of the full path of the upper half of the hash.
+     */
+    public static final String FIELD_PATH_HASH_HIGH = FIELD_HASH + DOT + SudoStreamSnapshotDigests.HASH_HIGH;
+
+    /**
+     * Expression of the full path of the lower half of the hash.
+     */
+    public static final String FIELD_PATH_HASH_LOW = FIELD_HASH + DOT + SudoStreamSnapshotDigests.HASH_LOW;
+
     private PersistenceConstants() {
     }
 
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.MongoSortKeyMappingFunction.mapSortKey;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_PROMOTED_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_PROMOTED_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexFactory;
+
+/**
+ * Fields promoted per namespace. The search updater copies the flat attributes of promoted fields into the field
+ * {@link PersistenceConstants#FIELD_PROMOTED} of things in the namespace, where they are covered by the compact
+ * {@code promoted} index. Each promoted field gets an index for sorting in addition.
+ */
+@Immutable
+public final class PromotedFields {
+
+    private static final String PROMOTED_INDEX_NAME_PREFIX = "promoted";
+
+    private static final PromotedFields EMPTY = new PromotedFields(Collections.emptyMap());
+
+    private final Map<String, Set<String>> keysByNamespace;
+
+    private PromotedFields(final Map<String, Set<String>> keysByNamespace) {
+        this.keysByNamespace = keysByNamespace;
+    }
+
+    /**
+     * @return promoted fields for no namespace.
+     */
+    public static PromotedFields empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Extract promoted fields from a JSON representation.
+     *
+     * @param jsonString text of a JSON object mapping namespaces to arrays of JSON pointers of fields, e.g.
+     * {@code {"org.eclipse.ditto":["/attributes/location/region"]}}.
+     * @return the extracted promoted fields.
+     */
+    public static PromotedFields byNamespace(final String jsonString) {
+        final Map<String, Set<String>> keysByNamespace = JsonObject.of(jsonString)
+                .stream()
+                .collect(Collectors.toMap(JsonField::getKeyName, PromotedFields::fieldToKeys));
+        return new PromotedFields(Collections.unmodifiableMap(keysByNamespace));
+    }
+
+    /**
+     * @return whether no field is promoted in any namespace.
+     */
+    public boolean isEmpty() {
+        return keysByNamespace.values().stream().allMatch(Set::isEmpty);
+    }
+
+    /**
+     * Get the fields promoted in a namespace.
+     *
+     * @param namespace the namespace.
+     * @return keys of the promoted fields in the format of flat attributes.
+     */
+    public Set<String> getKeys(@Nullable final String namespace) {
+        return keysByNamespace.getOrDefault(namespace, Collections.emptySet());
+    }
+
+    /**
+     * Get the fields promoted in each namespace of a search query. Only filters on these fields may be routed to the
+     * promoted index, since things in other namespaces carry no promoted copies.
+     *
+     * @param namespaces namespaces of a search query or null if none exists.
+     * @return keys of the fields promoted in all namespaces.
+     */
+    public Set<String> getKeysPromotedInAll(@Nullable final Set<String> namespaces) {
+        if (namespaces == null || namespaces.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> keys = new HashSet<>();
+        boolean first = true;
+        for (final String namespace : namespaces) {
+            if (first) {
+                keys.addAll(getKeys(namespace));
+                first = false;
+            } else {
+                keys.retainAll(getKeys(namespace));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Get the indices required by the promoted fields: the {@code promoted} index over the promoted copies of flat
+     * attributes and one sort index for each promoted field.
+     *
+     * @return the indices, or an empty list if no field is promoted.
+     */
+    public List<Index> getIndices() {
+        if (isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Index promotedIndex = IndexFactory.newInstance(PROMOTED_INDEX_NAME_PREFIX,
+                Arrays.asList(FIELD_NAMESPACE, FIELD_PATH_PROMOTED_KEY, FIELD_PATH_PROMOTED_VALUE, FIELD_ID), false);
+        final List<Index> sortIndices = keysByNamespace.values()
+                .stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .sorted()
+                // features with wildcard IDs exist only as flat attributes
+                .filter(key -> !key.contains("/*/"))
+                .map(key -> IndexFactory.newInstance(PROMOTED_INDEX_NAME_PREFIX + key,
+                        Arrays.asList(mapSortKey(FIELD_SORTING + key), FIELD_ID), false))
+                .collect(Collectors.toList());
+        final List<Index> indices = new ArrayList<>(sortIndices.size() + 1);
+        indices.add(promotedIndex);
+        indices.addAll(sortIndices);
+        return Collections.unmodifiableList(indices);
+    }
+
+    private static Set<String> fieldToKeys(final JsonField field) {
+        // it is an error if the promoted fields of a namespace are not an array of strings.
+        return field.getValue()
+                .asArray()
+                .stream()
+                .map(JsonValue::asString)
+                .collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PromotedFields that = (PromotedFields) o;
+        return Objects.equals(keysByNamespace, that.keysByNamespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keysByNamespace);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "keysByNamespace=" + keysByNamespace +
+                "]";
+    }
+
+}
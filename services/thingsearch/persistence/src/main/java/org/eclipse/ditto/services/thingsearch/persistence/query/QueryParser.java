@@ -27,6 +27,7 @@ import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.query.filter.ParameterOptionVisitor;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.ThingSearchQueryCommand;
@@ -86,6 +87,9 @@ public final class QueryParser {
             final QueryBuilder queryBuilder = queryBuilderFactory.newUnlimitedBuilder(criteria);
             streamThings.getSort().ifPresent(sort -> setOptions(sort, queryBuilder, command.getDittoHeaders()));
             return queryBuilder.build();
+        } else if (command instanceof CountThings) {
+            validateCountOptions((CountThings) command);
+            return queryBuilderFactory.newUnlimitedBuilder(criteria).build();
         } else {
             return queryBuilderFactory.newUnlimitedBuilder(criteria).build();
         }
@@ -122,6 +126,19 @@ public final class QueryParser {
         }
     }
 
+    private static void validateCountOptions(final CountThings countThings) {
+        countThings.getOptions().ifPresent(options -> options.stream()
+                .map(String::trim)
+                .filter(option -> !CountThings.OPTION_APPROXIMATE.equals(option))
+                .findAny()
+                .ifPresent(unknownOption -> {
+                    throw InvalidOptionException.newBuilder()
+                            .message("The option <" + unknownOption + "> is not supported for counting things.")
+                            .dittoHeaders(countThings.getDittoHeaders())
+                            .build();
+                }));
+    }
+
     private void setOptions(final String options, final QueryBuilder queryBuilder, final DittoHeaders headers) {
         try {
             final ParameterOptionVisitor visitor = new ParameterOptionVisitor(fieldExpressionFactory, queryBuilder);
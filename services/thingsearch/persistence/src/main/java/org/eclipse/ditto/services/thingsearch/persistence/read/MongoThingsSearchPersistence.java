@@ -13,12 +13,16 @@
 package org.eclipse.ditto.services.thingsearch.persistence.read;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_COUNT;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MODIFIED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_HASH_HIGH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_HASH_LOW;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PROMOTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
@@ -27,42 +31,58 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.Indices;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.MetadataDigest;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceededException;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
@@ -75,8 +95,11 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
+import akka.stream.Materializer;
 import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import scala.PartialFunction;
 
@@ -85,12 +108,24 @@ import scala.PartialFunction;
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final String COUNT_CACHE_NAME = "search_count_cache";
+
+    private static final int DEFAULT_EXPORT_BATCH_SIZE = 1000;
+
+    private static final String FIELD_HASH_HIGH_SUM = "hashHighSum";
+    private static final String FIELD_HASH_LOW_SUM = "hashLowSum";
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
+    private final Materializer materializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final PromotedFields promotedFields;
+    private final int approximateCountSampleSize;
+    @Nullable private final Cache<CountCacheKey, Long> countCache;
+    private final int exportBatchSize;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -107,23 +142,39 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .withReadPreference(ReadPreference.secondaryPreferred());
 
         log = Logging.getLogger(actorSystem, getClass());
-        indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+        indexInitializer = IndexInitializer.of(database, materializer);
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        promotedFields = PromotedFields.empty();
+        approximateCountSampleSize =
+                (int) CountConfig.CountConfigValue.APPROXIMATE_SAMPLE_SIZE.getDefaultValue();
+        countCache = null;
+        exportBatchSize = DEFAULT_EXPORT_BATCH_SIZE;
     }
 
     private MongoThingsSearchPersistence(
             final MongoCollection<Document> collection,
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
+            final Materializer materializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final PromotedFields promotedFields,
+            final int approximateCountSampleSize,
+            @Nullable final Cache<CountCacheKey, Long> countCache,
+            final int exportBatchSize) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
+        this.materializer = materializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.promotedFields = promotedFields;
+        this.approximateCountSampleSize = approximateCountSampleSize;
+        this.countCache = countCache;
+        this.exportBatchSize = exportBatchSize;
     }
 
     /**
@@ -134,12 +185,59 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, materializer, maxQueryTime, hints,
+                promotedFields, approximateCountSampleSize, countCache, exportBatchSize);
+    }
+
+    /**
+     * Create a copy of this object which counts things according to the given count config. If the count cache is
+     * enabled, results of count queries are cached per normalized query filter and authorization subjects for at
+     * most the configured {@code expire-after-write} duration.
+     *
+     * @param countConfig the count config.
+     * @param cacheExecutor the executor to run the count cache with.
+     * @return copy of this object with the count config applied.
+     * @since 1.5.0
+     */
+    public MongoThingsSearchPersistence withCountConfig(final CountConfig countConfig, final Executor cacheExecutor) {
+        checkNotNull(countConfig, "countConfig");
+        final Cache<CountCacheKey, Long> cache = countConfig.isCacheEnabled()
+                ? CacheFactory.createCache(this::loadCount, countConfig.getCacheConfig(), COUNT_CACHE_NAME,
+                cacheExecutor)
+                : null;
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, materializer, maxQueryTime, hints,
+                promotedFields, countConfig.getApproximateSampleSize(), cache, exportBatchSize);
+    }
+
+    /**
+     * Create a copy of this object which routes filters on promoted fields to their indices and initializes those
+     * indices. Namespace hints apply only to queries without filters on promoted fields.
+     *
+     * @param jsonString JSON representation of the promoted fields of each namespace.
+     * @return copy of this object with promoted fields configured.
+     */
+    public MongoThingsSearchPersistence withPromotedFieldsByNamespace(final String jsonString) {
+        final PromotedFields promotedFields = PromotedFields.byNamespace(jsonString);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, materializer, maxQueryTime, hints,
+                promotedFields, approximateCountSampleSize, countCache, exportBatchSize);
+    }
+
+    /**
+     * Create a copy of this object which streams search results sorted by thing ID in batches of the given size.
+     *
+     * @param exportBatchSize how many thing IDs to retrieve with each query.
+     * @return copy of this object with the export batch size configured.
+     */
+    public MongoThingsSearchPersistence withExportBatchSize(final int exportBatchSize) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, materializer, maxQueryTime, hints,
+                promotedFields, approximateCountSampleSize, countCache, exportBatchSize);
     }
 
     @Override
     public CompletionStage<Void> initializeIndices() {
-        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, Indices.all())
+        final List<Index> allIndices = new ArrayList<>(Indices.all());
+        allIndices.addAll(promotedFields.getIndices());
+        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, allIndices)
                 .exceptionally(t -> {
                     log.error(t, "Index-Initialization failed: {}", t.getMessage());
                     return null;
@@ -176,19 +274,87 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     public Source<Long, NotUsed> count(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
+        return count(query, authorizationSubjectIds, false);
+    }
+
+    @Override
+    public Source<Long, NotUsed> approximateCount(final Query query,
+            @Nullable final List<String> authorizationSubjectIds) {
+
+        return count(query, authorizationSubjectIds, true);
+    }
+
+    private Source<Long, NotUsed> count(final Query query, @Nullable final List<String> authorizationSubjectIds,
+            final boolean approximate) {
+
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
-        log.debug("count with query filter <{}>.", queryFilter);
+        final BsonDocument queryFilter = getMongoFilter(query, normalizeSubjectIds(authorizationSubjectIds));
+        log.debug("count with query filter <{}>, approximate=<{}>.", queryFilter, approximate);
+
+        final CountCacheKey countCacheKey =
+                new CountCacheKey(queryFilter, query.getSkip(), query.getLimit(), approximate);
+        final Source<Long, NotUsed> countSource;
+        if (countCache != null) {
+            countSource = Source.completionStage(countCache.get(countCacheKey))
+                    .map(Optional::orElseThrow)
+                    .mapError(unwrapCompletionException());
+        } else {
+            countSource = executeCount(countCacheKey);
+        }
+        return countSource.log("count");
+    }
+
+    private CompletableFuture<Long> loadCount(final CountCacheKey countCacheKey, final Executor executor) {
+        return executeCount(countCacheKey).runWith(Sink.head(), materializer).toCompletableFuture();
+    }
+
+    private Source<Long, NotUsed> executeCount(final CountCacheKey countCacheKey) {
+        final Source<Long, NotUsed> countSource = countCacheKey.approximate
+                ? executeApproximateCount(countCacheKey)
+                : executeExactCount(countCacheKey);
+        return countSource.mapError(handleMongoExecutionTimeExceededException());
+    }
 
+    private Source<Long, NotUsed> executeExactCount(final CountCacheKey countCacheKey) {
         final CountOptions countOptions = new CountOptions()
-                .skip(query.getSkip())
-                .limit(query.getLimit())
+                .skip(countCacheKey.skip)
+                .limit(countCacheKey.limit)
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
-        return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
-                .mapError(handleMongoExecutionTimeExceededException())
-                .log("count");
+        return Source.fromPublisher(collection.countDocuments(countCacheKey.filter, countOptions));
+    }
+
+    /*
+     * Estimates the count from the fraction of a random sample of the search index which matches the filter.
+     * Search indexes not larger than the sample are counted exactly as that is as cheap as sampling them.
+     */
+    private Source<Long, NotUsed> executeApproximateCount(final CountCacheKey countCacheKey) {
+        final EstimatedDocumentCountOptions estimatedCountOptions = new EstimatedDocumentCountOptions()
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+
+        return Source.fromPublisher(collection.estimatedDocumentCount(estimatedCountOptions))
+                .flatMapConcat(totalCount -> {
+                    if (totalCount <= approximateCountSampleSize) {
+                        return executeExactCount(countCacheKey);
+                    }
+                    final List<Bson> samplingPipeline = List.of(
+                            Aggregates.sample(approximateCountSampleSize),
+                            Aggregates.match(countCacheKey.filter),
+                            Aggregates.count(PersistenceConstants.FIELD_COUNT)
+                    );
+                    return Source.fromPublisher(collection.aggregate(samplingPipeline)
+                            .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                            .map(document -> ((Number) document.get(PersistenceConstants.FIELD_COUNT)).longValue())
+                            .orElse(Source.single(0L))
+                            .map(matchingSampleCount -> {
+                                final long estimatedCount =
+                                        Math.round((double) matchingSampleCount * totalCount /
+                                                approximateCountSampleSize);
+                                final long skippedCount = Math.max(0L, estimatedCount - countCacheKey.skip);
+                                return Math.min(skippedCount, countCacheKey.limit);
+                            });
+                });
     }
 
     @Override
@@ -217,12 +383,71 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
+        if (isSortedByIdOnly(query) && query.getSkip() == 0) {
+            return findAllByKeyset(query, authorizationSubjectIds, namespaces);
+        }
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
         return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
                 .map(MongoThingsSearchPersistence::toId)
                 .idleTimeout(maxQueryTime);
     }
 
+    /*
+     * Stream search results sorted by thing ID as a sequence of short queries, each continuing after the last thing
+     * ID of the previous one. Every query is bounded by the export batch size and the max query time, so that the
+     * cost per result stays constant however many results are streamed and no cursor has to stay open.
+     */
+    private Source<ThingId, NotUsed> findAllByKeyset(final Query query, final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        final Set<String> promotedKeys = promotedFields.getKeysPromotedInAll(namespaces);
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds, promotedKeys);
+        if (log.isDebugEnabled()) {
+            log.debug("findAllByKeyset with query filter <{}>.", queryFilter);
+        }
+        final Bson hint = getHint(queryFilter, promotedKeys, namespaces);
+        final Source<List<String>, NotUsed> batches = Source.unfoldAsync("", lastId -> {
+            final Bson batchFilter = lastId.isEmpty()
+                    ? queryFilter
+                    : Filters.and(queryFilter, Filters.gt(FIELD_ID, lastId));
+            final Publisher<Document> batchPublisher = collection.find(batchFilter, Document.class)
+                    .hint(hint)
+                    .sort(Sorts.ascending(FIELD_ID))
+                    .limit(exportBatchSize)
+                    .projection(Projections.include(FIELD_ID))
+                    .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+            return Source.fromPublisher(batchPublisher)
+                    .map(document -> document.getString(FIELD_ID))
+                    .runWith(Sink.seq(), materializer)
+                    .thenApply(batch -> batch.isEmpty()
+                            ? Optional.<Pair<String, List<String>>>empty()
+                            : Optional.of(Pair.create(batch.get(batch.size() - 1), batch)));
+        });
+        final Source<ThingId, NotUsed> ids = batches.mapConcat(batch -> batch).map(ThingId::of);
+        final int limit = query.getLimit();
+        final Source<ThingId, NotUsed> limitedIds = limit > 0 && limit < Integer.MAX_VALUE ? ids.take(limit) : ids;
+        return limitedIds.mapError(handleMongoExecutionTimeExceededException());
+    }
+
+    private static boolean isSortedByIdOnly(final Query query) {
+        final List<SortOption> sortOptions = query.getSortOptions();
+        return sortOptions.size() == 1 &&
+                sortOptions.get(0).getSortDirection() == SortDirection.ASC &&
+                FIELD_ID.equals(GetSortBsonVisitor.path(sortOptions.get(0).getSortExpression()));
+    }
+
+    /*
+     * Configured hints are the fallback for queries not routed to the indices of promoted fields.
+     */
+    @Nullable
+    private Bson getHint(final BsonDocument queryFilter, final Set<String> promotedKeys,
+            @Nullable final Set<String> namespaces) {
+
+        return promotedKeys.isEmpty() || !containsField(queryFilter, FIELD_PROMOTED)
+                ? hints.getHint(namespaces).orElse(null)
+                : null;
+    }
+
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
@@ -230,10 +455,12 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final Set<String> promotedKeys = promotedFields.getKeysPromotedInAll(namespaces);
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds, promotedKeys);
         if (log.isDebugEnabled()) {
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
+        final Bson hint = getHint(queryFilter, promotedKeys, namespaces);
 
         final Bson sortOptions = getMongoSort(query);
 
@@ -241,7 +468,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                        .hint(hint)
                         .sort(sortOptions)
                         .skip(skip)
                         .projection(projection);
@@ -271,6 +498,27 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
+    @Override
+    public Source<MetadataDigest, NotUsed> sudoDigestMetadata(final EntityId lowerBound, final EntityId upperBound) {
+        final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
+        final Bson upperBoundFilter = Filters.lte(FIELD_ID, upperBound.toString());
+        final Bson filter = lowerBound.isDummy()
+                ? Filters.and(notDeletedFilter, upperBoundFilter)
+                : Filters.and(notDeletedFilter, Filters.gt(FIELD_ID, lowerBound.toString()), upperBoundFilter);
+        // the hashes stored with the things are summed up by MongoDB so that each range yields 1 document
+        final Bson digestGroup = Aggregates.group(null,
+                Accumulators.sum(FIELD_COUNT, 1),
+                Accumulators.sum(FIELD_HASH_HIGH_SUM, "$" + FIELD_PATH_HASH_HIGH),
+                Accumulators.sum(FIELD_HASH_LOW_SUM, "$" + FIELD_PATH_HASH_LOW));
+        final AggregatePublisher<Document> publisher =
+                collection.aggregate(List.of(Aggregates.match(filter), digestGroup));
+        return Source.fromPublisher(publisher)
+                .map(document -> MetadataDigest.of(toLong(document.get(FIELD_COUNT)),
+                        SudoStreamSnapshotDigests.sumOfHashes(toLong(document.get(FIELD_HASH_HIGH_SUM)),
+                                toLong(document.get(FIELD_HASH_LOW_SUM)))))
+                .orElse(Source.single(MetadataDigest.empty()));
+    }
+
     private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
             final List<SortOption> sortOptions) {
 
@@ -306,13 +554,45 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private static BsonDocument getMongoFilter(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
+        return getMongoFilter(query, authorizationSubjectIds, Collections.emptySet());
+    }
+
+    private static BsonDocument getMongoFilter(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            final Set<String> promotedKeys) {
+
         if (authorizationSubjectIds != null) {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds));
+            return BsonUtil.toBsonDocument(
+                    CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds, promotedKeys));
         } else {
             return BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria()));
         }
     }
 
+    private static boolean containsField(final BsonValue bsonValue, final String fieldName) {
+        if (bsonValue.isDocument()) {
+            final BsonDocument document = bsonValue.asDocument();
+            return document.containsKey(fieldName) ||
+                    document.values().stream().anyMatch(value -> containsField(value, fieldName));
+        } else if (bsonValue.isArray()) {
+            return bsonValue.asArray().stream().anyMatch(value -> containsField(value, fieldName));
+        } else {
+            return false;
+        }
+    }
+
+    /*
+     * Sort and deduplicate authorization subjects so that equivalent authorization contexts result in the same
+     * query filter and thus share count cache entries.
+     */
+    @Nullable
+    private static List<String> normalizeSubjectIds(@Nullable final List<String> authorizationSubjectIds) {
+        if (authorizationSubjectIds == null) {
+            return null;
+        }
+        return authorizationSubjectIds.stream().distinct().sorted().collect(Collectors.toList());
+    }
+
     private static Bson getMongoSort(final Query query) {
         final MongoQuery mongoQuery = (MongoQuery) query;
         return mongoQuery.getSortOptionsAsBson();
@@ -328,6 +608,17 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .build();
     }
 
+    private static PartialFunction<Throwable, Throwable> unwrapCompletionException() {
+        return new PFBuilder<Throwable, Throwable>()
+                .match(CompletionException.class, error -> error.getCause() != null ? error.getCause() : error)
+                .matchAny(error -> error)
+                .build();
+    }
+
+    private static long toLong(@Nullable final Object number) {
+        return number instanceof Number ? ((Number) number).longValue() : 0L;
+    }
+
     private static Metadata readAsMetadata(final Document document) {
         final ThingId thingId = ThingId.of(document.getString(FIELD_ID));
         final long thingRevision = Optional.ofNullable(document.getLong(FIELD_REVISION)).orElse(0L);
@@ -339,4 +630,54 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return Metadata.of(thingId, thingRevision, policyId, policyRevision, modified);
     }
 
+    /**
+     * Key of the count cache: the normalized query filter including authorization subjects together with the
+     * parameters of the count.
+     */
+    private static final class CountCacheKey {
+
+        private final BsonDocument filter;
+        private final int skip;
+        private final int limit;
+        private final boolean approximate;
+
+        private CountCacheKey(final BsonDocument filter, final int skip, final int limit, final boolean approximate) {
+            this.filter = filter;
+            this.skip = skip;
+            this.limit = limit;
+            this.approximate = approximate;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CountCacheKey that = (CountCacheKey) o;
+            return skip == that.skip &&
+                    limit == that.limit &&
+                    approximate == that.approximate &&
+                    Objects.equals(filter, that.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, skip, limit, approximate);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "filter=" + filter +
+                    ", skip=" + skip +
+                    ", limit=" + limit +
+                    ", approximate=" + approximate +
+                    "]";
+        }
+
+    }
+
 }
@@ -24,6 +24,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.MetadataDigest;
 
 import akka.NotUsed;
 import akka.stream.javadsl.Source;
@@ -58,6 +59,20 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
 
+    /**
+     * Returns an approximation of the count of documents found by the given {@code query}. Implementations may
+     * trade accuracy for a cheaper evaluation, e. g. by sampling; the default implementation counts exactly.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @return an {@link Source} which emits the approximate count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 1.5.0
+     */
+    default Source<Long, NotUsed> approximateCount(final Query query, final List<String> authorizationSubjectIds) {
+        return count(query, authorizationSubjectIds);
+    }
+
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
      *
@@ -102,6 +117,22 @@ public interface ThingsSearchPersistence {
      */
     Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound);
 
+    /**
+     * Compute the digest of the metadata of the search index entries not marked for deletion in a range of IDs.
+     * Do not consider authorization.
+     *
+     * @param lowerBound exclusive lower bound of the range, or a dummy entity ID for a range without lower bound.
+     * @param upperBound inclusive upper bound of the range.
+     * @return the source of the digest of the range.
+     */
+    default Source<MetadataDigest, NotUsed> sudoDigestMetadata(final EntityId lowerBound,
+            final EntityId upperBound) {
+
+        return sudoStreamMetadata(lowerBound)
+                .takeWhile(metadata -> metadata.getThingId().toString().compareTo(upperBound.toString()) <= 0)
+                .fold(MetadataDigest.empty(), MetadataDigest::plus);
+    }
+
     /**
      * Returns the IDs for all found documents.
      *
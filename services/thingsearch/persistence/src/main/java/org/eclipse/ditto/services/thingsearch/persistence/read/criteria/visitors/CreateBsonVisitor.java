@@ -15,7 +15,9 @@ package org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitor
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -40,9 +42,11 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Nullable
     private final List<String> authorizationSubjectIds;
+    private final Set<String> promotedKeys;
 
-    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds) {
+    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds, final Set<String> promotedKeys) {
         this.authorizationSubjectIds = authorizationSubjectIds;
+        this.promotedKeys = promotedKeys;
     }
 
     /**
@@ -53,7 +57,7 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      */
     public static Bson sudoApply(final Criteria criteria) {
         // not adding the deleteAt filter here as this would cause a COLLSCAN for our stats-only sudoCount.
-        return criteria.accept(new CreateBsonVisitor(null));
+        return criteria.accept(new CreateBsonVisitor(null, Collections.emptySet()));
     }
 
     /**
@@ -64,9 +68,24 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson apply(final Criteria criteria, List<String> authorizationSubjectIds) {
+        return apply(criteria, authorizationSubjectIds, Collections.emptySet());
+    }
+
+    /**
+     * Creates the Bson object used for querying with filters on promoted fields routed to their index.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param authorizationSubjectIds subject ids with which to restrict visibility, or null to not restrict visibility.
+     * @param promotedKeys keys of fields promoted in all namespaces of the search query.
+     * @return the Bson object
+     */
+    public static Bson apply(final Criteria criteria, final List<String> authorizationSubjectIds,
+            final Set<String> promotedKeys) {
+
         checkNotNull(criteria, "criteria");
         checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
-        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(authorizationSubjectIds));
+        checkNotNull(promotedKeys, "promotedKeys");
+        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(authorizationSubjectIds, promotedKeys));
         final Bson globalReadableFilter = AbstractFieldBsonCreator.getGlobalReadBson(authorizationSubjectIds);
         final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
 
@@ -84,7 +103,7 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
     @Override
     public Bson visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
         final Function<String, Bson> predicateCreator = predicate.accept(CreateBsonPredicateVisitor.getInstance());
-        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds);
+        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds, promotedKeys);
     }
 
     @Override
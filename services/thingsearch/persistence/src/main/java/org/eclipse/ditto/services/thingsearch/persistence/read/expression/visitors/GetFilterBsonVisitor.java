@@ -18,9 +18,12 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PROMOTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.PROPERTIES;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -38,18 +41,22 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
 
     private final Function<String, Bson> predicateFunction;
     private final Bson valueFilter;
+    private final Set<String> promotedKeys;
 
     /**
      * Creates a visitor object to create a Mongo Bson object for field-based search criteria.
      *
      * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param promotedKeys keys of fields promoted in all namespaces of the search query
      */
     private GetFilterBsonVisitor(final Function<String, Bson> predicateFunction,
-            @Nullable List<String> authorizationSubjectIds) {
+            @Nullable List<String> authorizationSubjectIds,
+            final Set<String> promotedKeys) {
 
         super(authorizationSubjectIds);
         this.predicateFunction = predicateFunction;
         this.valueFilter = predicateFunction.apply(FIELD_INTERNAL_VALUE);
+        this.promotedKeys = promotedKeys;
     }
 
     /**
@@ -64,7 +71,26 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
             final Function<String, Bson> predicateFunction,
             @Nullable final List<String> authorizationSubjectIds) {
 
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds));
+        return apply(expression, predicateFunction, authorizationSubjectIds, Collections.emptySet());
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based search criteria. Filters on promoted fields match the promoted
+     * copies of the flat attributes in addition, so that MongoDB can use the index of the promoted fields.
+     *
+     * @param expression the expression to create a filter for.
+     * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param authorizationSubjectIds subject IDs to check for authorization, or null to not restrict visibility at all
+     * @param promotedKeys keys of fields promoted in all namespaces of the search query.
+     * @return the complete Bson for the field-based search criteria
+     */
+    public static Bson apply(final FilterFieldExpression expression,
+            final Function<String, Bson> predicateFunction,
+            @Nullable final List<String> authorizationSubjectIds,
+            final Set<String> promotedKeys) {
+
+        return expression.acceptFilterVisitor(
+                new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds, promotedKeys));
     }
 
     /**
@@ -76,7 +102,8 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
      */
     public static Bson sudoApply(final FilterFieldExpression expression,
             final Function<String, Bson> predicateFunction) {
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, null));
+        return expression.acceptFilterVisitor(
+                new GetFilterBsonVisitor(predicateFunction, null, Collections.emptySet()));
     }
 
     @Override
@@ -106,9 +133,16 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
 
     private Bson matchKeyValue(final String key) {
         final Bson keyValueFilter = Filters.and(Filters.eq(FIELD_INTERNAL_KEY, key), valueFilter);
-        return Filters.elemMatch(FIELD_INTERNAL,
+        final Bson internalFilter = Filters.elemMatch(FIELD_INTERNAL,
                 getAuthorizationBson()
                         .map(authBson -> Filters.and(keyValueFilter, authBson))
                         .orElse(keyValueFilter));
+        if (promotedKeys.contains(key)) {
+            // promoted fields are copies of the flat attributes without authorization; the promoted filter is
+            // implied by the internal filter and only narrows the index range
+            return Filters.and(Filters.elemMatch(FIELD_PROMOTED, keyValueFilter), internalFilter);
+        } else {
+            return internalFilter;
+        }
     }
 }
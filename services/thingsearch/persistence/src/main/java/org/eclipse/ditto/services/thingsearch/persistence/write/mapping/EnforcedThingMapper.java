@@ -13,18 +13,24 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_HASH;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PROMOTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.Document;
@@ -40,6 +46,8 @@ import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -95,6 +103,26 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             final int maxArraySize) {
 
+        return toWriteModel(thing, enforcer, policyRevision, maxArraySize, PromotedFields.empty());
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model.
+     *
+     * @param thing the Thing in JSON format.
+     * @param enforcer the policy- or ACL-enforcer of the Thing.
+     * @param policyRevision revision of the policy for an policy enforcer, or any number for an ACL enforcer.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param promotedFields the fields to promote by namespace.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final int maxArraySize,
+            final PromotedFields promotedFields) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final ThingId thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -114,12 +142,34 @@ public final class EnforcedThingMapper {
                         .append(FIELD_GLOBAL_READ, getGlobalRead(enforcer))
                         .append(FIELD_POLICY_ID, metadata.getPolicyIdInPersistence())
                         .append(FIELD_POLICY_REVISION, policyRevision)
+                        .append(FIELD_HASH, toHashDocument(SudoStreamSnapshotDigests.hash(thingId, thingRevision)))
                         .append(FIELD_SORTING, thingCopyForSorting)
                         .append(FIELD_INTERNAL, flattenedValues);
 
+        final Set<String> promotedKeys = promotedFields.getKeys(metadata.getNamespaceInPersistence());
+        if (!promotedKeys.isEmpty()) {
+            thingDocument.append(FIELD_PROMOTED, getPromotedValues(flattenedValues, promotedKeys));
+        }
+
         return ThingWriteModel.of(metadata, thingDocument);
     }
 
+    private static Document toHashDocument(final long hash) {
+        return new Document().append(SudoStreamSnapshotDigests.HASH_HIGH, SudoStreamSnapshotDigests.getHashHigh(hash))
+                .append(SudoStreamSnapshotDigests.HASH_LOW, SudoStreamSnapshotDigests.getHashLow(hash));
+    }
+
+    private static BsonArray getPromotedValues(final BsonArray flattenedValues, final Set<String> promotedKeys) {
+        final BsonArray bsonArray = new BsonArray();
+        flattenedValues.stream()
+                .map(BsonValue::asDocument)
+                .filter(doc -> promotedKeys.contains(doc.getString(FIELD_INTERNAL_KEY).getValue()))
+                .map(doc -> new BsonDocument().append(FIELD_INTERNAL_KEY, doc.get(FIELD_INTERNAL_KEY))
+                        .append(FIELD_INTERNAL_VALUE, doc.get(FIELD_INTERNAL_VALUE)))
+                .forEach(bsonArray::add);
+        return bsonArray;
+    }
+
     private static BsonArray getGlobalRead(final Enforcer enforcer) {
 
         final BsonArray bsonArray = new BsonArray();
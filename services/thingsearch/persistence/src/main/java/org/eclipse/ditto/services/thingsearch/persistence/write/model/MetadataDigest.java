@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
+
+/**
+ * Digest of the metadata of a range of things: the number of things and the sum modulo 2^64 of the hashes of their
+ * IDs and revisions as computed by {@link SudoStreamSnapshotDigests#hash(CharSequence, long)}.
+ * Equal digests of the things persistence and the search index indicate that the range is consistent except for
+ * policy revisions; a thing missing on one side or an outdated thing revision changes the digest, and unlike sums of
+ * revisions, several differences do not cancel each other out. Being a sum, the digest can be aggregated by the
+ * database from the hashes stored with the things.
+ */
+@Immutable
+public final class MetadataDigest {
+
+    private static final MetadataDigest EMPTY = new MetadataDigest(0L, 0L);
+
+    private final long count;
+    private final long hash;
+
+    private MetadataDigest(final long count, final long hash) {
+        this.count = count;
+        this.hash = hash;
+    }
+
+    /**
+     * Create a digest.
+     *
+     * @param count the number of things.
+     * @param hash the sum of the hashes of the things.
+     * @return the digest.
+     */
+    public static MetadataDigest of(final long count, final long hash) {
+        return new MetadataDigest(count, hash);
+    }
+
+    /**
+     * @return the digest of no things.
+     */
+    public static MetadataDigest empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Add the metadata of a thing to this digest.
+     *
+     * @param metadata the metadata of the thing.
+     * @return the digest including the thing.
+     */
+    public MetadataDigest plus(final Metadata metadata) {
+        return plus(metadata.getThingId(), metadata.getThingRevision());
+    }
+
+    /**
+     * Add a thing to this digest.
+     *
+     * @param thingId the ID of the thing.
+     * @param thingRevision the revision of the thing.
+     * @return the digest including the thing.
+     */
+    public MetadataDigest plus(final CharSequence thingId, final long thingRevision) {
+        return new MetadataDigest(count + 1, hash + SudoStreamSnapshotDigests.hash(thingId, thingRevision));
+    }
+
+    /**
+     * @return the number of things.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of the hashes of the things.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MetadataDigest that = (MetadataDigest) o;
+        return count == that.count && hash == that.hash;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, hash);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "count=" + count +
+                ", hash=" + hash +
+                "]";
+    }
+
+}
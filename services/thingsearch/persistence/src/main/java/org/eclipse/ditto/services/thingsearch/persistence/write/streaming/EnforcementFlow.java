@@ -36,6 +36,7 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
@@ -74,13 +75,15 @@ final class EnforcementFlow {
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
     private final boolean deleteEvent;
+    private final PromotedFields promotedFields;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
-            final boolean deleteEvent) {
+            final boolean deleteEvent,
+            final PromotedFields promotedFields) {
 
         this.thingsShardRegion = thingsShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
@@ -88,6 +91,7 @@ final class EnforcementFlow {
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
         this.deleteEvent = deleteEvent;
+        this.promotedFields = promotedFields;
     }
 
     /**
@@ -97,13 +101,16 @@ final class EnforcementFlow {
      * @param thingsShardRegion the shard region to retrieve things from.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
+     * @param deleteEvent whether to delete things from the search index on deletion events.
+     * @param promotedFields the fields to promote by namespace.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher,
-            final boolean deleteEvent) {
+            final boolean deleteEvent,
+            final PromotedFields promotedFields) {
 
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
         final StreamCacheConfig streamCacheConfig = updaterStreamConfig.getCacheConfig();
@@ -115,7 +122,8 @@ final class EnforcementFlow {
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
         return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent,
+                promotedFields);
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -227,7 +235,8 @@ final class EnforcementFlow {
                             try {
                                 return EnforcedThingMapper.toWriteModel(thing, entry.getValueOrThrow(),
                                         entry.getRevision(),
-                                        maxArraySize);
+                                        maxArraySize,
+                                        promotedFields);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 return ThingDeleteModel.of(metadata);
@@ -26,6 +26,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
@@ -103,9 +104,13 @@ public final class SearchUpdaterStream {
         final DeleteConfig deleteConfig = searchConfig.getDeleteConfig();
         final boolean deleteEvent = deleteConfig.isDeleteEvent();
 
+        final PromotedFields promotedFields = searchConfig.getPromotedFieldsByNamespace()
+                .map(PromotedFields::byNamespace)
+                .orElseGet(PromotedFields::empty);
+
         final EnforcementFlow enforcementFlow =
                 EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
-                        deleteEvent);
+                        deleteEvent, promotedFields);
 
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
 
@@ -25,6 +25,7 @@ import org.eclipse.ditto.model.things.AccessControlList;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
@@ -70,8 +71,26 @@ public final class TestSearchUpdaterStream {
             final Enforcer enforcer,
             final long policyRevision) {
 
+        return write(thing, enforcer, policyRevision, PromotedFields.empty());
+    }
+
+    /**
+     * Write a thing with promoted fields into the updater stream.
+     *
+     * @param thing the thing
+     * @param enforcer the enforcer
+     * @param policyRevision the policy revision
+     * @param promotedFields the fields to promote by namespace
+     * @return source of write result.
+     */
+    public Source<WriteResultAndErrors, NotUsed> write(final Thing thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final PromotedFields promotedFields) {
+
         final JsonObject thingJson = thing.toJson(FieldType.all());
-        final AbstractWriteModel writeModel = EnforcedThingMapper.toWriteModel(thingJson, enforcer, policyRevision, -1);
+        final AbstractWriteModel writeModel =
+                EnforcedThingMapper.toWriteModel(thingJson, enforcer, policyRevision, -1, promotedFields);
 
         return Source.single(Source.single(writeModel))
                 .via(mongoSearchUpdaterFlow.start(1, 1, Duration.ZERO));
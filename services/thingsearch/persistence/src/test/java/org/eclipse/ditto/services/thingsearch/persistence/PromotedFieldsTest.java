@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.junit.Test;
+
+/**
+ * Tests {@link PromotedFields}.
+ */
+public final class PromotedFieldsTest {
+
+    private static final PromotedFields UNDER_TEST = PromotedFields.byNamespace("{" +
+            "\"a\":[\"/attributes/region\",\"/attributes/x\"]," +
+            "\"b\":[\"/attributes/region\",\"/features/*/properties/y\"]," +
+            "\"c\":[]" +
+            "}");
+
+    @Test
+    public void getKeysPromotedInAllNamespaces() {
+        assertThat(UNDER_TEST.getKeysPromotedInAll(Set.of("a"))).containsExactlyInAnyOrder("/attributes/region",
+                "/attributes/x");
+        assertThat(UNDER_TEST.getKeysPromotedInAll(Set.of("a", "b"))).containsExactly("/attributes/region");
+        assertThat(UNDER_TEST.getKeysPromotedInAll(Set.of("a", "b", "c"))).isEmpty();
+        assertThat(UNDER_TEST.getKeysPromotedInAll(Set.of("a", "unknown"))).isEmpty();
+        assertThat(UNDER_TEST.getKeysPromotedInAll(null)).isEmpty();
+    }
+
+    @Test
+    public void getIndices() {
+        assertThat(PromotedFields.empty().getIndices()).isEmpty();
+        assertThat(PromotedFields.byNamespace("{\"a\":[]}").getIndices()).isEmpty();
+
+        assertThat(UNDER_TEST.getIndices().stream().map(Index::getName).collect(Collectors.toList()))
+                .containsExactly("promoted", "promoted/attributes/region", "promoted/attributes/x");
+        assertThat(UNDER_TEST.getIndices().get(0).getKeys())
+                .isEqualTo(BsonDocument.parse("{\"_namespace\":1,\"p.k\":1,\"p.v\":1,\"_id\":1}"));
+        assertThat(UNDER_TEST.getIndices().get(1).getKeys())
+                .isEqualTo(BsonDocument.parse("{\"s.attributes.region\":1,\"_id\":1}"));
+    }
+
+}
@@ -28,9 +28,14 @@ import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
+import akka.stream.javadsl.Sink;
+
 /**
  * Tests for complex search criteria on the persistence.
  */
@@ -121,6 +126,40 @@ public final class CountIT extends AbstractReadPersistenceITBase {
         assertThat(actualCount).isEqualTo(expectedCount);
     }
 
+    @Test
+    public void approximateCountOfSmallIndexIsExact() {
+        final long expectedCount = 10;
+        for (int i = 0; i < expectedCount; i++) {
+            final ThingId individualThingId = ThingId.of(THING_BASE_ID.getNamespace(), THING_BASE_ID.getName() + i);
+            insertThingWithAttribute(individualThingId, KNOWN_STRING_VALUE);
+        }
+
+        final long actualCount = readPersistence.approximateCount(qbf.newUnlimitedBuilder(cf.any()).build(),
+                KNOWN_SUBJECTS)
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(actualCount).isEqualTo(expectedCount);
+    }
+
+    @Test
+    public void cachedCountIsReusedForEquivalentQueries() {
+        readPersistence = readPersistence.withCountConfig(DefaultCountConfig.of(ConfigFactory.parseString(
+                "count { cache-enabled = true, cache { expire-after-write = 1h, expire-after-access = 1h } }")),
+                actorSystem.dispatcher());
+        insertThingWithAttribute(ThingId.of(THING_BASE_ID.getNamespace(), THING_BASE_ID.getName() + 0),
+                KNOWN_STRING_VALUE);
+
+        final long countBeforeInsert = executeCount(cf.any());
+        insertThingWithAttribute(ThingId.of(THING_BASE_ID.getNamespace(), THING_BASE_ID.getName() + 1),
+                KNOWN_STRING_VALUE);
+        final long countAfterInsert = executeCount(cf.any());
+
+        assertThat(countBeforeInsert).isEqualTo(1L);
+        assertThat(countAfterInsert).isEqualTo(countBeforeInsert);
+    }
+
     private void insertThingWithAttribute(final ThingId thingId, final String attributeValue) {
         final Thing thing = createThingV1(thingId, KNOWN_SUBJECTS);
 
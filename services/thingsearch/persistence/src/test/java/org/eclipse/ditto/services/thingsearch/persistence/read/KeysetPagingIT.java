@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests streaming search results sorted by thing ID in keyset batches with
+ * {@link MongoThingsSearchPersistence#findAllUnlimited}.
+ */
+public final class KeysetPagingIT extends AbstractReadPersistenceITBase {
+
+    private static final int EXPORT_BATCH_SIZE = 2;
+    private static final String NAMESPACE = "keyset";
+    private static final String OTHER_NAMESPACE = "other";
+    private static final String REGION = "region";
+    private static final String NORTH = "north";
+    private static final String SOUTH = "south";
+
+    private static final String PROMOTED_FIELDS_BY_NAMESPACE =
+            "{\"" + NAMESPACE + "\":[\"/attributes/" + REGION + "\"]}";
+    private static final PromotedFields PROMOTED_FIELDS = PromotedFields.byNamespace(PROMOTED_FIELDS_BY_NAMESPACE);
+
+    private static final ThingId THING1 = ThingId.of(NAMESPACE, "thing1");
+    private static final ThingId THING2 = ThingId.of(NAMESPACE, "thing2");
+    private static final ThingId THING3 = ThingId.of(NAMESPACE, "thing3");
+    private static final ThingId THING4 = ThingId.of(NAMESPACE, "thing4");
+    private static final ThingId THING5 = ThingId.of(NAMESPACE, "thing5");
+    private static final ThingId OTHER_THING = ThingId.of(OTHER_NAMESPACE, "thing1");
+
+    private MongoThingsSearchPersistence keysetPersistence;
+
+    @Before
+    public void createTestData() {
+        keysetPersistence = readPersistence.withExportBatchSize(EXPORT_BATCH_SIZE)
+                .withPromotedFieldsByNamespace(PROMOTED_FIELDS_BY_NAMESPACE);
+        keysetPersistence.initializeIndices().toCompletableFuture().join();
+
+        // inserted out of order to not depend on the natural order of the collection
+        insertThingWithRegion(THING4, NORTH);
+        insertThingWithRegion(OTHER_THING, NORTH);
+        insertThingWithRegion(THING1, NORTH);
+        insertThingWithRegion(THING3, SOUTH);
+        insertThingWithRegion(THING5, NORTH);
+        insertThingWithRegion(THING2, NORTH);
+    }
+
+    @Test
+    public void streamsResultsOfSeveralBatches() {
+        final List<ThingId> result = findAllUnlimited(qbf.newUnlimitedBuilder(cf.any()).build(), null);
+
+        assertThat(result).containsExactly(THING1, THING2, THING3, THING4, THING5, OTHER_THING);
+    }
+
+    @Test
+    public void limitCrossingBatchBoundary() {
+        final Query query = qbf.newUnlimitedBuilder(cf.any()).limit(EXPORT_BATCH_SIZE + 1).build();
+
+        final List<ThingId> result = findAllUnlimited(query, null);
+
+        assertThat(result).containsExactly(THING1, THING2, THING3);
+    }
+
+    @Test
+    public void resumesAfterCursorThingId() {
+        final List<ThingId> result = findAllUnlimited(qbf.newUnlimitedBuilder(after(THING2)).build(), null);
+
+        assertThat(result).containsExactly(THING3, THING4, THING5, OTHER_THING);
+    }
+
+    @Test
+    public void combinesNamespaceAndPromotedFieldFiltersWithKeyset() {
+        final Set<String> namespaces = Collections.singleton(NAMESPACE);
+        final Criteria criteria = cf.and(Arrays.asList(
+                cf.fieldCriteria(fef.filterByNamespace(), cf.in(Collections.singletonList(NAMESPACE))),
+                cf.fieldCriteria(fef.filterByAttribute(REGION), cf.eq(NORTH)),
+                after(THING1)
+        ));
+
+        final List<ThingId> result = findAllUnlimited(qbf.newUnlimitedBuilder(criteria).build(), namespaces);
+
+        // thing3 is in the south, the other thing is in another namespace
+        assertThat(result).containsExactly(THING2, THING4, THING5);
+    }
+
+    private static Criteria after(final ThingId cursor) {
+        return cf.fieldCriteria(fef.filterByThingId(), cf.gt(cursor.toString()));
+    }
+
+    private List<ThingId> findAllUnlimited(final Query query, @Nullable final Set<String> namespaces) {
+        return waitFor(keysetPersistence.findAllUnlimited(query, KNOWN_SUBJECTS, namespaces));
+    }
+
+    private void insertThingWithRegion(final ThingId thingId, final String region) {
+        final Thing thing = createThingV2(thingId).toBuilder()
+                .setAttribute(JsonPointer.of(REGION), JsonValue.of(region))
+                .build();
+        runBlockingWithReturn(writePersistence.write(thing, getPolicyEnforcer(thingId), 0L, PROMOTED_FIELDS));
+    }
+
+}
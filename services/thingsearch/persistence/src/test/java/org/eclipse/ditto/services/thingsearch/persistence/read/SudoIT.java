@@ -33,6 +33,7 @@ import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult
 import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.MetadataDigest;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -105,6 +106,21 @@ public final class SudoIT extends AbstractReadPersistenceITBase {
                 .isEmpty();
     }
 
+    @Test
+    public void sudoDigestMetadata() {
+        assertThat(waitFor(readPersistence.sudoDigestMetadata(ThingId.dummy(), THING2_ID)))
+                .containsExactly(MetadataDigest.empty().plus(THING1_ID, 1L).plus(THING2_ID, 2L));
+
+        assertThat(waitFor(readPersistence.sudoDigestMetadata(THING1_ID, THING2_ID)))
+                .containsExactly(MetadataDigest.empty().plus(THING2_ID, 2L));
+
+        assertThat(waitFor(readPersistence.sudoDigestMetadata(ThingId.dummy(), THING1_ID)))
+                .containsExactly(MetadataDigest.empty().plus(THING1_ID, 1L));
+
+        assertThat(waitFor(readPersistence.sudoDigestMetadata(THING2_ID, THING2_ID)))
+                .containsExactly(MetadataDigest.empty());
+    }
+
     private void insertThings() {
         persistThing(createThing(THING1_ID).toBuilder()
                 .setModified(TIMESTAMP1)
@@ -24,6 +24,8 @@ import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.SubjectType;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
+import org.eclipse.ditto.services.thingsearch.persistence.PromotedFields;
 import org.junit.Test;
 
 public final class EnforcedThingMapperTest {
@@ -63,6 +65,7 @@ public final class EnforcedThingMapperTest {
                         .build());
 
         final long policyRevision = 56L;
+        final long hash = SudoStreamSnapshotDigests.hash("hello:world", 1024L);
 
         final JsonObject expectedJson = JsonFactory.newObject("{\n" +
                 "  \"_id\": \"hello:world\",\n" +
@@ -71,6 +74,10 @@ public final class EnforcedThingMapperTest {
                 "  \"gr\":[\"g:0\",\"g:1\"],\n"+
                 "  \"policyId\": \"hello:world\",\n" +
                 "  \"__policyRev\": { \"$numberLong\": \"56\" },\n" +
+                "  \"__hash\": {\n" +
+                "    \"h\": " + SudoStreamSnapshotDigests.getHashHigh(hash) + ",\n" +
+                "    \"l\": { \"$numberLong\": \"" + SudoStreamSnapshotDigests.getHashLow(hash) + "\" }\n" +
+                "  },\n" +
                 "  \"s\": {\n" +
                 "    \"thingId\": \"hello:world\",\n" +
                 "    \"_namespace\": \"hello\",\n" +
@@ -104,4 +111,38 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void promoteFieldsOfNamespace() {
+        final JsonObject thing = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"policyId\": \"hello:world\",\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } },\n" +
+                "  \"attributes\": { \"region\": [ \"north\", \"east\" ], \"hello\": \"world\" }\n" +
+                "}");
+
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                        .forLabel("grant-root")
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .build());
+
+        final PromotedFields promotedFields = PromotedFields.byNamespace(
+                "{\"hello\":[\"/attributes/region\",\"/features/*/properties/there\"]," +
+                        "\"other\":[\"/attributes/hello\"]}");
+
+        final JsonObject expectedPromotedValues = JsonFactory.newObject("{\"p\":[\n" +
+                "  { \"k\": \"/features/*/properties/there\", \"v\": true },\n" +
+                "  { \"k\": \"/attributes/region\", \"v\": \"north\" },\n" +
+                "  { \"k\": \"/attributes/region\", \"v\": \"east\" }\n" +
+                "]}");
+
+        final Document result =
+                EnforcedThingMapper.toWriteModel(thing, enforcer, 56L, -1, promotedFields).getThingDocument();
+
+        assertThat(JsonFactory.newObject(result.toJson()).get(JsonFactory.newFieldSelector("p")))
+                .isEqualTo(expectedPromotedValues);
+    }
 }
@@ -149,16 +149,17 @@ public final class SearchActor extends AbstractActor {
     }
 
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        executeCount(countThings, queryParser::parse, false, countThings.isApproximate());
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true, false);
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
-            final boolean isSudo) {
+            final boolean isSudo,
+            final boolean isApproximate) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         log.withCorrelationId(dittoHeaders)
                 .info("Processing CountThings command: {}", countCommand);
@@ -178,10 +179,16 @@ public final class SearchActor extends AbstractActor {
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                    final Source<Long, NotUsed> countResultSource = isSudo
-                            ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                    final List<String> subjectIds =
+                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds();
+                    final Source<Long, NotUsed> countResultSource;
+                    if (isSudo) {
+                        countResultSource = searchPersistence.sudoCount(query);
+                    } else if (isApproximate) {
+                        countResultSource = searchPersistence.approximateCount(query, subjectIds);
+                    } else {
+                        countResultSource = searchPersistence.count(query, subjectIds);
+                    }
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
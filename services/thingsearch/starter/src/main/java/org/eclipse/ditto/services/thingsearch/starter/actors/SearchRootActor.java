@@ -119,8 +119,16 @@ public final class SearchRootActor extends DittoRootActor {
             final DittoMongoClient mongoDbClient) {
 
         final ActorContext context = getContext();
-        final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+        final MongoThingsSearchPersistence countingPersistence =
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withCountConfig(searchConfig.getCountConfig(), context.getSystem().dispatcher())
+                        .withExportBatchSize(searchConfig.getExportBatchSize());
+        final MongoThingsSearchPersistence persistence = searchConfig.getPromotedFieldsByNamespace()
+                .map(promotedFieldsByNamespace -> {
+                    log.info("Applying promoted fields <{}>.", promotedFieldsByNamespace);
+                    return countingPersistence.withPromotedFieldsByNamespace(promotedFieldsByNamespace);
+                })
+                .orElse(countingPersistence);
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
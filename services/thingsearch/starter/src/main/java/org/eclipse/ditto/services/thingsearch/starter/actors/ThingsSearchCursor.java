@@ -329,7 +329,7 @@ final class ThingsSearchCursor {
             final ActorSystem system) {
         final ByteString compressed = ByteString.fromArray(Base64.getUrlDecoder().decode(cursorString));
         return Coder.Deflate.decode(compressed, SystemMaterializer.get(system).materializer())
-                .thenApply(decompressed -> fromJson(JsonFactory.newObject(decompressed.utf8String())));
+                .thenApply(decompressed -> fromJson(JsonFactory.readFrom(decompressed.asByteBuffer()).asObject()));
     }
 
     private static PartialFunction<Throwable, Throwable> createDecodeErrorMapper() {
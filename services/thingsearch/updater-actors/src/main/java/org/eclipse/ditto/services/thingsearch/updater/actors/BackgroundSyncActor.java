@@ -14,7 +14,11 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -24,6 +28,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.BackgroundSyncConfig
 import org.eclipse.ditto.services.thingsearch.common.config.DefaultBackgroundSyncConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.MetadataDigest;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.BackgroundSyncStream;
 import org.eclipse.ditto.services.utils.akka.controlflow.ResumeSource;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
@@ -41,7 +46,9 @@ import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
- * Cluster-singleton responsible for background synchronization.
+ * Actor responsible for background synchronization of a partition of the thing ID space.
+ * It runs as cluster singleton if background sync is not partitioned and as entity of the background sync shard
+ * region named after the index of its partition otherwise.
  */
 public final class BackgroundSyncActor
         extends AbstractBackgroundStreamingActorWithConfigWithStatusReport<BackgroundSyncConfig> {
@@ -53,23 +60,30 @@ public final class BackgroundSyncActor
 
     private final ThingsMetadataSource thingsMetadataSource;
     private final ThingsSearchPersistence thingsSearchPersistence;
+    private final BackgroundSyncPartition partition;
     private final TimestampPersistence backgroundSyncPersistence;
     private final BackgroundSyncStream backgroundSyncStream;
     private final ActorRef thingsUpdater;
 
     private ThingId progressPersisted = ThingId.dummy();
     private ThingId progressIndexed = ThingId.dummy();
+    private int roundsSinceFullSync = 0;
+    private boolean digestingRanges = false;
 
     private BackgroundSyncActor(final BackgroundSyncConfig backgroundSyncConfig,
             final ThingsMetadataSource thingsMetadataSource,
             final ThingsSearchPersistence thingsSearchPersistence,
-            final TimestampPersistence backgroundSyncPersistence,
+            final List<BackgroundSyncPartition> partitions,
             final BackgroundSyncStream backgroundSyncStream,
             final ActorRef thingsUpdater) {
         super(backgroundSyncConfig);
         this.thingsMetadataSource = thingsMetadataSource;
         this.thingsSearchPersistence = thingsSearchPersistence;
-        this.backgroundSyncPersistence = backgroundSyncPersistence;
+        // sharded background sync actors are named after the index of their partitions
+        partition = partitions.size() == 1
+                ? partitions.get(0)
+                : partitions.get(Integer.parseInt(getSelf().path().name()));
+        backgroundSyncPersistence = partition.getBookmarkPersistence();
         this.backgroundSyncStream = backgroundSyncStream;
         this.thingsUpdater = thingsUpdater;
 
@@ -94,6 +108,29 @@ public final class BackgroundSyncActor
             final ActorRef policiesShardRegion,
             final ActorRef thingsUpdater) {
 
+        return props(config, pubSubMediator, thingsSearchPersistence,
+                List.of(BackgroundSyncPartition.all(backgroundSyncPersistence)), policiesShardRegion, thingsUpdater);
+    }
+
+    /**
+     * Create Akka Props object for the background sync actors of partitions of the thing ID space, which are named
+     * after the indices of their partitions.
+     *
+     * @param config the config of the background sync actor.
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param thingsSearchPersistence the search persistence to access the search index.
+     * @param partitions the partitions of the thing ID space.
+     * @param policiesShardRegion the policies shard region to query policy revisions.
+     * @param thingsUpdater the dispatcher of UpdateThing commands.
+     * @return an actor to synchronize a partition in the background.
+     */
+    static Props props(final BackgroundSyncConfig config,
+            final ActorRef pubSubMediator,
+            final ThingsSearchPersistence thingsSearchPersistence,
+            final List<BackgroundSyncPartition> partitions,
+            final ActorRef policiesShardRegion,
+            final ActorRef thingsUpdater) {
+
         final ThingsMetadataSource thingsMetadataSource =
                 ThingsMetadataSource.of(pubSubMediator, config.getThrottleThroughput(), config.getIdleTimeout());
         final BackgroundSyncStream backgroundSyncStream =
@@ -101,7 +138,7 @@ public final class BackgroundSyncActor
                         config.getToleranceWindow(), config.getThrottleThroughput(), config.getThrottlePeriod());
 
         return Props.create(BackgroundSyncActor.class, config, thingsMetadataSource, thingsSearchPersistence,
-                backgroundSyncPersistence, backgroundSyncStream, thingsUpdater);
+                partitions, backgroundSyncStream, thingsUpdater);
     }
 
     @Override
@@ -127,6 +164,10 @@ public final class BackgroundSyncActor
     protected void postEnhanceStatusReport(final JsonObjectBuilder statusReportBuilder) {
         statusReportBuilder.set("progressPersisted", progressPersisted.toString());
         statusReportBuilder.set("progressIndexed", progressIndexed.toString());
+        statusReportBuilder.set("rangeDigests", digestingRanges);
+        if (!partition.isAll()) {
+            statusReportBuilder.set("partition", partition.toString());
+        }
     }
 
     @Override
@@ -145,18 +186,77 @@ public final class BackgroundSyncActor
 
     @Override
     protected Source<?, ?> getSource() {
+        final boolean digestRanges = isRangeDigestRound();
+        digestingRanges = digestRanges;
         return getLowerBoundSource()
-                .flatMapConcat(this::streamMetadataFromLowerBound)
+                .flatMapConcat(lowerBound -> digestRanges
+                        ? streamMismatchingRangesFromLowerBound(lowerBound)
+                        : streamMetadataFromLowerBound(lowerBound, partition::isWithinUpperBound))
                 .wireTap(this::handleInconsistency);
     }
 
-    private Source<Metadata, NotUsed> streamMetadataFromLowerBound(final ThingId lowerBound) {
+    private boolean isRangeDigestRound() {
+        if (config.getRangeDigestSize() > 0 &&
+                ++roundsSinceFullSync < config.getRangeDigestFullSyncInterval()) {
+            return true;
+        } else {
+            // digests do not cover policy revisions; compare all entries from time to time
+            roundsSinceFullSync = 0;
+            return false;
+        }
+    }
+
+    private Source<Metadata, NotUsed> streamMetadataFromLowerBound(final ThingId lowerBound,
+            final Predicate<ThingId> isWithinUpperBound) {
+
         final Source<Metadata, NotUsed> persistedMetadata =
-                getPersistedMetadataSourceWithProgressReporting(lowerBound);
-        final Source<Metadata, NotUsed> indexedMetadata = getIndexedMetadataSource(lowerBound);
+                getPersistedMetadataSourceWithProgressReporting(lowerBound, isWithinUpperBound);
+        final Source<Metadata, NotUsed> indexedMetadata = getIndexedMetadataSource(lowerBound, isWithinUpperBound);
         return backgroundSyncStream.filterForInconsistencies(persistedMetadata, indexedMetadata);
     }
 
+    /**
+     * Compare digests of consecutive ranges of the things persistence with those of the search index and stream
+     * metadata of the ranges with differing digests only. The ranges are cut by the things persistence; the range
+     * after the last digested range is always compared entry by entry to find search index entries of deleted things.
+     *
+     * @param lowerBound the exclusive lower bound of the first range.
+     * @return source of inconsistent entries.
+     */
+    private Source<Metadata, NotUsed> streamMismatchingRangesFromLowerBound(final ThingId lowerBound) {
+        final DigestedRange start = new DigestedRange(lowerBound, lowerBound, null);
+        return thingsMetadataSource.createDigestSource(lowerBound, config.getRangeDigestSize())
+                .map(Optional::of)
+                // mark the end of the digested ranges
+                .concat(Source.single(Optional.<Pair<ThingId, MetadataDigest>>empty()))
+                .scan(start, (previousRange, digest) -> new DigestedRange(previousRange.upperBound,
+                        digest.map(Pair::first).orElse(null), digest.map(Pair::second).orElse(null)))
+                .drop(1)
+                .takeWhile(range -> range.lowerBound.isDummy() || partition.isWithinUpperBound(range.lowerBound))
+                .flatMapConcat(this::filterRangeForInconsistencies);
+    }
+
+    private Source<Metadata, NotUsed> filterRangeForInconsistencies(final DigestedRange range) {
+        final ThingId upperBound = range.upperBound;
+        if (null == upperBound || !partition.isWithinUpperBound(upperBound)) {
+            // the range is open or crosses the upper bound of the partition
+            return streamMetadataFromLowerBound(range.lowerBound, partition::isWithinUpperBound);
+        }
+        return thingsSearchPersistence.sudoDigestMetadata(range.lowerBound, upperBound)
+                .flatMapConcat(indexedDigest -> {
+                    if (indexedDigest.equals(range.persistedDigest)) {
+                        getSelf().tell(new ProgressReport(upperBound, true), ActorRef.noSender());
+                        getSelf().tell(new ProgressReport(upperBound, false), ActorRef.noSender());
+                        return Source.<Metadata>empty();
+                    } else {
+                        log.debug("Digests of <{}> differ: persisted=<{}>, indexed=<{}>", range,
+                                range.persistedDigest, indexedDigest);
+                        return streamMetadataFromLowerBound(range.lowerBound,
+                                thingId -> BackgroundSyncStream.compareThingIds(thingId, upperBound) <= 0);
+                    }
+                });
+    }
+
     private void setProgress(ProgressReport progress) {
         if (progress.persisted) {
             progressPersisted = progress.thingId;
@@ -204,20 +304,26 @@ public final class BackgroundSyncActor
                     if (optional.isPresent()) {
                         final String bookmarkedThingId = optional.get().second();
                         if (bookmarkedThingId != null && !bookmarkedThingId.isEmpty())
-                            return ThingId.of(bookmarkedThingId);
+                            return partition.getLowerBound(ThingId.of(bookmarkedThingId));
                     }
-                    return ThingId.dummy();
+                    return partition.getLowerBound(ThingId.dummy());
                 });
     }
 
-    private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final ThingId lowerBound) {
+    private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final ThingId lowerBound,
+            final Predicate<ThingId> isWithinUpperBound) {
+
         return wrapAsResumeSource(lowerBound, thingsMetadataSource::createSource)
+                .takeWhile(persisted -> isWithinUpperBound.test(persisted.getThingId()))
                 .wireTap(persisted ->
                         getSelf().tell(new ProgressReport(persisted.getThingId(), true), ActorRef.noSender()));
     }
 
-    private Source<Metadata, NotUsed> getIndexedMetadataSource(final ThingId lowerBound) {
+    private Source<Metadata, NotUsed> getIndexedMetadataSource(final ThingId lowerBound,
+            final Predicate<ThingId> isWithinUpperBound) {
+
         return wrapAsResumeSource(lowerBound, thingsSearchPersistence::sudoStreamMetadata)
+                .takeWhile(indexed -> isWithinUpperBound.test(indexed.getThingId()))
                 .wireTap(indexed ->
                         getSelf().tell(new ProgressReport(indexed.getThingId(), false), ActorRef.noSender()));
     }
@@ -283,6 +389,29 @@ public final class BackgroundSyncActor
 
     }
 
+    /**
+     * A range of thing IDs excluding its lower bound and including its upper bound with the digest of the things
+     * persistence; without upper bound and digest after the last digested range.
+     */
+    private static final class DigestedRange {
+
+        private final ThingId lowerBound;
+        @Nullable private final ThingId upperBound;
+        @Nullable private final MetadataDigest persistedDigest;
+
+        private DigestedRange(final ThingId lowerBound, @Nullable final ThingId upperBound,
+                @Nullable final MetadataDigest persistedDigest) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.persistedDigest = persistedDigest;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + (lowerBound.isDummy() ? "" : lowerBound) + "," + (null == upperBound ? "" : upperBound) + "]";
+        }
+    }
+
     private static final class ProgressReport {
 
         private final ThingId thingId;
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+
+/**
+ * Cluster singleton keeping the partitions of background sync running on the search updater instances and
+ * aggregating their status reports.
+ */
+final class BackgroundSyncCoordinator extends AbstractActorWithTimers {
+
+    /**
+     * Name of the singleton coordinator.
+     */
+    static final String ACTOR_NAME = "backgroundSyncCoordinator";
+
+    private static final Duration STATUS_ASK_TIMEOUT = Duration.ofSeconds(10L);
+
+    // for logging in callbacks of futures, which do not run in the thread of the actor
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(BackgroundSyncCoordinator.class);
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final ActorRef partitionsShardRegion;
+    private final int numberOfPartitions;
+
+    @SuppressWarnings("unused")
+    private BackgroundSyncCoordinator(final ActorRef partitionsShardRegion, final int numberOfPartitions,
+            final Duration startInterval) {
+
+        this.partitionsShardRegion = partitionsShardRegion;
+        this.numberOfPartitions = numberOfPartitions;
+
+        // partitions are not restarted by the shard region after rebalancing or failure of an updater instance
+        getTimers().startPeriodicTimer(Control.START_PARTITIONS, Control.START_PARTITIONS, startInterval);
+        getSelf().tell(Control.START_PARTITIONS, getSelf());
+    }
+
+    /**
+     * Create Akka Props object for the background sync coordinator.
+     *
+     * @param partitionsShardRegion the shard region of the background sync actors of the partitions.
+     * @param numberOfPartitions the number of partitions.
+     * @param startInterval how often to start the background sync actors of the partitions if they are not running.
+     * @return Props of the coordinator.
+     */
+    static Props props(final ActorRef partitionsShardRegion, final int numberOfPartitions,
+            final Duration startInterval) {
+
+        return Props.create(BackgroundSyncCoordinator.class, partitionsShardRegion, numberOfPartitions,
+                startInterval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.START_PARTITIONS, this::startPartitions)
+                .match(ShardRegion.StartEntityAck.class, ack -> log.debug("Partition started: <{}>", ack.entityId()))
+                .match(RetrieveHealth.class, this::retrieveHealth)
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void startPartitions(final Control trigger) {
+        for (int i = 0; i < numberOfPartitions; ++i) {
+            partitionsShardRegion.tell(new ShardRegion.StartEntity(String.valueOf(i)), getSelf());
+        }
+    }
+
+    private void retrieveHealth(final RetrieveHealth retrieveHealth) {
+        final List<CompletableFuture<StatusInfo>> partitionStatuses = new ArrayList<>(numberOfPartitions);
+        for (int i = 0; i < numberOfPartitions; ++i) {
+            partitionStatuses.add(retrievePartitionHealth(i, retrieveHealth).toCompletableFuture());
+        }
+        final CompletionStage<RetrieveHealthResponse> response =
+                CompletableFuture.allOf(partitionStatuses.toArray(new CompletableFuture[0]))
+                        .thenApply(unused -> {
+                            final Map<String, StatusInfo> labeledStatuses = new LinkedHashMap<>();
+                            for (int i = 0; i < numberOfPartitions; ++i) {
+                                labeledStatuses.put("partition-" + i, partitionStatuses.get(i).join());
+                            }
+                            return RetrieveHealthResponse.of(StatusInfo.composite(labeledStatuses),
+                                    retrieveHealth.getDittoHeaders());
+                        });
+        Patterns.pipe(response, getContext().dispatcher()).to(getSender());
+    }
+
+    private CompletionStage<StatusInfo> retrievePartitionHealth(final int partition,
+            final RetrieveHealth retrieveHealth) {
+
+        final ShardedMessageEnvelope envelope = ShardedMessageEnvelope.of(DefaultEntityId.of(String.valueOf(partition)),
+                RetrieveHealth.TYPE, retrieveHealth.toJson(), retrieveHealth.getDittoHeaders());
+        return Patterns.ask(partitionsShardRegion, envelope, STATUS_ASK_TIMEOUT)
+                .handle((response, error) -> {
+                    if (response instanceof RetrieveHealthResponse) {
+                        return ((RetrieveHealthResponse) response).getStatusInfo();
+                    } else {
+                        LOGGER.withCorrelationId(retrieveHealth)
+                                .warn("Got no status of partition <{}>: <{}>", partition,
+                                        null != error ? error : response);
+                        return StatusInfo.fromStatus(StatusInfo.Status.UNKNOWN,
+                                "No status of partition " + partition);
+                    }
+                });
+    }
+
+    private enum Control {
+        START_PARTITIONS
+    }
+
+}
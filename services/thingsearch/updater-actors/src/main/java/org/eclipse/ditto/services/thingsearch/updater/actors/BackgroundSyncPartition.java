@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.BackgroundSyncStream;
+import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+
+/**
+ * A range of thing IDs synchronized by one background sync actor with its own bookmark.
+ * The range excludes its lower bound and includes its upper bound, which agrees with the lower bounds of the streams
+ * of persisted and indexed metadata.
+ */
+@Immutable
+final class BackgroundSyncPartition {
+
+    private final int index;
+    private final ThingId lowerBound;
+    @Nullable private final ThingId upperBound;
+    private final TimestampPersistence bookmarkPersistence;
+
+    private BackgroundSyncPartition(final int index, final ThingId lowerBound, @Nullable final ThingId upperBound,
+            final TimestampPersistence bookmarkPersistence) {
+
+        this.index = index;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.bookmarkPersistence = bookmarkPersistence;
+    }
+
+    /**
+     * Create the only partition containing all thing IDs.
+     *
+     * @param bookmarkPersistence persistence of the bookmark of the partition.
+     * @return the partition.
+     */
+    static BackgroundSyncPartition all(final TimestampPersistence bookmarkPersistence) {
+        return new BackgroundSyncPartition(0, ThingId.dummy(), null, bookmarkPersistence);
+    }
+
+    /**
+     * Split the thing ID space into partitions.
+     *
+     * @param bounds the ascending thing IDs between the partitions.
+     * @param bookmarkPersistences the persistence of the bookmark of each partition by index.
+     * @return the partitions ordered by their thing IDs; one more than there are bounds.
+     * @throws DittoConfigError if the bounds are no ascending thing IDs.
+     */
+    static List<BackgroundSyncPartition> of(final List<String> bounds,
+            final IntFunction<TimestampPersistence> bookmarkPersistences) {
+
+        final List<BackgroundSyncPartition> partitions = new ArrayList<>(bounds.size() + 1);
+        ThingId lowerBound = ThingId.dummy();
+        for (int i = 0; i <= bounds.size(); ++i) {
+            final ThingId upperBound = i < bounds.size() ? parseBound(bounds.get(i)) : null;
+            if (null != upperBound && !lowerBound.isDummy() &&
+                    BackgroundSyncStream.compareThingIds(lowerBound, upperBound) >= 0) {
+                throw new DittoConfigError("Background sync partition bounds are not ascending: " + bounds);
+            }
+            partitions.add(new BackgroundSyncPartition(i, lowerBound, upperBound, bookmarkPersistences.apply(i)));
+            lowerBound = upperBound;
+        }
+        return Collections.unmodifiableList(partitions);
+    }
+
+    private static ThingId parseBound(final String bound) {
+        try {
+            return ThingId.of(bound);
+        } catch (final RuntimeException e) {
+            throw new DittoConfigError("Background sync partition bound is no thing ID: " + bound, e);
+        }
+    }
+
+    /**
+     * @return index of the partition.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return persistence of the bookmark of the partition.
+     */
+    TimestampPersistence getBookmarkPersistence() {
+        return bookmarkPersistence;
+    }
+
+    /**
+     * Get the exclusive lower bound to resume synchronization of this partition from.
+     *
+     * @param bookmark the bookmarked thing ID or a dummy thing ID if there is no bookmark.
+     * @return the bookmark if it is inside this partition, or the lower bound of this partition otherwise.
+     */
+    ThingId getLowerBound(final ThingId bookmark) {
+        if (bookmark.isDummy()) {
+            return lowerBound;
+        } else if (lowerBound.isDummy()) {
+            return bookmark;
+        } else {
+            return BackgroundSyncStream.compareThingIds(bookmark, lowerBound) > 0 ? bookmark : lowerBound;
+        }
+    }
+
+    /**
+     * Test whether a thing ID is not beyond the upper bound of this partition.
+     *
+     * @param thingId the thing ID.
+     * @return whether synchronization of this partition should continue after the thing ID.
+     */
+    boolean isWithinUpperBound(final ThingId thingId) {
+        return null == upperBound || BackgroundSyncStream.compareThingIds(thingId, upperBound) <= 0;
+    }
+
+    /**
+     * @return whether this partition contains all thing IDs.
+     */
+    boolean isAll() {
+        return lowerBound.isDummy() && null == upperBound;
+    }
+
+    @Override
+    public String toString() {
+        return index + ":(" + (lowerBound.isDummy() ? "" : lowerBound) + "," +
+                (null == upperBound ? "" : upperBound) + "]";
+    }
+
+}
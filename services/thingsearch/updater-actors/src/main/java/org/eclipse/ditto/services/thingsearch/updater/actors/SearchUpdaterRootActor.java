@@ -12,9 +12,14 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.BACKGROUND_SYNC_COLLECTION_NAME;
+
+import java.util.List;
+
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
+import org.eclipse.ditto.services.thingsearch.common.config.BackgroundSyncConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
@@ -34,6 +39,7 @@ import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonCommandListener;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonConnectionPoolListener;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoTimestampPersistence;
 import org.eclipse.ditto.services.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
@@ -52,6 +58,8 @@ import akka.event.Logging;
 import akka.event.LoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.KillSwitch;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
 
 /**
  * Our "Parent" Actor which takes care of supervision of all other Actors in our system.
@@ -138,25 +146,51 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         searchUpdaterPersistence);
         startChildActor(PolicyEventForwarder.ACTOR_NAME, policyEventForwarderProps);
 
-        // start background sync actor as cluster singleton
-        final Props backgroundSyncActorProps = BackgroundSyncActor.props(
-                updaterConfig.getBackgroundSyncConfig(),
-                pubSubMediator,
-                thingsSearchPersistence,
-                backgroundSyncPersistence,
-                shardRegionFactory.getPoliciesShardRegion(numberOfShards),
-                thingsUpdaterActor
-        );
-        backgroundSyncActorProxy =
-                ClusterUtil.startSingletonProxy(getContext(), CLUSTER_ROLE,
-                        startClusterSingletonActor(BackgroundSyncActor.ACTOR_NAME, backgroundSyncActorProps)
-                );
+        backgroundSyncActorProxy = startBackgroundSync(updaterConfig.getBackgroundSyncConfig(), pubSubMediator,
+                thingsSearchPersistence, backgroundSyncPersistence,
+                shardRegionFactory.getPoliciesShardRegion(numberOfShards), shardRegionFactory);
 
         startChildActor(ThingsSearchPersistenceOperationsActor.ACTOR_NAME,
                 ThingsSearchPersistenceOperationsActor.props(pubSubMediator, searchUpdaterPersistence,
                         searchConfig.getPersistenceOperationsConfig()));
     }
 
+    private ActorRef startBackgroundSync(final BackgroundSyncConfig backgroundSyncConfig,
+            final ActorRef pubSubMediator,
+            final ThingsSearchPersistence thingsSearchPersistence,
+            final TimestampPersistence backgroundSyncPersistence,
+            final ActorRef policiesShardRegion,
+            final ShardRegionFactory shardRegionFactory) {
+
+        final List<String> partitionBounds = backgroundSyncConfig.getPartitionBounds();
+        if (partitionBounds.isEmpty()) {
+            // start background sync actor as cluster singleton
+            final Props backgroundSyncActorProps = BackgroundSyncActor.props(backgroundSyncConfig, pubSubMediator,
+                    thingsSearchPersistence, backgroundSyncPersistence, policiesShardRegion, thingsUpdaterActor);
+            return ClusterUtil.startSingletonProxy(getContext(), CLUSTER_ROLE,
+                    startClusterSingletonActor(BackgroundSyncActor.ACTOR_NAME, backgroundSyncActorProps));
+        } else {
+            // start background sync actors of partitions in a shard region and their coordinator as cluster singleton
+            // the first partition keeps the bookmark of unpartitioned background sync
+            final List<BackgroundSyncPartition> partitions = BackgroundSyncPartition.of(partitionBounds,
+                    i -> 0 == i ? backgroundSyncPersistence : createBookmarkPersistence(i));
+            final Props backgroundSyncActorProps = BackgroundSyncActor.props(backgroundSyncConfig, pubSubMediator,
+                    thingsSearchPersistence, partitions, policiesShardRegion, thingsUpdaterActor);
+            final ActorRef partitionsShardRegion = shardRegionFactory.getBackgroundSyncShardRegion(partitions.size(),
+                    backgroundSyncActorProps, CLUSTER_ROLE);
+            final Props coordinatorProps = BackgroundSyncCoordinator.props(partitionsShardRegion, partitions.size(),
+                    backgroundSyncConfig.getQuietPeriod());
+            return ClusterUtil.startSingletonProxy(getContext(), CLUSTER_ROLE,
+                    startClusterSingletonActor(BackgroundSyncCoordinator.ACTOR_NAME, coordinatorProps));
+        }
+    }
+
+    private TimestampPersistence createBookmarkPersistence(final int partition) {
+        final Materializer materializer = SystemMaterializer.get(getContext().getSystem()).materializer();
+        return MongoTimestampPersistence.initializedInstance(BACKGROUND_SYNC_COLLECTION_NAME + "-" + partition,
+                dittoMongoClient, materializer);
+    }
+
     @Nullable
     private static CommandListener getCommandListenerOrNull(final MongoDbConfig.MonitoringConfig monitoringConfig) {
         return monitoringConfig.isCommandsEnabled() ? new KamonCommandListener(KAMON_METRICS_PREFIX) : null;
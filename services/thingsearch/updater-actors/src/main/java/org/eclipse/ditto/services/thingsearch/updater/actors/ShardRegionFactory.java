@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import javax.annotation.Nonnull;
@@ -38,6 +39,8 @@ final class ShardRegionFactory {
 
     static final String UPDATER_SHARD_REGION = ThingsSearchConstants.SHARD_REGION;
 
+    static final String BACKGROUND_SYNC_SHARD_REGION = "backgroundSyncPartitions";
+
     private final ActorSystem actorSystem;
 
     private ShardRegionFactory(final ActorSystem theActorSystem) {
@@ -109,4 +112,30 @@ final class ShardRegionFactory {
         return clusterSharding.start(UPDATER_SHARD_REGION, thingUpdaterProps, shardingSettings, shardRegionExtractor);
     }
 
+    /**
+     * Returns a new Sharding Region for the background sync actors of the partitions of the thing ID space.
+     * The background sync actors are not passivated as they run their streams without receiving messages.
+     *
+     * @param numberOfPartitions the number of partitions.
+     * @param backgroundSyncProps the Props of the BackgroundSyncActor.
+     * @param clusterRole the cluster role of the members to run background sync.
+     * @return the Sharding Region.
+     * @throws NullPointerException if {@code backgroundSyncProps} is {@code null}.
+     */
+    @Nonnull
+    public ActorRef getBackgroundSyncShardRegion(final int numberOfPartitions,
+            @Nonnull final Props backgroundSyncProps,
+            final String clusterRole) {
+        checkNotNull(backgroundSyncProps, "Props of BackgroundSyncActor");
+
+        final ClusterSharding clusterSharding = ClusterSharding.get(actorSystem);
+        final ClusterShardingSettings shardingSettings = ClusterShardingSettings.create(actorSystem)
+                .withRole(clusterRole)
+                .withPassivateIdleAfter(Duration.ZERO);
+        final ShardRegionExtractor shardRegionExtractor = ShardRegionExtractor.of(numberOfPartitions, actorSystem);
+
+        return clusterSharding.start(BACKGROUND_SYNC_SHARD_REGION, backgroundSyncProps, shardingSettings,
+                shardRegionExtractor);
+    }
+
 }
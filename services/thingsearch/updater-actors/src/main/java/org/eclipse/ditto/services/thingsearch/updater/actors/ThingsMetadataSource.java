@@ -17,6 +17,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -24,13 +26,16 @@ import org.eclipse.ditto.model.policies.PolicyIdInvalidException;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.streaming.StreamedSnapshot;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.MetadataDigest;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 
 import akka.NotUsed;
 import akka.actor.ActorRef;
+import akka.japi.Pair;
 import akka.pattern.Patterns;
 import akka.stream.SourceRef;
 import akka.stream.javadsl.Source;
@@ -46,6 +51,11 @@ final class ThingsMetadataSource {
 
     private static final List<String> SNAPSHOT_FIELDS = List.of(REVISION, POLICY_ID, MODIFIED);
 
+    private static final JsonFieldDefinition<Long> DIGEST_COUNT =
+            JsonFactory.newLongFieldDefinition(SudoStreamSnapshotDigests.COUNT);
+    private static final JsonFieldDefinition<Long> DIGEST_HASH =
+            JsonFactory.newLongFieldDefinition(SudoStreamSnapshotDigests.HASH);
+
     private final ActorRef pubSubMediator;
     private final int burst;
     private final Duration idleTimeout;
@@ -67,13 +77,26 @@ final class ThingsMetadataSource {
      * @return source of metadata streamed from Things via a resume-source.
      */
     Source<Metadata, NotUsed> createSource(final ThingId lowerBound) {
-        return requestStream(lowerBound)
+        return requestStream(getStartStreamCommand(lowerBound))
                 .flatMapConcat(ThingsMetadataSource::getStreamedSnapshots)
                 .map(ThingsMetadataSource::toMetadata)
                 .filter(Optional::isPresent)
                 .map(Optional::get);
     }
 
+    /**
+     * Start a stream of digests of consecutive ranges of thing IDs in Things persistence.
+     *
+     * @param lowerBound the exclusive lower bound of the first range - may come from the bookmark.
+     * @param rangeSize how many snapshots to digest into one range.
+     * @return source of the inclusive upper bounds of the ranges paired with their digests.
+     */
+    Source<Pair<ThingId, MetadataDigest>, NotUsed> createDigestSource(final ThingId lowerBound, final int rangeSize) {
+        return requestStream(getStartDigestStreamCommand(lowerBound, rangeSize))
+                .flatMapConcat(ThingsMetadataSource::getStreamedSnapshots)
+                .map(ThingsMetadataSource::toDigest);
+    }
+
     private Object getStartStreamCommand(final ThingId lowerBound) {
         final SudoStreamSnapshots commandWithoutLowerBound =
                 SudoStreamSnapshots.of(burst, idleTimeout.toMillis(), SNAPSHOT_FIELDS, DittoHeaders.empty());
@@ -82,8 +105,15 @@ final class ThingsMetadataSource {
         return DistPubSubAccess.send(ThingsMessagingConstants.THINGS_SNAPSHOT_STREAMING_ACTOR_PATH, command);
     }
 
-    private Source<SourceRef<?>, NotUsed> requestStream(final ThingId lowerBound) {
-        final Object startStreamCommand = getStartStreamCommand(lowerBound);
+    private Object getStartDigestStreamCommand(final ThingId lowerBound, final int rangeSize) {
+        final SudoStreamSnapshotDigests commandWithoutLowerBound =
+                SudoStreamSnapshotDigests.of(rangeSize, idleTimeout.toMillis(), DittoHeaders.empty());
+        final SudoStreamSnapshotDigests command =
+                lowerBound.isDummy() ? commandWithoutLowerBound : commandWithoutLowerBound.withLowerBound(lowerBound);
+        return DistPubSubAccess.send(ThingsMessagingConstants.THINGS_SNAPSHOT_STREAMING_ACTOR_PATH, command);
+    }
+
+    private Source<SourceRef<?>, NotUsed> requestStream(final Object startStreamCommand) {
         return Source.fromCompletionStage(Patterns.ask(pubSubMediator, startStreamCommand, idleTimeout))
                 .flatMapConcat(response -> {
                     if (response instanceof SourceRef<?>) {
@@ -105,6 +135,14 @@ final class ThingsMetadataSource {
                 });
     }
 
+    private static Pair<ThingId, MetadataDigest> toDigest(final StreamedSnapshot streamedDigest) {
+        final JsonObject digest = streamedDigest.getSnapshot();
+        final MetadataDigest metadataDigest = MetadataDigest.of(
+                digest.getValueOrThrow(DIGEST_COUNT),
+                digest.getValueOrThrow(DIGEST_HASH));
+        return Pair.create(ThingId.of(streamedDigest.getEntityId()), metadataDigest);
+    }
+
     private static Optional<Metadata> toMetadata(final StreamedSnapshot streamedSnapshot) {
         try {
             final JsonObject snapshot = streamedSnapshot.getSnapshot();
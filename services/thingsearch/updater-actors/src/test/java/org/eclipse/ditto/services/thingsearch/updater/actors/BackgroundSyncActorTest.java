@@ -32,6 +32,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -43,6 +44,7 @@ import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.streaming.StreamedSnapshot;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThing;
@@ -235,6 +237,40 @@ public final class BackgroundSyncActorTest {
         }};
     }
 
+    @Test
+    public void synchronizesOnlyRangesWithDifferentDigests() {
+        final BackgroundSyncConfig configWithDigests = DefaultBackgroundSyncConfig.parse(
+                ConfigFactory.parseString("range-digest.size = 2").withFallback(backgroundSyncConfig.getConfig()));
+        final MockThingsSearchPersistence rangedSearchPersistence = new RangedMockThingsSearchPersistence();
+        rangedSearchPersistence.provideMetadata(THINGS_INDEXED);
+
+        new TestKit(actorSystem) {{
+            whenTimestampPersistenceProvidesTaggedTimestamp();
+
+            childActorOf(BackgroundSyncActor.props(configWithDigests, pubSub.getRef(), rangedSearchPersistence,
+                    timestampPersistence, policiesShardRegion.getRef(), thingsUpdater.getRef()));
+
+            // the first range is consistent, the second range is not
+            final DistributedPubSubMediator.Send startDigestStream =
+                    pubSub.expectMsgClass(DEFAULT_TIMEOUT, DistributedPubSubMediator.Send.class);
+            assertThat(startDigestStream.msg()).isInstanceOf(SudoStreamSnapshotDigests.class);
+            pubSub.reply(Source.from(List.of(
+                    createStreamedDigest(KNOWN_IDs.subList(0, 2), REVISION_INDEXED),
+                    createStreamedDigest(KNOWN_IDs.subList(2, 4), REVISION_PERSISTED)))
+                    .runWith(StreamRefs.sourceRef(), Materializer.apply(actorSystem)));
+
+            // only things of the second range are compared
+            expectSyncActorToStartStreaming(pubSub);
+            thenRespondWithPersistedThingsStream(pubSub, THINGS_PERSISTED.subList(2, 4));
+            expectSyncActorToRequestThingUpdatesInSearch(thingsUpdater, KNOWN_IDs.subList(2, 4));
+
+            // the range after the last digested range is compared
+            expectSyncActorToStartStreaming(pubSub);
+            thenRespondWithPersistedThingsStream(pubSub, List.of());
+            thingsUpdater.expectNoMessage();
+        }};
+    }
+
     private ActorRef thenCreateBackgroundSyncActor(final TestKit system) {
         return system.childActorOf(BackgroundSyncActor.props(
                 backgroundSyncConfig,
@@ -390,6 +426,20 @@ public final class BackgroundSyncActorTest {
 
     }
 
+    /**
+     * Search persistence respecting the lower bound of metadata streams.
+     */
+    private static final class RangedMockThingsSearchPersistence extends MockThingsSearchPersistence {
+
+        @Override
+        public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
+            return super.sudoStreamMetadata(lowerBound)
+                    .filter(metadata -> lowerBound.isDummy() ||
+                            metadata.getThingId().toString().compareTo(lowerBound.toString()) > 0);
+        }
+
+    }
+
     private static class MockTimestampPersistence implements TimestampPersistence {
 
         private Instant timestamp;
@@ -420,6 +470,16 @@ public final class BackgroundSyncActorTest {
 
     }
 
+    private static StreamedSnapshot createStreamedDigest(final List<? extends EntityId> range, final long revision) {
+        final long hash = range.stream()
+                .mapToLong(id -> SudoStreamSnapshotDigests.hash(id, revision))
+                .sum();
+        return StreamedSnapshot.of(ThingId.of(range.get(range.size() - 1)), JsonObject.newBuilder()
+                .set(SudoStreamSnapshotDigests.COUNT, (long) range.size())
+                .set(SudoStreamSnapshotDigests.HASH, hash)
+                .build());
+    }
+
     private static StreamedSnapshot createStreamedSnapshot(final EntityId id, final long revision) {
         return StreamedSnapshot.of(ThingId.of(id), Thing.newBuilder()
                 .setId(ThingId.of(id))
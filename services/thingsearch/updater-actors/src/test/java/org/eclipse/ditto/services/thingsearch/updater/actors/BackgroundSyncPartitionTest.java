@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.Test;
+
+/**
+ * Tests {@link BackgroundSyncPartition}.
+ */
+public final class BackgroundSyncPartitionTest {
+
+    private static final TimestampPersistence BOOKMARK_PERSISTENCE = mock(TimestampPersistence.class);
+
+    private static final ThingId BOUND_1 = ThingId.of("org.eclipse.ditto:m");
+    private static final ThingId BOUND_2 = ThingId.of("org.eclipse.ditto:t");
+
+    @Test
+    public void boundsSplitThingIdSpaceIntoAdjacentPartitions() {
+        final List<BackgroundSyncPartition> underTest =
+                BackgroundSyncPartition.of(List.of(BOUND_1.toString(), BOUND_2.toString()),
+                        i -> BOOKMARK_PERSISTENCE);
+
+        assertThat(underTest).hasSize(3);
+        assertThat(underTest.get(0).getLowerBound(ThingId.dummy())).isEqualTo(ThingId.dummy());
+        assertThat(underTest.get(0).isWithinUpperBound(BOUND_1)).isTrue();
+        assertThat(underTest.get(0).isWithinUpperBound(ThingId.of("org.eclipse.ditto:n"))).isFalse();
+        assertThat(underTest.get(1).getLowerBound(ThingId.dummy())).isEqualTo(BOUND_1);
+        assertThat(underTest.get(1).isWithinUpperBound(BOUND_2)).isTrue();
+        assertThat(underTest.get(2).getLowerBound(ThingId.dummy())).isEqualTo(BOUND_2);
+        assertThat(underTest.get(2).isWithinUpperBound(ThingId.of("org.eclipse.ditto:z"))).isTrue();
+        assertThat(underTest).noneMatch(BackgroundSyncPartition::isAll);
+    }
+
+    @Test
+    public void bookmarkBelowPartitionIsIgnored() {
+        final BackgroundSyncPartition underTest =
+                BackgroundSyncPartition.of(List.of(BOUND_1.toString()), i -> BOOKMARK_PERSISTENCE).get(1);
+
+        assertThat(underTest.getLowerBound(ThingId.of("org.eclipse.ditto:a"))).isEqualTo(BOUND_1);
+        assertThat(underTest.getLowerBound(ThingId.of("org.eclipse.ditto:p")))
+                .isEqualTo(ThingId.of("org.eclipse.ditto:p"));
+    }
+
+    @Test
+    public void singlePartitionContainsAllThingIds() {
+        final BackgroundSyncPartition underTest = BackgroundSyncPartition.all(BOOKMARK_PERSISTENCE);
+
+        assertThat(underTest.isAll()).isTrue();
+        assertThat(underTest.getLowerBound(BOUND_1)).isEqualTo(BOUND_1);
+        assertThat(underTest.isWithinUpperBound(BOUND_2)).isTrue();
+    }
+
+    @Test
+    public void boundsMustAscend() {
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() ->
+                BackgroundSyncPartition.of(List.of(BOUND_2.toString(), BOUND_1.toString()),
+                        i -> BOOKMARK_PERSISTENCE));
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Asynchronous cache loader which is able to load the entries of several keys with one retrieval of multiple
+ * entities.
+ *
+ * @param <V> type of values in the cache entry.
+ */
+public interface BatchCacheLoader<V> extends AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> {
+
+    /**
+     * Loads the entries of a batch of keys. The load of each key completes on its own, so that a failed load of one
+     * key does not fail the loads of the other keys of the batch.
+     *
+     * @param keys the distinct keys to load.
+     * @param executor the executor to load the entries with.
+     * @return a future of the entry of each of the given keys.
+     */
+    Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> asyncLoadBatch(
+            Collection<EntityIdWithResourceType> keys, Executor executor);
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Asynchronous cache loader which coalesces the loads of all keys missed within a small window into batches and
+ * passes each batch to {@link BatchCacheLoader#asyncLoadBatch(java.util.Collection, Executor)} of a delegate.
+ * <p>
+ * A batch is dispatched when the window elapsed after its first key or as soon as it reached its maximum size. Each
+ * batch is split by the shard the entities of its keys are located at, using the same hash as the shard region
+ * extractor of the cluster. Loads of the same key within one window share one future. The load of each key completes
+ * as soon as its entry arrived and fails on its own. The size of each dispatched shard batch is recorded in a
+ * histogram.
+ * </p>
+ *
+ * @param <V> type of values in the cache entry.
+ */
+@ThreadSafe
+public final class BatchingCacheLoader<V> implements AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(BatchingCacheLoader.class);
+
+    private final BatchCacheLoader<V> delegate;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final int numberOfShards;
+    private final Histogram batchSizeHistogram;
+
+    @GuardedBy("this")
+    private Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> pendingLoads;
+
+    @GuardedBy("this")
+    private boolean flushScheduled;
+
+    private BatchingCacheLoader(final BatchCacheLoader<V> delegate,
+            final Duration batchWindow,
+            final int maxBatchSize,
+            final int numberOfShards,
+            final Histogram batchSizeHistogram) {
+
+        this.delegate = delegate;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.numberOfShards = numberOfShards;
+        this.batchSizeHistogram = batchSizeHistogram;
+        pendingLoads = new LinkedHashMap<>();
+        flushScheduled = false;
+    }
+
+    /**
+     * Creates a batching cache loader.
+     *
+     * @param delegate the cache loader to load the batches with.
+     * @param batchWindow how long to wait for further keys after the first key of a batch was missed.
+     * @param maxBatchSize the maximum number of keys of a batch.
+     * @param numberOfShards the number of shards of the entities to load.
+     * @param metricName name of the histogram recording the batch sizes.
+     * @param <V> type of values in the cache entry.
+     * @return the cache loader.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code maxBatchSize} or {@code numberOfShards} is not positive.
+     */
+    public static <V> BatchingCacheLoader<V> of(final BatchCacheLoader<V> delegate,
+            final Duration batchWindow,
+            final int maxBatchSize,
+            final int numberOfShards,
+            final String metricName) {
+
+        checkNotNull(delegate, "delegate");
+        checkNotNull(batchWindow, "batchWindow");
+        checkArgument(maxBatchSize, size -> size > 0, () -> "The max batch size must be positive!");
+        checkArgument(numberOfShards, shards -> shards > 0, () -> "The number of shards must be positive!");
+        checkNotNull(metricName, "metricName");
+        return new BatchingCacheLoader<>(delegate, batchWindow, maxBatchSize, numberOfShards,
+                DittoMetrics.histogram(metricName));
+    }
+
+    @Override
+    public CompletableFuture<Entry<V>> asyncLoad(final EntityIdWithResourceType key, final Executor executor) {
+        final CompletableFuture<Entry<V>> future;
+        Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> fullBatch = null;
+        synchronized (this) {
+            final CompletableFuture<Entry<V>> pendingLoad = pendingLoads.get(key);
+            if (null != pendingLoad) {
+                // only loads not yet dispatched are shared so that a load after an invalidation is never stale
+                return pendingLoad;
+            }
+            future = new CompletableFuture<>();
+            pendingLoads.put(key, future);
+            if (pendingLoads.size() >= maxBatchSize) {
+                fullBatch = takePendingLoads();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                CompletableFuture.delayedExecutor(batchWindow.toMillis(), TimeUnit.MILLISECONDS, executor)
+                        .execute(() -> flush(executor));
+            }
+        }
+        if (null != fullBatch) {
+            dispatch(fullBatch, executor);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Map<EntityIdWithResourceType, Entry<V>>> asyncLoadAll(
+            final Iterable<? extends EntityIdWithResourceType> keys, final Executor executor) {
+
+        final Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> futures = new LinkedHashMap<>();
+        keys.forEach(key -> futures.computeIfAbsent(key, k -> asyncLoad(k, executor)));
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .thenApply(unused -> {
+                    final Map<EntityIdWithResourceType, Entry<V>> result = new HashMap<>();
+                    futures.forEach((key, future) -> {
+                        final Entry<V> entry = future.join();
+                        if (null != entry) {
+                            result.put(key, entry);
+                        }
+                    });
+                    return result;
+                });
+    }
+
+    private void flush(final Executor executor) {
+        final Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> batch;
+        synchronized (this) {
+            flushScheduled = false;
+            batch = takePendingLoads();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch, executor);
+        }
+    }
+
+    @GuardedBy("this")
+    private Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> takePendingLoads() {
+        final Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> batch = pendingLoads;
+        pendingLoads = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void dispatch(final Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> batch,
+            final Executor executor) {
+
+        final Map<Integer, List<EntityIdWithResourceType>> batchesPerShard = new HashMap<>();
+        for (final EntityIdWithResourceType key : batch.keySet()) {
+            batchesPerShard.computeIfAbsent(getShard(key), shard -> new ArrayList<>()).add(key);
+        }
+        batchesPerShard.values().forEach(shardBatch -> loadShardBatch(shardBatch, batch, executor));
+    }
+
+    private void loadShardBatch(final List<EntityIdWithResourceType> shardBatch,
+            final Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> futures,
+            final Executor executor) {
+
+        batchSizeHistogram.record((long) shardBatch.size());
+        LOGGER.debug("Loading batch of <{}> keys: <{}>", shardBatch.size(), shardBatch);
+        Map<EntityIdWithResourceType, CompletableFuture<Entry<V>>> loads;
+        try {
+            loads = delegate.asyncLoadBatch(shardBatch, executor);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Loading batch of <{}> keys failed: {}", shardBatch.size(), e.getMessage());
+            shardBatch.forEach(key -> futures.get(key).completeExceptionally(e));
+            return;
+        }
+        for (final EntityIdWithResourceType key : shardBatch) {
+            final CompletableFuture<Entry<V>> future = futures.get(key);
+            final CompletableFuture<Entry<V>> load = loads.get(key);
+            if (null == load) {
+                future.completeExceptionally(new IllegalStateException("Batch did not load key: " + key));
+            } else {
+                load.whenComplete((entry, error) -> {
+                    if (null != error) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(entry);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Computes the shard of the entity of a key like
+     * {@code org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor} does.
+     */
+    @SuppressWarnings({"squid:S2676"})
+    private int getShard(final EntityIdWithResourceType key) {
+        final int hashcode = key.getId().toString().hashCode();
+        // make sure not to negate Integer.MIN_VALUE because -Integer.MIN_VALUE == Integer.MIN_VALUE < 0.
+        final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
+        return nonNegativeHashcode % numberOfShards;
+    }
+
+}
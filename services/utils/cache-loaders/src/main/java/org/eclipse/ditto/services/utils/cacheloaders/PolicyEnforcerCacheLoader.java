@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.utils.cacheloaders;
 import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
@@ -23,12 +24,17 @@ import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
@@ -47,6 +53,9 @@ import akka.actor.ActorRef;
 public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityIdWithResourceType,
         Entry<Enforcer>> {
 
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(PolicyEnforcerCacheLoader.class);
+
     private final ActorAskCacheLoader<Enforcer, Command> delegate;
 
     /**
@@ -80,7 +89,7 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            return Entry.of(revision, getEnforcer(sudoRetrievePolicyResponse, policy));
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -88,6 +97,24 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
         }
     }
 
+    /**
+     * Restores the enforcer built by the policies service if the response contains it, otherwise builds it.
+     */
+    private static Enforcer getEnforcer(final SudoRetrievePolicyResponse response, final Policy policy) {
+        return response.getEnforcer()
+                .flatMap(PolicyEnforcerCacheLoader::restoreEnforcer)
+                .orElseGet(() -> PolicyEnforcers.defaultEvaluator(policy));
+    }
+
+    private static Optional<Enforcer> restoreEnforcer(final JsonObject enforcerJson) {
+        try {
+            return Optional.of(TrieBasedPolicyEnforcer.fromJson(enforcerJson));
+        } catch (final JsonParseException e) {
+            LOGGER.warn("Building enforcer as the serialized enforcer could not be restored: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     private static Supplier<RuntimeException> badPolicyResponse(final String message) {
         return () -> new IllegalStateException("Bad SudoRetrievePolicyResponse: " + message);
     }
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.cacheloaders;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +22,7 @@ import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,4 +77,17 @@ final class ThingCommandFactory {
         );
     }
 
+    /**
+     * Creates a sudo command for retrieving multiple things.
+     *
+     * @param thingIds the IDs of the things.
+     * @return the created command.
+     */
+    static SudoRetrieveThings sudoRetrieveThings(final List<ThingId> thingIds) {
+        LOGGER.debug("Sending SudoRetrieveThings for <{}> Things", thingIds.size());
+        return SudoRetrieveThings.of(thingIds, DittoHeaders.newBuilder()
+                .correlationId("sudoRetrieveThings-" + UUID.randomUUID().toString())
+                .build());
+    }
+
 }
@@ -13,11 +13,17 @@
 package org.eclipse.ditto.services.utils.cacheloaders;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -29,6 +35,8 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
@@ -37,26 +45,54 @@ import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 
-import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
-
 import akka.actor.ActorRef;
+import akka.japi.Pair;
+import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.SourceRef;
 
 /**
  * Loads entity ID relation for authorization of a Thing by asking the things-shard-region proxy.
+ * <p>
+ * Batches of things are retrieved with one {@code SudoRetrieveThings} from a things aggregator, which answers with a
+ * stream of the responses to the {@code SudoRetrieveThing} of each thing in the order of the requested IDs.
+ * </p>
  */
 @Immutable
-public final class ThingEnforcementIdCacheLoader
-        implements AsyncCacheLoader<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> {
+public final class ThingEnforcementIdCacheLoader implements BatchCacheLoader<EntityIdWithResourceType> {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(ThingEnforcementIdCacheLoader.class);
 
     private final ActorAskCacheLoader<EntityIdWithResourceType, Command> delegate;
+    private final Duration askTimeout;
+    @Nullable private final ActorRef thingsAggregator;
+    @Nullable private final Materializer materializer;
 
     /**
-     * Constructor.
+     * Constructor of a cache loader which loads the things of a batch one by one.
      *
      * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
      * @param shardRegionProxy the shard-region-proxy.
      */
     public ThingEnforcementIdCacheLoader(final Duration askTimeout, final ActorRef shardRegionProxy) {
+        this(askTimeout, shardRegionProxy, null, null);
+    }
+
+    /**
+     * Constructor of a cache loader which retrieves the things of a batch with one {@code SudoRetrieveThings}.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy and the things aggregator.
+     * @param shardRegionProxy the shard-region-proxy.
+     * @param thingsAggregator the things aggregator which retrieves the things from the shard-region-proxy and
+     * serializes them in their original schema version.
+     * @param materializer the materializer to consume the responses of the things aggregator with.
+     */
+    public ThingEnforcementIdCacheLoader(final Duration askTimeout,
+            final ActorRef shardRegionProxy,
+            @Nullable final ActorRef thingsAggregator,
+            @Nullable final Materializer materializer) {
+
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = ThingCommandFactory::sudoRetrieveThing;
         final BiFunction<Object, CacheLookupContext, Entry<EntityIdWithResourceType>> responseTransformer =
                 ThingEnforcementIdCacheLoader::handleSudoRetrieveThingResponse;
@@ -64,6 +100,9 @@ public final class ThingEnforcementIdCacheLoader
         delegate =
                 ActorAskCacheLoader.forShard(askTimeout, ThingCommand.RESOURCE_TYPE, shardRegionProxy, commandCreator,
                         responseTransformer);
+        this.askTimeout = askTimeout;
+        this.thingsAggregator = thingsAggregator;
+        this.materializer = materializer;
     }
 
     @Override
@@ -72,6 +111,75 @@ public final class ThingEnforcementIdCacheLoader
         return delegate.asyncLoad(key, executor);
     }
 
+    @Override
+    public Map<EntityIdWithResourceType, CompletableFuture<Entry<EntityIdWithResourceType>>> asyncLoadBatch(
+            final Collection<EntityIdWithResourceType> keys, final Executor executor) {
+
+        final List<EntityIdWithResourceType> keyList = new ArrayList<>(keys);
+        final Map<EntityIdWithResourceType, CompletableFuture<Entry<EntityIdWithResourceType>>> futures =
+                new LinkedHashMap<>();
+        keyList.forEach(key -> futures.put(key, new CompletableFuture<>()));
+        if (null == thingsAggregator || null == materializer) {
+            futures.forEach((key, future) -> loadSingle(key, future, executor));
+            return futures;
+        }
+
+        final List<ThingId> thingIds = keyList.stream()
+                .map(key -> ThingId.of(key.getId()))
+                .collect(Collectors.toList());
+        Patterns.ask(thingsAggregator, ThingCommandFactory.sudoRetrieveThings(thingIds), askTimeout)
+                .thenCompose(response -> {
+                    if (response instanceof SourceRef) {
+                        return ((SourceRef<?>) response).getSource()
+                                .zipWithIndex()
+                                .runForeach(pair -> completeFromResponse(futures.get(getKey(keyList, pair)),
+                                        pair.first()), materializer);
+                    }
+                    throw new IllegalStateException("expect SourceRef, got: " + response);
+                })
+                .whenComplete((done, error) -> {
+                    if (null != error) {
+                        LOGGER.warn("Retrieving batch of <{}> things failed, loading the remaining ones one by one: {}",
+                                thingIds.size(), error.getMessage());
+                    }
+                    // the things without response, e.g. after a timeout of the stream, are retrieved on their own
+                    futures.forEach((key, future) -> {
+                        if (!future.isDone()) {
+                            loadSingle(key, future, executor);
+                        }
+                    });
+                });
+        return futures;
+    }
+
+    private void loadSingle(final EntityIdWithResourceType key,
+            final CompletableFuture<Entry<EntityIdWithResourceType>> future, final Executor executor) {
+
+        delegate.asyncLoad(key, executor).whenComplete((entry, error) -> {
+            if (null != error) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(entry);
+            }
+        });
+    }
+
+    private static EntityIdWithResourceType getKey(final List<EntityIdWithResourceType> keyList,
+            final Pair<?, Long> responseWithIndex) {
+
+        return keyList.get(responseWithIndex.second().intValue());
+    }
+
+    private static void completeFromResponse(final CompletableFuture<Entry<EntityIdWithResourceType>> future,
+            final Object response) {
+
+        try {
+            future.complete(handleSudoRetrieveThingResponse(response, null));
+        } catch (final RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
     private static Entry<EntityIdWithResourceType> handleSudoRetrieveThingResponse(final Object response,
             @Nullable final CacheLookupContext cacheLookupContext) {
         if (response instanceof SudoRetrieveThingResponse) {
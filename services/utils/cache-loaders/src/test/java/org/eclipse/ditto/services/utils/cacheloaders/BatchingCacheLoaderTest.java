@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.junit.Test;
+
+/**
+ * Tests {@link BatchingCacheLoader}.
+ */
+public final class BatchingCacheLoaderTest {
+
+    private static final Executor EXECUTOR = ForkJoinPool.commonPool();
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1L);
+
+    private final RecordingLoader delegate = new RecordingLoader();
+
+    @Test
+    public void loadsOfSameKeyWithinWindowAreDeduplicated() throws Exception {
+        final BatchingCacheLoader<String> underTest =
+                BatchingCacheLoader.of(delegate, Duration.ofMillis(100L), 100, 1, "test_batch_size");
+
+        final CompletableFuture<Entry<String>> first = underTest.asyncLoad(key(1), EXECUTOR);
+        final CompletableFuture<Entry<String>> second = underTest.asyncLoad(key(1), EXECUTOR);
+        final CompletableFuture<Entry<String>> other = underTest.asyncLoad(key(2), EXECUTOR);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.get(5L, TimeUnit.SECONDS).getValueOrThrow()).isEqualTo(key(1).toString());
+        assertThat(other.get(5L, TimeUnit.SECONDS).getValueOrThrow()).isEqualTo(key(2).toString());
+        assertThat(delegate.batches).containsExactly(List.of(key(1), key(2)));
+    }
+
+    @Test
+    public void fullBatchIsDispatchedBeforeWindowElapsed() throws Exception {
+        final BatchingCacheLoader<String> underTest = BatchingCacheLoader.of(delegate, LONG_WINDOW, 3, 1,
+                "test_batch_size");
+
+        final List<CompletableFuture<Entry<String>>> futures = IntStream.range(0, 3)
+                .mapToObj(i -> underTest.asyncLoad(key(i), EXECUTOR))
+                .collect(Collectors.toList());
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5L, TimeUnit.SECONDS);
+        assertThat(delegate.batches).containsExactly(List.of(key(0), key(1), key(2)));
+    }
+
+    @Test
+    public void batchesAreSplitByShard() throws Exception {
+        final int numberOfShards = 4;
+        final int numberOfKeys = 40;
+        final BatchingCacheLoader<String> underTest =
+                BatchingCacheLoader.of(delegate, LONG_WINDOW, numberOfKeys, numberOfShards, "test_batch_size");
+
+        final List<EntityIdWithResourceType> keys = IntStream.range(0, numberOfKeys)
+                .mapToObj(BatchingCacheLoaderTest::key)
+                .collect(Collectors.toList());
+        underTest.asyncLoadAll(keys, EXECUTOR).get(5L, TimeUnit.SECONDS);
+
+        assertThat(delegate.batches.stream().mapToInt(List::size).sum()).isEqualTo(numberOfKeys);
+        for (final List<EntityIdWithResourceType> batch : delegate.batches) {
+            assertThat(batch.stream().map(key -> shard(key, numberOfShards)).distinct()).hasSize(1);
+        }
+    }
+
+    @Test
+    public void failedLoadFailsOnlyItsKey() throws Exception {
+        final BatchingCacheLoader<String> underTest = BatchingCacheLoader.of(new FailingLoader(key(1)), LONG_WINDOW, 2,
+                1, "test_batch_size");
+
+        final CompletableFuture<Entry<String>> failing = underTest.asyncLoad(key(1), EXECUTOR);
+        final CompletableFuture<Entry<String>> succeeding = underTest.asyncLoad(key(2), EXECUTOR);
+
+        assertThatThrownBy(failing::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(succeeding.get(5L, TimeUnit.SECONDS).getValueOrThrow()).isEqualTo(key(2).toString());
+    }
+
+    @Test
+    public void loadOfKeyCompletesBeforeSlowerLoadsOfItsBatch() throws Exception {
+        final CompletableFuture<Entry<String>> slowLoad = new CompletableFuture<>();
+        final BatchCacheLoader<String> slowLoader = new RecordingLoader() {
+
+            @Override
+            public Map<EntityIdWithResourceType, CompletableFuture<Entry<String>>> asyncLoadBatch(
+                    final Collection<EntityIdWithResourceType> keys, final Executor executor) {
+
+                final Map<EntityIdWithResourceType, CompletableFuture<Entry<String>>> loads =
+                        super.asyncLoadBatch(keys, executor);
+                loads.put(key(1), slowLoad);
+                return loads;
+            }
+        };
+        final BatchingCacheLoader<String> underTest = BatchingCacheLoader.of(slowLoader, LONG_WINDOW, 2, 1,
+                "test_batch_size");
+
+        final CompletableFuture<Entry<String>> slow = underTest.asyncLoad(key(1), EXECUTOR);
+        final CompletableFuture<Entry<String>> fast = underTest.asyncLoad(key(2), EXECUTOR);
+
+        assertThat(fast.get(5L, TimeUnit.SECONDS).getValueOrThrow()).isEqualTo(key(2).toString());
+        assertThat(slow).isNotDone();
+        slowLoad.complete(Entry.nonexistent());
+        assertThat(slow.get(5L, TimeUnit.SECONDS).exists()).isFalse();
+    }
+
+    @Test
+    public void dispatchedLoadIsNotShared() throws Exception {
+        final BatchingCacheLoader<String> underTest = BatchingCacheLoader.of(delegate, LONG_WINDOW, 1, 1,
+                "test_batch_size");
+
+        final CompletableFuture<Entry<String>> first = underTest.asyncLoad(key(1), EXECUTOR);
+        final CompletableFuture<Entry<String>> second = underTest.asyncLoad(key(1), EXECUTOR);
+
+        assertThat(second).isNotSameAs(first);
+        CompletableFuture.allOf(first, second).get(5L, TimeUnit.SECONDS);
+        assertThat(delegate.batches).containsExactly(List.of(key(1)), List.of(key(1)));
+    }
+
+    private static EntityIdWithResourceType key(final int i) {
+        return EntityIdWithResourceType.of("policy", DefaultEntityId.of("ns:id-" + i));
+    }
+
+    private static int shard(final EntityIdWithResourceType key, final int numberOfShards) {
+        return Math.abs(key.getId().toString().hashCode() % numberOfShards);
+    }
+
+    private static class RecordingLoader implements BatchCacheLoader<String> {
+
+        private final List<List<EntityIdWithResourceType>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableFuture<Entry<String>> asyncLoad(final EntityIdWithResourceType key,
+                final Executor executor) {
+            throw new UnsupportedOperationException("only batches are expected");
+        }
+
+        @Override
+        public Map<EntityIdWithResourceType, CompletableFuture<Entry<String>>> asyncLoadBatch(
+                final Collection<EntityIdWithResourceType> keys, final Executor executor) {
+
+            final List<EntityIdWithResourceType> batch = new ArrayList<>(keys);
+            batches.add(batch);
+            final Map<EntityIdWithResourceType, CompletableFuture<Entry<String>>> loads = new HashMap<>();
+            batch.forEach(key -> loads.put(key,
+                    CompletableFuture.supplyAsync(() -> Entry.of(1L, key.toString()), executor)));
+            return loads;
+        }
+
+    }
+
+    private static final class FailingLoader extends RecordingLoader {
+
+        private final EntityIdWithResourceType failingKey;
+
+        private FailingLoader(final EntityIdWithResourceType failingKey) {
+            this.failingKey = failingKey;
+        }
+
+        @Override
+        public Map<EntityIdWithResourceType, CompletableFuture<Entry<String>>> asyncLoadBatch(
+                final Collection<EntityIdWithResourceType> keys, final Executor executor) {
+
+            final Map<EntityIdWithResourceType, CompletableFuture<Entry<String>>> loads =
+                    super.asyncLoadBatch(keys, executor);
+            loads.put(failingKey, CompletableFuture.failedFuture(new IllegalStateException("thing unavailable")));
+            return loads;
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ThingEnforcementIdCacheLoader}.
+ */
+public final class ThingEnforcementIdCacheLoaderTest {
+
+    private static final Executor EXECUTOR = ForkJoinPool.commonPool();
+    private static final ThingId EXISTING = ThingId.of("ns:existing");
+    private static final ThingId MISSING = ThingId.of("ns:missing");
+
+    private static ActorSystem actorSystem;
+    private static Materializer materializer;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create(ThingEnforcementIdCacheLoaderTest.class.getSimpleName());
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void loadsBatchWithOneSudoRetrieveThings() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final TestKit aggregator = new TestKit(actorSystem);
+            final ThingEnforcementIdCacheLoader underTest = new ThingEnforcementIdCacheLoader(Duration.ofSeconds(3L),
+                    shardRegion.getRef(), aggregator.getRef(), materializer);
+
+            final Map<EntityIdWithResourceType, CompletableFuture<Entry<EntityIdWithResourceType>>> loads =
+                    underTest.asyncLoadBatch(List.of(key(EXISTING), key(MISSING)), EXECUTOR);
+
+            final SudoRetrieveThings sudoRetrieveThings = aggregator.expectMsgClass(SudoRetrieveThings.class);
+            assertThat(sudoRetrieveThings.getThingIds()).containsExactly(EXISTING, MISSING);
+            aggregator.reply(Source.from(List.<Object>of(response(EXISTING), notAccessible(MISSING)))
+                    .runWith(StreamRefs.sourceRef(), materializer));
+
+            assertPolicyOfThing(loads.get(key(EXISTING)).join(), EXISTING);
+            assertThat(loads.get(key(MISSING)).join().exists()).isFalse();
+            shardRegion.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void loadsThingsWithoutResponseOneByOne() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final TestKit aggregator = new TestKit(actorSystem);
+            final ThingEnforcementIdCacheLoader underTest = new ThingEnforcementIdCacheLoader(Duration.ofSeconds(3L),
+                    shardRegion.getRef(), aggregator.getRef(), materializer);
+
+            final Map<EntityIdWithResourceType, CompletableFuture<Entry<EntityIdWithResourceType>>> loads =
+                    underTest.asyncLoadBatch(List.of(key(EXISTING), key(MISSING)), EXECUTOR);
+
+            aggregator.expectMsgClass(SudoRetrieveThings.class);
+            // the stream fails after the first response, e.g. because the retrieval of the second thing timed out
+            aggregator.reply(Source.single((Object) response(EXISTING))
+                    .concat(Source.failed(new IllegalStateException("timeout")))
+                    .runWith(StreamRefs.sourceRef(), materializer));
+
+            assertPolicyOfThing(loads.get(key(EXISTING)).join(), EXISTING);
+            final SudoRetrieveThing sudoRetrieveThing = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            assertThat(sudoRetrieveThing.getEntityId().toString()).isEqualTo(MISSING.toString());
+            shardRegion.reply(notAccessible(MISSING));
+            assertThat(loads.get(key(MISSING)).join().exists()).isFalse();
+        }};
+    }
+
+    private static void assertPolicyOfThing(final Entry<EntityIdWithResourceType> entry, final ThingId thingId) {
+        assertThat(entry.getRevision()).isEqualTo(1L);
+        assertThat(entry.getValueOrThrow())
+                .isEqualTo(EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, PolicyId.of(thingId)));
+    }
+
+    private static EntityIdWithResourceType key(final ThingId thingId) {
+        return EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
+    }
+
+    private static SudoRetrieveThingResponse response(final ThingId thingId) {
+        return SudoRetrieveThingResponse.of(ThingsModelFactory.newThingBuilder()
+                .setId(thingId)
+                .setPolicyId(PolicyId.of(thingId))
+                .setRevision(1L)
+                .build()
+                .toJson(JsonSchemaVersion.V_2, FieldType.all()), DittoHeaders.empty());
+    }
+
+    private static ThingNotAccessibleException notAccessible(final ThingId thingId) {
+        return ThingNotAccessibleException.newBuilder(thingId).build();
+    }
+
+}
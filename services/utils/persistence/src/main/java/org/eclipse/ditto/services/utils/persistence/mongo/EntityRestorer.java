@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+
+import akka.japi.Pair;
+
+/**
+ * Restores the current state of an entity from its newest serialized snapshot and the serialized events persisted
+ * after it without starting its persistence actor. Entities without snapshot are restored from their events alone.
+ */
+@FunctionalInterface
+public interface EntityRestorer {
+
+    /**
+     * Restore an entity.
+     *
+     * @param snapshot the newest snapshot of the entity as written by its snapshot adapter, or {@code null} if the
+     * entity has no snapshot. The snapshot may be that of a deleted entity which was created again afterwards.
+     * @param events the events persisted after the snapshot, or all events if there is no snapshot, as written by the
+     * event adapter, each paired with its sequence number, in ascending order of sequence numbers.
+     * @return the JSON representation of the restored entity, or an empty optional if the entity is deleted or cannot
+     * be restored.
+     */
+    Optional<JsonObject> restore(@Nullable BsonDocument snapshot, List<Pair<Long, BsonDocument>> events);
+
+}
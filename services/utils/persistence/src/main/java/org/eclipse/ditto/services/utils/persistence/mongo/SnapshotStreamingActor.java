@@ -13,13 +13,26 @@
 package org.eclipse.ditto.services.utils.persistence.mongo;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.services.models.streaming.StreamedSnapshot;
+import org.eclipse.ditto.services.models.streaming.SudoStreamEntities;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
@@ -34,9 +47,11 @@ import com.typesafe.config.Config;
 import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.Props;
+import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.Materializer;
 import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
 
@@ -51,25 +66,30 @@ public final class SnapshotStreamingActor extends AbstractActor {
 
     private final Function<String, EntityId> pid2EntityId;
     private final Function<EntityId, String> entityId2Pid;
+    private final EntityRestorer entityRestorer;
     private final DittoMongoClient mongoClient;
     private final MongoReadJournal readJournal;
 
     @SuppressWarnings("unused") // called by reflection
     private SnapshotStreamingActor(final Function<String, EntityId> pid2EntityId,
             final Function<EntityId, String> entityId2Pid,
+            final EntityRestorer entityRestorer,
             final DittoMongoClient mongoClient,
             final MongoReadJournal readJournal) {
         this.pid2EntityId = pid2EntityId;
         this.entityId2Pid = entityId2Pid;
+        this.entityRestorer = entityRestorer;
         this.mongoClient = mongoClient;
         this.readJournal = readJournal;
     }
 
     @SuppressWarnings("unused") // called by reflection
     private SnapshotStreamingActor(final Function<String, EntityId> pid2EntityId,
-            final Function<EntityId, String> entityId2Pid) {
+            final Function<EntityId, String> entityId2Pid,
+            final EntityRestorer entityRestorer) {
         this.pid2EntityId = pid2EntityId;
         this.entityId2Pid = entityId2Pid;
+        this.entityRestorer = entityRestorer;
 
         final Config config = getContext().getSystem().settings().config();
         final MongoDbConfig mongoDbConfig =
@@ -83,12 +103,14 @@ public final class SnapshotStreamingActor extends AbstractActor {
      *
      * @param pid2EntityId function mapping PID to entity ID.
      * @param entityId2Pid function mapping entity ID to PID.
+     * @param entityRestorer restores entities streamed by {@link SudoStreamEntities}.
      * @return Props for this actor.
      */
     public static Props props(final Function<String, EntityId> pid2EntityId,
-            final Function<EntityId, String> entityId2Pid) {
+            final Function<EntityId, String> entityId2Pid,
+            final EntityRestorer entityRestorer) {
 
-        return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid);
+        return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid, entityRestorer);
     }
 
     /**
@@ -106,7 +128,29 @@ public final class SnapshotStreamingActor extends AbstractActor {
             final DittoMongoClient mongoClient,
             final MongoReadJournal readJournal) {
 
-        return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid, mongoClient, readJournal);
+        final EntityRestorer noEntityRestorer = (snapshot, events) -> Optional.empty();
+        return propsForTest(pid2EntityId, entityId2Pid, noEntityRestorer, mongoClient, readJournal);
+    }
+
+    /**
+     * Create Akka Props object for this actor with given entity restorer, Mongo client and read journal.
+     * This is useful for unit tests with a mocked MongoDB.
+     *
+     * @param pid2EntityId function mapping PID to entity ID.
+     * @param entityId2Pid function mapping entity ID to PID.
+     * @param entityRestorer restores entities streamed by {@link SudoStreamEntities}.
+     * @param mongoClient MongoDB client.
+     * @param readJournal the read journal.
+     * @return Props for this actor.
+     */
+    public static Props propsForTest(final Function<String, EntityId> pid2EntityId,
+            final Function<EntityId, String> entityId2Pid,
+            final EntityRestorer entityRestorer,
+            final DittoMongoClient mongoClient,
+            final MongoReadJournal readJournal) {
+
+        return Props.create(SnapshotStreamingActor.class, pid2EntityId, entityId2Pid, entityRestorer, mongoClient,
+                readJournal);
     }
 
     @Override
@@ -119,6 +163,8 @@ public final class SnapshotStreamingActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(SudoStreamSnapshots.class, this::startStreaming)
+                .match(SudoStreamSnapshotDigests.class, this::startStreamingDigests)
+                .match(SudoStreamEntities.class, this::startStreamingEntities)
                 .matchAny(message -> log.warning("Unexpected message: <{}>", message))
                 .build();
     }
@@ -136,6 +182,106 @@ public final class SnapshotStreamingActor extends AbstractActor {
         return snapshotSource.map(this::mapSnapshot).log("snapshot-streaming", log);
     }
 
+    private Source<StreamedSnapshot, NotUsed> createDigestSource(final SudoStreamSnapshotDigests command) {
+        log.info("Starting stream for <{}>", command);
+        final String start = command.hasNonEmptyLowerBound() ? entityId2Pid.apply(command.getLowerBound()) : "";
+        return readJournal.getNewestSnapshotDigestsAbove(start, command.getBurst(), materializer)
+                .map(this::mapDigest)
+                .log("snapshot-digest-streaming", log);
+    }
+
+    private Source<StreamedSnapshot, NotUsed> createEntitySource(final SudoStreamEntities command) {
+        log.info("Starting stream for <{}>", command);
+        final int batchSize = command.getBurst();
+        // PIDs of entities in a namespace share the prefix of the PID of the namespace followed by a colon
+        final String namespacePrefix = command.getNamespace().isEmpty()
+                ? ""
+                : entityId2Pid.apply(DefaultEntityId.of(command.getNamespace() + ":"));
+        final String lowerBound = command.hasNonEmptyLowerBound() ? entityId2Pid.apply(command.getLowerBound()) : "";
+        final String start = lowerBound.compareTo(namespacePrefix) > 0 ? lowerBound : namespacePrefix;
+        // entities without snapshot or created again after a deleted snapshot are found in the journal only
+        return readJournal.getJournalOrSnapshotPidsAbove(start, batchSize, materializer)
+                .takeWhile(pid -> pid.startsWith(namespacePrefix))
+                .grouped(batchSize)
+                .flatMapConcat(this::restoreEntities)
+                .log("entity-streaming", log);
+    }
+
+    private Source<StreamedSnapshot, NotUsed> restoreEntities(final List<String> pids) {
+        final CompletionStage<List<Document>> snapshotsFuture =
+                readJournal.getNewestSerializedSnapshots(pids).runWith(Sink.seq(), materializer);
+        return Source.fromCompletionStage(snapshotsFuture)
+                .flatMapConcat(snapshots -> {
+                    final Map<String, Document> snapshotsByPid = snapshots.stream()
+                            .collect(Collectors.toMap(snapshot -> snapshot.getString(MongoReadJournal.ID),
+                                    Function.identity()));
+                    // entities without snapshot are restored from all their events
+                    final Map<String, Long> sequenceNumbers = pids.stream()
+                            .collect(Collectors.toMap(Function.identity(), pid ->
+                                    Optional.ofNullable(snapshotsByPid.get(pid))
+                                            .map(snapshot -> toLong(snapshot.get(MongoReadJournal.SEQUENCE_NUMBER)))
+                                            .orElse(0L)));
+                    final CompletionStage<List<Document>> eventsFuture =
+                            readJournal.getEventsAfter(sequenceNumbers).runWith(Sink.seq(), materializer);
+                    return Source.fromCompletionStage(eventsFuture)
+                            .mapConcat(events -> restoreEntities(pids, snapshotsByPid, events));
+                });
+    }
+
+    private List<StreamedSnapshot> restoreEntities(final List<String> pids, final Map<String, Document> snapshotsByPid,
+            final List<Document> events) {
+
+        final Map<String, List<Document>> eventsByPid = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getString(MongoReadJournal.ID)));
+        final List<StreamedSnapshot> entities = new ArrayList<>(pids.size());
+        for (final String pid : pids) {
+            restoreEntity(pid, snapshotsByPid.get(pid), eventsByPid.getOrDefault(pid, Collections.emptyList()))
+                    .ifPresent(entities::add);
+        }
+        return entities;
+    }
+
+    private Optional<StreamedSnapshot> restoreEntity(final String pid, @Nullable final Document snapshot,
+            final List<Document> events) {
+
+        final Object serializedSnapshot = null != snapshot ? snapshot.get(MongoReadJournal.SERIALIZED_SNAPSHOT) : null;
+        if (null != snapshot && !(serializedSnapshot instanceof Document)) {
+            log.warning("Not restoring <{}> due to unexpected snapshot <{}>", pid, serializedSnapshot);
+            return Optional.empty();
+        }
+        final List<Pair<Long, BsonDocument>> serializedEvents = new ArrayList<>(events.size());
+        for (final Document event : events) {
+            final Object payload = event.get(MongoReadJournal.EVENT_PAYLOAD);
+            if (!(payload instanceof Document)) {
+                log.warning("Not restoring <{}> due to unexpected event payload <{}>", pid, payload);
+                return Optional.empty();
+            }
+            serializedEvents.add(Pair.create(toLong(event.get(MongoReadJournal.SEQUENCE_NUMBER)),
+                    BsonUtil.toBsonDocument((Document) payload)));
+        }
+        final BsonDocument bsonSnapshot =
+                null != serializedSnapshot ? BsonUtil.toBsonDocument((Document) serializedSnapshot) : null;
+        return entityRestorer.restore(bsonSnapshot, serializedEvents)
+                .map(entityJson -> StreamedSnapshot.of(pid2EntityId.apply(pid), entityJson));
+    }
+
+    private StreamedSnapshot mapDigest(final Document digest) {
+        final EntityId upperBound = pid2EntityId.apply(digest.getString(MongoReadJournal.RANGE_UPPER_BOUND));
+        // the hashes of entity IDs and revisions are stored with the snapshots and summed up by MongoDB
+        final long hash = SudoStreamSnapshotDigests.sumOfHashes(
+                toLong(digest.get(MongoReadJournal.RANGE_HASH_HIGH_SUM)),
+                toLong(digest.get(MongoReadJournal.RANGE_HASH_LOW_SUM)));
+        final JsonObject digestJson = JsonObject.newBuilder()
+                .set(SudoStreamSnapshotDigests.COUNT, toLong(digest.get(MongoReadJournal.RANGE_COUNT)))
+                .set(SudoStreamSnapshotDigests.HASH, hash)
+                .build();
+        return StreamedSnapshot.of(upperBound, digestJson);
+    }
+
+    private static long toLong(final Object number) {
+        return number instanceof Number ? ((Number) number).longValue() : 0L;
+    }
+
     private StreamedSnapshot mapSnapshot(final Document snapshot) {
         final EntityId entityId = pid2EntityId.apply(snapshot.getString(MongoReadJournal.ID));
         snapshot.remove(MongoReadJournal.ID);
@@ -151,4 +297,22 @@ public final class SnapshotStreamingActor extends AbstractActor {
                 .runWith(StreamRefs.sourceRef(), materializer);
         getSender().tell(sourceRef, getSelf());
     }
+
+    private void startStreamingEntities(final SudoStreamEntities command) {
+        final Duration timeout = Duration.ofMillis(command.getTimeoutMillis());
+        final SourceRef<StreamedSnapshot> sourceRef = createEntitySource(command)
+                .initialTimeout(timeout)
+                .idleTimeout(timeout)
+                .runWith(StreamRefs.sourceRef(), materializer);
+        getSender().tell(sourceRef, getSelf());
+    }
+
+    private void startStreamingDigests(final SudoStreamSnapshotDigests command) {
+        final Duration timeout = Duration.ofMillis(command.getTimeoutMillis());
+        final SourceRef<StreamedSnapshot> sourceRef = createDigestSource(command)
+                .initialTimeout(timeout)
+                .idleTimeout(timeout)
+                .runWith(StreamRefs.sourceRef(), materializer);
+        getSender().tell(sourceRef, getSelf());
+    }
 }
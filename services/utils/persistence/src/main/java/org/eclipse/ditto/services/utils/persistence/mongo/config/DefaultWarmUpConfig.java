@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides the configuration settings of the warm-up of recently active entities.
+ */
+@Immutable
+public final class DefaultWarmUpConfig implements WarmUpConfig {
+
+    private static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final String collectionName;
+    private final Duration maxAge;
+    private final int maxEntities;
+    private final int entitiesPerSecond;
+    private final Duration flushInterval;
+    private final Duration delay;
+
+    private DefaultWarmUpConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(WarmUpConfigValue.ENABLED.getConfigPath());
+        collectionName = scopedConfig.getString(WarmUpConfigValue.COLLECTION_NAME.getConfigPath());
+        maxAge = scopedConfig.getDuration(WarmUpConfigValue.MAX_AGE.getConfigPath());
+        maxEntities = getPositiveIntOrThrow(scopedConfig, WarmUpConfigValue.MAX_ENTITIES);
+        entitiesPerSecond = getPositiveIntOrThrow(scopedConfig, WarmUpConfigValue.ENTITIES_PER_SECOND);
+        flushInterval = scopedConfig.getDuration(WarmUpConfigValue.FLUSH_INTERVAL.getConfigPath());
+        delay = scopedConfig.getDuration(WarmUpConfigValue.DELAY.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of the default warm-up config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm-up config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWarmUpConfig of(final Config config) {
+        return new DefaultWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WarmUpConfigValue.values()));
+    }
+
+    private static int getPositiveIntOrThrow(final ScopedConfig scopedConfig, final WarmUpConfigValue configValue) {
+        final int result = scopedConfig.getInt(configValue.getConfigPath());
+        if (result <= 0) {
+            final String msgPattern = "The value for <{0}> must be positive but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configValue.getConfigPath(), result));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getCollectionName() {
+        return collectionName;
+    }
+
+    @Override
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    @Override
+    public int getMaxEntities() {
+        return maxEntities;
+    }
+
+    @Override
+    public int getEntitiesPerSecond() {
+        return entitiesPerSecond;
+    }
+
+    @Override
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    @Override
+    public Duration getDelay() {
+        return delay;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmUpConfig that = (DefaultWarmUpConfig) o;
+        return enabled == that.enabled &&
+                maxEntities == that.maxEntities &&
+                entitiesPerSecond == that.entitiesPerSecond &&
+                Objects.equals(collectionName, that.collectionName) &&
+                Objects.equals(maxAge, that.maxAge) &&
+                Objects.equals(flushInterval, that.flushInterval) &&
+                Objects.equals(delay, that.delay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, collectionName, maxAge, maxEntities, entitiesPerSecond, flushInterval, delay);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", collectionName=" + collectionName +
+                ", maxAge=" + maxAge +
+                ", maxEntities=" + maxEntities +
+                ", entitiesPerSecond=" + entitiesPerSecond +
+                ", flushInterval=" + flushInterval +
+                ", delay=" + delay +
+                "]";
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for group commit of events persisted by an entity.
+ * <p>
+ * With group commit, a persistence actor applies the events of modifying commands immediately and persists them
+ * asynchronously. Events of commands which are processed while a journal write is in flight are written together in
+ * the next journal batch; responses are sent in order once their events are persisted.
+ * </p>
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether group commit is enabled.
+     *
+     * @return {@code true} if events are persisted with group commit, {@code false} if each event is persisted on its
+     * own.
+     */
+    boolean isEnabled();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether group commit is enabled.
+         */
+        ENABLED("enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
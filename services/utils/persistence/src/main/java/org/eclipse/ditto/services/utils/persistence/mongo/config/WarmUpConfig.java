@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for warming up recently active entities after a shard rebalancing.
+ *
+ * @since 1.5.0
+ */
+@Immutable
+public interface WarmUpConfig {
+
+    /**
+     * Indicates whether recently active entities are recovered proactively after startup and cluster membership
+     * changes.
+     *
+     * @return whether warm-up is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the name of the collection in which recently active entities are recorded.
+     *
+     * @return the collection name.
+     */
+    String getCollectionName();
+
+    /**
+     * Returns how long an entity counts as recently active after its last recorded activity.
+     *
+     * @return the maximum age of recorded activities.
+     */
+    Duration getMaxAge();
+
+    /**
+     * Returns the maximum number of entities to recover in one warm-up.
+     *
+     * @return the maximum number of entities.
+     */
+    int getMaxEntities();
+
+    /**
+     * Returns the number of entities to recover per second during a warm-up.
+     *
+     * @return the warm-up rate.
+     */
+    int getEntitiesPerSecond();
+
+    /**
+     * Returns the interval in which recorded activities are written to the collection.
+     *
+     * @return the flush interval.
+     */
+    Duration getFlushInterval();
+
+    /**
+     * Returns the delay after startup or a cluster membership change before a warm-up starts. Further membership
+     * changes during the delay postpone the warm-up, so that it starts after shards are rebalanced.
+     *
+     * @return the delay.
+     */
+    Duration getDelay();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WarmUpConfig}.
+     */
+    enum WarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether warm-up is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The name of the collection in which recently active entities are recorded.
+         */
+        COLLECTION_NAME("collection-name", "warm_up"),
+
+        /**
+         * How long an entity counts as recently active.
+         */
+        MAX_AGE("max-age", Duration.ofHours(3L)),
+
+        /**
+         * The maximum number of entities to recover in one warm-up.
+         */
+        MAX_ENTITIES("max-entities", 10_000),
+
+        /**
+         * The number of entities to recover per second.
+         */
+        ENTITIES_PER_SECOND("entities-per-second", 100),
+
+        /**
+         * The interval in which recorded activities are written.
+         */
+        FLUSH_INTERVAL("flush-interval", Duration.ofMinutes(1L)),
+
+        /**
+         * The delay before a warm-up starts.
+         */
+        DELAY("delay", Duration.ofSeconds(30L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        private WarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -15,8 +15,10 @@ package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -24,6 +26,8 @@ import java.util.stream.Stream;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
+import org.eclipse.ditto.services.utils.akka.controlflow.MergeSortedAsPair;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
@@ -73,6 +77,46 @@ public class MongoReadJournal {
      */
     public static final String ID = JournallingFieldNames$.MODULE$.ID();
 
+    /**
+     * Field of snapshot ranges delivered by the read journal containing the greatest PID of the range.
+     */
+    public static final String RANGE_UPPER_BOUND = "upperBound";
+
+    /**
+     * Field of snapshot range digests delivered by the read journal containing the number of not deleted newest
+     * snapshots of the range.
+     */
+    public static final String RANGE_COUNT = "count";
+
+    /**
+     * Field of snapshot range digests delivered by the read journal containing the sum of the upper halves of the
+     * hashes of the not deleted newest snapshots of the range.
+     */
+    public static final String RANGE_HASH_HIGH_SUM = "hashHighSum";
+
+    /**
+     * Field of snapshot range digests delivered by the read journal containing the sum of the lower halves of the
+     * hashes of the not deleted newest snapshots of the range.
+     */
+    public static final String RANGE_HASH_LOW_SUM = "hashLowSum";
+
+    /**
+     * Field of serialized snapshots and events delivered by the read journal containing their sequence number.
+     */
+    public static final String SEQUENCE_NUMBER = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+
+    /**
+     * Field of serialized snapshots delivered by the read journal containing the snapshot as written by the snapshot
+     * adapter.
+     */
+    // Not working: SnapshottingFieldNames.V2$.MODULE$.SERIALIZED()
+    public static final String SERIALIZED_SNAPSHOT = "s2";
+
+    /**
+     * Field of events delivered by the read journal containing the event as written by the event adapter.
+     */
+    public static final String EVENT_PAYLOAD = "p";
+
     private static final String AKKA_PERSISTENCE_JOURNAL_AUTO_START =
             "akka.persistence.journal.auto-start-journals";
     private static final String AKKA_PERSISTENCE_SNAPS_AUTO_START =
@@ -82,10 +126,13 @@ public class MongoReadJournal {
     private static final String SNAPS_COLLECTION_NAME_KEY = "overrides.snaps-collection";
 
     private static final String PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
-    private static final String SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String SN = SEQUENCE_NUMBER;
+
+    // fields of the atomic writes in the event journal
+    private static final String JOURNAL_FROM = "from";
+    private static final String JOURNAL_TO = "to";
+    private static final String JOURNAL_EVENTS = "events";
 
-    // Not working: SnapshottingFieldNames.V2$.MODULE$.SERIALIZED()
-    private static final String SERIALIZED_SNAPSHOT = "s2";
     private static final String LIFECYCLE = "__lifecycle";
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
@@ -205,11 +252,133 @@ public class MongoReadJournal {
                 .withAttributes(Attributes.inputBuffer(1, 1))
                 .flatMapConcat(snapshotStore ->
                         listNewestSnapshots(snapshotStore, lowerBoundPid, batchSize, mat,
-                                snapshotFields)
+                                asFirstSnapshotBsonFields(snapshotFields))
                 )
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Retrieve the PIDs above a lower bound in ascending order which have events in the journal or whose newest
+     * snapshot is not deleted. Each PID is retrieved once.
+     * Does not limit database access in any way.
+     *
+     * @param lowerBoundPid the lower-bound PID.
+     * @param batchSize how many events or snapshots to read in 1 query.
+     * @param mat the materializer.
+     * @return source of PIDs in the journal or the snapshot store.
+     */
+    public Source<String, NotUsed> getJournalOrSnapshotPidsAbove(final String lowerBoundPid,
+            final int batchSize,
+            final Materializer mat) {
+
+        final Source<String, NotUsed> snapshotPids = getSnapshotStore()
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .flatMapConcat(snapshotStore ->
+                        listNewestSnapshots(snapshotStore, lowerBoundPid, batchSize, mat, asFirstSnapshotBsonFields())
+                )
+                // the order of snapshots within a batch is not defined
+                .mapConcat(snapshots -> snapshots.stream()
+                        .map(snapshot -> snapshot.getString(ID))
+                        .sorted()
+                        .collect(Collectors.toList()));
+        // the empty PID marks the end of the source exhausted first; the pair of equal PIDs is emitted only once
+        return MergeSortedAsPair.merge("", MongoReadJournal::comparePids,
+                getJournalPidsAbove(lowerBoundPid, batchSize, mat), snapshotPids)
+                .map(pair -> comparePids(pair.first(), pair.second()) <= 0 ? pair.first() : pair.second());
+    }
+
+    /**
+     * Retrieve the newest snapshots of given PIDs in ascending order of PIDs, including snapshots of deleted
+     * entities. Each document contains the PID as {@link #ID}, the sequence number of the snapshot as
+     * {@link #SEQUENCE_NUMBER} and the whole serialized snapshot as {@link #SERIALIZED_SNAPSHOT}.
+     * Reads the snapshot store with 1 query.
+     *
+     * @param pids the PIDs.
+     * @return source of the newest serialized snapshots of the PIDs which have any.
+     */
+    public Source<Document, NotUsed> getNewestSerializedSnapshots(final Collection<String> pids) {
+        if (pids.isEmpty()) {
+            return Source.empty();
+        }
+        final List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(Filters.in(PROCESSOR_ID, pids)),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(PROCESSOR_ID), Sorts.descending(SN))),
+                Aggregates.group("$" + PROCESSOR_ID,
+                        Accumulators.first(SN, "$" + SN),
+                        Accumulators.first(SERIALIZED_SNAPSHOT, "$" + SERIALIZED_SNAPSHOT)),
+                // order after group stage is not defined
+                Aggregates.sort(Sorts.ascending(ID))
+        );
+        return getSnapshotStore()
+                .flatMapConcat(snapshotStore -> Source.fromPublisher(snapshotStore.aggregate(pipeline)));
+    }
+
+    /**
+     * Retrieve the events persisted after given sequence numbers of PIDs in ascending order of PIDs and sequence
+     * numbers. Each document contains the PID as {@link #ID}, the sequence number of the event as
+     * {@link #SEQUENCE_NUMBER} and the serialized event as {@link #EVENT_PAYLOAD}.
+     * Reads the journal with 1 query.
+     *
+     * @param sequenceNumbersByPid the sequence number of each PID after which to retrieve events, e.g. the sequence
+     * number of its newest snapshot.
+     * @return source of events.
+     */
+    public Source<Document, NotUsed> getEventsAfter(final Map<String, Long> sequenceNumbersByPid) {
+        if (sequenceNumbersByPid.isEmpty()) {
+            return Source.empty();
+        }
+        final Bson filter = Filters.or(sequenceNumbersByPid.entrySet()
+                .stream()
+                .map(entry -> Filters.and(Filters.eq(PROCESSOR_ID, entry.getKey()),
+                        Filters.gt(JOURNAL_TO, entry.getValue())))
+                .collect(Collectors.toList()));
+        return getJournal()
+                .flatMapConcat(journal -> Source.fromPublisher(
+                        journal.find(filter).sort(Sorts.ascending(PROCESSOR_ID, JOURNAL_FROM))))
+                .mapConcat(atomicWrite -> {
+                    // an atomic write may contain events up to and including the given sequence number
+                    final String pid = atomicWrite.getString(PROCESSOR_ID);
+                    final long sequenceNumber = sequenceNumbersByPid.getOrDefault(pid, Long.MAX_VALUE);
+                    return atomicWrite.getList(JOURNAL_EVENTS, Document.class, Collections.emptyList())
+                            .stream()
+                            .filter(event -> toLong(event.get(SN)) > sequenceNumber)
+                            .map(event -> new Document()
+                                    .append(ID, pid)
+                                    .append(SEQUENCE_NUMBER, toLong(event.get(SN)))
+                                    .append(EVENT_PAYLOAD, event.get(EVENT_PAYLOAD)))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    /**
+     * Retrieve digests of consecutive ranges of the latest snapshots with unique PIDs in snapshot store above a lower
+     * bound. Each document contains the greatest PID of its range as {@link #RANGE_UPPER_BOUND}, the number of newest
+     * snapshots of the range which are not deleted as {@link #RANGE_COUNT} and the sums of the halves of their hashes
+     * stored in {@link SudoStreamSnapshotDigests#HASH_FIELD} as {@link #RANGE_HASH_HIGH_SUM} and
+     * {@link #RANGE_HASH_LOW_SUM}.
+     * Reads the snapshot store with 1 query per range, which is aggregated into 1 document by the database.
+     * Does not limit database access in any way.
+     *
+     * @param lowerBoundPid the lower-bound PID.
+     * @param batchSize how many snapshots to digest into 1 range.
+     * @param mat the materializer.
+     * @return source of digests of consecutive ranges of PIDs.
+     */
+    public Source<Document, NotUsed> getNewestSnapshotDigestsAbove(final String lowerBoundPid,
+            final int batchSize,
+            final Materializer mat) {
+
+        return getSnapshotStore()
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .flatMapConcat(snapshotStore ->
+                        unfoldBatchedSource(lowerBoundPid,
+                                mat,
+                                digest -> digest.getString(RANGE_UPPER_BOUND),
+                                actualStart -> digestNewestActiveSnapshots(snapshotStore, actualStart, batchSize))
+                )
+                .mapConcat(digests -> digests);
+    }
+
     private Source<List<String>, NotUsed> listPidsInJournal(final MongoCollection<Document> journal,
             final String lowerBound, final int batchSize, final Materializer mat, final Duration maxBackOff,
             final int maxRestarts) {
@@ -223,12 +392,13 @@ public class MongoReadJournal {
             final String lowerBound,
             final int batchSize,
             final Materializer mat,
-            final String... snapshotFields) {
+            final List<BsonField> snapshotBsonFields) {
 
         return this.unfoldBatchedSource(lowerBound,
                 mat,
                 SnapshotBatch::getMaxPid,
-                actualStart -> listNewestActiveSnapshotsByBatch(snapshotStore, actualStart, batchSize, snapshotFields))
+                actualStart -> listNewestActiveSnapshotsByBatch(snapshotStore, actualStart, batchSize,
+                        snapshotBsonFields))
                 .mapConcat(x -> x)
                 .map(SnapshotBatch::getItems);
     }
@@ -307,7 +477,7 @@ public class MongoReadJournal {
             final MongoCollection<Document> snapshotStore,
             final String start,
             final int batchSize,
-            final String... snapshotFields) {
+            final List<BsonField> snapshotBsonFields) {
 
         final List<Bson> pipeline = new ArrayList<>(5);
         // optional match stage
@@ -322,7 +492,7 @@ public class MongoReadJournal {
         pipeline.add(Aggregates.limit(batchSize));
 
         // group stage 1: by PID
-        pipeline.add(Aggregates.group("$" + PROCESSOR_ID, asFirstSnapshotBsonFields(snapshotFields)));
+        pipeline.add(Aggregates.group("$" + PROCESSOR_ID, snapshotBsonFields));
 
         // sort stage 2 -- order after group stage is not defined
         pipeline.add(Aggregates.sort(Sorts.ascending(ID)));
@@ -360,6 +530,50 @@ public class MongoReadJournal {
                 });
     }
 
+    private Source<Document, NotUsed> digestNewestActiveSnapshots(final MongoCollection<Document> snapshotStore,
+            final String start,
+            final int batchSize) {
+
+        final List<Bson> pipeline = new ArrayList<>(5);
+        // optional match stage
+        if (!start.isEmpty()) {
+            pipeline.add(Aggregates.match(Filters.gt(PROCESSOR_ID, start)));
+        }
+
+        // sort stage
+        pipeline.add(Aggregates.sort(Sorts.orderBy(Sorts.ascending(PROCESSOR_ID), Sorts.descending(SN))));
+
+        // limit stage. It should come before group stage or MongoDB would scan the entire snapshot collection.
+        pipeline.add(Aggregates.limit(batchSize));
+
+        // group stage 1: by PID
+        pipeline.add(Aggregates.group("$" + PROCESSOR_ID,
+                asFirstSnapshotBsonFields(SudoStreamSnapshotDigests.HASH_FIELD)));
+
+        // group stage 2: digest pids whose latest snapshot is not deleted, but retain max encountered pid
+        final Document isActive = new Document()
+                .append("$ne", Arrays.asList("$" + LIFECYCLE, "DELETED"));
+        final String hashPath = "$" + SudoStreamSnapshotDigests.HASH_FIELD + ".";
+        pipeline.add(Aggregates.group(null,
+                Accumulators.max(RANGE_UPPER_BOUND, "$" + ID),
+                Accumulators.sum(RANGE_COUNT, ifActive(isActive, 1)),
+                Accumulators.sum(RANGE_HASH_HIGH_SUM,
+                        ifActive(isActive, hashPath + SudoStreamSnapshotDigests.HASH_HIGH)),
+                Accumulators.sum(RANGE_HASH_LOW_SUM,
+                        ifActive(isActive, hashPath + SudoStreamSnapshotDigests.HASH_LOW))
+        ));
+
+        return Source.fromPublisher(snapshotStore.aggregate(pipeline))
+                .filter(document -> document.getString(RANGE_UPPER_BOUND) != null);
+    }
+
+    private static Document ifActive(final Document isActive, final Object value) {
+        return new Document().append("$cond", new Document()
+                .append("if", isActive)
+                .append("then", value)
+                .append("else", 0));
+    }
+
     /**
      * For $group stage of an aggregation pipeline over a snapshot collection: take the newest values of fields
      * of serialized snapshots. Always include the first snapshot lifecycle.
@@ -376,6 +590,19 @@ public class MongoReadJournal {
                 .collect(Collectors.toList());
     }
 
+    private static long toLong(final Object number) {
+        return number instanceof Number ? ((Number) number).longValue() : 0L;
+    }
+
+    private static int comparePids(final String pid1, final String pid2) {
+        if (pid1.isEmpty() || pid2.isEmpty()) {
+            // the empty PID is greater than all others
+            return Boolean.compare(pid1.isEmpty(), pid2.isEmpty());
+        } else {
+            return pid1.compareTo(pid2);
+        }
+    }
+
     private Source<MongoCollection<Document>, NotUsed> getJournal() {
         return Source.single(mongoClient.getDefaultDatabase().getCollection(journalCollection));
     }
@@ -15,14 +15,24 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.models.streaming.StreamedSnapshot;
+import org.eclipse.ditto.services.models.streaming.SudoStreamEntities;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.junit.After;
@@ -37,6 +47,7 @@ import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.japi.Pair;
 import akka.stream.SourceRef;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -128,6 +139,146 @@ public final class SnapshotStreamingActorTest {
 
     }
 
+    @Test
+    public void streamSnapshotDigests() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createSnapshotStreamingActor();
+
+            // WHEN
+            final SudoStreamSnapshotDigests sudoStreamSnapshotDigests =
+                    SudoStreamSnapshotDigests.of(100, 10_000L, DittoHeaders.empty());
+            final long hash =
+                    SudoStreamSnapshotDigests.hash("snap:1", 1L) + SudoStreamSnapshotDigests.hash("snap:2", 2L);
+            Mockito.when(mockReadJournal.getNewestSnapshotDigestsAbove(any(), anyInt(), any()))
+                    .thenReturn(Source.from(List.of(
+                            new Document().append(MongoReadJournal.RANGE_UPPER_BOUND, "thing:snap:2")
+                                    .append(MongoReadJournal.RANGE_COUNT, 2)
+                                    .append(MongoReadJournal.RANGE_HASH_HIGH_SUM,
+                                            (long) SudoStreamSnapshotDigests.getHashHigh(hash))
+                                    .append(MongoReadJournal.RANGE_HASH_LOW_SUM,
+                                            SudoStreamSnapshotDigests.getHashLow(hash)),
+                            // the newest snapshot of thing:snap:3 is deleted
+                            new Document().append(MongoReadJournal.RANGE_UPPER_BOUND, "thing:snap:3")
+                                    .append(MongoReadJournal.RANGE_COUNT, 0)
+                                    .append(MongoReadJournal.RANGE_HASH_HIGH_SUM, 0)
+                                    .append(MongoReadJournal.RANGE_HASH_LOW_SUM, 0)
+                    )));
+            underTest.tell(sudoStreamSnapshotDigests, getRef());
+
+            // THEN
+            final SourceRef<?> sourceRef = expectMsgClass(SourceRef.class);
+            final List<Object> results = sourceRef.getSource()
+                    .<Object>map(x -> x)
+                    .runWith(Sink.seq(), actorSystem)
+                    .toCompletableFuture()
+                    .join();
+
+            assertThat(results).containsExactly(
+                    StreamedSnapshot.of(DefaultEntityId.of("snap:2"), digest(2L, hash)),
+                    StreamedSnapshot.of(DefaultEntityId.of("snap:3"), digest(0L, 0L))
+            );
+        }};
+    }
+
+    @Test
+    public void streamEntitiesOfNamespaceRestoredFromSnapshotsAndEvents() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createSnapshotStreamingActor(SnapshotStreamingActorTest::restore);
+
+            // WHEN
+            final SudoStreamEntities sudoStreamEntities = SudoStreamEntities.of(2, 10_000L, "ns", DittoHeaders.empty());
+            Mockito.when(mockReadJournal.getJournalOrSnapshotPidsAbove(eq("thing:ns:"), anyInt(), any()))
+                    .thenReturn(Source.from(List.of("thing:ns:1", "thing:ns:2", "thing:ns:3", "thing:other:1")));
+            final List<Document> snapshots = List.of(
+                    serializedSnapshot("thing:ns:1", 1L, "ACTIVE"),
+                    // thing:ns:2 was deleted and created again afterwards
+                    serializedSnapshot("thing:ns:2", 2L, "DELETED"),
+                    serializedSnapshot("thing:other:1", 1L, "ACTIVE")
+            );
+            Mockito.when(mockReadJournal.getNewestSerializedSnapshots(any())).thenAnswer(invocation -> {
+                final Collection<String> pids = invocation.getArgument(0);
+                return Source.from(snapshots)
+                        .filter(snapshot -> pids.contains(snapshot.getString(MongoReadJournal.ID)));
+            });
+            // thing:ns:3 has no snapshot
+            final List<Document> events = List.of(
+                    event("thing:ns:1", 2L),
+                    event("thing:ns:2", 3L),
+                    event("thing:ns:3", 1L),
+                    event("thing:ns:3", 2L)
+            );
+            Mockito.when(mockReadJournal.getEventsAfter(any())).thenAnswer(invocation -> {
+                final Map<String, Long> sequenceNumbers = invocation.getArgument(0);
+                return Source.from(events).filter(event -> {
+                    final String pid = event.getString(MongoReadJournal.ID);
+                    return sequenceNumbers.containsKey(pid) &&
+                            event.getLong(MongoReadJournal.SEQUENCE_NUMBER) > sequenceNumbers.get(pid);
+                });
+            });
+            underTest.tell(sudoStreamEntities, getRef());
+
+            // THEN
+            final SourceRef<?> sourceRef = expectMsgClass(SourceRef.class);
+            final List<Object> results = sourceRef.getSource()
+                    .<Object>map(x -> x)
+                    .runWith(Sink.seq(), actorSystem)
+                    .toCompletableFuture()
+                    .join();
+
+            assertThat(results).containsExactly(
+                    StreamedSnapshot.of(DefaultEntityId.of("ns:1"), restored(true, 2L)),
+                    StreamedSnapshot.of(DefaultEntityId.of("ns:2"), restored(true, 3L)),
+                    StreamedSnapshot.of(DefaultEntityId.of("ns:3"), restored(false, 2L))
+            );
+            final Map<String, Long> expectedSequenceNumbers = new HashMap<>();
+            expectedSequenceNumbers.put("thing:ns:1", 1L);
+            expectedSequenceNumbers.put("thing:ns:2", 2L);
+            Mockito.verify(mockReadJournal).getEventsAfter(expectedSequenceNumbers);
+            Mockito.verify(mockReadJournal).getEventsAfter(Map.of("thing:ns:3", 0L));
+        }};
+    }
+
+    private static Document serializedSnapshot(final String pid, final long sequenceNumber, final String lifecycle) {
+        return new Document().append(MongoReadJournal.ID, pid)
+                .append(MongoReadJournal.SEQUENCE_NUMBER, sequenceNumber)
+                .append(MongoReadJournal.SERIALIZED_SNAPSHOT, new Document()
+                        .append("_revision", sequenceNumber)
+                        .append("__lifecycle", lifecycle));
+    }
+
+    private static Document event(final String pid, final long sequenceNumber) {
+        return new Document().append(MongoReadJournal.ID, pid)
+                .append(MongoReadJournal.SEQUENCE_NUMBER, sequenceNumber)
+                .append(MongoReadJournal.EVENT_PAYLOAD, new Document().append("revision", sequenceNumber));
+    }
+
+    /**
+     * Restores test entities consisting of whether they have a snapshot and of the sequence number of their newest
+     * event or snapshot.
+     */
+    private static Optional<JsonObject> restore(@Nullable final BsonDocument snapshot,
+            final List<Pair<Long, BsonDocument>> events) {
+
+        final long revision = events.isEmpty()
+                ? snapshot.getInt64("_revision").getValue()
+                : events.get(events.size() - 1).first();
+        return Optional.of(restored(null != snapshot, revision));
+    }
+
+    private static JsonObject restored(final boolean hasSnapshot, final long revision) {
+        return JsonObject.newBuilder()
+                .set("snapshot", hasSnapshot)
+                .set("revision", revision)
+                .build();
+    }
+
+    private static JsonObject digest(final long count, final long hash) {
+        return JsonObject.newBuilder()
+                .set(SudoStreamSnapshotDigests.COUNT, count)
+                .set(SudoStreamSnapshotDigests.HASH, hash)
+                .build();
+    }
+
     private void setSnapshotStore(final Source<Document, NotUsed> mockSource) {
         Mockito.when(mockReadJournal.getNewestSnapshotsAbove(any(), anyInt(), any(), any())).thenReturn(mockSource);
     }
@@ -141,4 +292,15 @@ public final class SnapshotStreamingActorTest {
         );
         return actorSystem.actorOf(props);
     }
+
+    private ActorRef createSnapshotStreamingActor(final EntityRestorer entityRestorer) {
+        final Props props = SnapshotStreamingActor.propsForTest(
+                pid -> DefaultEntityId.of(pid.substring(pid.indexOf(':') + 1)),
+                entityId -> "thing:" + entityId.toString(),
+                entityRestorer,
+                mockClient,
+                mockReadJournal
+        );
+        return actorSystem.actorOf(props);
+    }
 }
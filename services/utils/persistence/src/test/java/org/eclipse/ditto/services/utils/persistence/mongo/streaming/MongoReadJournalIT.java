@@ -16,9 +16,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.bson.Document;
+import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshotDigests;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
@@ -224,6 +228,57 @@ public final class MongoReadJournalIT {
 
     }
 
+    @Test
+    public void streamNewestSnapshotDigests() {
+        final long hash1 = SudoStreamSnapshotDigests.hash("pid1", 1L);
+        final long hash2 = SudoStreamSnapshotDigests.hash("pid2", 2L);
+        insert("test_snaps", new Document()
+                .append("pid", "pid1")
+                .append("sn", 1L)
+                .append("s2", new Document().append("__hash", hashDocument(hash1)))
+        );
+        insert("test_snaps", new Document()
+                .append("pid", "pid2")
+                .append("sn", 1L)
+                .append("s2", new Document().append("__hash",
+                        hashDocument(SudoStreamSnapshotDigests.hash("pid2", 1L))))
+        );
+        insert("test_snaps", new Document()
+                .append("pid", "pid2")
+                .append("sn", 2L)
+                .append("s2", new Document().append("__hash", hashDocument(hash2)))
+        );
+        // latest snapshot of pid3 is deleted; its range is delivered without it
+        insert("test_snaps", new Document()
+                .append("pid", "pid3")
+                .append("sn", 3L)
+                .append("s2", new Document()
+                        .append("__hash", hashDocument(SudoStreamSnapshotDigests.hash("pid3", 3L)))
+                        .append("__lifecycle", "DELETED")
+                )
+        );
+
+        final List<Document> digests =
+                readJournal.getNewestSnapshotDigestsAbove("", 2, materializer)
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(digests).hasSize(2);
+        final Document firstDigest = digests.get(0);
+        assertThat(firstDigest.getString(MongoReadJournal.RANGE_UPPER_BOUND)).isEqualTo("pid2");
+        assertThat(((Number) firstDigest.get(MongoReadJournal.RANGE_COUNT)).longValue()).isEqualTo(2L);
+        assertThat(SudoStreamSnapshotDigests.sumOfHashes(
+                ((Number) firstDigest.get(MongoReadJournal.RANGE_HASH_HIGH_SUM)).longValue(),
+                ((Number) firstDigest.get(MongoReadJournal.RANGE_HASH_LOW_SUM)).longValue()))
+                .isEqualTo(hash1 + hash2);
+        final Document secondDigest = digests.get(1);
+        assertThat(secondDigest.getString(MongoReadJournal.RANGE_UPPER_BOUND)).isEqualTo("pid3");
+        assertThat(((Number) secondDigest.get(MongoReadJournal.RANGE_COUNT)).longValue()).isZero();
+        assertThat(((Number) secondDigest.get(MongoReadJournal.RANGE_HASH_HIGH_SUM)).longValue()).isZero();
+        assertThat(((Number) secondDigest.get(MongoReadJournal.RANGE_HASH_LOW_SUM)).longValue()).isZero();
+    }
+
     @Test
     public void extractJournalPidsFromEventsAndNotSnapshots() {
         insert("test_journal", new Document().append("pid", "pid3").append("to", 2L));
@@ -256,10 +311,131 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4");
     }
 
+    @Test
+    public void extractJournalOrSnapshotPidsAboveALowerBound() {
+        insert("test_journal", new Document().append("pid", "pid1").append("to", 1L));
+        insert("test_journal", new Document().append("pid", "pid2").append("to", 1L));
+        insert("test_journal", new Document().append("pid", "pid4").append("to", 2L));
+        insert("test_journal", new Document().append("pid", "pid4").append("to", 3L));
+        insert("test_snaps", new Document().append("pid", "pid3").append("sn", 1L).append("s2", new Document()));
+        insert("test_snaps", new Document().append("pid", "pid4").append("sn", 3L).append("s2", new Document()));
+        // pid5 is deleted and has no events after its snapshot
+        insert("test_snaps", new Document()
+                .append("pid", "pid5")
+                .append("sn", 1L)
+                .append("s2", new Document().append("__lifecycle", "DELETED"))
+        );
+        insert("test_snaps", new Document().append("pid", "pid6").append("sn", 1L).append("s2", new Document()));
+
+        final List<String> pids =
+                readJournal.getJournalOrSnapshotPidsAbove("pid1", 2, materializer)
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+
+        assertThat(pids).containsExactly("pid2", "pid3", "pid4", "pid6");
+    }
+
+    @Test
+    public void streamNewestSerializedSnapshotsOfPids() {
+        insert("test_snaps", new Document()
+                .append("pid", "pid1")
+                .append("sn", 1L)
+                .append("s2", new Document().append("_revision", 1L))
+        );
+        insert("test_snaps", new Document()
+                .append("pid", "pid1")
+                .append("sn", 2L)
+                .append("s2", new Document().append("_revision", 2L))
+        );
+        // snapshots of deleted entities are included
+        insert("test_snaps", new Document()
+                .append("pid", "pid2")
+                .append("sn", 3L)
+                .append("s2", new Document().append("_revision", 3L).append("__lifecycle", "DELETED"))
+        );
+        insert("test_snaps", new Document()
+                .append("pid", "pid3")
+                .append("sn", 1L)
+                .append("s2", new Document().append("_revision", 1L))
+        );
+
+        final List<Document> snapshots =
+                readJournal.getNewestSerializedSnapshots(Arrays.asList("pid2", "pid1", "pid4"))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(snapshots).containsExactly(
+                new Document().append("_id", "pid1")
+                        .append("sn", 2L)
+                        .append("s2", new Document().append("_revision", 2L)),
+                new Document().append("_id", "pid2")
+                        .append("sn", 3L)
+                        .append("s2", new Document().append("_revision", 3L).append("__lifecycle", "DELETED"))
+        );
+    }
+
+    @Test
+    public void streamEventsAfterSequenceNumbers() {
+        // the first atomic write of pid1 contains events before and after the given sequence number
+        insert("test_journal", new Document()
+                .append("pid", "pid1")
+                .append("from", 1L)
+                .append("to", 2L)
+                .append("events", Arrays.asList(event(1L), event(2L)))
+        );
+        insert("test_journal", new Document()
+                .append("pid", "pid1")
+                .append("from", 3L)
+                .append("to", 3L)
+                .append("events", Collections.singletonList(event(3L)))
+        );
+        insert("test_journal", new Document()
+                .append("pid", "pid2")
+                .append("from", 1L)
+                .append("to", 1L)
+                .append("events", Collections.singletonList(event(1L)))
+        );
+        insert("test_journal", new Document()
+                .append("pid", "pid3")
+                .append("from", 1L)
+                .append("to", 1L)
+                .append("events", Collections.singletonList(event(1L)))
+        );
+        final Map<String, Long> sequenceNumbers = new HashMap<>();
+        sequenceNumbers.put("pid2", 0L);
+        sequenceNumbers.put("pid1", 1L);
+
+        final List<Document> events = readJournal.getEventsAfter(sequenceNumbers)
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(events).containsExactly(
+                new Document().append("_id", "pid1").append("sn", 2L).append("p", payload(2L)),
+                new Document().append("_id", "pid1").append("sn", 3L).append("p", payload(3L)),
+                new Document().append("_id", "pid2").append("sn", 1L).append("p", payload(1L))
+        );
+    }
+
+    private static Document event(final long sequenceNumber) {
+        return new Document().append("sn", sequenceNumber).append("p", payload(sequenceNumber));
+    }
+
+    private static Document payload(final long sequenceNumber) {
+        return new Document().append("revision", sequenceNumber);
+    }
+
     private void insert(final String collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
                 .toCompletableFuture()
                 .join();
     }
+
+    private static Document hashDocument(final long hash) {
+        return new Document()
+                .append(SudoStreamSnapshotDigests.HASH_HIGH, SudoStreamSnapshotDigests.getHashHigh(hash))
+                .append(SudoStreamSnapshotDigests.HASH_LOW, SudoStreamSnapshotDigests.getHashLow(hash));
+    }
 }
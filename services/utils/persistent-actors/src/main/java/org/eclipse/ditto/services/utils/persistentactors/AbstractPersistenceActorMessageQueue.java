@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import akka.actor.ActorRef;
+import akka.dispatch.Envelope;
+import akka.dispatch.MessageQueue;
+import akka.dispatch.UnboundedDequeBasedMessageQueueSemantics;
+
+/**
+ * Lock-free message queue for persistence actors which rejects modify commands if too many messages are enqueued.
+ * <p>
+ * Messages are kept in a non-blocking {@link ConcurrentLinkedDeque}, so that enqueuing by many senders does not
+ * contend on a lock and {@link #enqueueFirst(ActorRef, Envelope)} is supported as required for stashing.
+ * The number of messages is tracked by an atomic counter because the size of a {@code ConcurrentLinkedDeque} is
+ * computed by traversing it. As the capacity check and the enqueuing are not atomic, the capacity is a soft limit
+ * which may be exceeded by concurrent senders.
+ * </p>
+ *
+ * @param <C> the type of the modify commands which are subject to the capacity.
+ * @since 1.5.0
+ */
+public abstract class AbstractPersistenceActorMessageQueue<C> implements MessageQueue,
+        UnboundedDequeBasedMessageQueueSemantics {
+
+    private final Class<C> modifyCommandClass;
+    private final int capacity;
+    private final Deque<Envelope> queue;
+    private final AtomicInteger size;
+
+    /**
+     * Constructs a new {@code AbstractPersistenceActorMessageQueue} object.
+     *
+     * @param modifyCommandClass the class of the modify commands which are rejected if the capacity is exceeded.
+     * @param capacity the number of messages above which modify commands are rejected.
+     * @throws NullPointerException if {@code modifyCommandClass} is {@code null}.
+     */
+    protected AbstractPersistenceActorMessageQueue(final Class<C> modifyCommandClass, final int capacity) {
+        this.modifyCommandClass = checkNotNull(modifyCommandClass, "modifyCommandClass");
+        this.capacity = capacity;
+        queue = new ConcurrentLinkedDeque<>();
+        size = new AtomicInteger(0);
+    }
+
+    /**
+     * Rejects a modify command which arrived while the number of messages exceeded the capacity.
+     *
+     * @param sender the sender of the command.
+     * @param command the rejected command.
+     * @param numberOfMessages the number of messages at the time of the rejection.
+     * @param capacity the capacity of this queue.
+     */
+    protected abstract void rejectModifyCommand(ActorRef sender, C command, int numberOfMessages, int capacity);
+
+    @Override
+    public void enqueue(final ActorRef receiver, final Envelope handle) {
+        enqueueIfNotRejected(handle, queue::addLast);
+    }
+
+    @Override
+    public void enqueueFirst(final ActorRef receiver, final Envelope handle) {
+        enqueueIfNotRejected(handle, queue::addFirst);
+    }
+
+    private void enqueueIfNotRejected(final Envelope handle, final Consumer<Envelope> enqueueAction) {
+        final Object message = handle.message();
+        if (modifyCommandClass.isInstance(message)) {
+            // instead of blocking return "too many requests" response if numberOfMessages > capacity
+            final int numberOfMessages = numberOfMessages();
+            if (numberOfMessages > capacity) {
+                rejectModifyCommand(handle.sender(), modifyCommandClass.cast(message), numberOfMessages, capacity);
+                return;
+            }
+        }
+        // all other messages are enqueued right away and with no "limit"
+        // increment before adding so that a concurrent dequeue never makes the counter negative
+        size.incrementAndGet();
+        enqueueAction.accept(handle);
+    }
+
+    @Override
+    public Envelope dequeue() {
+        final Envelope envelope = queue.pollFirst();
+        if (envelope != null) {
+            size.decrementAndGet();
+        }
+        return envelope;
+    }
+
+    @Override
+    public int numberOfMessages() {
+        return size.get();
+    }
+
+    @Override
+    public boolean hasMessages() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public void cleanUp(final ActorRef owner, final MessageQueue deadLetters) {
+        Envelope envelope = dequeue();
+        while (envelope != null) {
+            deadLetters.enqueue(owner, envelope);
+            envelope = dequeue();
+        }
+    }
+
+}
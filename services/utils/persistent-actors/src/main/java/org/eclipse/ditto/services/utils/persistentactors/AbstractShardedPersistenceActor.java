@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -26,6 +27,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -62,6 +64,9 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final String RECOVERY_TIMER_NAME = "entity_recovery";
+    private static final String PERSISTENCE_ID_PREFIX_TAG = "persistence_id_prefix";
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
@@ -81,6 +86,15 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    /**
+     * Number of events which are applied to {@link #entity} but not yet confirmed by the journal. Always zero unless
+     * group commit is enabled.
+     */
+    private long unpersistedEventCount = 0L;
+
+    private final long recoveryStartNanos;
+    private long recoveredEventCount = 0L;
+
     /**
      * Instantiate the actor.
      *
@@ -100,6 +114,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .build();
 
         handleCleanups = super.createReceive();
+        recoveryStartNanos = System.nanoTime();
     }
 
     @Override
@@ -195,11 +210,37 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    /**
+     * Indicates whether events are persisted with group commit. Overridable in subclasses.
+     * <p>
+     * With group commit, the event of a modifying command is applied to the entity immediately and persisted
+     * asynchronously so that subsequent commands are processed during the journal write instead of being stashed.
+     * Events of all commands processed while a write is in flight are written in the next single journal batch.
+     * Responses and published events are delayed until the events they depend on are persisted, so that clients
+     * observe the same order, revisions and state as without group commit.
+     * </p>
+     *
+     * @return whether group commit is enabled; {@code false} by default.
+     */
+    protected boolean isGroupCommitEnabled() {
+        return false;
+    }
+
+    /**
+     * Whether the activity of the entity is published on the event stream for an {@link EntityWarmUpActor}. Only
+     * enabled if such an actor is started for the shard region of this actor.
+     *
+     * @return whether warm-up is enabled; {@code false} by default.
+     */
+    protected boolean isWarmUpEnabled() {
+        return false;
+    }
+
     /**
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        return lastSequenceNr() + unpersistedEventCount;
     }
 
     @Override
@@ -218,10 +259,26 @@ public abstract class AbstractShardedPersistenceActor<
         log.error(cause, "Recovery Failure for entity with ID <{}>", entityId);
     }
 
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (unpersistedEventCount > 0) {
+            // the entity already contains the rejected event; stop in order to recover the persisted state
+            log.error(cause, "Stopping entity with ID <{}> because its optimistically applied event <{}> with " +
+                    "sequence number <{}> was rejected.", entityId, event, seqNr);
+            getContext().stop(getSelf());
+        }
+    }
+
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
-        return handleEvents.orElse(ReceiveBuilder.create()
+        return ReceiveBuilder.create()
+                // # Event handling
+                .match(getEventClass(), event -> {
+                    recoveredEventCount++;
+                    handleEvents.onMessage().apply(event);
+                })
                 // # Snapshot handling
                 .match(SnapshotOffer.class, ss -> {
                     log.debug("Got SnapshotOffer: {}", ss);
@@ -232,9 +289,24 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, recoveryCompleted -> {
+                    recordRecoveryTime();
+                    recoveryCompleted(recoveryCompleted);
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
-                .build());
+                .build();
+    }
+
+    private void recordRecoveryTime() {
+        final long recoveryNanos = System.nanoTime() - recoveryStartNanos;
+        final String persistenceId = persistenceId();
+        final int prefixEnd = persistenceId.indexOf(':');
+        final String persistenceIdPrefix = prefixEnd < 0 ? persistenceId : persistenceId.substring(0, prefixEnd);
+        DittoMetrics.timer(RECOVERY_TIMER_NAME)
+                .tag(PERSISTENCE_ID_PREFIX_TAG, persistenceIdPrefix)
+                .record(recoveryNanos, TimeUnit.NANOSECONDS);
+        log.debug("Recovered entity with ID <{}> from <{}> events after snapshot in <{}> ms.", entityId,
+                recoveredEventCount, TimeUnit.NANOSECONDS.toMillis(recoveryNanos));
     }
 
     /**
@@ -290,6 +362,14 @@ public abstract class AbstractShardedPersistenceActor<
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
+        } else if (isGroupCommitEnabled()) {
+            // apply the event before it is persisted so that subsequent commands are handled on the new state
+            unpersistedEventCount++;
+            handleEvents.onMessage().apply(modifiedEvent);
+            persistEventAsync(modifiedEvent, persistedEvent -> {
+                publishEvent(persistedEvent);
+                handler.accept(persistedEvent, entity);
+            });
         } else {
             persistEvent(modifiedEvent, persistedEvent -> {
                 // after the event was persisted, apply the event on the current actor state
@@ -313,6 +393,7 @@ public abstract class AbstractShardedPersistenceActor<
             scheduleCheckForActivity(getActivityCheckConfig().getDeletedInterval());
         } else if (accessCounter > message.accessCounter) {
             // if the entity was accessed in any way since the last check
+            recordActivity();
             scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
         } else {
             // safe to shutdown after a period of inactivity if:
@@ -344,6 +425,12 @@ public abstract class AbstractShardedPersistenceActor<
                 .build());
     }
 
+    private void recordActivity() {
+        if (isWarmUpEnabled()) {
+            getContext().getSystem().getEventStream().publish(EntityWarmUpActor.RecordActivity.of(entityId));
+        }
+    }
+
     /**
      * Schedule the next check for activity.
      *
@@ -380,12 +467,16 @@ public abstract class AbstractShardedPersistenceActor<
     private <T extends Command> void handleByStrategy(final T command,
             final CommandStrategy<T, S, K, Result<E>> strategy) {
         log.debug("Handling by strategy: <{}>", command);
+        if (accessCounter == 0L) {
+            // entities started by a warm-up are only recorded as active once they are accessed
+            recordActivity();
+        }
         accessCounter++;
         final Result<E> result;
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
         } catch (final DittoRuntimeException e) {
-            getSender().tell(e, getSelf());
+            replyAfterUnpersistedEvents(getSender(), e);
             return;
         }
         result.accept(this);
@@ -395,17 +486,28 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
+        final boolean groupCommit = isGroupCommitEnabled();
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
                 notifySender(response);
             }
-            if (becomeDeleted) {
-                becomeDeletedHandler();
-            }
-            if (becomeCreated) {
-                becomeCreatedHandler();
+            if (!groupCommit) {
+                becomeCreatedOrDeleted(becomeCreated, becomeDeleted);
             }
         });
+        if (groupCommit) {
+            // the event is applied already; commands processed before it is persisted need the new behavior
+            becomeCreatedOrDeleted(becomeCreated, becomeDeleted);
+        }
+    }
+
+    private void becomeCreatedOrDeleted(final boolean becomeCreated, final boolean becomeDeleted) {
+        if (becomeDeleted) {
+            becomeDeletedHandler();
+        }
+        if (becomeCreated) {
+            becomeCreatedHandler();
+        }
     }
 
     private boolean shouldSendResponse(final DittoHeaders dittoHeaders) {
@@ -418,14 +520,14 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void onQuery(final Command command, final WithDittoHeaders response) {
         if (command.getDittoHeaders().isResponseRequired()) {
-            notifySender(response);
+            replyAfterUnpersistedEvents(getSender(), response);
         }
     }
 
     @Override
     public void onError(final DittoRuntimeException error, final Command errorCausingCommand) {
         if (errorCausingCommand.getDittoHeaders().isResponseRequired()) {
-            notifySender(error);
+            replyAfterUnpersistedEvents(getSender(), error);
         }
     }
 
@@ -453,9 +555,44 @@ public abstract class AbstractShardedPersistenceActor<
         });
     }
 
+    /*
+     * Persist an event without stashing commands. Used for group commit: the event is already applied to the entity;
+     * Akka collects all events persisted while a journal write is in flight into the next journal batch.
+     */
+    private void persistEventAsync(final E event, final Consumer<E> handler) {
+        final DittoDiagnosticLoggingAdapter l = log.withCorrelationId(event);
+        l.debug("Persisting Event <{}> with group commit.", event.getType());
+
+        persistAsync(event, persistedEvent -> {
+            l.info("Successfully persisted Event <{}>.", event.getType());
+            unpersistedEventCount--;
+            handler.accept(persistedEvent);
+
+            // snapshots must not contain unpersisted events
+            if (unpersistedEventCount == 0 && snapshotThresholdPassed()) {
+                takeSnapshot("snapshot threshold is reached");
+            }
+        });
+    }
+
+    /*
+     * Responses computed on a state containing unpersisted events must not be sent before these events are
+     * persisted, otherwise clients could observe a state which is lost if persisting fails.
+     */
+    private void replyAfterUnpersistedEvents(final ActorRef sender, final WithDittoHeaders message) {
+        if (unpersistedEventCount > 0) {
+            deferAsync(message, m -> notifySender(sender, m));
+        } else {
+            notifySender(sender, message);
+        }
+    }
+
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (unpersistedEventCount > 0) {
+            log.debug("Not taking snapshot for entity <{}> with <{}> unpersisted events even if {}.", entityId,
+                    unpersistedEventCount, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
@@ -518,7 +655,7 @@ public abstract class AbstractShardedPersistenceActor<
         if (message instanceof WithDittoHeaders) {
             builder.dittoHeaders(((WithDittoHeaders) message).getDittoHeaders());
         }
-        notifySender(builder.build());
+        replyAfterUnpersistedEvents(getSender(), builder.build());
     }
 
     private void shutdown(final String shutdownLogTemplate, final I entityId) {
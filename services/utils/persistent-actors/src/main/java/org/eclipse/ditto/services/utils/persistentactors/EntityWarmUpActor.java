@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.KillSwitches;
+import akka.stream.Materializer;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor which records recently active entities of a shard region and recovers them proactively after startup and
+ * after cluster membership changes.
+ * <p>
+ * Sharded persistence actors publish {@link RecordActivity} on the event stream when they are accessed. Recorded
+ * activities are written periodically to a MongoDB collection whose documents expire after the configured maximum
+ * age. After startup and after each cluster membership change, this actor waits until no further membership changes
+ * occur for the configured delay. It then starts the recently active entities of the shards hosted by its local
+ * shard region which are not running yet, at the configured rate. Thus entities moved by a shard rebalancing are
+ * recovered in the background instead of on the first command.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class EntityWarmUpActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "entityWarmUp";
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_LAST_ACTIVE = "lastActive";
+    private static final String REGION_TAG = "region";
+    private static final Duration SHARD_REGION_STATE_TIMEOUT = Duration.ofSeconds(10L);
+
+    private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final WarmUpConfig warmUpConfig;
+    private final String shardRegionName;
+    private final ActorRef shardRegion;
+    private final ShardRegion.MessageExtractor messageExtractor;
+    private final Class<? extends EntityId> entityIdClass;
+    private final DittoMongoClient mongoClient;
+    private final MongoCollection<Document> collection;
+    private final Materializer materializer;
+    private final Counter requestedCounter;
+    private final Counter startedCounter;
+    private final Gauge runningGauge;
+
+    private Set<String> recentlyActiveEntityIds;
+    @Nullable private UniqueKillSwitch warmUpKillSwitch;
+
+    @SuppressWarnings("unused")
+    private EntityWarmUpActor(final WarmUpConfig warmUpConfig,
+            final String shardRegionName,
+            final ActorRef shardRegion,
+            final ShardRegion.MessageExtractor messageExtractor,
+            final Class<? extends EntityId> entityIdClass,
+            final DittoMongoClient mongoClient) {
+
+        this.warmUpConfig = warmUpConfig;
+        this.shardRegionName = shardRegionName;
+        this.shardRegion = shardRegion;
+        this.messageExtractor = messageExtractor;
+        this.entityIdClass = entityIdClass;
+        this.mongoClient = mongoClient;
+        collection = mongoClient.getDefaultDatabase().getCollection(warmUpConfig.getCollectionName());
+        materializer = Materializer.createMaterializer(getContext());
+        requestedCounter = DittoMetrics.counter("entity_warm_up_requested").tag(REGION_TAG, shardRegionName);
+        startedCounter = DittoMetrics.counter("entity_warm_up_started").tag(REGION_TAG, shardRegionName);
+        runningGauge = DittoMetrics.gauge("entity_warm_up_running").tag(REGION_TAG, shardRegionName);
+        recentlyActiveEntityIds = new HashSet<>();
+        warmUpKillSwitch = null;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param warmUpConfig the warm-up config.
+     * @param shardRegionName name of the shard region whose entities are warmed up.
+     * @param shardRegion the local shard region.
+     * @param messageExtractor the message extractor of the shard region.
+     * @param entityIdClass class of the IDs of the entities in the shard region.
+     * @param mongoDbConfig configuration of the MongoDB in which recently active entities are recorded.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final WarmUpConfig warmUpConfig,
+            final String shardRegionName,
+            final ActorRef shardRegion,
+            final ShardRegion.MessageExtractor messageExtractor,
+            final Class<? extends EntityId> entityIdClass,
+            final MongoDbConfig mongoDbConfig) {
+
+        return Props.create(EntityWarmUpActor.class, () -> new EntityWarmUpActor(warmUpConfig, shardRegionName,
+                shardRegion, messageExtractor, entityIdClass, MongoClientWrapper.newInstance(mongoDbConfig)));
+    }
+
+    static Props props(final WarmUpConfig warmUpConfig,
+            final String shardRegionName,
+            final ActorRef shardRegion,
+            final ShardRegion.MessageExtractor messageExtractor,
+            final Class<? extends EntityId> entityIdClass,
+            final DittoMongoClient mongoClient) {
+
+        return Props.create(EntityWarmUpActor.class, () -> new EntityWarmUpActor(warmUpConfig, shardRegionName,
+                shardRegion, messageExtractor, entityIdClass, mongoClient));
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        getContext().getSystem().getEventStream().subscribe(getSelf(), RecordActivity.class);
+        Cluster.get(getContext().getSystem())
+                .subscribe(getSelf(), ClusterEvent.MemberUp.class, ClusterEvent.MemberRemoved.class);
+        initializeIndex();
+        getTimers().startTimerWithFixedDelay(Control.FLUSH, Control.FLUSH, warmUpConfig.getFlushInterval());
+        scheduleWarmUp();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        getContext().getSystem().getEventStream().unsubscribe(getSelf());
+        Cluster.get(getContext().getSystem()).unsubscribe(getSelf());
+        stopWarmUp();
+        mongoClient.close();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(RecordActivity.class, this::recordActivity)
+                .matchEquals(Control.FLUSH, flush -> flush())
+                .match(ClusterEvent.MemberUp.class, memberUp -> scheduleWarmUp())
+                .match(ClusterEvent.MemberRemoved.class, memberRemoved -> scheduleWarmUp())
+                .match(ClusterEvent.CurrentClusterState.class, this::logCurrentClusterState)
+                .matchEquals(Control.WARM_UP, warmUp -> requestShardRegionState())
+                .match(ShardRegion.CurrentShardRegionState.class, this::warmUp)
+                .match(ShardRegion.StartEntityAck.class, ack -> startedCounter.increment())
+                .match(WarmUpFinished.class, this::warmUpFinished)
+                .match(Done.class, done -> log.debug("Recorded activities were flushed."))
+                .match(Status.Failure.class, failure ->
+                        log.error(failure.cause(), "Failed to flush recorded activities or to retrieve the state " +
+                                "of shard region <{}>.", shardRegionName))
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void recordActivity(final RecordActivity recordActivity) {
+        final EntityId entityId = recordActivity.getEntityId();
+        if (entityIdClass.isInstance(entityId)) {
+            recentlyActiveEntityIds.add(entityId.toString());
+        }
+    }
+
+    private void initializeIndex() {
+        final long expireAfterSeconds = warmUpConfig.getMaxAge().getSeconds();
+        IndexInitializer.of(mongoClient.getDefaultDatabase(), materializer)
+                .initialize(warmUpConfig.getCollectionName(), Collections.singletonList(
+                        IndexFactory.newExpirationIndex(FIELD_LAST_ACTIVE, FIELD_LAST_ACTIVE, expireAfterSeconds)))
+                .exceptionally(error -> {
+                    log.error(error, "Failed to initialize indices of warm-up collection <{}>.",
+                            warmUpConfig.getCollectionName());
+                    return null;
+                });
+    }
+
+    private void flush() {
+        if (!recentlyActiveEntityIds.isEmpty()) {
+            final Date now = new Date();
+            final UpdateOptions upsert = new UpdateOptions().upsert(true);
+            final List<WriteModel<Document>> writeModels = recentlyActiveEntityIds.stream()
+                    .map(entityId -> new UpdateOneModel<Document>(Filters.eq(FIELD_ID, entityId),
+                            Updates.set(FIELD_LAST_ACTIVE, now), upsert))
+                    .collect(Collectors.toList());
+            recentlyActiveEntityIds = new HashSet<>();
+            log.debug("Flushing <{}> recorded activities of <{}>.", writeModels.size(), shardRegionName);
+            final BulkWriteOptions options = new BulkWriteOptions().ordered(false);
+            Patterns.pipe(Source.fromPublisher(collection.bulkWrite(writeModels, options)).runWith(Sink.ignore(),
+                    materializer), getContext().dispatcher()).to(getSelf());
+        }
+    }
+
+    private void scheduleWarmUp() {
+        // restarting the timer postpones the warm-up until the cluster membership is stable for the delay
+        getTimers().startSingleTimer(Control.WARM_UP, Control.WARM_UP, warmUpConfig.getDelay());
+    }
+
+    private void requestShardRegionState() {
+        Patterns.pipe(Patterns.ask(shardRegion, ShardRegion.getShardRegionStateInstance(),
+                SHARD_REGION_STATE_TIMEOUT), getContext().dispatcher()).to(getSelf());
+    }
+
+    private void warmUp(final ShardRegion.CurrentShardRegionState shardRegionState) {
+        stopWarmUp();
+        final Set<String> localShardIds = new HashSet<>();
+        final Set<String> runningEntityIds = new HashSet<>();
+        shardRegionState.getShards().forEach(shardState -> {
+            localShardIds.add(shardState.shardId());
+            runningEntityIds.addAll(shardState.getEntityIds());
+        });
+        if (localShardIds.isEmpty()) {
+            log.info("Not warming up <{}> because no shards are hosted locally.", shardRegionName);
+            return;
+        }
+
+        final Instant minLastActive = Instant.now().minus(warmUpConfig.getMaxAge());
+        log.info("Warming up entities of <{}> active since <{}> in <{}> local shards.", shardRegionName,
+                minLastActive, localShardIds.size());
+        final ActorRef self = getSelf();
+        final UniqueKillSwitch killSwitch = Source.fromPublisher(
+                collection.find(Filters.gte(FIELD_LAST_ACTIVE, Date.from(minLastActive)))
+                        .sort(Sorts.descending(FIELD_LAST_ACTIVE))
+                        .limit(warmUpConfig.getMaxEntities()))
+                .map(document -> document.getString(FIELD_ID))
+                .filter(entityId -> !runningEntityIds.contains(entityId) &&
+                        localShardIds.contains(messageExtractor.shardId(new ShardRegion.StartEntity(entityId))))
+                .throttle(warmUpConfig.getEntitiesPerSecond(), Duration.ofSeconds(1L))
+                .viaMat(KillSwitches.single(), Keep.right())
+                .toMat(Sink.foreach(entityId -> {
+                    requestedCounter.increment();
+                    shardRegion.tell(new ShardRegion.StartEntity(entityId), self);
+                }), Keep.both())
+                .mapMaterializedValue(pair -> {
+                    final UniqueKillSwitch theKillSwitch = pair.first();
+                    pair.second().whenComplete((done, error) -> self.tell(new WarmUpFinished(theKillSwitch, error),
+                            ActorRef.noSender()));
+                    return theKillSwitch;
+                })
+                .run(materializer);
+        warmUpKillSwitch = killSwitch;
+        runningGauge.set(1L);
+    }
+
+    private void warmUpFinished(final WarmUpFinished warmUpFinished) {
+        if (warmUpFinished.killSwitch == warmUpKillSwitch) {
+            warmUpKillSwitch = null;
+            runningGauge.set(0L);
+            if (null != warmUpFinished.error) {
+                log.error(warmUpFinished.error, "Warm-up of <{}> failed.", shardRegionName);
+            } else {
+                log.info("Warm-up of <{}> finished after requesting <{}> entities in total.", shardRegionName,
+                        requestedCounter.getCount());
+            }
+        }
+    }
+
+    private void stopWarmUp() {
+        if (null != warmUpKillSwitch) {
+            log.info("Stopping running warm-up of <{}>.", shardRegionName);
+            warmUpKillSwitch.shutdown();
+            warmUpKillSwitch = null;
+            runningGauge.set(0L);
+        }
+    }
+
+    private void logCurrentClusterState(final ClusterEvent.CurrentClusterState currentClusterState) {
+        log.debug("Got current cluster state: <{}>", currentClusterState);
+    }
+
+    /**
+     * Message published on the event stream by sharded persistence actors when their entity is accessed.
+     */
+    public static final class RecordActivity {
+
+        private final EntityId entityId;
+
+        private RecordActivity(final EntityId entityId) {
+            this.entityId = entityId;
+        }
+
+        /**
+         * Creates a message to record the activity of an entity.
+         *
+         * @param entityId ID of the accessed entity.
+         * @return the message.
+         */
+        public static RecordActivity of(final EntityId entityId) {
+            return new RecordActivity(entityId);
+        }
+
+        /**
+         * @return ID of the accessed entity.
+         */
+        public EntityId getEntityId() {
+            return entityId;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [entityId=" + entityId + "]";
+        }
+
+    }
+
+    private static final class WarmUpFinished {
+
+        private final UniqueKillSwitch killSwitch;
+        @Nullable private final Throwable error;
+
+        private WarmUpFinished(final UniqueKillSwitch killSwitch, @Nullable final Throwable error) {
+            this.killSwitch = killSwitch;
+            this.error = error;
+        }
+
+    }
+
+    private enum Control {
+        FLUSH,
+        WARM_UP
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Envelope;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link AbstractPersistenceActorMessageQueue}.
+ */
+public final class AbstractPersistenceActorMessageQueueTest {
+
+    private static final int CAPACITY = 2;
+
+    private static ActorSystem actorSystem;
+
+    private TestMessageQueue underTest;
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        underTest = new TestMessageQueue();
+    }
+
+    @Test
+    public void modifyCommandsAreRejectedIfCapacityIsExceeded() {
+        for (int i = 0; i <= CAPACITY + 1; i++) {
+            underTest.enqueue(ActorRef.noSender(), envelope(new ModifyCommand(i)));
+        }
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(CAPACITY + 1);
+        assertThat(underTest.rejected).extracting(command -> command.index).containsExactly(CAPACITY + 1);
+    }
+
+    @Test
+    public void otherMessagesAreNeverRejected() {
+        for (int i = 0; i < 2 * CAPACITY; i++) {
+            underTest.enqueue(ActorRef.noSender(), envelope("message-" + i));
+        }
+        underTest.enqueue(ActorRef.noSender(), envelope(new ModifyCommand(0)));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(2 * CAPACITY);
+        assertThat(underTest.rejected).hasSize(1);
+    }
+
+    @Test
+    public void enqueueFirstPrependsMessages() {
+        underTest.enqueue(ActorRef.noSender(), envelope("second"));
+        underTest.enqueueFirst(ActorRef.noSender(), envelope("first"));
+
+        assertThat(underTest.hasMessages()).isTrue();
+        assertThat(underTest.dequeue().message()).isEqualTo("first");
+        assertThat(underTest.dequeue().message()).isEqualTo("second");
+        assertThat(underTest.dequeue()).isNull();
+        assertThat(underTest.hasMessages()).isFalse();
+        assertThat(underTest.numberOfMessages()).isZero();
+    }
+
+    private static Envelope envelope(final Object message) {
+        return Envelope.apply(message, ActorRef.noSender(), actorSystem);
+    }
+
+    private static final class ModifyCommand {
+
+        private final int index;
+
+        private ModifyCommand(final int index) {
+            this.index = index;
+        }
+    }
+
+    private static final class TestMessageQueue extends AbstractPersistenceActorMessageQueue<ModifyCommand> {
+
+        private final List<ModifyCommand> rejected = new ArrayList<>();
+
+        private TestMessageQueue() {
+            super(ModifyCommand.class, CAPACITY);
+        }
+
+        @Override
+        protected void rejectModifyCommand(final ActorRef sender, final ModifyCommand command,
+                final int numberOfMessages, final int capacity) {
+
+            rejected.add(command);
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Tests {@link EntityWarmUpActor} against an embedded MongoDB.
+ */
+public final class EntityWarmUpActorIT {
+
+    private static final String REGION = "thing";
+    private static final String LOCAL_SHARD = "local";
+    private static final String REMOTE_SHARD = "remote";
+    private static final String COLLECTION_NAME = "warm_up";
+
+    private static MongoDbResource mongoResource;
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+    private DittoMongoClient mongoClient;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource("localhost");
+        mongoResource.start();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoResource) {
+                mongoResource.stop();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(),
+                ConfigFactory.parseString("akka.actor.provider = cluster\n" +
+                        "akka.remote.artery.canonical.port = 0\n" +
+                        "akka.remote.artery.bind.port = 0")
+                        .withFallback(ConfigFactory.load("test")));
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+        // the client is closed by the warm-up actor when it stops
+        mongoClient = MongoClientWrapper.getBuilder()
+                .hostnameAndPort(mongoResource.getBindIp(), mongoResource.getPort())
+                .defaultDatabaseName("entityWarmUpActorIT")
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (null != mongoClient) {
+            Source.fromPublisher(mongoClient.getDefaultDatabase().getCollection(COLLECTION_NAME).drop())
+                    .runWith(Sink.ignore(), materializer)
+                    .toCompletableFuture()
+                    .get();
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void recordsActivitiesOfEntitiesOfTheRegionOnly() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(props(shardRegion.getRef(), Duration.ofMinutes(1L)));
+
+            underTest.tell(EntityWarmUpActor.RecordActivity.of(ThingId.of("local:1")), getRef());
+            underTest.tell(EntityWarmUpActor.RecordActivity.of(DefaultEntityId.of("local:2")), getRef());
+            underTest.tell(EntityWarmUpActor.RecordActivity.of(ThingId.of("local:1")), getRef());
+
+            awaitAssert(Duration.ofSeconds(10L), () -> {
+                assertThat(getRecordedEntityIds()).containsExactly("local:1");
+                return null;
+            });
+        }};
+    }
+
+    @Test
+    public void startsRecentlyActiveEntitiesOfLocalShardsOnly() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(props(shardRegion.getRef(), Duration.ofSeconds(2L)));
+
+            // activities recorded before the rebalancing, which moved the shard "remote" to another member
+            underTest.tell(EntityWarmUpActor.RecordActivity.of(ThingId.of("local:stopped")), getRef());
+            underTest.tell(EntityWarmUpActor.RecordActivity.of(ThingId.of("local:running")), getRef());
+            underTest.tell(EntityWarmUpActor.RecordActivity.of(ThingId.of("remote:stopped")), getRef());
+            awaitAssert(Duration.ofSeconds(10L), () -> {
+                assertThat(getRecordedEntityIds()).hasSize(3);
+                return null;
+            });
+
+            shardRegion.expectMsg(Duration.ofSeconds(10L), ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(shardRegionState(LOCAL_SHARD, "local:running"));
+
+            final ShardRegion.StartEntity startEntity =
+                    shardRegion.expectMsgClass(Duration.ofSeconds(10L), ShardRegion.StartEntity.class);
+            assertThat(startEntity.entityId()).isEqualTo("local:stopped");
+            shardRegion.expectNoMessage(Duration.ofSeconds(1L));
+        }};
+    }
+
+    @Test
+    public void doesNotWarmUpWithoutLocalShards() {
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(props(shardRegion.getRef(), Duration.ofSeconds(2L)));
+
+            underTest.tell(EntityWarmUpActor.RecordActivity.of(ThingId.of("local:stopped")), getRef());
+            awaitAssert(Duration.ofSeconds(10L), () -> {
+                assertThat(getRecordedEntityIds()).hasSize(1);
+                return null;
+            });
+
+            shardRegion.expectMsg(Duration.ofSeconds(10L), ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(new ShardRegion.CurrentShardRegionState(
+                    CollectionConverters.asScala(new HashSet<ShardRegion.ShardState>()).toSet()));
+
+            shardRegion.expectNoMessage(Duration.ofSeconds(1L));
+        }};
+    }
+
+    private Props props(final ActorRef shardRegion, final Duration delay) {
+        final WarmUpConfig warmUpConfig = DefaultWarmUpConfig.of(ConfigFactory.parseString("warm-up {\n" +
+                "  enabled = true\n" +
+                "  collection-name = \"" + COLLECTION_NAME + "\"\n" +
+                "  flush-interval = 200ms\n" +
+                "  delay = " + delay.toMillis() + "ms\n" +
+                "}"));
+        return EntityWarmUpActor.props(warmUpConfig, REGION, shardRegion, new ShardByNamespace(), ThingId.class,
+                mongoClient);
+    }
+
+    private List<String> getRecordedEntityIds() {
+        return Source.fromPublisher(mongoClient.getDefaultDatabase().getCollection(COLLECTION_NAME).find())
+                .map(document -> document.getString("_id"))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static ShardRegion.CurrentShardRegionState shardRegionState(final String shardId,
+            final String... runningEntityIds) {
+
+        final Set<String> entityIds = new HashSet<>(Arrays.asList(runningEntityIds));
+        final ShardRegion.ShardState shardState =
+                new ShardRegion.ShardState(shardId, CollectionConverters.asScala(entityIds).toSet());
+        final Set<ShardRegion.ShardState> shardStates = new HashSet<>();
+        shardStates.add(shardState);
+        return new ShardRegion.CurrentShardRegionState(CollectionConverters.asScala(shardStates).toSet());
+    }
+
+    /**
+     * Places each entity in the shard named after the namespace of its ID.
+     */
+    private static final class ShardByNamespace implements ShardRegion.MessageExtractor {
+
+        @Override
+        public String entityId(final Object message) {
+            return ((ShardRegion.StartEntity) message).entityId();
+        }
+
+        @Override
+        public Object entityMessage(final Object message) {
+            return message;
+        }
+
+        @Override
+        public String shardId(final Object message) {
+            final String entityId = entityId(message);
+            return entityId.startsWith(LOCAL_SHARD + ":") ? LOCAL_SHARD : REMOTE_SHARD;
+        }
+
+    }
+
+}
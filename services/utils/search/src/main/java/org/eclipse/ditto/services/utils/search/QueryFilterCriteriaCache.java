@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.search;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Bounded cache of RQL filter strings and the criteria and compiled thing predicates parsed from them.
+ * <p>
+ * Websocket sessions, SSE connections and connection targets frequently use the same filters. Each distinct filter
+ * string is parsed and compiled once per actor system as long as it is cached. Only valid filters are cached; invalid
+ * filters are parsed each time so that the thrown exception carries the headers of the current request.
+ * </p>
+ * <p>
+ * This is the only cache of compiled predicates: users keep the predicate obtained from here instead of compiling
+ * the criteria again.
+ * </p>
+ * <p>
+ * The statistics of the cache are reported as metrics under the name {@value #CACHE_NAME}.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+@ThreadSafe
+public final class QueryFilterCriteriaCache implements Extension {
+
+    /**
+     * Path of the configuration of the cache.
+     */
+    static final String CONFIG_PATH = "ditto.query-filter-criteria-cache";
+
+    private static final String CACHE_NAME = "query_filter_criteria_cache";
+
+    private final Cache<String, CompiledThingPredicate> cache;
+    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+
+    private QueryFilterCriteriaCache(final Cache<String, CompiledThingPredicate> cache) {
+        this.cache = cache;
+        queryFilterCriteriaFactory = QueryFilterCriteriaFactory.modelBased();
+    }
+
+    /**
+     * Returns the cache of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the cache configured at {@value #CONFIG_PATH}.
+     */
+    public static QueryFilterCriteriaCache get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Creates a cache which is not bound to an actor system.
+     *
+     * @param cacheConfig the configuration of the cache.
+     * @param executor the executor of cache maintenance.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static QueryFilterCriteriaCache of(final CacheConfig cacheConfig, final Executor executor) {
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(executor, "executor");
+        return new QueryFilterCriteriaCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor));
+    }
+
+    /**
+     * Returns the criteria of the given filter.
+     *
+     * @param filter the RQL filter string.
+     * @param dittoHeaders the headers of the request containing the filter.
+     * @return the criteria.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion.
+     */
+    public Criteria getCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        return getPredicate(filter, dittoHeaders).getCriteria();
+    }
+
+    /**
+     * Returns the compiled thing predicate of the given filter.
+     *
+     * @param filter the RQL filter string.
+     * @param dittoHeaders the headers of the request containing the filter.
+     * @return the compiled predicate.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion.
+     */
+    public CompiledThingPredicate getPredicate(final String filter, final DittoHeaders dittoHeaders) {
+        checkNotNull(filter, "filter");
+        // entries are only ever put as completed futures
+        final Optional<CompiledThingPredicate> cachedPredicate = cache.getIfPresent(filter).join();
+        if (cachedPredicate.isPresent()) {
+            return cachedPredicate.get();
+        }
+        final Criteria criteria = queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+        final CompiledThingPredicate predicate = CompiledThingPredicate.of(criteria);
+        cache.put(filter, predicate);
+        return predicate;
+    }
+
+    /**
+     * ID of the actor system extension providing the cache.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<QueryFilterCriteriaCache> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public QueryFilterCriteriaCache createExtension(final ExtendedActorSystem system) {
+            final CacheConfig cacheConfig = DefaultCacheConfig.of(system.settings().config(), CONFIG_PATH);
+            return of(cacheConfig, system.dispatcher());
+        }
+
+    }
+
+}
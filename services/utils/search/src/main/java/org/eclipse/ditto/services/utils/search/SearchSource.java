@@ -13,11 +13,16 @@
 package org.eclipse.ditto.services.utils.search;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -26,6 +31,9 @@ import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
@@ -39,6 +47,8 @@ import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorEx
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import org.eclipse.ditto.signals.events.thingsearch.ThingsOutOfSync;
 
@@ -70,6 +80,7 @@ public final class SearchSource {
     private final StreamThings streamThings;
     private final boolean thingIdOnly;
     private final String lastThingId;
+    private final int hydrationBatchSize;
 
     SearchSource(final ActorRef pubSubMediator,
             final ActorRef conciergeForwarder,
@@ -78,7 +89,8 @@ public final class SearchSource {
             @Nullable final JsonFieldSelector fields,
             final JsonFieldSelector sortFields,
             final StreamThings streamThings,
-            final String lastThingId) {
+            final String lastThingId,
+            final int hydrationBatchSize) {
         this.pubSubMediator = pubSubMediator;
         this.conciergeForwarder = conciergeForwarder;
         this.thingsAskTimeout = thingsAskTimeout;
@@ -89,6 +101,7 @@ public final class SearchSource {
         this.thingIdOnly = fields != null && fields.getSize() == 1 &&
                 fields.getPointers().contains(Thing.JsonFields.ID.getPointer());
         this.lastThingId = lastThingId;
+        this.hydrationBatchSize = hydrationBatchSize;
     }
 
     /**
@@ -156,7 +169,18 @@ public final class SearchSource {
                 .mapAsync(1, streamThings -> Patterns.ask(conciergeForwarder, streamThings, searchAskTimeout))
                 .via(expectMsgClass(SourceRef.class))
                 .flatMapConcat(SourceRef::source)
-                .flatMapConcat(thingId -> retrieveThingForElement((String) thingId));
+                .via(retrieveThingsForElements());
+    }
+
+    private Flow<Object, Pair<String, JsonObject>, NotUsed> retrieveThingsForElements() {
+        if (thingIdOnly || hydrationBatchSize <= 1) {
+            return Flow.create().flatMapConcat(thingId -> retrieveThingForElement((String) thingId));
+        } else {
+            return Flow.create()
+                    .map(thingId -> (String) thingId)
+                    .grouped(hydrationBatchSize)
+                    .flatMapConcat(this::retrieveThingsForBatch);
+        }
     }
 
     private String nextSeed(final List<Pair<String, JsonObject>> finalElements) {
@@ -193,13 +217,7 @@ public final class SearchSource {
                             new PFBuilder<Throwable, Graph<SourceShape<Pair<String, JsonObject>>, NotUsed>>()
                                     .match(ThingNotAccessibleException.class, thingNotAccessible -> {
                                         // out-of-sync thing detected
-                                        final ThingsOutOfSync thingsOutOfSync =
-                                                ThingsOutOfSync.of(Collections.singletonList(ThingId.of(thingId)),
-                                                        getDittoHeaders());
-
-                                        pubSubMediator.tell(
-                                                DistPubSubAccess.publishViaGroup(ThingsOutOfSync.TYPE, thingsOutOfSync),
-                                                ActorRef.noSender());
+                                        publishThingsOutOfSync(Collections.singletonList(ThingId.of(thingId)));
                                         return Source.empty();
                                     })
                                     .build()
@@ -207,6 +225,69 @@ public final class SearchSource {
         }
     }
 
+    private Source<Pair<String, JsonObject>, NotUsed> retrieveThingsForBatch(final List<String> thingIds) {
+        final List<ThingId> ids = thingIds.stream().map(ThingId::of).collect(Collectors.toList());
+        final RetrieveThings retrieveThings = RetrieveThings.getBuilder(ids)
+                .selectedFields(withThingId(fields))
+                .dittoHeaders(getDittoHeaders())
+                .build();
+
+        final CompletionStage<Object> responseFuture =
+                Patterns.ask(conciergeForwarder, retrieveThings, thingsAskTimeout);
+
+        return Source.fromCompletionStage(responseFuture)
+                .via(expectMsgClass(RetrieveThingsResponse.class))
+                .mapConcat(response -> {
+                    // the response contains only accessible things in no particular order
+                    final Map<String, JsonObject> thingsById = new HashMap<>();
+                    response.getEntity()
+                            .asArray()
+                            .stream()
+                            .map(JsonValue::asObject)
+                            .forEach(thingJson -> thingJson.getValue(Thing.JsonFields.ID)
+                                    .ifPresent(thingId -> thingsById.put(thingId, thingJson)));
+                    final List<Pair<String, JsonObject>> results = new ArrayList<>(thingIds.size());
+                    final List<NamespacedEntityId> outOfSyncThingIds = new ArrayList<>();
+                    for (final String thingId : thingIds) {
+                        final JsonObject thingJson = thingsById.get(thingId);
+                        if (thingJson != null) {
+                            results.add(Pair.create(thingId, withoutUnselectedThingId(thingJson)));
+                        } else {
+                            outOfSyncThingIds.add(ThingId.of(thingId));
+                        }
+                    }
+                    if (!outOfSyncThingIds.isEmpty()) {
+                        publishThingsOutOfSync(outOfSyncThingIds);
+                    }
+                    return results;
+                });
+    }
+
+    @Nullable
+    private static JsonFieldSelector withThingId(@Nullable final JsonFieldSelector selector) {
+        if (selector == null || selector.getPointers().contains(Thing.JsonFields.ID.getPointer())) {
+            return selector;
+        } else {
+            final List<JsonPointer> pointers = new ArrayList<>(selector.getPointers());
+            pointers.add(Thing.JsonFields.ID.getPointer());
+            return JsonFactory.newFieldSelector(pointers);
+        }
+    }
+
+    private JsonObject withoutUnselectedThingId(final JsonObject thingJson) {
+        if (fields == null || fields.getPointers().contains(Thing.JsonFields.ID.getPointer())) {
+            return thingJson;
+        } else {
+            return thingJson.remove(Thing.JsonFields.ID.getPointer());
+        }
+    }
+
+    private void publishThingsOutOfSync(final Collection<NamespacedEntityId> thingIds) {
+        final ThingsOutOfSync thingsOutOfSync = ThingsOutOfSync.of(thingIds, getDittoHeaders());
+        pubSubMediator.tell(DistPubSubAccess.publishViaGroup(ThingsOutOfSync.TYPE, thingsOutOfSync),
+                ActorRef.noSender());
+    }
+
     private Source<JsonObject, NotUsed> retrieveThing(final String thingId,
             @Nullable final JsonFieldSelector selector) {
         final RetrieveThing retrieveThing = RetrieveThing.getBuilder(ThingId.of(thingId), getDittoHeaders())
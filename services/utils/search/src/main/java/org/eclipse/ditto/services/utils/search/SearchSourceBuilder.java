@@ -65,6 +65,7 @@ public final class SearchSourceBuilder {
     private Duration thingsAskTimeout = Duration.ofSeconds(10L);
     private Duration searchAskTimeout = Duration.ofSeconds(60L);
     private String lastThingId = "";
+    private int hydrationBatchSize = 1;
 
     /**
      * Create a search-source from this builder.
@@ -86,7 +87,8 @@ public final class SearchSourceBuilder {
                 fields,
                 sortFields,
                 streamThings,
-                lastThingId);
+                lastThingId,
+                hydrationBatchSize);
     }
 
     /**
@@ -265,6 +267,18 @@ public final class SearchSourceBuilder {
         return this;
     }
 
+    /**
+     * Set the number of search results to retrieve from the things shard region with one command. Results are
+     * retrieved one by one if the batch size is 1 or less.
+     *
+     * @param hydrationBatchSize the batch size.
+     * @return this builder.
+     */
+    public SearchSourceBuilder hydrationBatchSize(final int hydrationBatchSize) {
+        this.hydrationBatchSize = hydrationBatchSize;
+        return this;
+    }
+
     private String sortOptionAsString(final SortOption sortOption) {
         return sortOption.getEntries()
                 .stream()
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.utils.search.QueryFilterCriteriaCache}.
+ */
+public final class QueryFilterCriteriaCacheTest {
+
+    private static final String FILTER = "and(eq(attributes/location,\"kitchen\"),gt(features/temp/properties/v,20))";
+
+    private ActorSystem system;
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void sameFilterYieldsSamePredicate() {
+        final QueryFilterCriteriaCache underTest = createCache();
+
+        final CompiledThingPredicate first = underTest.getPredicate(FILTER, DittoHeaders.empty());
+        final CompiledThingPredicate second = underTest.getPredicate(FILTER, DittoHeaders.empty());
+
+        assertThat(second).isSameAs(first);
+        assertThat(underTest.getCriteria(FILTER, DittoHeaders.empty())).isSameAs(first.getCriteria());
+    }
+
+    @Test
+    public void invalidFilterThrowsWithHeadersOfEachRequest() {
+        final QueryFilterCriteriaCache underTest = createCache();
+        final String invalidFilter = "eq(attributes/location";
+
+        for (final String correlationId : new String[]{"first", "second"}) {
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId(correlationId).build();
+            assertThatThrownBy(() -> underTest.getCriteria(invalidFilter, dittoHeaders))
+                    .isInstanceOfSatisfying(InvalidRqlExpressionException.class,
+                            e -> assertThat(e.getDittoHeaders().getCorrelationId()).contains(correlationId));
+        }
+    }
+
+    @Test
+    public void actorSystemProvidesOneCache() {
+        system = ActorSystem.create();
+
+        assertThat(QueryFilterCriteriaCache.get(system)).isSameAs(QueryFilterCriteriaCache.get(system));
+    }
+
+    private static QueryFilterCriteriaCache createCache() {
+        return QueryFilterCriteriaCache.of(
+                DefaultCacheConfig.of(ConfigFactory.empty(), QueryFilterCriteriaCache.CONFIG_PATH), Runnable::run);
+    }
+
+}
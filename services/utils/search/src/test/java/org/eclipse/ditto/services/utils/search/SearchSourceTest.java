@@ -15,11 +15,14 @@ package org.eclipse.ditto.services.utils.search;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -29,6 +32,8 @@ import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import org.eclipse.ditto.signals.events.thingsearch.ThingsOutOfSync;
 import org.junit.After;
@@ -130,6 +135,31 @@ public final class SearchSourceTest {
                 ThingsOutOfSync.of(Collections.singletonList(ThingId.of("t:2")), dittoHeaders)));
     }
 
+    @Test
+    public void nonemptyStreamWithBatchedRetrieval() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("attributes");
+        final JsonFieldSelector fieldsWithThingId = JsonFieldSelector.newInstance("attributes", "thingId");
+        startTestSearchSource(fields, null, 2);
+        sinkProbe.request(200L);
+        conciergeForwarderProbe.expectMsg(streamThings(null));
+        conciergeForwarderProbe.reply(materializeSourceProbe());
+        sourceProbe.expectRequest();
+        sourceProbe.sendNext("t:3").sendNext("t:2").sendNext("t:1").sendComplete();
+        conciergeForwarderProbe.expectMsg(retrieveThings(fieldsWithThingId, "t:3", "t:2"));
+        conciergeForwarderProbe.reply(retrieveThingsResponse(3));
+        conciergeForwarderProbe.expectMsg(retrieveThings(fieldsWithThingId, "t:1"));
+        conciergeForwarderProbe.reply(retrieveThingsResponse(1));
+
+        // successfully retrieved things are found in the order of search results without unselected thing ID
+        sinkProbe.expectNext(getThing(3).toJson().remove("thingId"))
+                .expectNext(getThing(1).toJson().remove("thingId"))
+                .expectComplete();
+
+        // out-of-sync thing is reported
+        pubSubMediatorProbe.expectMsg(DistPubSubAccess.publishViaGroup(ThingsOutOfSync.TYPE,
+                ThingsOutOfSync.of(Collections.singletonList(ThingId.of("t:2")), dittoHeaders)));
+    }
+
     @Test
     public void resumeAtStart() {
         final JsonArray sortValues = JsonArray.of(997, "t:3");
@@ -197,6 +227,20 @@ public final class SearchSourceTest {
                 .build();
     }
 
+    private RetrieveThingsResponse retrieveThingsResponse(final int... indices) {
+        final JsonArray things = Arrays.stream(indices)
+                .mapToObj(i -> getThing(i).toJson())
+                .collect(JsonCollectors.valuesToArray());
+        return RetrieveThingsResponse.of(things, null, dittoHeaders);
+    }
+
+    private RetrieveThings retrieveThings(final JsonFieldSelector fields, final String... ids) {
+        return RetrieveThings.getBuilder(Arrays.stream(ids).map(ThingId::of).collect(Collectors.toList()))
+                .selectedFields(fields)
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
     private SourceRef<Object> materializeSourceProbe() {
         final Pair<TestPublisher.Probe<Object>, SourceRef<Object>> materializedValues =
                 TestSource.probe(actorSystem).toMat(StreamRefs.sourceRef(), Keep.both()).run(materializer);
@@ -210,6 +254,11 @@ public final class SearchSourceTest {
 
     private void startTestSearchSource(@Nullable final JsonFieldSelector fields,
             @Nullable final JsonArray sortValues) {
+        startTestSearchSource(fields, sortValues, 1);
+    }
+
+    private void startTestSearchSource(@Nullable final JsonFieldSelector fields,
+            @Nullable final JsonArray sortValues, final int hydrationBatchSize) {
         final SearchSource underTest = SearchSource.newBuilder()
                 .pubSubMediator(pubSubMediatorProbe.ref())
                 .conciergeForwarder(conciergeForwarderProbe.ref())
@@ -218,6 +267,7 @@ public final class SearchSourceTest {
                 .fields(fields)
                 .sort(SORT)
                 .sortValues(sortValues)
+                .hydrationBatchSize(hydrationBatchSize)
                 .dittoHeaders(dittoHeaders)
                 .build();
         sinkProbe = underTest.start(
@@ -12,9 +12,11 @@
  */
 package org.eclipse.ditto.signals.commands.thingsearch.query;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -56,21 +58,40 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
      */
     public static final String TYPE = TYPE_PREFIX + NAME;
 
+    /**
+     * Option requesting an approximate count which may be computed from a sample of the search index instead of
+     * counting every matching document.
+     *
+     * @since 1.5.0
+     */
+    public static final String OPTION_APPROXIMATE = "approximate";
+
     static final JsonFieldDefinition<String> JSON_FILTER =
             JsonFactory.newStringFieldDefinition("filter", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    static final JsonFieldDefinition<JsonArray> JSON_OPTIONS =
+            JsonFactory.newJsonArrayFieldDefinition("options", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
     static final JsonFieldDefinition<JsonArray> JSON_NAMESPACES =
             JsonFactory.newJsonArrayFieldDefinition("namespaces", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
     @Nullable private final String filter;
+    @Nullable private final List<String> options;
     @Nullable private final Set<String> namespaces;
 
     private CountThings(final DittoHeaders dittoHeaders, @Nullable final String filter,
+            @Nullable final List<String> options,
             @Nullable final Collection<String> namespaces) {
         super(TYPE, dittoHeaders);
         this.filter = filter;
+        if (options != null) {
+            this.options = Collections.unmodifiableList(new ArrayList<>(options));
+        } else {
+            this.options = null;
+        }
         if (namespaces != null) {
             this.namespaces = Collections.unmodifiableSet(new HashSet<>(namespaces));
         } else {
@@ -89,7 +110,24 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
     public static CountThings of(@Nullable final String filter, @Nullable final Set<String> namespaces,
             final DittoHeaders dittoHeaders) {
 
-        return new CountThings(dittoHeaders, filter, namespaces);
+        return new CountThings(dittoHeaders, filter, null, namespaces);
+    }
+
+    /**
+     * Returns a new instance of {@code CountThings}.
+     *
+     * @param filter the optional filter string
+     * @param options the optional count options, e. g. {@value #OPTION_APPROXIMATE}.
+     * @param namespaces the optional namespaces to count things in.
+     * @param dittoHeaders the headers of the command.
+     * @return a new command for counting Things.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     * @since 1.5.0
+     */
+    public static CountThings of(@Nullable final String filter, @Nullable final List<String> options,
+            @Nullable final Set<String> namespaces, final DittoHeaders dittoHeaders) {
+
+        return new CountThings(dittoHeaders, filter, options, namespaces);
     }
 
     /**
@@ -100,7 +138,7 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
      * @throws NullPointerException if any argument is {@code null}.
      */
     public static CountThings of(final DittoHeaders dittoHeaders) {
-        return new CountThings(dittoHeaders, null, null);
+        return new CountThings(dittoHeaders, null, null, null);
     }
 
     /**
@@ -132,6 +170,13 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
         return new CommandJsonDeserializer<CountThings>(TYPE, jsonObject).deserialize(() -> {
             final String extractedFilter = jsonObject.getValue(JSON_FILTER).orElse(null);
 
+            final List<String> extractedOptions = jsonObject.getValue(JSON_OPTIONS)
+                    .map(jsonArray -> jsonArray.stream()
+                            .filter(JsonValue::isString)
+                            .map(JsonValue::asString)
+                            .collect(Collectors.toList()))
+                    .orElse(null);
+
             final Set<String> extractedNamespaces = jsonObject.getValue(JSON_NAMESPACES)
                     .map(jsonValues -> jsonValues.stream()
                             .filter(JsonValue::isString)
@@ -139,7 +184,7 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
                             .collect(Collectors.toSet()))
                     .orElse(null);
 
-            return new CountThings(dittoHeaders, extractedFilter, extractedNamespaces);
+            return new CountThings(dittoHeaders, extractedFilter, extractedOptions, extractedNamespaces);
         });
     }
 
@@ -148,6 +193,26 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
         return Optional.ofNullable(filter);
     }
 
+    /**
+     * Get the optional options.
+     *
+     * @return the optional options.
+     * @since 1.5.0
+     */
+    public Optional<List<String>> getOptions() {
+        return Optional.ofNullable(options);
+    }
+
+    /**
+     * Indicates whether an approximate count was requested by the option {@value #OPTION_APPROXIMATE}.
+     *
+     * @return {@code true} if an approximate count is sufficient for the requester.
+     * @since 1.5.0
+     */
+    public boolean isApproximate() {
+        return options != null && options.stream().map(String::trim).anyMatch(OPTION_APPROXIMATE::equals);
+    }
+
     @Override
     public Optional<Set<String>> getNamespaces() {
         return Optional.ofNullable(namespaces);
@@ -155,7 +220,7 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
 
     @Override
     public CountThings setNamespaces(@Nullable final Collection<String> namespaces) {
-        return new CountThings(getDittoHeaders(), filter, namespaces);
+        return new CountThings(getDittoHeaders(), filter, options, namespaces);
     }
 
     @Override
@@ -166,6 +231,9 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
         if (filter != null) {
             jsonObjectBuilder.set(JSON_FILTER, filter, predicate);
         }
+        getOptions().ifPresent(presentOptions -> jsonObjectBuilder.set(JSON_OPTIONS, presentOptions.stream()
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray()), predicate));
         getNamespaces().ifPresent(presentOptions -> jsonObjectBuilder.set(JSON_NAMESPACES, presentOptions.stream()
                 .map(JsonValue::of)
                 .collect(JsonCollectors.valuesToArray()), predicate));
@@ -173,7 +241,7 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
 
     @Override
     public CountThings setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return of(filter, namespaces, dittoHeaders);
+        return new CountThings(dittoHeaders, filter, options, namespaces);
     }
 
     @Override
@@ -185,16 +253,18 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
         if (!super.equals(o))
             return false;
         final CountThings that = (CountThings) o;
-        return Objects.equals(filter, that.filter) && Objects.equals(namespaces, that.namespaces);
+        return Objects.equals(filter, that.filter) && Objects.equals(options, that.options) &&
+                Objects.equals(namespaces, that.namespaces);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), filter, namespaces);
+        return Objects.hash(super.hashCode(), filter, options, namespaces);
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "[" + "filter='" + filter + "', namespaces='" + namespaces + "']";
+        return getClass().getSimpleName() + "[" + "filter='" + filter + "', options=" + options + ", namespaces='" +
+                namespaces + "']";
     }
 }
@@ -16,6 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -140,5 +144,32 @@ public final class CountThingsTest {
     public void assertMinimal(final CountThings command) {
         assertThat(command).isNotNull();
         assertThat(command.getFilter()).isEmpty();
+        assertThat(command.getOptions()).isEmpty();
+        assertThat(command.isApproximate()).isFalse();
+    }
+
+    @Test
+    public void approximateOptionSurvivesJsonRoundTrip() {
+        final CountThings command = CountThings.of(TestConstants.KNOWN_FILTER_STR,
+                Collections.singletonList(CountThings.OPTION_APPROXIMATE), TestConstants.KNOWN_NAMESPACES_SET,
+                DittoHeaders.empty());
+
+        final CountThings deserialized = CountThings.fromJson(command.toJsonString(), DittoHeaders.empty());
+
+        assertThat(deserialized).isEqualTo(command);
+        assertThat(deserialized.isApproximate()).isTrue();
+    }
+
+    @Test
+    public void optionsAreCopiedOnConstruction() {
+        final List<String> options = new ArrayList<>();
+        options.add(CountThings.OPTION_APPROXIMATE);
+        final CountThings command = CountThings.of(TestConstants.KNOWN_FILTER_STR, options,
+                TestConstants.KNOWN_NAMESPACES_SET, DittoHeaders.empty());
+
+        options.clear();
+
+        assertThat(command.getOptions()).contains(Collections.singletonList(CountThings.OPTION_APPROXIMATE));
+        assertThat(command.isApproximate()).isTrue();
     }
 }